@@ -0,0 +1,23 @@
+package org.kosa.myproject.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+
+/**
+ * Reactive(WebFlux + R2DBC) 버전의 API 서버
+ *
+ * 루트 프로젝트(Servlet + JPA)와 같은 URL / 요청·응답 형식 / JWT 를 사용하므로
+ * 두 서버를 나란히 띄워 같은 부하로 비교할 수 있다 (기본 포트 8081)
+ *
+ * JDBC 는 기동 시 Flyway 마이그레이션에만 사용하므로 DataSource 자동 설정은 제외
+ */
+@SpringBootApplication(exclude = DataSourceAutoConfiguration.class)
+@EnableR2dbcAuditing  // @CreatedDate 자동 설정
+public class ReactiveApiApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveApiApplication.class, args);
+    }
+}
@@ -0,0 +1,18 @@
+package org.kosa.myproject.reactive.config;
+
+import org.kosa.myproject.markdown.MarkdownRenderer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 게시글 본문 렌더링 설정
+ * Servlet 버전과 같은 MarkdownRenderer (같은 허용 목록 / VERSION) 로 content_html 을 만든다
+ */
+@Configuration
+public class MarkdownConfig {
+
+    @Bean
+    public MarkdownRenderer markdownRenderer() {
+        return new MarkdownRenderer();
+    }
+}
@@ -0,0 +1,31 @@
+package org.kosa.myproject.reactive.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 비밀번호 암호화 설정
+ * 회원가입(encode)과 로그인(matches) 모두 passwordHashScheduler 에서 실행한다
+ */
+@Configuration
+@EnableConfigurationProperties(PasswordHashProperties.class)
+public class PasswordHashConfig {
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler passwordHashScheduler(PasswordHashProperties properties) {
+        int threads = properties.getThreads() > 0
+                ? properties.getThreads()
+                : Runtime.getRuntime().availableProcessors();
+        return Schedulers.newBoundedElastic(threads, properties.getQueueCapacity(), "bcrypt");
+    }
+}
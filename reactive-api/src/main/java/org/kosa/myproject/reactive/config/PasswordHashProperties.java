@@ -0,0 +1,21 @@
+package org.kosa.myproject.reactive.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * BCrypt 전용 스케줄러 설정 (app.password-hash)
+ *
+ * BCrypt 는 수십 ms 동안 CPU 를 점유하므로 이벤트 루프(Netty) 스레드에서 실행하면
+ * 그 동안 같은 루프의 다른 요청이 모두 멈춘다 → 별도의 제한된 스레드 풀에서 실행
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.password-hash")
+public class PasswordHashProperties {
+
+    private int threads = 0;               // 암호화 스레드 수 (0 이면 CPU 코어 수)
+
+    private int queueCapacity = 10_000;    // 대기 작업 수 상한 (초과 시 즉시 실패)
+}
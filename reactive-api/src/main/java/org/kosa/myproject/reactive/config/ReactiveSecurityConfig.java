@@ -0,0 +1,116 @@
+package org.kosa.myproject.reactive.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.reactive.security.JsonAccessDeniedHandler;
+import org.kosa.myproject.reactive.security.JsonAuthenticationEntryPoint;
+import org.kosa.myproject.reactive.security.JsonLoginAuthenticationConverter;
+import org.kosa.myproject.reactive.security.JsonLoginFailureHandler;
+import org.kosa.myproject.reactive.security.JsonLoginSuccessHandler;
+import org.kosa.myproject.reactive.security.JsonResponseWriter;
+import org.kosa.myproject.reactive.security.ReactiveJwtFilter;
+import org.kosa.myproject.reactive.security.ReactiveMemberDetailsService;
+import org.kosa.myproject.security.jwt.JwtUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Spring Security 설정 (WebFlux) - SecurityConfig 와 같은 인증/인가 규칙
+ *
+ * 필터 순서: ReactiveJwtFilter(토큰 검증) → AuthenticationWebFilter(/api/auth/login JSON 로그인) → 인가
+ * 세션을 사용하지 않으므로 SecurityContext 는 저장하지 않는다 (NoOpServerSecurityContextRepository)
+ */
+@Slf4j
+@Configuration
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+
+    /**
+     * 루트 프로젝트의 JwtUtil 을 그대로 사용 (같은 secret 이면 두 서버의 토큰이 호환됨)
+     */
+    @Bean
+    public JwtUtil jwtUtil(@Value("${spring.jwt.secret}") String secret) {
+        return new JwtUtil(secret);
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         JwtUtil jwtUtil,
+                                                         ReactiveMemberDetailsService memberDetailsService,
+                                                         PasswordEncoder passwordEncoder,
+                                                         Scheduler passwordHashScheduler,
+                                                         ObjectMapper objectMapper,
+                                                         JsonResponseWriter responseWriter,
+                                                         JsonAuthenticationEntryPoint authenticationEntryPoint,
+                                                         JsonAccessDeniedHandler accessDeniedHandler) {
+        log.info("ReactiveSecurityConfig SecurityWebFilterChain 인증,인가 설정");
+
+        // 로그인: BCrypt 비교는 이벤트 루프가 아닌 passwordHashScheduler 에서 실행
+        UserDetailsRepositoryReactiveAuthenticationManager authenticationManager =
+                new UserDetailsRepositoryReactiveAuthenticationManager(memberDetailsService);
+        authenticationManager.setPasswordEncoder(passwordEncoder);
+        authenticationManager.setScheduler(passwordHashScheduler);
+
+        AuthenticationWebFilter loginFilter = new AuthenticationWebFilter(authenticationManager);
+        loginFilter.setRequiresAuthenticationMatcher(
+                ServerWebExchangeMatchers.pathMatchers(HttpMethod.POST, "/api/auth/login"));
+        loginFilter.setServerAuthenticationConverter(new JsonLoginAuthenticationConverter(objectMapper));
+        loginFilter.setAuthenticationSuccessHandler(new JsonLoginSuccessHandler(jwtUtil, responseWriter));
+        loginFilter.setAuthenticationFailureHandler(new JsonLoginFailureHandler(responseWriter));
+        loginFilter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                .cors(Customizer.withDefaults())
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(auth -> auth
+                        .pathMatchers("/api/auth/login").permitAll()
+                        .pathMatchers("/api/health").permitAll()
+                        .pathMatchers(HttpMethod.POST, "/api/members").permitAll()
+                        .pathMatchers("/admin", "/admin/**").hasRole("ADMIN")
+                        .pathMatchers(HttpMethod.GET, "/api/posts").permitAll()
+                        .anyExchange().authenticated())
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(authenticationEntryPoint)  // 인증 실패
+                        .accessDeniedHandler(accessDeniedHandler))           // 권한 부족
+                .addFilterAt(new ReactiveJwtFilter(jwtUtil), SecurityWebFiltersOrder.AUTHENTICATION)
+                .addFilterAfter(loginFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    /**
+     * CORS 설정 - SecurityConfig.corsConfigurationSource 와 동일
+     */
+    @Bean
+    public UrlBasedCorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration config = new CorsConfiguration();
+        config.addAllowedOriginPattern("https://*.amplifyapp.com");
+        config.addAllowedOriginPattern("http://localhost:*");
+        config.setAllowCredentials(true);
+        config.addAllowedHeader("*");
+        config.addAllowedMethod("*");
+        config.addExposedHeader("Authorization");
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", config);
+        return source;
+    }
+}
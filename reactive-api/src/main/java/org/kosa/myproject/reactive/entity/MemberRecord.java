@@ -0,0 +1,55 @@
+package org.kosa.myproject.reactive.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.kosa.myproject.dto.MemberResponseDto;
+import org.kosa.myproject.entity.MemberRole;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * members 테이블 매핑 (R2DBC)
+ * JPA 의 Member 엔티티와 같은 테이블을 사용하지만 연관관계 / 지연 로딩은 없다
+ */
+@Table("members")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = "password")
+public class MemberRecord {
+
+    @Id
+    private Long id;
+
+    private String username;  // 로그인 ID
+
+    private String password;  // 암호화된 비밀번호
+
+    private String name;      // 실명
+
+    @CreatedDate
+    private LocalDateTime createdAt;  // 가입일시 (R2DBC Auditing 으로 자동 설정)
+
+    @Builder.Default
+    private MemberRole role = MemberRole.ROLE_USER;  // 문자열(ROLE_USER / ROLE_ADMIN)로 저장
+
+    /**
+     * 응답 DTO 변환 (비밀번호 제외) - MemberResponseDto.from(Member) 대응
+     */
+    public MemberResponseDto toResponseDto() {
+        return MemberResponseDto.builder()
+                .id(id)
+                .username(username)
+                .name(name)
+                .role(role)
+                .createdAt(createdAt)
+                .build();
+    }
+}
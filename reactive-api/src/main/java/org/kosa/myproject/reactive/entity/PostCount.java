@@ -0,0 +1,7 @@
+package org.kosa.myproject.reactive.entity;
+
+/**
+ * 게시글별 집계 결과 (SELECT post_id, COUNT(*) AS total ... GROUP BY post_id)
+ */
+public record PostCount(Long postId, long total) {
+}
@@ -0,0 +1,39 @@
+package org.kosa.myproject.reactive.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * posts 테이블 매핑 (R2DBC)
+ * 작성자는 author_id 값만 가지며, 작성자 정보가 필요한 조회는 PostWithAuthor 조인 쿼리를 사용한다
+ */
+@Table("posts")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostRecord {
+
+    @Id
+    private Long id;
+
+    private String title;
+
+    private String content;
+
+    private String contentHtml;   // MarkdownRenderer 로 렌더링 + 정제한 HTML
+
+    private int renderVersion;    // contentHtml 을 만든 MarkdownRenderer.VERSION (0 : 렌더링 전)
+
+    private Long authorId;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,65 @@
+package org.kosa.myproject.reactive.entity;
+
+import org.kosa.myproject.dto.PostDetailResponseDto;
+import org.kosa.myproject.dto.PostListResponseDto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 + 작성자 조인 결과 (JPA 의 fetch join 대응)
+ * 컬럼 별칭(author_name 등)이 필드명으로 매핑된다
+ */
+public record PostWithAuthor(Long id,
+                             String title,
+                             String content,
+                             String contentHtml,
+                             int renderVersion,
+                             LocalDateTime createdAt,
+                             Long authorId,
+                             String authorUsername,
+                             String authorName) {
+
+    /**
+     * 현재 렌더러 버전으로 렌더링된 HTML 이 있는지 (Post.isRendered 대응)
+     */
+    public boolean isRendered(int currentVersion) {
+        return contentHtml != null && renderVersion >= currentVersion;
+    }
+
+    /**
+     * @param commentCount 댓글 수 (목록 전체에 대해 한 번에 집계한 값)
+     * @param likeCount    좋아요 수
+     * @param likedByMe    현재 회원의 좋아요 여부
+     */
+    public PostListResponseDto toListDto(long commentCount, long likeCount, boolean likedByMe) {
+        return PostListResponseDto.builder()
+                .id(id)
+                .title(title)
+                .authorName(authorName)
+                .createdAt(createdAt)
+                .commentCount(commentCount)
+                .likeCount(likeCount)
+                .likedByMe(likedByMe)
+                .build();
+    }
+
+    /**
+     * @param contentHtml 응답에 담을 HTML (렌더링 전이거나 이전 버전이면 조회 시 렌더링한 값)
+     * @param likeCount   좋아요 수
+     * @param likedByMe   현재 회원의 좋아요 여부
+     */
+    public PostDetailResponseDto toDetailDto(String contentHtml, long likeCount, boolean likedByMe) {
+        return PostDetailResponseDto.builder()
+                .id(id)
+                .title(title)
+                .content(content)
+                .contentHtml(contentHtml)
+                .authorId(authorId)
+                .authorUsername(authorUsername)
+                .authorName(authorName)
+                .createdAt(createdAt)
+                .likeCount(likeCount)
+                .likedByMe(likedByMe)
+                .build();
+    }
+}
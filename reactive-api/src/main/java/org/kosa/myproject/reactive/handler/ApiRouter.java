@@ -0,0 +1,47 @@
+package org.kosa.myproject.reactive.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.dto.ApiResponseDto;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.queryParam;
+
+/**
+ * API 라우팅 설정 - Servlet 버전의 @RequestMapping 과 같은 URL
+ *
+ * 예외 → 응답 변환은 GlobalExceptionHandler 와 같은 규칙
+ * (IllegalArgumentException → 400 BAD_REQUEST, IllegalStateException → 409 CONFLICT)
+ */
+@Slf4j
+@Configuration
+public class ApiRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> apiRoutes(MemberHandler memberHandler, PostHandler postHandler) {
+        return RouterFunctions.route()
+                .POST("/api/members", memberHandler::register)
+                .GET("/api/members/me", memberHandler::getMyInfo)
+                .GET("/api/members", queryParam("ids", ids -> true), memberHandler::getMembersByIds)
+                .GET("/api/members/{id}", memberHandler::getMemberById)
+                .GET("/api/posts", postHandler::getAllPosts)
+                .POST("/api/posts", postHandler::createPost)
+                .GET("/api/posts/{id}", postHandler::getPostById)
+                .GET("/api/health", request -> ServerResponse.ok().bodyValue("OK 그동안 수고하셨습니다 행복하세요~"))
+                .onError(IllegalArgumentException.class, (e, request) -> {
+                    log.warn("유효성 검증 실패: {}", e.getMessage());
+                    return ServerResponse.status(HttpStatus.BAD_REQUEST)
+                            .bodyValue(ApiResponseDto.error("BAD_REQUEST", e.getMessage()));
+                })
+                .onError(IllegalStateException.class, (e, request) -> {
+                    log.warn("잘못된 상태: {}", e.getMessage());
+                    return ServerResponse.status(HttpStatus.CONFLICT)
+                            .bodyValue(ApiResponseDto.error("CONFLICT", e.getMessage()));
+                })
+                .build();
+    }
+}
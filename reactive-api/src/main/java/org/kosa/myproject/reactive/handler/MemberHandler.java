@@ -0,0 +1,69 @@
+package org.kosa.myproject.reactive.handler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.dto.ApiResponseDto;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.reactive.service.ReactiveMemberService;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * MemberHandler - MemberController 의 함수형(Router Function) 버전
+ *
+ * - POST /api/members        : 회원가입 (인증 불필요)
+ * - GET  /api/members/me     : 내 정보 조회 (인증 필요)
+ * - GET  /api/members?ids=   : 회원 일괄 조회 (인증 필요)
+ * - GET  /api/members/{id}   : 회원 정보 조회 (인증 필요)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberHandler {
+
+    private final ReactiveMemberService memberService;
+
+    public Mono<ServerResponse> register(ServerRequest request) {
+        return request.bodyToMono(MemberCreateRequestDto.class)
+                .flatMap(memberService::register)
+                .flatMap(member -> ServerResponse.status(HttpStatus.CREATED)
+                        .bodyValue(ApiResponseDto.success(member, "회원가입이 완료되었습니다.")));
+    }
+
+    public Mono<ServerResponse> getMyInfo(ServerRequest request) {
+        return request.principal()
+                .map(Principal::getName)
+                .flatMap(memberService::getMyInfo)
+                .flatMap(member -> ServerResponse.ok()
+                        .bodyValue(ApiResponseDto.success(member, "회원 정보 조회 OK")));
+    }
+
+    public Mono<ServerResponse> getMembersByIds(ServerRequest request) {
+        // ids=1,2,3 과 ids=1&ids=2 형식 모두 허용 (숫자가 아니면 NumberFormatException → 400)
+        List<Long> ids = request.queryParams().getOrDefault("ids", List.of()).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(Long::valueOf)
+                .toList();
+        log.info("=== 회원 일괄 조회: {}건 ===", ids.size());
+
+        return memberService.findAllByIds(ids)
+                .flatMap(members -> ServerResponse.ok()
+                        .bodyValue(ApiResponseDto.success(members, "회원 일괄 조회 OK")));
+    }
+
+    public Mono<ServerResponse> getMemberById(ServerRequest request) {
+        Long id = Long.valueOf(request.pathVariable("id"));
+        return memberService.findById(id)
+                .flatMap(member -> ServerResponse.ok()
+                        .bodyValue(ApiResponseDto.success(member, "회원 정보 조회 OK")));
+    }
+}
@@ -0,0 +1,70 @@
+package org.kosa.myproject.reactive.handler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.dto.ApiResponseDto;
+import org.kosa.myproject.dto.PostCreateRequestDto;
+import org.kosa.myproject.reactive.security.MemberPrincipal;
+import org.kosa.myproject.reactive.service.ReactivePostService;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+import java.util.Optional;
+
+/**
+ * PostHandler - PostController 의 함수형(Router Function) 버전
+ *
+ * - GET  /api/posts      : 전체 게시글 목록 (인증 불필요)
+ * - GET  /api/posts/{id} : 게시글 상세 조회 (인증 필요)
+ * - POST /api/posts      : 게시글 작성 (인증 필요)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostHandler {
+
+    private final ReactivePostService postService;
+
+    public Mono<ServerResponse> getAllPosts(ServerRequest request) {
+        // 응답 형식(ApiResponseDto 의 data 배열)을 맞추기 위해 목록을 모은 뒤 한 번에 직렬화
+        return viewerId(request)
+                .flatMapMany(viewerId -> postService.getAllPosts(viewerId.orElse(null)))
+                .collectList()
+                .flatMap(posts -> ServerResponse.ok()
+                        .bodyValue(ApiResponseDto.success(posts, "게시물 목록 조회 성공")));
+    }
+
+    public Mono<ServerResponse> createPost(ServerRequest request) {
+        return request.principal()
+                .map(Principal::getName)
+                .flatMap(username -> request.bodyToMono(PostCreateRequestDto.class)
+                        .flatMap(requestDto -> postService.createPost(requestDto, username)))
+                .flatMap(post -> ServerResponse.status(HttpStatus.CREATED)
+                        .bodyValue(ApiResponseDto.success(post, "게시글이 작성되었습니다")));
+    }
+
+    public Mono<ServerResponse> getPostById(ServerRequest request) {
+        Long id = Long.valueOf(request.pathVariable("id"));
+        return viewerId(request)
+                .flatMap(viewerId -> postService.getPostById(id, viewerId.orElse(null)))
+                .flatMap(post -> ServerResponse.ok()
+                        .bodyValue(ApiResponseDto.success(post, "게시글 조회 성공")));
+    }
+
+    /**
+     * 현재 회원 ID (토큰이 없으면 빈 Optional) - 좋아요 여부 계산용
+     */
+    private static Mono<Optional<Long>> viewerId(ServerRequest request) {
+        return request.principal()
+                .filter(Authentication.class::isInstance)
+                .map(principal -> ((Authentication) principal).getPrincipal())
+                .filter(MemberPrincipal.class::isInstance)
+                .map(principal -> Optional.of(((MemberPrincipal) principal).id()))
+                .defaultIfEmpty(Optional.empty());
+    }
+}
@@ -0,0 +1,22 @@
+package org.kosa.myproject.reactive.repository;
+
+import org.kosa.myproject.reactive.entity.MemberRecord;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Member Reactive Repository (R2DBC)
+ * MemberRepository(JPA) 와 같은 쿼리 메서드를 제공
+ */
+public interface ReactiveMemberRepository extends ReactiveCrudRepository<MemberRecord, Long> {
+
+    /**
+     * username 으로 회원 조회 - 로그인 / 게시글 작성 시 사용
+     */
+    Mono<MemberRecord> findByUsername(String username);
+
+    /**
+     * username 중복 체크 - 회원가입 시 사용
+     */
+    Mono<Boolean> existsByUsername(String username);
+}
@@ -0,0 +1,54 @@
+package org.kosa.myproject.reactive.repository;
+
+import org.kosa.myproject.reactive.entity.PostCount;
+import org.kosa.myproject.reactive.entity.PostRecord;
+import org.kosa.myproject.reactive.entity.PostWithAuthor;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Post Reactive Repository (R2DBC)
+ * R2DBC 는 연관관계를 지원하지 않으므로 작성자 정보는 조인 쿼리 한 번으로 함께 조회 (N+1 방지)
+ */
+public interface ReactivePostRepository extends ReactiveCrudRepository<PostRecord, Long> {
+
+    String SELECT_WITH_AUTHOR = "SELECT p.id, p.title, p.content, p.content_html, p.render_version, p.created_at, "
+            + "m.id AS author_id, m.username AS author_username, m.name AS author_name "
+            + "FROM posts p JOIN members m ON m.id = p.author_id ";
+
+    /**
+     * 전체 게시글 + 작성자 (최신순) - PostRepository.findAllWithAuthor 대응
+     */
+    @Query(SELECT_WITH_AUTHOR + "ORDER BY p.created_at DESC")
+    Flux<PostWithAuthor> findAllWithAuthor();
+
+    /**
+     * 게시글 하나 + 작성자 - PostRepository.findByIdWithAuthor 대응
+     */
+    @Query(SELECT_WITH_AUTHOR + "WHERE p.id = :id")
+    Mono<PostWithAuthor> findByIdWithAuthor(Long id);
+
+    /**
+     * 게시글별 댓글 수 - CommentRepository.countByPostIds 대응
+     * 목록 전체를 GROUP BY 한 번으로 집계 (idx_comments_post_id_id 범위 스캔), 댓글이 없는 게시글은 결과에 없음
+     */
+    @Query("SELECT post_id, COUNT(*) AS total FROM comments WHERE post_id IN (:postIds) GROUP BY post_id")
+    Flux<PostCount> countCommentsByPostIds(Collection<Long> postIds);
+
+    /**
+     * 게시글별 좋아요 수 - post_likes PK (post_id, member_id) 의 앞부분으로 집계
+     * (Servlet 서버는 PostLikeIndex 에서 계산하지만 좋아요 / 취소는 항상 이 테이블에 먼저 반영되므로 같은 값)
+     */
+    @Query("SELECT post_id, COUNT(*) AS total FROM post_likes WHERE post_id IN (:postIds) GROUP BY post_id")
+    Flux<PostCount> countLikesByPostIds(Collection<Long> postIds);
+
+    /**
+     * 주어진 게시글 중 회원이 좋아요한 게시글 id (idx_post_likes_member_id)
+     */
+    @Query("SELECT post_id FROM post_likes WHERE member_id = :memberId AND post_id IN (:postIds)")
+    Flux<Long> findLikedPostIds(Long memberId, Collection<Long> postIds);
+}
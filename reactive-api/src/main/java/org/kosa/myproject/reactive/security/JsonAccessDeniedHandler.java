@@ -0,0 +1,29 @@
+package org.kosa.myproject.reactive.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.dto.ApiResponseDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 권한 부족(403) 응답 (CustomAccessDeniedHandler 대응)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JsonAccessDeniedHandler implements ServerAccessDeniedHandler {
+
+    private final JsonResponseWriter responseWriter;
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, AccessDeniedException denied) {
+        log.error("권한 부족: {} - {}", exchange.getRequest().getPath(), denied.getMessage());
+        return responseWriter.write(exchange.getResponse(), HttpStatus.FORBIDDEN,
+                ApiResponseDto.error("FORBIDDEN", "해당 리소스에 접근할 권한이 없습니다."));
+    }
+}
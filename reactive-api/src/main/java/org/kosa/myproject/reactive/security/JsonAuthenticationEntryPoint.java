@@ -0,0 +1,41 @@
+package org.kosa.myproject.reactive.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.dto.ApiResponseDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증 실패(401) 응답 (JwtAuthenticationEntryPoint 대응)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JsonAuthenticationEntryPoint implements ServerAuthenticationEntryPoint {
+
+    private final JsonResponseWriter responseWriter;
+
+    @Override
+    public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException ex) {
+        log.error("인증 실패: {}", ex.getMessage());
+        return responseWriter.write(exchange.getResponse(), HttpStatus.UNAUTHORIZED,
+                ApiResponseDto.error("UNAUTHORIZED", getErrorMessage(exchange)));
+    }
+
+    /**
+     * ReactiveJwtFilter 가 남긴 attribute 로 구체적인 메시지 선택
+     */
+    private String getErrorMessage(ServerWebExchange exchange) {
+        if (exchange.getAttribute(ReactiveJwtFilter.EXPIRED_ATTRIBUTE) != null) {
+            return "JWT 토큰이 만료되었습니다. 다시 로그인해주세요.";
+        } else if (exchange.getAttribute(ReactiveJwtFilter.INVALID_ATTRIBUTE) != null) {
+            return "유효하지 않은 JWT 토큰입니다.";
+        }
+        return "인증이 필요합니다. 로그인해주세요.";
+    }
+}
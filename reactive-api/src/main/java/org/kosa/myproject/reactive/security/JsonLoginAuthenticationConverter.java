@@ -0,0 +1,38 @@
+package org.kosa.myproject.reactive.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.kosa.myproject.dto.LoginRequestDto;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+
+/**
+ * POST /api/auth/login 의 JSON 본문({"username", "password"})을 인증 요청으로 변환
+ * (JsonLoginFilter.attemptAuthentication 대응)
+ */
+@RequiredArgsConstructor
+public class JsonLoginAuthenticationConverter implements ServerAuthenticationConverter {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Authentication> convert(ServerWebExchange exchange) {
+        return DataBufferUtils.join(exchange.getRequest().getBody())
+                .map(buffer -> {
+                    try {
+                        LoginRequestDto login = objectMapper.readValue(buffer.asInputStream(true), LoginRequestDto.class);
+                        return UsernamePasswordAuthenticationToken.unauthenticated(login.getUsername(), login.getPassword());
+                    } catch (IOException e) {
+                        // 본문 형식 오류도 로그인 실패(401)로 응답
+                        throw new BadCredentialsException("Invalid login request format", e);
+                    }
+                });
+    }
+}
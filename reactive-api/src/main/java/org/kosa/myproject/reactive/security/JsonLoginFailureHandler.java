@@ -0,0 +1,33 @@
+package org.kosa.myproject.reactive.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.security.web.server.authentication.ServerAuthenticationFailureHandler;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로그인 실패 응답 (JsonLoginFilter.unsuccessfulAuthentication 대응)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JsonLoginFailureHandler implements ServerAuthenticationFailureHandler {
+
+    private final JsonResponseWriter responseWriter;
+
+    @Override
+    public Mono<Void> onAuthenticationFailure(WebFilterExchange webFilterExchange, AuthenticationException exception) {
+        log.error("=== 로그인 실패: {} ===", exception.getMessage());
+
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", "로그인 실패: 아이디 또는 비밀번호를 확인해주세요");
+        errorResponse.put("code", "AUTHENTICATION_FAILED");
+        return responseWriter.write(webFilterExchange.getExchange().getResponse(), HttpStatus.UNAUTHORIZED, errorResponse);
+    }
+}
@@ -0,0 +1,49 @@
+package org.kosa.myproject.reactive.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.dto.ApiResponseDto;
+import org.kosa.myproject.reactive.entity.MemberRecord;
+import org.kosa.myproject.security.jwt.JwtUtil;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.security.web.server.authentication.ServerAuthenticationSuccessHandler;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * 로그인 성공 시 JWT 발급 (JsonLoginFilter.successfulAuthentication 대응)
+ * 응답 헤더 / 본문 형식은 Servlet 버전과 동일
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JsonLoginSuccessHandler implements ServerAuthenticationSuccessHandler {
+
+    private static final long EXPIRED_MS = 1000L * 60 * 60 * 24;  // 하루
+
+    private final JwtUtil jwtUtil;
+    private final JsonResponseWriter responseWriter;
+
+    @Override
+    public Mono<Void> onAuthenticationSuccess(WebFilterExchange webFilterExchange, Authentication authentication) {
+        MemberRecord member = ((MemberRecordDetails) authentication.getPrincipal()).getMember();
+        String token = jwtUtil.createJwt(member.getId(), member.getUsername(), member.getName(), member.getRole(), EXPIRED_MS);
+        log.info("JWT 토큰 발급 완료: username={}", member.getUsername());
+
+        ServerHttpResponse response = webFilterExchange.getExchange().getResponse();
+        response.getHeaders().add(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        response.getHeaders().add(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.AUTHORIZATION);
+
+        Map<String, Object> responseData = Map.of(
+                "id", member.getId(),
+                "username", member.getUsername(),
+                "name", member.getName(),
+                "role", member.getRole().name()
+        );
+        return responseWriter.write(response, HttpStatus.OK, ApiResponseDto.success(responseData, "로그인 성공"));
+    }
+}
@@ -0,0 +1,35 @@
+package org.kosa.myproject.reactive.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Security 필터 단계(핸들러 이전)의 JSON 응답 작성
+ * Servlet 버전의 EntryPoint / AccessDeniedHandler / JsonLoginFilter 가 response.getWriter() 로 쓰던 부분
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonResponseWriter {
+
+    private final ObjectMapper objectMapper;  // Spring Boot 기본 ObjectMapper (LocalDateTime → ISO-8601)
+
+    public Mono<Void> write(ServerHttpResponse response, HttpStatus status, Object body) {
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBuffer buffer = response.bufferFactory().wrap(bytes);
+        return response.writeWith(Mono.just(buffer));
+    }
+}
@@ -0,0 +1,17 @@
+package org.kosa.myproject.reactive.security;
+
+import org.kosa.myproject.entity.MemberRole;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * JWT 토큰으로 인증된 사용자 (DB 조회 없이 토큰 Claims 로만 생성)
+ * Authentication.getName() 은 username 을 반환한다
+ */
+public record MemberPrincipal(Long id, String username, String name, MemberRole role)
+        implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
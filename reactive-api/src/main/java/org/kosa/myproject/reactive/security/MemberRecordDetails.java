@@ -0,0 +1,36 @@
+package org.kosa.myproject.reactive.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.kosa.myproject.reactive.entity.MemberRecord;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * MemberRecordDetails - 로그인 시 사용하는 UserDetails 구현체 (CustomMemberDetails 대응)
+ */
+@Getter
+@RequiredArgsConstructor
+public class MemberRecordDetails implements UserDetails {
+
+    private final MemberRecord member;
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority(member.getRole().name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return member.getPassword();
+    }
+
+    @Override
+    public String getUsername() {
+        return member.getUsername();
+    }
+}
@@ -0,0 +1,78 @@
+package org.kosa.myproject.reactive.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.entity.MemberRole;
+import org.kosa.myproject.security.jwt.JwtUtil;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * ReactiveJwtFilter - JwtFilter 의 WebFlux 버전
+ *
+ * Authorization: Bearer 토큰을 검증하고, 유효하면 Reactor Context 에 인증 정보를 담아 다음 필터로 진행
+ * (ThreadLocal 기반 SecurityContextHolder 는 요청이 여러 스레드를 오가는 WebFlux 에서 사용할 수 없음)
+ *
+ * 토큰이 없거나 유효하지 않아도 요청은 그대로 진행하고, 인가 단계에서 401 처리
+ * 만료/위조 여부는 exchange attribute 로 남겨 EntryPoint 가 구체적인 메시지를 응답한다
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveJwtFilter implements WebFilter {
+
+    public static final String EXPIRED_ATTRIBUTE = "expired";
+    public static final String INVALID_ATTRIBUTE = "invalid";
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+
+        String token = authorization.substring(7);
+        Authentication authentication;
+        try {
+            if (!jwtUtil.validateToken(token)) {
+                log.warn("유효하지 않은 토큰 감지");
+                exchange.getAttributes().put(INVALID_ATTRIBUTE, "true");
+                return chain.filter(exchange);
+            }
+            authentication = toAuthentication(token);
+        } catch (ExpiredJwtException e) {
+            exchange.getAttributes().put(EXPIRED_ATTRIBUTE, "true");
+            log.warn("JWT 토큰 만료: {}", e.getMessage());
+            return chain.filter(exchange);
+        } catch (Exception e) {
+            exchange.getAttributes().put(INVALID_ATTRIBUTE, "true");
+            log.error("JWT 토큰 검증 실패: {}", e.getMessage());
+            return chain.filter(exchange);
+        }
+
+        log.debug("JWT 인증 성공: username={}", authentication.getName());
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+    }
+
+    private Authentication toAuthentication(String token) {
+        String role = jwtUtil.getRole(token);
+        MemberPrincipal principal = new MemberPrincipal(
+                jwtUtil.getId(token),
+                jwtUtil.getUsername(token),
+                jwtUtil.getName(token),
+                MemberRole.valueOf(role));
+        return new UsernamePasswordAuthenticationToken(principal, null, List.of(new SimpleGrantedAuthority(role)));
+    }
+}
@@ -0,0 +1,25 @@
+package org.kosa.myproject.reactive.security;
+
+import lombok.RequiredArgsConstructor;
+import org.kosa.myproject.reactive.repository.ReactiveMemberRepository;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 로그인 시 username 으로 회원 조회 (CustomMemberDetailsService 대응)
+ * 회원이 없으면 빈 Mono → 인증 매니저가 BadCredentialsException 처리
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveMemberDetailsService implements ReactiveUserDetailsService {
+
+    private final ReactiveMemberRepository memberRepository;
+
+    @Override
+    public Mono<UserDetails> findByUsername(String username) {
+        return memberRepository.findByUsername(username)
+                .map(MemberRecordDetails::new);
+    }
+}
@@ -0,0 +1,138 @@
+package org.kosa.myproject.reactive.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.dto.MemberResponseDto;
+import org.kosa.myproject.entity.MemberRole;
+import org.kosa.myproject.reactive.entity.MemberRecord;
+import org.kosa.myproject.reactive.repository.ReactiveMemberRepository;
+import org.kosa.myproject.service.MemberLookupProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ReactiveMemberService - MemberService 의 Reactive 버전
+ *
+ * 모든 메서드는 Mono 를 반환하며, 블로킹 작업(BCrypt)은 passwordHashScheduler 에서만 실행한다
+ * 예외 메시지는 Servlet 버전과 동일하게 유지 (클라이언트가 두 서버를 구분하지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@EnableConfigurationProperties(MemberLookupProperties.class)
+public class ReactiveMemberService {
+
+    private final ReactiveMemberRepository memberRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler passwordHashScheduler;
+    private final MemberLookupProperties lookupProperties;
+
+    /**
+     * 회원가입
+     * 중복 체크 후 저장하며, 동시에 같은 username 으로 가입하면 UNIQUE 제약 위반을 중복으로 처리
+     */
+    public Mono<MemberResponseDto> register(MemberCreateRequestDto requestDto) {
+        log.info("회원가입 시도: username={}", requestDto.getUsername());
+
+        return memberRepository.existsByUsername(requestDto.getUsername())
+                .flatMap(exists -> {
+                    if (exists) {
+                        log.warn("회원가입 실패 - 중복된 username: {}", requestDto.getUsername());
+                        return Mono.error(new IllegalArgumentException("이미 사용 중인 아이디입니다."));
+                    }
+                    return encode(requestDto.getPassword());
+                })
+                .map(encoded -> MemberRecord.builder()
+                        .username(requestDto.getUsername())
+                        .password(encoded)
+                        .name(requestDto.getName())
+                        .role(MemberRole.ROLE_USER)
+                        .build())
+                .flatMap(memberRepository::save)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> new IllegalArgumentException("이미 사용 중인 아이디입니다."))
+                .doOnNext(saved -> log.info("회원가입 성공: id={}, username={}", saved.getId(), saved.getUsername()))
+                .map(MemberRecord::toResponseDto);
+    }
+
+    /**
+     * username 으로 회원 조회
+     */
+    public Mono<MemberResponseDto> findByUsername(String username) {
+        return memberRepository.findByUsername(username)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("존재하지 않는 회원입니다.")))
+                .map(MemberRecord::toResponseDto);
+    }
+
+    /**
+     * ID(PK)로 회원 조회
+     */
+    public Mono<MemberResponseDto> findById(Long memberId) {
+        return memberRepository.findById(memberId)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("존재하지 않는 회원입니다.")))
+                .map(MemberRecord::toResponseDto);
+    }
+
+    /**
+     * 여러 ID(PK)로 회원 일괄 조회 - MemberService.findAllByIds 와 같은 규칙
+     * (중복 제거, max-ids 초과 시 400, chunk-size 단위 IN 쿼리, 요청 순서 유지)
+     */
+    public Mono<Map<Long, MemberResponseDto>> findAllByIds(List<Long> ids) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+        if (distinctIds.size() > lookupProperties.getMaxIds()) {
+            return Mono.error(new IllegalArgumentException(
+                    "한 번에 최대 " + lookupProperties.getMaxIds() + "명까지 조회할 수 있습니다."));
+        }
+
+        List<Long> idList = new ArrayList<>(distinctIds);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < idList.size(); from += lookupProperties.getChunkSize()) {
+            chunks.add(idList.subList(from, Math.min(from + lookupProperties.getChunkSize(), idList.size())));
+        }
+
+        return Flux.fromIterable(chunks)
+                .concatMap(memberRepository::findAllById)
+                .collectMap(MemberRecord::getId, member -> member, HashMap::new)
+                .map(found -> {
+                    // IN 쿼리 결과 순서는 보장되지 않으므로 요청 순서로 다시 정렬
+                    Map<Long, MemberResponseDto> result = new LinkedHashMap<>();
+                    for (Long id : distinctIds) {
+                        MemberRecord member = found.get(id);
+                        if (member != null) {
+                            result.put(id, member.toResponseDto());
+                        }
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * 현재 로그인한 회원 정보 조회
+     */
+    public Mono<MemberResponseDto> getMyInfo(String username) {
+        return findByUsername(username);
+    }
+
+    private Mono<String> encode(String rawPassword) {
+        if (rawPassword == null || rawPassword.isBlank()) {
+            return Mono.error(new IllegalArgumentException("비밀번호를 입력해주세요."));
+        }
+        return Mono.fromCallable(() -> passwordEncoder.encode(rawPassword))
+                .subscribeOn(passwordHashScheduler);
+    }
+}
@@ -0,0 +1,135 @@
+package org.kosa.myproject.reactive.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.dto.PostCreateRequestDto;
+import org.kosa.myproject.dto.PostDetailResponseDto;
+import org.kosa.myproject.dto.PostListResponseDto;
+import org.kosa.myproject.markdown.MarkdownRenderer;
+import org.kosa.myproject.reactive.entity.PostCount;
+import org.kosa.myproject.reactive.entity.PostRecord;
+import org.kosa.myproject.reactive.entity.PostWithAuthor;
+import org.kosa.myproject.reactive.repository.ReactiveMemberRepository;
+import org.kosa.myproject.reactive.repository.ReactivePostRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ReactivePostService - PostService 의 Reactive 버전
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactivePostService {
+
+    private final ReactivePostRepository postRepository;
+    private final ReactiveMemberRepository memberRepository;
+    private final MarkdownRenderer markdownRenderer;          // 본문 Markdown → HTML (작성 시 한 번만)
+
+    /**
+     * 전체 게시글 목록 (최신순) - 조인 쿼리 한 번 + 댓글 수 / 좋아요 수 / 내 좋아요 각각 한 번
+     *
+     * @param viewerId 현재 회원 ID (비로그인이면 null)
+     */
+    public Flux<PostListResponseDto> getAllPosts(Long viewerId) {
+        return postRepository.findAllWithAuthor()
+                .collectList()
+                .flatMapMany(posts -> {
+                    List<Long> postIds = posts.stream().map(PostWithAuthor::id).toList();
+                    return Mono.zip(countComments(postIds), countLikes(postIds), likedPostIds(viewerId, postIds))
+                            .flatMapIterable(counts -> posts.stream()
+                                    .map(post -> post.toListDto(
+                                            counts.getT1().getOrDefault(post.id(), 0L),
+                                            counts.getT2().getOrDefault(post.id(), 0L),
+                                            counts.getT3().contains(post.id())))
+                                    .toList());
+                });
+    }
+
+    /**
+     * 게시글 상세 조회
+     * 렌더링 전이거나 이전 렌더러 버전의 게시글은 응답용으로만 렌더링 (다시 저장하는 것은 Servlet 서버의 PostRenderJob)
+     *
+     * @param viewerId 현재 회원 ID (null 이면 좋아요 여부 false)
+     */
+    public Mono<PostDetailResponseDto> getPostById(Long postId, Long viewerId) {
+        List<Long> postIds = List.of(postId);
+        return postRepository.findByIdWithAuthor(postId)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("존재하지 않는 게시글입니다.")))
+                .zipWith(Mono.zip(countLikes(postIds), likedPostIds(viewerId, postIds)))
+                .map(result -> {
+                    PostWithAuthor post = result.getT1();
+                    return post.toDetailDto(
+                            post.isRendered(MarkdownRenderer.VERSION)
+                                    ? post.contentHtml()
+                                    : markdownRenderer.render(post.content()),
+                            result.getT2().getT1().getOrDefault(postId, 0L),
+                            result.getT2().getT2().contains(postId));
+                });
+    }
+
+    /**
+     * 게시글별 댓글 수 (게시글이 없으면 쿼리하지 않음 - 빈 IN 절 방지)
+     */
+    private Mono<Map<Long, Long>> countComments(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return postRepository.countCommentsByPostIds(postIds)
+                .collectMap(PostCount::postId, PostCount::total);
+    }
+
+    /**
+     * 게시글별 좋아요 수
+     */
+    private Mono<Map<Long, Long>> countLikes(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return postRepository.countLikesByPostIds(postIds)
+                .collectMap(PostCount::postId, PostCount::total);
+    }
+
+    /**
+     * 현재 회원이 좋아요한 게시글 id (비로그인이면 쿼리하지 않음)
+     */
+    private Mono<Set<Long>> likedPostIds(Long viewerId, List<Long> postIds) {
+        if (viewerId == null || postIds.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+        return postRepository.findLikedPostIds(viewerId, postIds)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 게시글 작성
+     * Servlet 버전과 같이 본문을 렌더링해 content_html / render_version 을 함께 저장
+     *
+     * @param requestDto 게시글 작성 정보
+     * @param username 현재 로그인한 사용자 (SecurityContext 에서 추출)
+     */
+    public Mono<PostDetailResponseDto> createPost(PostCreateRequestDto requestDto, String username) {
+        log.info("=== 게시글 작성 시작: username={} ===", username);
+
+        return memberRepository.findByUsername(username)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("존재하지 않는 회원입니다.")))
+                .flatMap(author -> postRepository.save(PostRecord.builder()
+                                .title(requestDto.getTitle())
+                                .content(requestDto.getContent())
+                                .contentHtml(markdownRenderer.render(requestDto.getContent()))
+                                .renderVersion(MarkdownRenderer.VERSION)
+                                .authorId(author.getId())
+                                .build())
+                        .map(saved -> new PostWithAuthor(saved.getId(), saved.getTitle(), saved.getContent(),
+                                saved.getContentHtml(), saved.getRenderVersion(), saved.getCreatedAt(),
+                                author.getId(), author.getUsername(), author.getName())))
+                .doOnNext(saved -> log.info("게시글 작성 완료: id={}, title={}", saved.id(), saved.title()))
+                .map(saved -> saved.toDetailDto(saved.contentHtml(), 0, false));
+    }
+}
@@ -0,0 +1,210 @@
+package org.kosa.myproject.reactive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.dto.PostCreateRequestDto;
+import org.kosa.myproject.markdown.MarkdownRenderer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reactive API 테스트 - Servlet 버전과 같은 요청/응답 형식인지 확인
+ * 회원가입 → 로그인(JWT 발급) → 게시글 작성 → 조회
+ */
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ReactiveApiTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private String username;
+
+    @BeforeEach
+    void setUp() {
+        username = "reactive-" + UUID.randomUUID().toString().substring(0, 8);
+        webTestClient.post().uri("/api/members")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(MemberCreateRequestDto.builder().username(username).password("1234").name("리액티브").build())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.data.username").isEqualTo(username)
+                .jsonPath("$.data.role").isEqualTo("ROLE_USER");
+    }
+
+    @Test
+    void loginThenCreateAndReadPost() {
+        String token = login("1234");
+
+        Long postId = dataId(webTestClient.post().uri("/api/posts")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(PostCreateRequestDto.builder().title("리액티브 글").content("**본문**").build())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Map.class)
+                .returnResult().getResponseBody());
+
+        // Servlet 버전과 같이 작성 시 렌더링한 HTML 과 렌더러 버전을 저장
+        Map<String, Object> row = databaseClient.sql("SELECT content_html, render_version FROM posts WHERE id = :id")
+                .bind("id", postId)
+                .fetch().one().block();
+        assertThat(row).containsEntry("content_html", "<p><strong>본문</strong></p>\n")
+                .containsEntry("render_version", MarkdownRenderer.VERSION);
+
+        // 댓글 작성 API 는 Servlet 서버에만 있으므로 DB 에 직접 넣고 목록의 댓글 수를 확인
+        Long memberId = databaseClient.sql("SELECT id FROM members WHERE username = :username")
+                .bind("username", username)
+                .map(r -> r.get("id", Long.class)).one().block();
+        for (int i = 0; i < 2; i++) {
+            databaseClient.sql("INSERT INTO comments (post_id, author_id, content, created_at) "
+                            + "VALUES (:postId, :authorId, '댓글', CURRENT_TIMESTAMP)")
+                    .bind("postId", postId)
+                    .bind("authorId", memberId)
+                    .then().block();
+        }
+        // 좋아요 API 도 Servlet 서버에만 있음 - 좋아요 수 / 내 좋아요 여부는 post_likes 에서 읽는다
+        databaseClient.sql("INSERT INTO post_likes (post_id, member_id, created_at) "
+                        + "VALUES (:postId, :memberId, CURRENT_TIMESTAMP)")
+                .bind("postId", postId)
+                .bind("memberId", memberId)
+                .then().block();
+
+        webTestClient.get().uri("/api/posts")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("게시물 목록 조회 성공")
+                .jsonPath("$.data[0].id").isEqualTo(postId)
+                .jsonPath("$.data[0].authorName").isEqualTo("리액티브")
+                .jsonPath("$.data[0].commentCount").isEqualTo(2)
+                .jsonPath("$.data[0].likeCount").isEqualTo(1)
+                .jsonPath("$.data[0].likedByMe").isEqualTo(false);
+
+        webTestClient.get().uri("/api/posts")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data[0].likeCount").isEqualTo(1)
+                .jsonPath("$.data[0].likedByMe").isEqualTo(true);
+
+        webTestClient.get().uri("/api/posts/{id}", postId)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.title").isEqualTo("리액티브 글")
+                .jsonPath("$.data.content").isEqualTo("**본문**")
+                .jsonPath("$.data.contentHtml").isEqualTo("<p><strong>본문</strong></p>\n")
+                .jsonPath("$.data.likeCount").isEqualTo(1)
+                .jsonPath("$.data.likedByMe").isEqualTo(true);
+
+        webTestClient.get().uri("/api/members/me")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.username").isEqualTo(username);
+    }
+
+    @Test
+    void rejectsDuplicateUsernameAndWrongPassword() {
+        webTestClient.post().uri("/api/members")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(MemberCreateRequestDto.builder().username(username).password("1234").name("중복").build())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("BAD_REQUEST")
+                .jsonPath("$.message").isEqualTo("이미 사용 중인 아이디입니다.");
+
+        webTestClient.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("username", username, "password", "wrong"))
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("AUTHENTICATION_FAILED");
+    }
+
+    @Test
+    void protectedEndpointsRequireToken() {
+        webTestClient.get().uri("/api/members/me")
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("UNAUTHORIZED");
+
+        webTestClient.get().uri("/api/members/me")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer invalid")
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("유효하지 않은 JWT 토큰입니다.");
+
+        String token = login("1234");
+        webTestClient.get().uri("/admin")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    void batchLookupKeepsRequestOrder() {
+        String token = login("1234");
+        Long myId = dataId(webTestClient.get().uri("/api/members/me")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .exchange()
+                .expectBody(Map.class)
+                .returnResult().getResponseBody());
+
+        webTestClient.get().uri(uri -> uri.path("/api/members").queryParam("ids", myId + ",999999," + myId).build())
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("회원 일괄 조회 OK")
+                .jsonPath("$.data.length()").isEqualTo(1)
+                .jsonPath("$.data['" + myId + "'].username").isEqualTo(username);
+    }
+
+    private String login(String password) {
+        String token = webTestClient.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("username", username, "password", password))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueMatches(HttpHeaders.AUTHORIZATION, "Bearer .+")
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("로그인 성공")
+                .jsonPath("$.data.username").isEqualTo(username)
+                .returnResult().getResponseHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        assertThat(token).startsWith("Bearer ");
+        return token;
+    }
+
+    /**
+     * ApiResponseDto 본문의 data.id
+     */
+    private Long dataId(Map<?, ?> body) {
+        assertThat(body).isNotNull();
+        return ((Number) ((Map<?, ?>) body.get("data")).get("id")).longValue();
+    }
+}
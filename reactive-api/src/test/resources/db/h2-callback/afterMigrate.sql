@@ -0,0 +1,4 @@
+-- 테스트(H2) 전용 Flyway callback
+-- r2dbc-h2 1.0 은 모든 String 파라미터를 CLOB 으로 바인딩하는데, H2 는 CLOB → ENUM 변환을 지원하지 않는다
+-- MySQL 에서는 문제가 없으므로 테스트 DB 에서만 role 컬럼을 VARCHAR 로 바꿔 사용
+ALTER TABLE members ALTER COLUMN role SET DATA TYPE VARCHAR(20);
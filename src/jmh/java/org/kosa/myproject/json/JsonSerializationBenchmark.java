@@ -0,0 +1,106 @@
+package org.kosa.myproject.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.kosa.myproject.dto.ApiResponseDto;
+import org.kosa.myproject.dto.MemberResponseDto;
+import org.kosa.myproject.dto.PostListResponseDto;
+import org.kosa.myproject.entity.MemberRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 자주 나가는 응답의 직렬화 비용 비교 (./gradlew jmh)
+ *
+ * - plain     : 기존 필터들이 각자 만들던 ObjectMapper 설정 (JavaTimeModule + ISO-8601)
+ * - blackbird : 같은 설정 + BlackbirdModule (JsonConfig)
+ * - preEncoded: 미리 직렬화한 401 본문에 timestamp 만 이어 붙이기 (PreEncodedErrorResponse)
+ *
+ * fork 마다 JIT 결과가 달라 fork 간 편차가 수십 % 까지 나므로 fork 5 회로 비교한다 (fork 1 회 결과로 판단하지 않는다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(5)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper plain;
+    private ObjectMapper blackbird;
+    private PreEncodedErrorResponse unauthorized;
+
+    private ApiResponseDto<List<PostListResponseDto>> postList;
+    private ApiResponseDto<MemberResponseDto> member;
+
+    @Setup
+    public void setUp() {
+        plain = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        blackbird = plain.copy().registerModule(new BlackbirdModule());
+        unauthorized = PreEncodedErrorResponse.of(plain, 401, "UNAUTHORIZED", "인증이 필요합니다. 로그인해주세요.");
+
+        LocalDateTime now = LocalDateTime.now();
+        postList = ApiResponseDto.success(LongStream.rangeClosed(1, 20)
+                .mapToObj(id -> PostListResponseDto.builder()
+                        .id(id)
+                        .title("게시글 제목 " + id)
+                        .authorName("작성자")
+                        .createdAt(now)
+                        .build())
+                .toList(), "게시글 목록 조회 성공");
+        member = ApiResponseDto.success(MemberResponseDto.builder()
+                .id(1L)
+                .username("user01")
+                .name("사용자")
+                .role(MemberRole.ROLE_USER)
+                .createdAt(now)
+                .build(), "회원 정보 조회 성공");
+    }
+
+    @Benchmark
+    public byte[] postListPlain() throws Exception {
+        return plain.writeValueAsBytes(postList);
+    }
+
+    @Benchmark
+    public byte[] postListBlackbird() throws Exception {
+        return blackbird.writeValueAsBytes(postList);
+    }
+
+    @Benchmark
+    public byte[] memberPlain() throws Exception {
+        return plain.writeValueAsBytes(member);
+    }
+
+    @Benchmark
+    public byte[] memberBlackbird() throws Exception {
+        return blackbird.writeValueAsBytes(member);
+    }
+
+    @Benchmark
+    public byte[] unauthorizedSerialized() throws Exception {
+        return plain.writeValueAsBytes(ApiResponseDto.error("UNAUTHORIZED", "인증이 필요합니다. 로그인해주세요."));
+    }
+
+    @Benchmark
+    public byte[] unauthorizedPreEncoded() {
+        return unauthorized.encode(LocalDateTime.now());
+    }
+}
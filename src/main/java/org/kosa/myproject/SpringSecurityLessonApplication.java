@@ -2,12 +2,18 @@ package org.kosa.myproject;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class SpringSecurityLessonApplication {
 
+	// 기동 단계(컨텍스트 refresh, 빈 생성)별 소요 시간 기록 - StartupTimelineReporter 가 요약
+	private static final int STARTUP_STEP_CAPACITY = 8192;
+
 	public static void main(String[] args) {
-		SpringApplication.run(SpringSecurityLessonApplication.class, args);
+		SpringApplication application = new SpringApplication(SpringSecurityLessonApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,23 @@
+package org.kosa.myproject.attachment;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 첨부파일 저장소 구성
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(AttachmentProperties.class)
+public class AttachmentConfig {
+
+    /**
+     * 다른 AttachmentStorage 빈(공유 저장소)이 있으면 생성되지 않음
+     */
+    @Bean
+    @ConditionalOnMissingBean(AttachmentStorage.class)
+    public LocalAttachmentStorage localAttachmentStorage(AttachmentProperties properties) {
+        return new LocalAttachmentStorage(properties.getStorageDir(), (int) properties.getBufferSize().toBytes());
+    }
+}
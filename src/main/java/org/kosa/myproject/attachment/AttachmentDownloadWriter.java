@@ -0,0 +1,127 @@
+package org.kosa.myproject.attachment;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.kosa.myproject.entity.Attachment;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 첨부파일 다운로드 응답 작성
+ *
+ * - ETag(본문 SHA-256) + If-None-Match → 304
+ * - Range 요청 하나 → 206 + Content-Range (범위 밖이면 416), If-Range 가 현재 ETag 와 다르면 전체 전송
+ *   여러 구간 요청(multipart/byteranges)은 전체(200)로 응답
+ * - 본문 전송은 Tomcat sendfile 을 우선 사용 (서블릿은 파일 경로와 구간만 넘기고 커넥터가 커널에서 소켓으로 복사)
+ *   지원하지 않는 컨테이너 / 원격 저장소면 FileChannel.transferTo 로 응답 스트림에 전송
+ */
+@Component
+@RequiredArgsConstructor
+public class AttachmentDownloadWriter {
+
+    // Tomcat 커넥터의 sendfile 요청 속성 (org.apache.catalina.Globals)
+    static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePrivate().getHeaderValue();
+
+    private final AttachmentStorage storage;
+    private final AttachmentProperties properties;
+
+    public void write(Attachment attachment, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String etag = attachment.getETag();
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;  // 304 (ETag 헤더는 checkNotModified 가 설정)
+        }
+
+        MediaType contentType = MediaType.parseMediaType(attachment.getContentType());
+        ContentDisposition disposition = (ContentTypeDetector.isInline(contentType)
+                ? ContentDisposition.inline() : ContentDisposition.attachment())
+                .filename(attachment.getFilename(), StandardCharsets.UTF_8)
+                .build();
+
+        response.setContentType(contentType.toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition.toString());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+
+        long length = attachment.getSize();
+        long start = 0;
+        long end = length - 1;
+        List<HttpRange> ranges = requestedRanges(request, etag);
+        if (ranges.size() == 1) {
+            start = ranges.get(0).getRangeStart(length);
+            end = ranges.get(0).getRangeEnd(length);
+            if (start >= length || start > end) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (count == 0 || HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+        if (sendfile(attachment, request, start, count)) {
+            return;
+        }
+        storage.transferTo(attachment.getStorageKey(), start, count, Channels.newChannel(response.getOutputStream()));
+    }
+
+    /**
+     * 적용할 Range 목록 (없거나 If-Range 불일치 / 해석 불가면 빈 목록 → 전체 전송)
+     */
+    private List<HttpRange> requestedRanges(HttpServletRequest request, String etag) {
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range == null) {
+            return List.of();
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return List.of();  // 클라이언트가 가진 본문과 다름
+        }
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            return List.of();  // 해석할 수 없는 Range 는 무시
+        }
+    }
+
+    /**
+     * 컨테이너 sendfile 로 전송 요청 (응답 본문은 서블릿이 반환된 뒤 커넥터가 직접 기록)
+     */
+    private boolean sendfile(Attachment attachment, HttpServletRequest request, long start, long count) {
+        if (!properties.isSendfile() || !Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            return false;
+        }
+        Optional<Path> path = storage.localPath(attachment.getStorageKey());
+        if (path.isEmpty()) {
+            return false;
+        }
+        request.setAttribute(SENDFILE_FILENAME, path.get().toString());
+        request.setAttribute(SENDFILE_START, start);
+        request.setAttribute(SENDFILE_END, start + count);  // end 는 포함하지 않음
+        return true;
+    }
+}
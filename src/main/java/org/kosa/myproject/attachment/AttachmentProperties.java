@@ -0,0 +1,25 @@
+package org.kosa.myproject.attachment;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * 게시글 첨부파일 설정 (app.attachment)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.attachment")
+public class AttachmentProperties {
+
+    private Path storageDir = Path.of("data/attachments");   // LocalAttachmentStorage 저장 위치
+
+    private DataSize maxFileSize = DataSize.ofMegabytes(20);  // 파일 하나의 최대 크기 (초과 시 413)
+
+    private DataSize bufferSize = DataSize.ofKilobytes(64);   // 업로드 스트리밍 버퍼 (요청당 이 크기만 heap 사용)
+
+    private boolean sendfile = true;                          // 컨테이너가 지원하면 다운로드를 sendfile 로 전송
+}
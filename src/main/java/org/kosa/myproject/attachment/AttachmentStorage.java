@@ -0,0 +1,40 @@
+package org.kosa.myproject.attachment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 첨부파일 본문 저장소
+ *
+ * 메타데이터(attachments 테이블)와 분리된 파일 본문만 다룬다.
+ * 기본 구현은 LocalAttachmentStorage, 다른 AttachmentStorage 빈(공유 저장소)을 등록하면 대체된다
+ */
+public interface AttachmentStorage {
+
+    /**
+     * 입력을 끝까지 읽어 저장 (전체를 메모리에 올리지 않고 버퍼 단위로 기록)
+     *
+     * @param content 업로드 본문
+     * @param maxSize 최대 크기 (byte)
+     * @return 저장 키 / 크기 / SHA-256
+     * @throws AttachmentTooLargeException maxSize 를 넘은 경우 (기록하던 내용은 삭제)
+     */
+    StoredAttachment store(InputStream content, long maxSize) throws IOException;
+
+    /**
+     * 저장된 파일의 [position, position + count) 구간을 target 으로 전송
+     *
+     * @return 전송한 byte 수
+     */
+    long transferTo(String key, long position, long count, WritableByteChannel target) throws IOException;
+
+    /**
+     * 컨테이너가 sendfile 로 직접 보낼 수 있는 로컬 파일 경로 (원격 저장소면 empty)
+     */
+    Optional<Path> localPath(String key);
+
+    void delete(String key) throws IOException;
+}
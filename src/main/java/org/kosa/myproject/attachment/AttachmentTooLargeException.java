@@ -0,0 +1,11 @@
+package org.kosa.myproject.attachment;
+
+/**
+ * 첨부파일 크기 제한 초과 (413 Payload Too Large)
+ */
+public class AttachmentTooLargeException extends RuntimeException {
+
+    public AttachmentTooLargeException(long maxSize) {
+        super("첨부파일은 최대 " + maxSize + " byte 까지 업로드할 수 있습니다.");
+    }
+}
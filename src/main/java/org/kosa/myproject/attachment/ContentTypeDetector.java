@@ -0,0 +1,75 @@
+package org.kosa.myproject.attachment;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 첨부파일 content type 판별
+ *
+ * 클라이언트가 보낸 Content-Type 은 믿지 않는다
+ * 1. 본문 앞부분의 magic number (이미지 / PDF / ZIP)
+ * 2. 파일 확장자 (MediaTypeFactory)
+ * 3. 둘 다 아니면 application/octet-stream
+ *
+ * 브라우저에서 바로 보여 줘도 안전한 래스터 이미지만 inline 으로 내려준다 (SVG / HTML 등은 스크립트 실행 가능)
+ */
+public final class ContentTypeDetector {
+
+    public static final int HEAD_SIZE = 16;  // 판별에 필요한 앞부분 byte 수
+
+    private static final Set<MediaType> INLINE_TYPES = Set.of(
+            MediaType.IMAGE_PNG, MediaType.IMAGE_JPEG, MediaType.IMAGE_GIF, MediaType.parseMediaType("image/webp"));
+
+    private ContentTypeDetector() {
+    }
+
+    public static MediaType detect(byte[] head, String filename) {
+        MediaType sniffed = sniff(head);
+        if (sniffed != null) {
+            return sniffed;
+        }
+        return MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    public static boolean isInline(MediaType mediaType) {
+        return INLINE_TYPES.contains(mediaType);
+    }
+
+    private static MediaType sniff(byte[] head) {
+        if (startsWith(head, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return MediaType.IMAGE_PNG;
+        }
+        if (startsWith(head, 0xFF, 0xD8, 0xFF)) {
+            return MediaType.IMAGE_JPEG;
+        }
+        if (startsWith(head, 'G', 'I', 'F', '8')) {
+            return MediaType.IMAGE_GIF;
+        }
+        if (startsWith(head, 'R', 'I', 'F', 'F') && head.length >= 12
+                && new String(head, 8, 4, StandardCharsets.US_ASCII).equals("WEBP")) {
+            return MediaType.parseMediaType("image/webp");
+        }
+        if (startsWith(head, '%', 'P', 'D', 'F', '-')) {
+            return MediaType.APPLICATION_PDF;
+        }
+        if (startsWith(head, 'P', 'K', 0x03, 0x04)) {
+            return MediaType.parseMediaType("application/zip");
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] head, int... magic) {
+        if (head.length < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if ((head[i] & 0xFF) != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
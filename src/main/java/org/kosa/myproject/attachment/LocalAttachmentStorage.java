@@ -0,0 +1,139 @@
+package org.kosa.myproject.attachment;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 파일 시스템 첨부파일 저장소
+ *
+ * 저장 구조: {storageDir}/{key 앞 2자리}/{key 다음 2자리}/{key}
+ *   (한 디렉터리에 파일이 몰리지 않도록 분산, key 는 UUID 32자리 hex)
+ *
+ * 업로드: 입력 채널 → 고정 크기 버퍼 → 임시 파일(FileChannel), 읽는 동안 크기 제한 검사와 SHA-256 계산
+ *        다 받은 뒤에만 최종 위치로 원자적 이동 (중단된 업로드가 조회되지 않음)
+ * 다운로드: FileChannel.transferTo (가능하면 커널에서 바로 소켓으로 복사)
+ */
+@Slf4j
+public class LocalAttachmentStorage implements AttachmentStorage {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{32}");
+
+    private final Path root;
+    private final Path tempDir;
+    private final int bufferSize;
+
+    public LocalAttachmentStorage(Path root, int bufferSize) {
+        this.root = root.toAbsolutePath().normalize();
+        this.tempDir = this.root.resolve("tmp");
+        this.bufferSize = bufferSize;
+        try {
+            Files.createDirectories(tempDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("첨부파일 저장 디렉터리를 만들 수 없습니다: " + this.root, e);
+        }
+    }
+
+    @Override
+    public StoredAttachment store(InputStream content, long maxSize) throws IOException {
+        MessageDigest digest = sha256();
+        // 채널 래퍼가 내부 배열로 복사하므로 heap 버퍼를 그대로 digest 에 넘긴다
+        ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+        byte[] head = null;
+        long size = 0;
+
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+        try {
+            try (ReadableByteChannel in = Channels.newChannel(content);
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxSize) {
+                        throw new AttachmentTooLargeException(maxSize);
+                    }
+                    buffer.flip();
+                    if (head == null && buffer.hasRemaining()) {
+                        head = Arrays.copyOf(buffer.array(), Math.min(buffer.limit(), ContentTypeDetector.HEAD_SIZE));
+                    }
+                    digest.update(buffer.array(), 0, buffer.limit());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            }
+
+            String key = UUID.randomUUID().toString().replace("-", "");
+            Path target = resolve(key);
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+
+            log.debug("첨부파일 저장: key={}, size={}", key, size);
+            return new StoredAttachment(key, size, HexFormat.of().formatHex(digest.digest()),
+                    head != null ? head : new byte[0]);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public long transferTo(String key, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel file = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long transferred = 0;
+            // transferTo 는 요청한 것보다 적게 보낼 수 있으므로 끝까지 반복
+            while (transferred < count) {
+                long sent = file.transferTo(position + transferred, count - transferred, target);
+                if (sent <= 0) {
+                    break;  // 파일이 예상보다 짧음
+                }
+                transferred += sent;
+            }
+            return transferred;
+        }
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    private Path resolve(String key) {
+        if (key == null || !KEY_PATTERN.matcher(key).matches()) {
+            throw new IllegalArgumentException("잘못된 첨부파일 키입니다.");
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
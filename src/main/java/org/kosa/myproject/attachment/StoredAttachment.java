@@ -0,0 +1,12 @@
+package org.kosa.myproject.attachment;
+
+/**
+ * 저장소에 기록된 첨부파일 본문 정보
+ *
+ * @param key    저장소 내 위치 (attachments.storage_key)
+ * @param size   byte 수
+ * @param sha256 본문의 SHA-256 (hex) - 다운로드 ETag 로 사용
+ * @param head   본문 앞부분 (최대 ContentTypeDetector.HEAD_SIZE byte, content type 판별용)
+ */
+public record StoredAttachment(String key, long size, String sha256, byte[] head) {
+}
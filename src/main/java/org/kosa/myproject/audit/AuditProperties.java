@@ -0,0 +1,31 @@
+package org.kosa.myproject.audit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 인증 감사 로그 설정 (app.audit)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditProperties {
+
+    private boolean enabled = true;
+
+    private int bufferSize = 8192;                        // 저장 대기 이벤트 수 (메모리 상한)
+
+    private int batchSize = 200;                          // INSERT 한 번에 넣는 최대 행 수
+
+    private Duration flushInterval = Duration.ofSeconds(1); // 배치가 덜 찼어도 첫 이벤트 후 이 시간이 지나면 저장
+
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+    public enum OverflowPolicy {
+        DROP,   // 버퍼가 가득 차면 버리고 app.audit.events{result=dropped} 증가 (로그인 지연 없음)
+        BLOCK   // 버퍼에 자리가 날 때까지 로그인 요청 스레드가 대기 (유실 없음)
+    }
+}
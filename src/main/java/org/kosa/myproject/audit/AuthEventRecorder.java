@@ -0,0 +1,226 @@
+package org.kosa.myproject.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.entity.AuthEventType;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthEventRecorder - 인증 이벤트(로그인 성공/실패, 토큰 만료/위조)를 auth_events 에 비동기로 저장
+ *
+ * 로그인 경로에서 이벤트마다 INSERT 를 실행하면 DB 지연이 그대로 응답 시간에 더해지므로
+ * 1) 요청 스레드는 크기가 제한된 링 버퍼(ArrayBlockingQueue)에 이벤트를 넣기만 하고
+ * 2) 전용 writer 스레드 하나가 batch-size 건이 모이거나 첫 이벤트 후 flush-interval 이 지나면
+ *    여러 행을 INSERT 문 하나(VALUES (...), (...))로 저장한다
+ * 3) 종료 시(destroy) writer 스레드가 버퍼에 남은 이벤트까지 저장한 뒤 끝난다
+ *
+ * 버퍼가 가득 찼을 때는 overflow-policy 에 따라 버리고 집계(DROP)하거나 자리가 날 때까지 기다린다(BLOCK).
+ * 저장 실패한 배치는 재시도하지 않고 로그 + app.audit.events{result=failed} 로 남긴다 (감사 로그가 로그인을 막지 않도록)
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuthEventRecorder implements DisposableBean {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO auth_events (occurred_at, event_type, username, remote_addr, detail) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 5;
+
+    private static final int USERNAME_MAX_LENGTH = 50;
+    private static final int REMOTE_ADDR_MAX_LENGTH = 45;
+    private static final int DETAIL_MAX_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditProperties properties;
+    private final BlockingQueue<PendingEvent> buffer;
+    private final String fullBatchSql;  // 가장 흔한 "가득 찬 배치" SQL 은 한 번만 만든다
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    public AuthEventRecorder(JdbcTemplate jdbcTemplate, AuditProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+        this.fullBatchSql = insertSql(properties.getBatchSize());
+        this.writtenCounter = eventCounter(meterRegistry, "written");
+        this.droppedCounter = eventCounter(meterRegistry, "dropped");
+        this.failedCounter = eventCounter(meterRegistry, "failed");
+        Gauge.builder("app.audit.buffer.size", buffer, BlockingQueue::size)
+                .description("저장 대기 중인 인증 이벤트 수")
+                .register(meterRegistry);
+
+        this.writer = Thread.ofPlatform().name("auth-audit-writer").daemon().unstarted(this::writeLoop);
+        if (properties.isEnabled()) {
+            writer.start();
+        }
+    }
+
+    /**
+     * 인증 이벤트 기록 요청 (요청 스레드에서 호출, DB 에 접근하지 않음)
+     *
+     * @param username   로그인 시도 아이디 / 토큰의 username (알 수 없으면 null)
+     * @param remoteAddr 요청 IP
+     * @param detail     실패 원인 등 (없으면 null)
+     */
+    public void record(AuthEventType type, String username, String remoteAddr, String detail) {
+        if (!properties.isEnabled() || !running) {
+            return;
+        }
+        PendingEvent event = new PendingEvent(LocalDateTime.now(), type,
+                truncate(username, USERNAME_MAX_LENGTH),
+                truncate(remoteAddr, REMOTE_ADDR_MAX_LENGTH),
+                truncate(detail, DETAIL_MAX_LENGTH));
+
+        if (properties.getOverflowPolicy() == AuditProperties.OverflowPolicy.BLOCK) {
+            try {
+                buffer.put(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                droppedCounter.increment();
+            }
+        } else if (!buffer.offer(event)) {
+            droppedCounter.increment();
+            log.debug("인증 감사 로그 버퍼 가득 참 - 이벤트 버림: type={}, username={}", type, username);
+        }
+    }
+
+    public long getWrittenCount() {
+        return (long) writtenCounter.count();
+    }
+
+    public long getDroppedCount() {
+        return (long) droppedCounter.count();
+    }
+
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    /**
+     * writer 스레드 - 배치가 차거나 flush-interval 이 지나면 저장
+     */
+    private void writeLoop() {
+        int batchSize = properties.getBatchSize();
+        long flushNanos = properties.getFlushInterval().toNanos();
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                PendingEvent first = buffer.take();
+                batch.add(first);
+                long deadline = System.nanoTime() + flushNanos;
+                while (batch.size() < batchSize) {
+                    // 이미 쌓인 것은 한 번에 가져오고, 모자라면 남은 시간만큼 다음 이벤트를 기다린다
+                    if (buffer.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingEvent next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 요청 - 모아 둔 배치와 남은 버퍼는 루프를 빠져나와 이 스레드가 저장
+                break;
+            }
+            write(batch);
+            batch.clear();
+        }
+        buffer.drainTo(batch);
+        flush(batch);
+    }
+
+    private void flush(List<PendingEvent> events) {
+        int batchSize = properties.getBatchSize();
+        for (int from = 0; from < events.size(); from += batchSize) {
+            write(events.subList(from, Math.min(from + batchSize, events.size())));
+        }
+    }
+
+    private void write(List<PendingEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Object[] args = new Object[batch.size() * COLUMNS];
+        int i = 0;
+        for (PendingEvent event : batch) {
+            args[i++] = Timestamp.valueOf(event.occurredAt());
+            args[i++] = event.type().name();
+            args[i++] = event.username();
+            args[i++] = event.remoteAddr();
+            args[i++] = event.detail();
+        }
+        String sql = batch.size() == properties.getBatchSize() ? fullBatchSql : insertSql(batch.size());
+        try {
+            jdbcTemplate.update(sql, args);
+            writtenCounter.increment(batch.size());
+        } catch (DataAccessException e) {
+            failedCounter.increment(batch.size());
+            log.error("인증 감사 로그 저장 실패: {} 건 버림", batch.size(), e);
+        }
+    }
+
+    /**
+     * writer 스레드에 종료를 알리고, writer 가 남은 이벤트를 저장하고 끝날 때까지 기다린다
+     * (저장 자체는 writeLoop 가 종료 직전에 수행)
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        if (writer.isAlive()) {
+            writer.join(properties.getFlushInterval().toMillis() + 5_000);
+        }
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2))
+                .append(INSERT_PREFIX);
+        for (int row = 0; row < rows; row++) {
+            if (row > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+        return sql.toString();
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("app.audit.events")
+                .description("인증 감사 로그 이벤트 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record PendingEvent(LocalDateTime occurredAt, AuthEventType type,
+                                String username, String remoteAddr, String detail) {
+    }
+}
@@ -0,0 +1,98 @@
+package org.kosa.myproject.concurrency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.json.PreEncodedErrorResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * AdaptiveConcurrencyFilter - 과부하 시 대기열에 쌓지 않고 즉시 503 으로 거절 (load shedding)
+ *
+ * RDS 가 느려지면 요청이 Tomcat 대기열에 쌓여 DB 를 쓰지 않는 /api/health 까지 느려지고 ALB 가 인스턴스를 내린다.
+ * Spring Security 필터 체인보다 먼저 실행되어 동시 처리 수를 AdaptiveConcurrencyLimiter 의 한도 이하로 유지하고,
+ * 한도를 넘는 요청은 수 ms 안에 503 + Retry-After 로 돌려보낸다 (클라이언트 / ALB 가 다른 인스턴스로 재시도)
+ *
+ * 우선순위 (ConcurrencyLimitProperties)
+ * - CRITICAL  : 헬스 체크, 로그인 - 한도를 끝까지 사용
+ * - SHEDDABLE : 인증 헤더 없는 목록 / 상세 조회 - 가장 먼저 거절
+ * - NORMAL    : 그 외
+ *
+ * 비동기 요청(SSE, 일괄 등록)은 최초 디스패치가 끝날 때 반환하며 처리 시간은 한도 계산에 넣지 않는다
+ */
+@Slf4j
+public class AdaptiveConcurrencyFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final List<PathPattern> criticalPatterns;
+    private final List<PathPattern> sheddablePatterns;
+    private final PreEncodedErrorResponse overloaded;
+    private final String retryAfterSeconds;
+
+    public AdaptiveConcurrencyFilter(AdaptiveConcurrencyLimiter limiter,
+                                     ConcurrencyLimitProperties properties,
+                                     PreEncodedErrorResponse overloaded) {
+        this.limiter = limiter;
+        this.criticalPatterns = parse(properties.getCriticalPatterns());
+        this.sheddablePatterns = parse(properties.getSheddablePatterns());
+        this.overloaded = overloaded;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Priority priority = classify(request);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(priority);
+        if (permit == null) {
+            log.debug("과부하로 요청 거절: {} {} ({}), limit={}",
+                    request.getMethod(), request.getRequestURI(), priority, limiter.getLimit());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            overloaded.writeTo(response);
+            return;
+        }
+
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            permit.release(completed && !request.isAsyncStarted());
+        }
+    }
+
+    Priority classify(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        if (matches(criticalPatterns, path)) {
+            return Priority.CRITICAL;
+        }
+        if ("GET".equals(request.getMethod())
+                && request.getHeader(HttpHeaders.AUTHORIZATION) == null
+                && matches(sheddablePatterns, path)) {
+            return Priority.SHEDDABLE;
+        }
+        return Priority.NORMAL;
+    }
+
+    private static boolean matches(List<PathPattern> patterns, PathContainer path) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<PathPattern> parse(List<String> patterns) {
+        return patterns.stream().map(PathPatternParser.defaultInstance::parse).toList();
+    }
+}
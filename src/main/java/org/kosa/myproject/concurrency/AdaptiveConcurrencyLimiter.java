@@ -0,0 +1,139 @@
+package org.kosa.myproject.concurrency;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * AdaptiveConcurrencyLimiter - 동시 처리 수를 적응형 한도 이하로 유지
+ *
+ * 1. tryAcquire : 현재 동시 처리 수가 (한도 x 우선순위 비율) 미만이면 CAS 로 1 증가, 아니면 즉시 거절 (대기하지 않음)
+ * 2. release    : 처리 시간을 표본 구간에 누적 (LongAdder)
+ * 3. 표본 구간(sample-window, 최소 표본 수)이 차면 tryLock 에 성공한 한 스레드만 Gradient2Limit 으로 한도를 재계산
+ *
+ * 요청 경로에는 lock 이 없다. 재계산과 동시에 들어온 표본 몇 건이 다음 구간으로 넘어갈 수 있지만 결과에는 영향이 없다
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final Gradient2Limit gradient;
+    private final Map<Priority, Double> shares = new EnumMap<>(Priority.class);
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile int limit;
+
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private final LongAdder windowRttSum = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowMaxInflight = new AtomicInteger();
+    private final AtomicBoolean windowRejected = new AtomicBoolean();
+    private final AtomicLong windowStart;
+
+    private final Map<Priority, LongAdder> rejected = new EnumMap<>(Priority.class);
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, LongSupplier nanoClock) {
+        this.gradient = new Gradient2Limit(properties);
+        this.limit = gradient.getLimit();
+        this.shares.put(Priority.CRITICAL, 1.0);
+        this.shares.put(Priority.NORMAL, properties.getNormalShare());
+        this.shares.put(Priority.SHEDDABLE, properties.getSheddableShare());
+        for (Priority priority : Priority.values()) {
+            rejected.put(priority, new LongAdder());
+        }
+        this.windowNanos = properties.getSampleWindow().toNanos();
+        this.minWindowSamples = properties.getMinWindowSamples();
+        this.nanoClock = nanoClock;
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * @return 허용되면 처리 후 반드시 release 해야 하는 Permit, 거절되면 null
+     */
+    public Permit tryAcquire(Priority priority) {
+        int allowed = Math.max(1, (int) (limit * shares.get(priority)));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                rejected.get(priority).increment();
+                if (!windowRejected.get()) {
+                    windowRejected.set(true);
+                }
+                return null;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                windowMaxInflight.accumulateAndGet(current + 1, Math::max);
+                return new Permit(nanoClock.getAsLong());
+            }
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getRejected(Priority priority) {
+        return rejected.get(priority).sum();
+    }
+
+    private void onSample(long rttNanos) {
+        windowRttSum.add(rttNanos);
+        windowSamples.increment();
+
+        long now = nanoClock.getAsLong();
+        if (now - windowStart.get() < windowNanos || windowSamples.sum() < minWindowSamples) {
+            return;
+        }
+        if (!updateLock.tryLock()) {
+            return;
+        }
+        try {
+            long samples = windowSamples.sumThenReset();
+            long rttSum = windowRttSum.sumThenReset();
+            int maxInflight = windowMaxInflight.getAndSet(inflight.get());
+            boolean rejectedInWindow = windowRejected.getAndSet(false);
+            windowStart.set(now);
+            if (samples > 0) {
+                limit = gradient.update((double) rttSum / samples, maxInflight, rejectedInWindow);
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 허용된 요청 1건
+     */
+    public final class Permit {
+
+        private final long startNanos;
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * @param sample 처리 시간을 한도 계산에 반영할지 (비동기로 넘긴 요청처럼 처리 시간이 의미 없으면 false)
+         */
+        public void release(boolean sample) {
+            inflight.decrementAndGet();
+            if (sample) {
+                onSample(nanoClock.getAsLong() - startNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.kosa.myproject.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.kosa.myproject.json.PreEncodedErrorResponse;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+
+import java.util.Locale;
+
+/**
+ * 적응형 동시 처리 한도 / load shedding 설정
+ *
+ * 메트릭
+ * - app.concurrency.limit                 : 현재 한도
+ * - app.concurrency.inflight              : 현재 동시 처리 수
+ * - app.concurrency.rejected{priority}    : 거절 건수 (rate() 로 shed 비율)
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        return new AdaptiveConcurrencyLimiter(properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdaptiveConcurrencyFilter> adaptiveConcurrencyFilter(
+            AdaptiveConcurrencyLimiter limiter, ConcurrencyLimitProperties properties, ObjectMapper objectMapper) {
+        PreEncodedErrorResponse overloaded = PreEncodedErrorResponse.of(objectMapper,
+                HttpStatus.SERVICE_UNAVAILABLE.value(), "SERVICE_OVERLOADED", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        FilterRegistrationBean<AdaptiveConcurrencyFilter> registration =
+                new FilterRegistrationBean<>(new AdaptiveConcurrencyFilter(limiter, properties, overloaded));
+        // 관측(HIGHEST_PRECEDENCE + 1) / traceresponse(+2) 안쪽 → 거절된 요청도 http.server.requests 에 503 으로 집계
+        // Spring Security 필터 체인(-100)과 쿼리 예산 감시(+10)보다 먼저 실행
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        // AOT 빌드에서는 조건(@ConditionalOnProperty)이 고정되므로 실행 시점 설정값으로 켜고 끈다
+        registration.setEnabled(properties.isEnabled());
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitMetrics(AdaptiveConcurrencyLimiter limiter) {
+        return registry -> {
+            Gauge.builder("app.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("적응형 동시 처리 한도")
+                    .register(registry);
+            Gauge.builder("app.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                    .description("현재 동시 처리 중인 요청 수")
+                    .register(registry);
+            for (Priority priority : Priority.values()) {
+                FunctionCounter.builder("app.concurrency.rejected", limiter, l -> l.getRejected(priority))
+                        .description("과부하로 거절(503)된 요청")
+                        .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package org.kosa.myproject.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 적응형 동시 처리 한도 설정 (app.concurrency-limit)
+ *
+ * 한도(limit)는 관측한 응답 시간으로 min-limit ~ max-limit 사이에서 자동 조정된다 (Gradient2Limit)
+ * 우선순위별로 한도의 일부만 사용할 수 있다
+ *   CRITICAL  (critical-patterns, 헬스 체크 / 로그인)       : 한도 전체
+ *   NORMAL    (그 외 모든 요청)                             : 한도 x normal-share
+ *   SHEDDABLE (sheddable-patterns 중 인증 헤더 없는 GET)    : 한도 x sheddable-share
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    private int initialLimit = 100;
+
+    private int minLimit = 20;
+
+    private int maxLimit = 1000;
+
+    private double smoothing = 0.2;            // 새 추정치를 반영하는 비율
+
+    private double rttTolerance = 1.5;         // 장기 평균 대비 이 배수까지의 지연은 정상으로 본다
+
+    private int longWindow = 600;              // 장기 평균 응답 시간의 EMA 표본 수
+
+    private Duration sampleWindow = Duration.ofMillis(100);  // 한도 재계산 최소 간격
+
+    private int minWindowSamples = 10;         // 재계산에 필요한 최소 표본 수
+
+    private double normalShare = 0.9;
+
+    private double sheddableShare = 0.5;
+
+    private List<String> criticalPatterns = new ArrayList<>(List.of("/api/health", "/api/health/**", "/api/auth/login"));
+
+    private List<String> sheddablePatterns = new ArrayList<>(List.of("/api/posts", "/api/posts/{id}"));
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,73 @@
+package org.kosa.myproject.concurrency;
+
+/**
+ * Gradient2Limit - 응답 시간 기울기로 동시 처리 한도를 추정 (Netflix concurrency-limits 의 Gradient2 와 같은 방식)
+ *
+ * - longRtt  : 응답 시간의 장기 지수 이동 평균 (평소 응답 시간)
+ * - shortRtt : 최근 표본 구간의 평균 응답 시간
+ * - gradient = clamp(tolerance x longRtt / shortRtt, 0.5, 1.0)
+ *   → 최근 응답이 평소보다 tolerance 배 이상 느려지면(= 어딘가에 대기열이 생김) 한도를 줄인다
+ * - newLimit = limit x gradient + sqrt(limit)  (여유분 sqrt(limit) 만큼은 계속 늘려 본다)
+ * - smoothing 비율로 반영하고 [min, max] 로 제한
+ *
+ * 한도가 병목이 아니면(동시 처리 수가 한도의 절반 미만이고 거절도 없었으면) 갱신하지 않는다
+ * - 한가할 때 한도가 끝없이 커지는 것을 방지
+ * - 낮은 우선순위는 한도의 일부만 쓰므로 거절이 있었다면 동시 처리 수와 관계없이 포화로 본다
+ * 스레드 안전하지 않다 (AdaptiveConcurrencyLimiter 가 한 번에 한 스레드만 호출)
+ */
+class Gradient2Limit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final double longWindowFactor;
+
+    private double estimatedLimit;
+    private double longRtt;
+
+    Gradient2Limit(ConcurrencyLimitProperties properties) {
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.smoothing = properties.getSmoothing();
+        this.tolerance = properties.getRttTolerance();
+        this.longWindowFactor = 2.0 / (properties.getLongWindow() + 1);
+        this.estimatedLimit = Math.clamp(properties.getInitialLimit(), minLimit, maxLimit);
+    }
+
+    /**
+     * @param shortRttNanos 표본 구간의 평균 응답 시간
+     * @param maxInflight   표본 구간 중 최대 동시 처리 수
+     * @param rejected      표본 구간 중 거절이 있었는지
+     * @return 새 한도
+     */
+    int update(double shortRttNanos, int maxInflight, boolean rejected) {
+        if (longRtt == 0) {
+            longRtt = shortRttNanos;
+        } else {
+            longRtt += (shortRttNanos - longRtt) * longWindowFactor;
+        }
+        // 지연이 오래 지속되면 평균도 따라 올라가므로, 회복 후에는 평균을 빠르게 끌어내린다
+        if (longRtt / shortRttNanos > 2) {
+            longRtt *= 0.95;
+        }
+
+        if (!rejected && maxInflight < estimatedLimit / 2) {
+            return (int) estimatedLimit;
+        }
+
+        double gradient = Math.clamp(tolerance * longRtt / shortRttNanos, 0.5, 1.0);
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.clamp(newLimit, minLimit, maxLimit);
+        return (int) estimatedLimit;
+    }
+
+    int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    double getLongRttNanos() {
+        return longRtt;
+    }
+}
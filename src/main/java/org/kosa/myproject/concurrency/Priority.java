@@ -0,0 +1,10 @@
+package org.kosa.myproject.concurrency;
+
+/**
+ * 요청 우선순위 - 한도가 줄어들면 낮은 우선순위부터 거절된다
+ */
+public enum Priority {
+    CRITICAL,
+    NORMAL,
+    SHEDDABLE
+}
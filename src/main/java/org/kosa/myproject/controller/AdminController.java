@@ -1,14 +1,40 @@
 package org.kosa.myproject.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.kosa.myproject.dto.ApiResponseDto;
+import org.kosa.myproject.dto.MemberBulkResultDto;
+import org.kosa.myproject.dto.LogSamplingUpdateRequestDto;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.entity.AuthEventType;
+import org.kosa.myproject.logging.SamplingTurboFilter;
+import org.kosa.myproject.markdown.PostRenderJob;
+import org.kosa.myproject.querycount.QueryBudget;
+import org.kosa.myproject.querycount.QueryBudgetMonitor;
+import org.kosa.myproject.querycount.QueryCounter;
+import org.kosa.myproject.service.AuthEventService;
+import org.kosa.myproject.service.CacheStatisticsService;
+import org.kosa.myproject.service.MemberBulkProvisionService;
+import org.kosa.myproject.service.MemberBulkProvisionService.BulkPlan;
+import org.kosa.myproject.threads.VirtualThreadPinningMonitor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,10 +53,21 @@ import java.util.stream.Collectors;
  * 5. ROLE_ADMIN 권한이 있으면 접근 허용, 없으면 AccessDenied
  */
 @RestController
+@Observed(name = "app.controller")  // 컨트롤러 메서드 span (응답 직렬화 시간과 구분)
 @RequestMapping("/admin")
+@RequiredArgsConstructor
 @Slf4j
 public class AdminController {
 
+    private final CacheStatisticsService cacheStatisticsService;
+    private final QueryBudgetMonitor queryBudgetMonitor;
+    private final MemberBulkProvisionService memberBulkProvisionService;
+    private final VirtualThreadPinningMonitor virtualThreadPinningMonitor;
+    private final AuthEventService authEventService;
+    private final SamplingTurboFilter samplingTurboFilter;
+    private final PostRenderJob postRenderJob;
+    private final ObjectMapper objectMapper;
+
     /**
      * 관리자 정보 조회
      * ROLE_ADMIN 권한 필요 (SecurityConfig에서 설정)
@@ -47,6 +84,7 @@ public class AdminController {
      * @param authentication Spring Security가 주입하는 인증 정보
      * @return 관리자 정보 및 권한 목록
      */
+    @QueryBudget(0)
     @GetMapping
     public ResponseEntity<?> getAdminInfo(Authentication authentication) {
         log.info("=== 관리자 페이지 접근: username={} ===",
@@ -75,4 +113,185 @@ public class AdminController {
         );
     }
 
+    /**
+     * 2차 캐시 / 쿼리 캐시 영역별 통계 조회
+     * ROLE_ADMIN 권한 필요
+     *
+     * GET http://localhost:8080/admin/cache-stats
+     *
+     * @return 영역별 hit/miss/put 수, 적중률, 적재 항목 수
+     */
+    @QueryBudget(0)
+    @GetMapping("/cache-stats")
+    public ResponseEntity<?> getCacheStats() {
+        log.info("=== 2차 캐시 통계 조회 ===");
+        return ResponseEntity.ok(
+                ApiResponseDto.success(cacheStatisticsService.getCacheStatistics(), "캐시 통계 조회 성공")
+        );
+    }
+
+    /**
+     * 엔드포인트별 쿼리 예산 초과 / N+1 의심 건수 조회
+     * ROLE_ADMIN 권한 필요
+     *
+     * GET http://localhost:8080/admin/query-budget
+     *
+     * @return 엔드포인트별 예산 초과 건수, N+1 의심 건수, 기동 후 전체 SQL 수
+     */
+    @QueryBudget(0)
+    @GetMapping("/query-budget")
+    public ResponseEntity<?> getQueryBudgetStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("overBudget", queryBudgetMonitor.getOverBudgetCounts());
+        stats.put("nPlusOneSuspects", queryBudgetMonitor.getNPlusOneCounts());
+        stats.put("totalStatements", QueryCounter.total());
+        return ResponseEntity.ok(ApiResponseDto.success(stats, "쿼리 예산 통계 조회 성공"));
+    }
+
+    /**
+     * Virtual Thread 실행 상태 / carrier thread pinning 발생 위치 조회
+     * ROLE_ADMIN 권한 필요
+     *
+     * GET http://localhost:8080/admin/virtual-threads
+     *
+     * @return 요청 스레드가 virtual thread 인지, pinning 감시 여부, 위치별 pinning 건수
+     */
+    @QueryBudget(0)
+    @GetMapping("/virtual-threads")
+    public ResponseEntity<?> getVirtualThreadStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("requestThreadVirtual", Thread.currentThread().isVirtual());
+        stats.put("pinningMonitorEnabled", virtualThreadPinningMonitor.isEnabled());
+        stats.put("pinnedCounts", virtualThreadPinningMonitor.getPinnedCounts());
+        return ResponseEntity.ok(ApiResponseDto.success(stats, "Virtual Thread 상태 조회 성공"));
+    }
+
+    /**
+     * 인증 감사 로그 조회 (로그인 성공/실패, 토큰 만료/위조)
+     * ROLE_ADMIN 권한 필요
+     *
+     * GET http://localhost:8080/admin/auth-events?username=user1&type=LOGIN_FAILURE&page=0&size=20
+     *
+     * @param username 아이디 조건 (선택)
+     * @param type     이벤트 종류 조건 (선택)
+     * @return 최신순 페이지 (size 최대 100)
+     */
+    @QueryBudget(2)  // 목록 + count
+    @GetMapping("/auth-events")
+    public ResponseEntity<?> getAuthEvents(@RequestParam(required = false) String username,
+                                           @RequestParam(required = false) AuthEventType type,
+                                           @RequestParam(defaultValue = "0") int page,
+                                           @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponseDto.success(
+                authEventService.getEvents(username, type, page, size), "인증 감사 로그 조회 성공"));
+    }
+
+    /**
+     * INFO 이하 로그 샘플링 정책 / 버린 로그 수 조회
+     * ROLE_ADMIN 권한 필요
+     *
+     * GET http://localhost:8080/admin/log-sampling
+     */
+    @QueryBudget(0)
+    @GetMapping("/log-sampling")
+    public ResponseEntity<?> getLogSampling() {
+        return ResponseEntity.ok(ApiResponseDto.success(logSamplingStats(samplingTurboFilter.getPolicy()),
+                "로그 샘플링 설정 조회 성공"));
+    }
+
+    /**
+     * INFO 이하 로그 샘플링 정책 변경 (재시작 없이 즉시 적용, WARN / ERROR 는 항상 출력)
+     * ROLE_ADMIN 권한 필요
+     *
+     * PUT http://localhost:8080/admin/log-sampling
+     * Body: {"enabled":true,"defaultRate":0.01,"rates":{"org.kosa.myproject.security.jwt":0.001}}
+     *
+     * 장애 분석 중에는 {"defaultRate":1.0} 으로 전체 로그를 잠시 남길 수 있다
+     */
+    @QueryBudget(0)
+    @PutMapping("/log-sampling")
+    public ResponseEntity<?> updateLogSampling(@RequestBody LogSamplingUpdateRequestDto request) {
+        SamplingTurboFilter.Policy policy = samplingTurboFilter.update(
+                request.getEnabled(), request.getDefaultRate(), request.getRates());
+        log.warn("로그 샘플링 정책 변경: enabled={}, defaultRate={}, rates={}",
+                policy.isEnabled(), policy.getDefaultRate(), policy.getRates());
+        return ResponseEntity.ok(ApiResponseDto.success(logSamplingStats(policy), "로그 샘플링 설정 변경 성공"));
+    }
+
+    private Map<String, Object> logSamplingStats(SamplingTurboFilter.Policy policy) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", policy.isEnabled());
+        stats.put("packages", policy.getPackages());
+        stats.put("defaultRate", policy.getDefaultRate());
+        stats.put("rates", policy.getRates());
+        stats.put("dropped", samplingTurboFilter.getDroppedCount());
+        return stats;
+    }
+
+    /**
+     * 게시글 본문 재렌더링 (MarkdownRenderer.VERSION 보다 오래된 HTML 을 병렬 chunk 로 다시 생성)
+     * ROLE_ADMIN 권한 필요, 끝날 때까지 기다렸다가 결과를 반환 (이미 실행 중이면 409)
+     *
+     * POST http://localhost:8080/admin/posts/render
+     *
+     * @return 조회 / 렌더링 / 건너뜀 / 실패 수, 소요 시간
+     */
+    @QueryBudget(Integer.MAX_VALUE)  // chunk 조회가 게시글 수에 비례하는 관리자 일괄 작업 (예산 감시 제외)
+    @PostMapping("/posts/render")
+    public ResponseEntity<?> renderPosts() {
+        log.info("=== 게시글 재렌더링 요청 ===");
+        return ResponseEntity.ok(ApiResponseDto.success(postRenderJob.run(), "게시글 재렌더링 완료"));
+    }
+
+    /**
+     * 회원 일괄 등록 (조직 단위 온보딩)
+     * ROLE_ADMIN 권한 필요
+     *
+     * POST http://localhost:8080/admin/members/bulk
+     * Headers:
+     *   - Authorization: Bearer {JWT_TOKEN}
+     *   - Content-Type: application/json
+     * Body: [{"username":"user1","password":"1234","name":"홍길동"}, ...]
+     *
+     * 응답은 application/x-ndjson 으로, 행마다 한 줄의 결과가 처리되는 즉시 전송된다
+     * {"row":0,"username":"user1","status":"CREATED","id":15}
+     * {"row":1,"username":"user2","status":"DUPLICATE","message":"이미 사용 중인 아이디입니다."}
+     *
+     * 요청 형식 오류(빈 목록, 최대 행 수 초과)는 스트림 시작 전에 400 으로 응답
+     *
+     * @param requests 등록할 회원 목록
+     * @return 행별 결과 스트림
+     */
+    @QueryBudget(1)  // 중복 체크 IN 쿼리 1회 (INSERT 는 JDBC batch 로 실행)
+    @PostMapping(path = "/members/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> bulkRegisterMembers(@RequestBody List<MemberCreateRequestDto> requests) {
+        log.info("=== 회원 일괄 등록 요청: {}명 ===", requests == null ? 0 : requests.size());
+
+        BulkPlan plan = memberBulkProvisionService.plan(requests);
+
+        StreamingResponseBody body = out -> {
+            writeResults(out, plan.rejected());
+            try {
+                memberBulkProvisionService.provision(plan, results -> {
+                    try {
+                        writeResults(out, results);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                // 클라이언트 연결 종료 → 남은 chunk 는 등록하지 않음 (이미 커밋된 chunk 는 유지)
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private void writeResults(OutputStream out, List<MemberBulkResultDto> results) throws IOException {
+        for (MemberBulkResultDto result : results) {
+            out.write(objectMapper.writeValueAsBytes(result));
+            out.write('\n');
+        }
+        out.flush();
+    }
 }
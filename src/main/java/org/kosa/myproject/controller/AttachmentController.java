@@ -0,0 +1,98 @@
+package org.kosa.myproject.controller;
+
+import io.micrometer.observation.annotation.Observed;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.attachment.AttachmentDownloadWriter;
+import org.kosa.myproject.dto.ApiResponseDto;
+import org.kosa.myproject.dto.AttachmentResponseDto;
+import org.kosa.myproject.querycount.QueryBudget;
+import org.kosa.myproject.service.AttachmentService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 게시글 첨부파일 REST API (인증 필요)
+ * <p>
+ * 주요 엔드 포인트 :
+ * POST /api/posts/{postId}/attachments?filename=a.png : 업로드 (게시글 작성자만)
+ * GET /api/posts/{postId}/attachments : 첨부파일 목록
+ * GET /api/posts/{postId}/attachments/{id} : 다운로드 (Range / ETag 지원)
+ * DELETE /api/posts/{postId}/attachments/{id} : 삭제 (게시글 작성자만)
+ */
+@RestController
+@Observed(name = "app.controller")
+@RequestMapping("/api/posts/{postId}/attachments")
+@RequiredArgsConstructor
+@Slf4j
+public class AttachmentController {
+    private final AttachmentService attachmentService;
+    private final AttachmentDownloadWriter downloadWriter;
+
+    /**
+     * 첨부파일 업로드
+     * multipart 가 아닌 파일 본문 자체를 요청 body 로 전송 (서버는 버퍼 단위로 디스크에 바로 기록)
+     *
+     * POST http://localhost:8080/api/posts/1/attachments?filename=photo.png
+     * Headers:
+     *   - Authorization: Bearer {JWT}
+     *   - Content-Type: application/octet-stream
+     * Body: 파일 내용 (binary)
+     *
+     * Content-Type 헤더는 무시하고 본문 앞부분 / 확장자로 판별한다
+     */
+    @QueryBudget(3)  // 게시글 + 작성자 확인 + INSERT
+    @PostMapping
+    public ResponseEntity<?> upload(@PathVariable Long postId,
+                                    @RequestParam String filename,
+                                    HttpServletRequest request) throws IOException {
+        String username = currentUsername();
+        log.info("첨부파일 업로드 요청: postId={}, username={}", postId, username);
+        AttachmentResponseDto attachment = attachmentService.upload(postId, username, filename,
+                request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponseDto.success(attachment, "첨부파일이 업로드되었습니다"));
+    }
+
+    @QueryBudget(1)
+    @GetMapping
+    public ResponseEntity<?> getAttachments(@PathVariable Long postId) {
+        List<AttachmentResponseDto> attachments = attachmentService.getAttachments(postId);
+        return ResponseEntity.ok(ApiResponseDto.success(attachments, "첨부파일 목록 조회 성공"));
+    }
+
+    /**
+     * 첨부파일 다운로드
+     *
+     * GET http://localhost:8080/api/posts/1/attachments/3
+     * Headers (선택):
+     *   - Range: bytes=0-1023        → 206 Partial Content
+     *   - If-None-Match: "{sha256}"  → 304 Not Modified
+     *   - If-Range: "{sha256}"       → 본문이 바뀌었으면 Range 를 무시하고 전체 전송
+     */
+    @QueryBudget(1)
+    @GetMapping("/{attachmentId}")
+    public void download(@PathVariable Long postId, @PathVariable Long attachmentId,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        downloadWriter.write(attachmentService.getAttachment(postId, attachmentId), request, response);
+    }
+
+    @QueryBudget(4)  // 게시글 + 작성자 확인 + 첨부파일 조회 + DELETE
+    @DeleteMapping("/{attachmentId}")
+    public ResponseEntity<?> delete(@PathVariable Long postId, @PathVariable Long attachmentId) {
+        attachmentService.delete(postId, attachmentId, currentUsername());
+        return ResponseEntity.ok(ApiResponseDto.success(null, "첨부파일이 삭제되었습니다"));
+    }
+
+    private String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,67 @@
+package org.kosa.myproject.controller;
+
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.dto.ApiResponseDto;
+import org.kosa.myproject.dto.CommentCreateRequestDto;
+import org.kosa.myproject.dto.CommentResponseDto;
+import org.kosa.myproject.dto.CursorPageResponseDto;
+import org.kosa.myproject.querycount.QueryBudget;
+import org.kosa.myproject.service.CommentService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 게시글 댓글 REST API (인증 필요)
+ * <p>
+ * 주요 엔드 포인트 :
+ * GET /api/posts/{postId}/comments?after={cursor}&size=20 : 댓글 목록 (작성순 keyset 페이지)
+ * POST /api/posts/{postId}/comments : 댓글 작성
+ */
+@RestController
+@Observed(name = "app.controller")
+@RequestMapping("/api/posts/{postId}/comments")
+@RequiredArgsConstructor
+@Slf4j
+public class CommentController {
+    private final CommentService commentService;
+
+    /**
+     * 댓글 목록
+     * 첫 페이지는 after 없이, 다음 페이지는 응답의 nextCursor 를 after 로 전달
+     *
+     * GET http://localhost:8080/api/posts/1/comments?size=20
+     * GET http://localhost:8080/api/posts/1/comments?after=120&size=20
+     */
+    @QueryBudget(2)  // 댓글 keyset 조회 + 작성자 IN 일괄 조회 (페이지 크기와 무관)
+    @GetMapping
+    public ResponseEntity<?> getComments(@PathVariable Long postId,
+                                         @RequestParam(required = false) Long after,
+                                         @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponseDto<CommentResponseDto> comments = commentService.getComments(postId, after, size);
+        return ResponseEntity.ok(ApiResponseDto.success(comments, "댓글 목록 조회 성공"));
+    }
+
+    /**
+     * 댓글 작성
+     *
+     * POST http://localhost:8080/api/posts/1/comments
+     * raw JSON
+     {
+      "content":"좋은 글 감사합니다"
+     }
+     */
+    @QueryBudget(3)  // 작성자 조회 + 게시글 확인 + INSERT
+    @PostMapping
+    public ResponseEntity<?> createComment(@PathVariable Long postId, @RequestBody CommentCreateRequestDto requestDto) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication.getName();
+        log.info("댓글 작성, postId={}, 작성자 {}", postId, username);
+        CommentResponseDto comment = commentService.createComment(postId, requestDto, username);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponseDto.success(comment, "댓글이 작성되었습니다"));
+    }
+}
@@ -1,16 +1,56 @@
 package org.kosa.myproject.controller;
 
+import lombok.RequiredArgsConstructor;
+import org.kosa.myproject.health.ReadinessProbe;
+import org.kosa.myproject.querycount.QueryBudget;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+/**
+ * 헬스 체크 API (인증 불필요)
+ *
+ * - GET /api/health       : 기존 단순 응답 (하위 호환)
+ * - GET /api/health/live  : liveness  - 프로세스 상태만 확인 (DB 장애로 재시작되지 않도록)
+ * - GET /api/health/ready : readiness - DB / 커넥션 풀 / JWT 키 / 워밍업, 실패 시 503
+ *                           ALB target group 의 health check 경로로 사용
+ *
+ * live / ready 는 ReadinessProbe 가 백그라운드에서 만든 스냅샷을 그대로 반환하므로 요청당 쿼리가 없다
+ */
 @RestController
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final ReadinessProbe readinessProbe;
+
+    @QueryBudget(0)
     @GetMapping("/api/health")
     public String health() {
         return "OK 그동안 수고하셨습니다 행복하세요~";
     }
+
+    @QueryBudget(0)
+    @GetMapping("/api/health/live")
+    public ResponseEntity<byte[]> live() {
+        return toResponse(readinessProbe.liveness());
+    }
+
+    @QueryBudget(0)
+    @GetMapping("/api/health/ready")
+    public ResponseEntity<byte[]> ready() {
+        return toResponse(readinessProbe.readiness());
+    }
+
+    private ResponseEntity<byte[]> toResponse(ReadinessProbe.Snapshot snapshot) {
+        return ResponseEntity.status(snapshot.ready() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noStore())
+                .body(snapshot.body());
+    }
 }
 /*******************Security 설정에서 꼭 추가하세요***************************/
 //Security 설정클래스의 securityFilterChain 메서드에 추가한다 
-//  .requestMatchers("/api/health").permitAll() // aws health check 를 위해 
+//  .requestMatchers("/api/health", "/api/health/**").permitAll() // aws health check 를 위해
@@ -1,11 +1,13 @@
 package org.kosa.myproject.controller;
 
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.kosa.myproject.dto.ApiResponseDto;
 import org.kosa.myproject.dto.MemberCreateRequestDto;
 import org.kosa.myproject.dto.MemberResponseDto;
+import org.kosa.myproject.querycount.QueryBudget;
 import org.kosa.myproject.service.MemberService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +15,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * MemberController - 회원 관리 REST API
  *
@@ -22,9 +27,11 @@ import org.springframework.web.bind.annotation.*;
  * - POST /api/members/register : 회원가입 (인증 불필요)
  * - POST /login : 로그인 (LoginFilter가 처리)
  * - GET /api/members/me : 내 정보 조회 (인증 필요)
+ * - GET /api/members?ids=1,2,3 : 회원 일괄 조회 (인증 필요)
  */
 @Slf4j
 @RestController
+@Observed(name = "app.controller")  // 컨트롤러 메서드 span (응답 직렬화 시간과 구분)
 @RequestMapping("/api/members")
 @RequiredArgsConstructor
 public class MemberController {
@@ -47,6 +54,7 @@ public class MemberController {
      * @param requestDto 회원가입 정보
      * @return 생성된 회원 정보
      */
+    @QueryBudget(2)  // username 중복 체크 + INSERT
     @PostMapping
     public ResponseEntity<?> register(@RequestBody MemberCreateRequestDto requestDto) {
         log.info("=== 회원가입 요청: username={} ===", requestDto.getUsername());
@@ -71,6 +79,7 @@ public class MemberController {
      *
      * @return 현재 로그인한 사용자 정보
      */
+    @QueryBudget(1)
     @GetMapping("/me")
     public ResponseEntity<?> getMyInfo() {
         log.info("=== 내 정보 조회 요청 ===");
@@ -94,6 +103,33 @@ public class MemberController {
 //        return ResponseEntity.ok(ApiResponseDto.success(memberInfo, "회원 정보 조회 OK"));
 //    }
 
+    /**
+     * 회원 일괄 조회 API
+     * 화면에 보이는 작성자 여러 명을 한 번의 요청 / 한 번의 IN 쿼리로 조회
+     * JWT 토큰 인증 필요
+     * <p>
+     * PostMan 테스트:
+     * GET http://localhost:8080/api/members?ids=1,2,3
+     * Headers:
+     * - Authorization: Bearer {JWT_TOKEN}
+     *
+     * 응답 data: { "1": {회원 정보}, "3": {회원 정보} }  (존재하지 않는 id 는 제외)
+     * id 수가 app.member-lookup.max-ids 를 넘으면 400
+     *
+     * @param ids 조회할 회원 ID 목록 (쉼표 구분, 중복은 제거)
+     * @return id → 회원 정보
+     */
+    @QueryBudget(2)  // 기본 설정(max-ids 500 / chunk-size 250)에서 IN 쿼리 최대 2회
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getMembersByIds(@RequestParam List<Long> ids) {
+        log.info("=== 회원 일괄 조회: {}건 ===", ids.size());
+
+        // 예외는 GlobalExceptionHandler가 처리
+        Map<Long, MemberResponseDto> members = memberService.findAllByIds(ids);
+
+        return ResponseEntity.ok(ApiResponseDto.success(members, "회원 일괄 조회 OK"));
+    }
+
     /**
      * 특정 회원 정보 조회 API (관리자용)
      * JWT 토큰 인증 + ADMIN 권한 필요
@@ -106,6 +142,7 @@ public class MemberController {
      * @param id 조회할 회원 ID
      * @return 회원 정보
      */
+    @QueryBudget(1)
     @GetMapping("/{id}")
     public ResponseEntity<?> getMemberById(@PathVariable Long id) {
         log.info("=== 회원 정보 조회: id={} ===", id);
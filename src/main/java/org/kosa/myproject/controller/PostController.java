@@ -1,17 +1,26 @@
 package org.kosa.myproject.controller;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.kosa.myproject.dto.ApiResponseDto;
 import org.kosa.myproject.dto.PostCreateRequestDto;
 import org.kosa.myproject.dto.PostDetailResponseDto;
+import org.kosa.myproject.dto.PostLikeResponseDto;
 import org.kosa.myproject.dto.PostListResponseDto;
+import org.kosa.myproject.querycount.QueryBudget;
+import org.kosa.myproject.security.user.CustomMemberDetails;
+import org.kosa.myproject.service.PostLikeService;
 import org.kosa.myproject.service.PostService;
+import org.kosa.myproject.stream.PostStreamBroadcaster;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -22,23 +31,54 @@ import java.util.List;
  * GET /api/posts  : 전체 게시글 목록  ( 인증 불필요 )
  * GET /api/posts/{id} : 게시글 상세 조회 (인증 필요)
  * POST /api/posts : 게시글 작성 (인증 필요)
+ * GET /api/posts/stream : 새 게시글 실시간 스트림 (SSE, 인증 불필요)
+ * PUT / DELETE /api/posts/{id}/like : 좋아요 / 좋아요 취소 (인증 필요)
  */
 @RestController
+@Observed(name = "app.controller")  // 컨트롤러 메서드 span (응답 직렬화 시간과 구분)
 @RequestMapping("/api/posts")
 @RequiredArgsConstructor
 @Slf4j
 public class PostController {
     private final PostService postService;
+    private final PostStreamBroadcaster postStreamBroadcaster;
+    private final PostLikeService postLikeService;
 
+    @QueryBudget(2)  // fetch join 으로 작성자까지 한 번에 조회 + 댓글 수 GROUP BY 집계 (N+1 방지)
     @GetMapping
-    public ResponseEntity<?> getAllPosts() {
+    public ResponseEntity<?> getAllPosts(@AuthenticationPrincipal CustomMemberDetails principal) {
         log.info("게시물 리스트 조회 요청");
-        List<PostListResponseDto> posts = postService.getAllPosts();
+        List<PostListResponseDto> posts = postService.getAllPosts(memberId(principal));
         log.info("게시물 리스트 조회 완료 {} 건", posts.size());
         // ApiResponseDto : 통일된 형식으로 응답하기 위한 Dto
         return ResponseEntity.ok(ApiResponseDto.success(posts, "게시물 목록 조회 성공"));
     }
 
+    /**
+     * 새 게시글 실시간 스트림 (Server-Sent Events)
+     * 목록을 주기적으로 polling 하는 대신 연결을 유지하고 새 글만 전달받는다
+     *
+     * GET http://localhost:8080/api/posts/stream
+     * Headers:
+     *   - Accept: text/event-stream
+     *   - Last-Event-ID: {마지막으로 받은 이벤트 ID}  (재연결 시 브라우저 EventSource 가 자동 전송)
+     *
+     * 이벤트 종류:
+     *   - post  : 새 게시글 (PostListResponseDto JSON, id = 인스턴스별 전송 순번)
+     *   - reset : 놓친 이벤트를 재전송할 수 없음 → 목록(GET /api/posts)을 다시 조회
+     *
+     * 동시 구독자 수 한도를 넘으면 503 + Retry-After
+     *
+     * @param lastEventId 마지막으로 수신한 이벤트 ID
+     * @return SseEmitter
+     */
+    @QueryBudget(0)
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPosts(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.debug("게시글 스트림 구독 요청: lastEventId={}", lastEventId);
+        return postStreamBroadcaster.subscribe(lastEventId);
+    }
+
     /**
      * 게시글 작성
      * 인증 필요 ( JWT 를 요청 헤더에 함께 전송 ) -> 로그인한 작성자만 등록 가능
@@ -55,6 +95,7 @@ public class PostController {
      * 3) SecurityContext에서 인증 정보 추출
      * 4) 작성자 정보와 함께 게시글 저장
      */
+    @QueryBudget(2)  // 작성자 조회 + INSERT
     @PostMapping
     public ResponseEntity<?> createPost(@RequestBody PostCreateRequestDto requestDto) {
         //SecurityContext 에서 현재 인증된 사용자 정보를 추출
@@ -75,12 +116,44 @@ public class PostController {
      * @param id  조회할 게시글 ID
      * @return  게시글 상세 정보
      */
+    @QueryBudget(1)
     @GetMapping("/{id}")
-    public ResponseEntity<?> getPostById(@PathVariable Long id){
-        PostDetailResponseDto post = postService.getPostById(id);
+    public ResponseEntity<?> getPostById(@PathVariable Long id, @AuthenticationPrincipal CustomMemberDetails principal){
+        PostDetailResponseDto post = postService.getPostById(id, memberId(principal));
         log.info("게시글 조회 성공 : title={}",post.getTitle());
         return ResponseEntity.ok(ApiResponseDto.success(post,"게시글 조회 성공"));
     }
+
+    /**
+     * 좋아요 - 회원당 한 번 (여러 번 요청해도 결과 동일)
+     * PUT http://localhost:8080/api/posts/1/like
+     *
+     * @return 좋아요 수와 현재 회원의 좋아요 여부
+     */
+    @QueryBudget(1)  // INSERT 1회 (회원 id 는 JWT, 좋아요 수는 인메모리 인덱스)
+    @PutMapping("/{id}/like")
+    public ResponseEntity<?> likePost(@PathVariable Long id, @AuthenticationPrincipal CustomMemberDetails principal) {
+        PostLikeResponseDto like = postLikeService.like(id, principal.getMember().getId());
+        return ResponseEntity.ok(ApiResponseDto.success(like, "좋아요 완료"));
+    }
+
+    /**
+     * 좋아요 취소
+     * DELETE http://localhost:8080/api/posts/1/like
+     */
+    @QueryBudget(1)  // DELETE 1회
+    @DeleteMapping("/{id}/like")
+    public ResponseEntity<?> unlikePost(@PathVariable Long id, @AuthenticationPrincipal CustomMemberDetails principal) {
+        PostLikeResponseDto like = postLikeService.unlike(id, principal.getMember().getId());
+        return ResponseEntity.ok(ApiResponseDto.success(like, "좋아요 취소 완료"));
+    }
+
+    /**
+     * JWT 로 인증된 회원 id (비로그인이면 null)
+     */
+    private Long memberId(CustomMemberDetails principal) {
+        return principal != null ? principal.getMember().getId() : null;
+    }
 }
 
 
@@ -0,0 +1,147 @@
+package org.kosa.myproject.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션 풀 크기만큼만 동시에 커넥션을 빌려주는 DataSource
+ *
+ * Virtual Thread 모드에서는 요청 스레드 수에 상한이 없으므로 수천 개의 요청이 동시에 커넥션을 요청할 수 있다.
+ * 풀 앞에서 fair Semaphore 로 줄을 세워 두면
+ * - 대기 중인 virtual thread 는 park 되어 carrier thread 를 점유하지 않고 (비용이 거의 없음)
+ * - 풀 내부의 대기열 경쟁 / connectionTimeout 예외가 폭증하지 않으며
+ * - 먼저 온 요청이 먼저 커넥션을 받는다
+ *
+ * 허가(permit)는 커넥션을 close() 할 때 반환된다
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private static final int DEFAULT_POOL_SIZE = 10;  // HikariConfig 기본 maximumPoolSize
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final long acquireTimeoutMs;
+
+    public ConcurrencyLimitedDataSource(HikariDataSource pool) {
+        this(pool, maximumPoolSize(pool), pool.getConnectionTimeout());
+    }
+
+    public ConcurrencyLimitedDataSource(DataSource target, int maxConcurrency, long acquireTimeoutMs) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasing(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasing(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /** 커넥션을 기다리고 있는 스레드 수 (추정치) */
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    /** 현재 빌려준 커넥션 수 */
+    public int getActiveConnections() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * maximum-pool-size 를 지정하지 않으면 풀이 시작될 때까지 -1 이므로 Hikari 기본값으로 계산
+     */
+    private static int maximumPoolSize(HikariDataSource pool) {
+        return pool.getMaximumPoolSize() > 0 ? pool.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "DB 커넥션 대기 시간 초과 (" + acquireTimeoutMs + "ms, 최대 동시 사용 " + maxConcurrency + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 커넥션 대기 중 인터럽트", e);
+        }
+    }
+
+    /**
+     * close() 가 처음 호출될 때 permit 을 반환하는 커넥션 프록시
+     */
+    private Connection releasing(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                ConcurrencyLimitedDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close" -> {
+                            try {
+                                target.close();
+                            } finally {
+                                if (released.compareAndSet(false, true)) {
+                                    permits.release();
+                                }
+                            }
+                            return null;
+                        }
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        case "unwrap" -> {
+                            if (((Class<?>) args[0]).isInstance(proxy)) {
+                                return proxy;
+                            }
+                        }
+                        case "isWrapperFor" -> {
+                            if (((Class<?>) args[0]).isInstance(proxy)) {
+                                return true;
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
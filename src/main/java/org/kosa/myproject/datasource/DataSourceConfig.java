@@ -0,0 +1,161 @@
+package org.kosa.myproject.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import net.ttddyy.observation.boot.autoconfigure.DataSourceProxyConnectionIdManagerProvider;
+import net.ttddyy.observation.tracing.DataSourceObservationListener;
+import org.kosa.myproject.querycount.QueryCountListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DataSource 설정 - 읽기/쓰기 분리
+ *
+ * 구성:
+ *   LazyConnectionDataSourceProxy
+ *      └ JDBC 프록시 (SQL 문 수 집계 + SQL 문 단위 query span)
+ *         └ ReplicationRoutingDataSource
+ *           ├ primary   (spring.datasource.*)        : 쓰기 + 트랜잭션 밖 요청
+ *           └ replica-n (app.datasource.replicas[n]) : readOnly 트랜잭션
+ *
+ * app.datasource.concurrency-limit-enabled=true 이면 각 풀을 ConcurrencyLimitedDataSource 로 감싼다
+ * (Virtual Thread 모드, application-virtual.properties)
+ *
+ * MemberService, PostService, CustomMemberDetailsService 는 클래스 레벨에
+ * @Transactional(readOnly = true) 가 선언되어 있으므로 조회 메서드는 자동으로 Replica 로 간다
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ReplicationDataSourceProperties.class)
+public class DataSourceConfig {
+
+    /**
+     * Primary(쓰기) 커넥션 풀
+     * spring.datasource.hikari.* 설정이 그대로 적용된다
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReplicationRoutingDataSource.PRIMARY_KEY);
+        return dataSource;
+    }
+
+    /**
+     * Replica(읽기) 커넥션 풀 목록과 상태 관리
+     */
+    @Bean
+    public ReplicaDataSourceSelector replicaDataSourceSelector(ReplicationDataSourceProperties replicationProperties,
+                                                               DataSourceProperties primaryProperties) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        List<ReplicationDataSourceProperties.Replica> configured = replicationProperties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            replicas.add(createReplica("replica-" + i, configured.get(i), primaryProperties));
+        }
+        log.info("Replica DataSource 등록: {} 개", replicas.size());
+        return new ReplicaDataSourceSelector(replicas,
+                (int) Math.max(1, replicationProperties.getHealthCheckTimeout().toSeconds()));
+    }
+
+    /**
+     * Primary 풀 앞의 동시 접근 제한 (Virtual Thread 모드)
+     * 대기 스레드가 Hikari 가 아니라 이 Semaphore 에 쌓이므로 readiness 의 풀 포화 판정에서도 함께 본다
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource", name = "concurrency-limit-enabled", havingValue = "true")
+    public ConcurrencyLimitedDataSource primaryConcurrencyLimitedDataSource(HikariDataSource primaryDataSource) {
+        return new ConcurrencyLimitedDataSource(primaryDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicationDataSourceProperties replicationProperties) {
+        return new ReadYourWritesTracker(replicationProperties.getReadYourWritesWindow());
+    }
+
+    /**
+     * 애플리케이션 전체에서 사용하는 DataSource (JPA, JdbcTemplate 등)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaDataSourceSelector replicaDataSourceSelector,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 ReplicationDataSourceProperties replicationProperties,
+                                 ObjectProvider<ConcurrencyLimitedDataSource> primaryConcurrencyLimitedDataSource,
+                                 QueryCountListener queryCountListener,
+                                 ObjectProvider<DataSourceObservationListener> observationListener,
+                                 ObjectProvider<DataSourceProxyConnectionIdManagerProvider> connectionIdManager) {
+        boolean limited = replicationProperties.isConcurrencyLimitEnabled();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicaDataSourceSelector.dataSources().forEach((key, pool) ->
+                replicas.put(key, limited ? new ConcurrencyLimitedDataSource(pool) : pool));
+        if (limited) {
+            log.info("DB 동시 접근 제한 사용: primary={}", primaryDataSource.getMaximumPoolSize());
+        }
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+                limited ? primaryConcurrencyLimitedDataSource.getObject() : primaryDataSource,
+                replicas, replicaDataSourceSelector, readYourWritesTracker);
+        // 트랜잭션 속성(readOnly)이 확정된 뒤 첫 쿼리 시점에 커넥션을 얻도록 지연
+        return new LazyConnectionDataSourceProxy(
+                proxied(routingDataSource, queryCountListener, observationListener, connectionIdManager));
+    }
+
+    /**
+     * JDBC 프록시는 지연 프록시 안쪽에 둔다
+     * (바깥에 두면 커넥션 획득 관측이 readOnly 확정 전에 실제 커넥션을 열어 라우팅이 항상 primary 가 됨)
+     * 그래서 datasource-micrometer 의 자동 감싸기에서는 dataSource / primaryDataSource / primaryConcurrencyLimitedDataSource 빈을 제외한다
+     *
+     * SQL 문 수 집계(QueryCountListener)는 항상 등록하므로 JPA 와 JdbcTemplate 이 같은 기준으로 집계된다
+     */
+    private DataSource proxied(DataSource routingDataSource,
+                               QueryCountListener queryCountListener,
+                               ObjectProvider<DataSourceObservationListener> observationListener,
+                               ObjectProvider<DataSourceProxyConnectionIdManagerProvider> connectionIdManager) {
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create("dataSource", routingDataSource)
+                .listener(queryCountListener);
+        observationListener.ifAvailable(listener -> builder.listener(listener).methodListener(listener));
+        connectionIdManager.ifAvailable(provider -> builder.connectionIdManager(provider.get()));
+        return builder.build();
+    }
+
+    private HikariDataSource createReplica(String poolName,
+                                           ReplicationDataSourceProperties.Replica replica,
+                                           DataSourceProperties primaryProperties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(StringUtils.hasText(replica.getUsername())
+                ? replica.getUsername() : primaryProperties.determineUsername());
+        dataSource.setPassword(StringUtils.hasText(replica.getPassword())
+                ? replica.getPassword() : primaryProperties.determinePassword());
+        if (StringUtils.hasText(primaryProperties.getDriverClassName())) {
+            dataSource.setDriverClassName(primaryProperties.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+        dataSource.setReadOnly(true);
+        // Replica 가 내려가 있어도 애플리케이션은 기동되어야 한다 (Primary 로 fail-over)
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
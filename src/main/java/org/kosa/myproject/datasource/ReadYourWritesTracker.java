@@ -0,0 +1,83 @@
+package org.kosa.myproject.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-Your-Writes 추적기
+ *
+ * Replica 는 Primary 보다 조금 늦게 반영(복제 지연)되므로
+ * 사용자가 글을 쓴 직후 목록을 조회하면 자신의 글이 보이지 않을 수 있다.
+ * 쓰기 트랜잭션이 커밋된 시각을 사용자(username)별로 기록해 두고
+ * 설정된 시간(window) 안의 읽기 요청은 Primary 로 보낸다.
+ *
+ * window(app.datasource.read-your-writes-window)는 Replica 점검 주기와 무관하게
+ * 측정한 복제 지연(RDS ReplicaLag 지표 등)의 최댓값에 여유를 더한 값으로 설정한다
+ * - 너무 짧으면 본인 글이 안 보이는 읽기가 생기고, 너무 길면 Replica 로 갈 읽기가 Primary 에 몰린다
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final ConcurrentHashMap<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window == null ? 0 : window.toNanos();
+    }
+
+    public boolean isEnabled() {
+        return windowNanos > 0;
+    }
+
+    /**
+     * 현재 인증된 사용자의 쓰기 커밋 시각 기록
+     */
+    public void recordWrite() {
+        String username = currentUsername();
+        if (isEnabled() && username != null) {
+            lastWriteAt.put(username, System.nanoTime());
+        }
+    }
+
+    /**
+     * 현재 인증된 사용자가 최근 window 안에 쓰기를 했는지 확인
+     */
+    public boolean isWithinWindow() {
+        if (!isEnabled()) {
+            return false;
+        }
+        String username = currentUsername();
+        if (username == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteAt.get(username);
+        return writtenAt != null && System.nanoTime() - writtenAt < windowNanos;
+    }
+
+    /**
+     * 만료된 기록 정리 - 맵이 무한히 커지지 않도록 주기적으로 실행
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.read-your-writes-evict-interval-ms:30000}")
+    public void evictExpired() {
+        if (!isEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        lastWriteAt.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+    }
+
+    private String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,143 @@
+package org.kosa.myproject.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replica 선택기 - Round-Robin + Health-Aware
+ *
+ * 1. 읽기 요청마다 다음 Replica 를 순서대로 선택 (Round-Robin)
+ * 2. 장애로 표시된 Replica 는 건너뜀
+ * 3. 정상 Replica 가 하나도 없으면 null 을 반환 → Primary 로 처리
+ * 4. 주기적으로 Connection.isValid() 로 상태를 점검해 복구된 Replica 를 다시 사용
+ *
+ * 풀이 가득 차 커넥션 대기 시간이 초과된 것(isPoolExhausted)은 장애가 아니라 과부하이므로 장애로 표시하지 않는다
+ * (Replica 가 살아 있는데도 제외하면 남은 Replica / Primary 로 부하가 몰려 연쇄적으로 포화된다)
+ */
+@Slf4j
+public class ReplicaDataSourceSelector implements DisposableBean {
+
+    private final List<ReplicaNode> replicas;
+    private final int healthCheckTimeoutSeconds;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaDataSourceSelector(List<HikariDataSource> replicaDataSources, int healthCheckTimeoutSeconds) {
+        this.replicas = replicaDataSources.stream()
+                .map(ReplicaNode::new)
+                .toList();
+        this.healthCheckTimeoutSeconds = healthCheckTimeoutSeconds;
+    }
+
+    /**
+     * 다음에 사용할 정상 Replica 의 key 반환
+     *
+     * @return Replica key, 사용 가능한 Replica 가 없으면 null
+     */
+    public String nextHealthyKey() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaNode node = replicas.get((start + i) % size);
+            if (node.healthy) {
+                return node.key();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * AbstractRoutingDataSource 에 등록할 key → DataSource 맵
+     */
+    public Map<String, HikariDataSource> dataSources() {
+        Map<String, HikariDataSource> map = new LinkedHashMap<>();
+        replicas.forEach(node -> map.put(node.key(), node.dataSource));
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * 커넥션 획득 실패 시 즉시 장애로 표시 (다음 점검 주기에 복구 여부 확인)
+     */
+    public void markDown(String key) {
+        replicas.stream()
+                .filter(node -> node.key().equals(key))
+                .forEach(node -> {
+                    if (node.healthy) {
+                        log.warn("Replica 장애 감지 - 읽기 대상에서 제외: {}", key);
+                    }
+                    node.healthy = false;
+                });
+    }
+
+    /**
+     * 커넥션 획득 실패가 풀 포화(모든 커넥션 사용 중, connectionTimeout 초과)인지 확인
+     *
+     * HikariCP 는 대기 시간 초과 시 SQLTransientConnectionException 을 던지고,
+     * 최근 새 커넥션 생성이 실패한 적이 있으면(DB 접속 불가) 그 예외를 cause 로 붙인다
+     * → cause 가 없으면 DB 는 정상이고 커넥션이 모두 사용 중인 상태
+     */
+    public static boolean isPoolExhausted(SQLException e) {
+        return e instanceof SQLTransientConnectionException && e.getCause() == null;
+    }
+
+    public boolean isHealthy(String key) {
+        return replicas.stream().anyMatch(node -> node.key().equals(key) && node.healthy);
+    }
+
+    /**
+     * Replica 상태 점검
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.health-check-interval-ms:10000}")
+    public void checkHealth() {
+        for (ReplicaNode node : replicas) {
+            boolean healthy;
+            try (Connection connection = node.dataSource.getConnection()) {
+                healthy = connection.isValid(healthCheckTimeoutSeconds);
+            } catch (SQLException e) {
+                if (isPoolExhausted(e)) {
+                    // 풀이 가득 찬 것은 커넥션이 모두 살아 있다는 뜻 - 상태를 바꾸지 않는다
+                    log.debug("Replica 풀 포화로 상태 점검 생략: {}", node.key());
+                    continue;
+                }
+                healthy = false;
+            } catch (RuntimeException e) {
+                healthy = false;
+            }
+            if (healthy != node.healthy) {
+                log.warn("Replica 상태 변경: {} → {}", node.key(), healthy ? "UP" : "DOWN");
+            }
+            node.healthy = healthy;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(node -> node.dataSource.close());
+    }
+
+    private static final class ReplicaNode {
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private ReplicaNode(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private String key() {
+            return dataSource.getPoolName();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.kosa.myproject.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리(Replication) 설정
+ * - Primary(쓰기) 는 기존 spring.datasource.* 설정을 그대로 사용
+ * - Replica(읽기) 는 app.datasource.replicas[n].* 로 여러 개 등록 가능
+ * - replicas 가 비어 있으면 모든 요청이 Primary 로 전달된다
+ *
+ * 설정 예:
+ * app.datasource.replicas[0].url=jdbc:mysql://replica-1:3306/myappdb
+ * app.datasource.replicas[1].url=jdbc:mysql://replica-2:3306/myappdb
+ * app.datasource.read-your-writes-window=2s
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource")
+public class ReplicationDataSourceProperties {
+
+    private List<Replica> replicas = new ArrayList<>();  // 읽기 전용 Replica 목록
+
+    private long healthCheckIntervalMs = 10_000;         // Replica 상태 점검 주기
+
+    private Duration healthCheckTimeout = Duration.ofSeconds(2);  // Connection.isValid 타임아웃
+
+    // 사용자가 직접 쓰기를 한 뒤 이 시간 동안은 해당 사용자의 읽기도 Primary 로 보낸다 (0 이면 비활성)
+    // 측정한 복제 지연(ReplicaLag)의 최댓값 + 여유로 설정 (상태 점검 주기와는 별개)
+    private Duration readYourWritesWindow = Duration.ZERO;
+
+    private long readYourWritesEvictIntervalMs = 30_000;  // window 가 지난 쓰기 기록 정리 주기
+
+    // 커넥션 풀 앞에서 풀 크기만큼만 동시 접근 허용 (Virtual Thread 모드용, ConcurrencyLimitedDataSource)
+    private boolean concurrencyLimitEnabled = false;
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+
+        private String username;  // 비어 있으면 Primary 계정 사용
+
+        private String password;  // 비어 있으면 Primary 비밀번호 사용
+
+        private int maximumPoolSize = 10;
+
+        private Duration connectionTimeout = Duration.ofSeconds(3);  // 장애 Replica 에서 오래 대기하지 않도록 짧게
+    }
+}
@@ -0,0 +1,108 @@
+package org.kosa.myproject.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 트랜잭션 속성에 따라 Primary / Replica 로 커넥션을 분기하는 DataSource
+ *
+ * 라우팅 규칙:
+ * 1. @Transactional(readOnly = true)  → 정상 Replica (Round-Robin)
+ * 2. 쓰기 트랜잭션 / 트랜잭션 밖        → Primary
+ * 3. Read-Your-Writes window 안의 사용자 → Primary
+ * 4. 정상 Replica 가 없거나 커넥션 획득 실패 → Primary (fail-over)
+ *    풀 포화로 인한 대기 시간 초과는 장애로 표시하지 않고 그 요청만 Primary 로 보낸다
+ *
+ * 주의: readOnly 여부는 트랜잭션 시작 "후"에 설정되므로
+ *       반드시 LazyConnectionDataSourceProxy 로 감싸서 실제 쿼리 시점에 커넥션을 얻어야 한다
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY_KEY = "primary";
+
+    private final DataSource primary;
+    private final ReplicaDataSourceSelector replicaSelector;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    /**
+     * @param primary  Primary DataSource
+     * @param replicas Replica key(풀 이름) → DataSource
+     */
+    public ReplicationRoutingDataSource(DataSource primary,
+                                        Map<String, ? extends DataSource> replicas,
+                                        ReplicaDataSourceSelector replicaSelector,
+                                        ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replicaSelector = replicaSelector;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY_KEY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+        if (!readOnly) {
+            registerWriteCommitCallback();
+            return PRIMARY_KEY;
+        }
+        if (readYourWritesTracker.isWithinWindow()) {
+            log.debug("Read-Your-Writes window 안의 읽기 요청 → primary");
+            return PRIMARY_KEY;
+        }
+        String replicaKey = replicaSelector.nextHealthyKey();
+        return replicaKey != null ? replicaKey : PRIMARY_KEY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY_KEY.equals(key)) {
+            return primary.getConnection();
+        }
+        try {
+            return getResolvedDataSources().get(key).getConnection();
+        } catch (SQLException e) {
+            if (ReplicaDataSourceSelector.isPoolExhausted(e)) {
+                // 풀 포화는 장애가 아님 - 이번 요청만 Primary 로 보내고 Replica 는 계속 사용
+                log.debug("Replica 커넥션 풀 포화, 이번 요청은 primary 로: {} - {}", key, e.getMessage());
+                return primary.getConnection();
+            }
+            // Replica 장애(접속 불가 / 검증 실패) 시 즉시 제외하고 Primary 로 fail-over
+            replicaSelector.markDown((String) key);
+            log.warn("Replica 커넥션 획득 실패, primary 로 전환: {} - {}", key, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋되면 Read-Your-Writes 시각 기록
+     */
+    private void registerWriteCommitCallback() {
+        if (!readYourWritesTracker.isEnabled()
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite();
+            }
+        });
+    }
+}
@@ -3,12 +3,17 @@ package org.kosa.myproject.dto;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 /**
   ApiResponse
  타입 안정성: 컴파일 시 필드와 타입을 체크할 수 있어 오류 방지
  일관성 유지: 공통 응답 구조를 강제할 수 있어 API가 통일됨
  문서화 편리: Swagger/OpenAPI에서 자동으로 스키마를 생성해줌
+
+ success / error 는 응답마다 호출되므로 빌더 대신 생성자를 직접 호출하고,
+ 시간대 조회(ZoneId.systemDefault)를 매번 하지 않도록 Clock 을 재사용한다
+ 내용이 고정된 오류 응답은 PreEncodedErrorResponse 로 미리 직렬화해 둔다
  */
 @Getter
 @Builder
@@ -19,21 +24,13 @@ public class ApiResponseDto<T> {
     private final String code;
     private final LocalDateTime timestamp;
 
+    private static final Clock CLOCK = Clock.systemDefaultZone();
+
     public static <T> ApiResponseDto<T> success(T data, String message) {
-        return ApiResponseDto.<T>builder()
-                .success(true)
-                .message(message)
-                .data(data)
-                .timestamp(LocalDateTime.now())
-                .build();
+        return new ApiResponseDto<>(true, message, data, null, LocalDateTime.now(CLOCK));
     }
 
     public static <T> ApiResponseDto<T> error(String code, String message) {
-        return ApiResponseDto.<T>builder()
-                .success(false)
-                .code(code)
-                .message(message)
-                .timestamp(LocalDateTime.now())
-                .build();
+        return new ApiResponseDto<>(false, message, null, code, LocalDateTime.now(CLOCK));
     }
 }
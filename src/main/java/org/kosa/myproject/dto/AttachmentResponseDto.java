@@ -0,0 +1,41 @@
+package org.kosa.myproject.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.kosa.myproject.entity.Attachment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 첨부파일 메타데이터 응답 DTO
+ */
+@Getter
+@Builder
+public class AttachmentResponseDto {
+
+    private Long id;
+
+    private Long postId;
+
+    private String filename;
+
+    private String contentType;
+
+    private long size;
+
+    private String sha256;
+
+    private LocalDateTime createdAt;
+
+    public static AttachmentResponseDto from(Attachment attachment) {
+        return AttachmentResponseDto.builder()
+                .id(attachment.getId())
+                .postId(attachment.getPost().getId())  // 프록시의 id 는 초기화 없이 조회
+                .filename(attachment.getFilename())
+                .contentType(attachment.getContentType())
+                .size(attachment.getSize())
+                .sha256(attachment.getSha256())
+                .createdAt(attachment.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package org.kosa.myproject.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.kosa.myproject.entity.AuthEvent;
+import org.kosa.myproject.entity.AuthEventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인증 감사 로그 응답 DTO (GET /admin/auth-events)
+ */
+@Getter
+@Builder
+public class AuthEventResponseDto {
+
+    private Long id;
+
+    private AuthEventType type;
+
+    private String username;
+
+    private String remoteAddr;
+
+    private String detail;
+
+    private LocalDateTime occurredAt;
+
+    public static AuthEventResponseDto from(AuthEvent event) {
+        return AuthEventResponseDto.builder()
+                .id(event.getId())
+                .type(event.getType())
+                .username(event.getUsername())
+                .remoteAddr(event.getRemoteAddr())
+                .detail(event.getDetail())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package org.kosa.myproject.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.hibernate.stat.CacheRegionStatistics;
+
+/**
+ * 2차 캐시 영역별 통계 응답 DTO
+ * - 관리자 메트릭 조회(/admin/cache-stats)에서 사용
+ */
+@Getter
+@Builder
+public class CacheRegionStatsDto {
+
+    private String region;          // 캐시 영역 이름 (member, post, query.* ...)
+
+    private long hitCount;          // 캐시 적중 수
+
+    private long missCount;         // 캐시 미스 수 (DB 조회 발생)
+
+    private long putCount;          // 캐시 저장 수
+
+    private double hitRatio;        // 적중률 (0.0 ~ 1.0)
+
+    private long elementCount;      // 메모리에 적재된 항목 수 (지원하지 않으면 -1)
+
+    public static CacheRegionStatsDto from(CacheRegionStatistics statistics) {
+        long hits = statistics.getHitCount();
+        long misses = statistics.getMissCount();
+        long elements = statistics.getElementCountInMemory();
+
+        return CacheRegionStatsDto.builder()
+                .region(statistics.getRegionName())
+                .hitCount(hits)
+                .missCount(misses)
+                .putCount(statistics.getPutCount())
+                .hitRatio(hits + misses == 0 ? 0.0 : (double) hits / (hits + misses))
+                .elementCount(elements == CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN ? -1 : elements)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package org.kosa.myproject.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 댓글 작성 요청 DTO
+ * - 게시글은 URL 경로, 작성자는 인증 정보에서 추출
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentCreateRequestDto {
+
+    private String content;  // 댓글 내용 (최대 1000자)
+}
@@ -0,0 +1,42 @@
+package org.kosa.myproject.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.kosa.myproject.entity.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 응답 DTO
+ */
+@Getter
+@Builder
+public class CommentResponseDto {
+
+    private Long id;
+
+    private Long postId;
+
+    private String content;
+
+    private Long authorId;
+
+    private String authorName;          // 작성자 실명 (탈퇴 등으로 조회되지 않으면 null)
+
+    private LocalDateTime createdAt;
+
+    /**
+     * @param comment 변환할 Comment (post / author 는 초기화하지 않고 id 만 사용)
+     * @param author  일괄 조회한 작성자 정보
+     */
+    public static CommentResponseDto from(Comment comment, MemberResponseDto author) {
+        return CommentResponseDto.builder()
+                .id(comment.getId())
+                .postId(comment.getPost().getId())
+                .content(comment.getContent())
+                .authorId(comment.getAuthor().getId())
+                .authorName(author != null ? author.getName() : null)
+                .createdAt(comment.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package org.kosa.myproject.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * keyset(cursor) 페이지 응답 DTO
+ * 다음 페이지는 nextCursor 를 after 파라미터로 넘겨 조회한다 (hasNext 가 false 면 nextCursor 는 null)
+ */
+@Getter
+@Builder
+public class CursorPageResponseDto<T> {
+
+    private List<T> content;
+
+    private Long nextCursor;
+
+    private boolean hasNext;
+}
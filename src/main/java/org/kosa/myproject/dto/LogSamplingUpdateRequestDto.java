@@ -0,0 +1,25 @@
+package org.kosa.myproject.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 로그 샘플링 정책 변경 요청 DTO (PUT /admin/log-sampling)
+ * 보내지 않은(null) 항목은 기존 값을 유지한다
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LogSamplingUpdateRequestDto {
+
+    private Boolean enabled;
+
+    private Double defaultRate;          // 0.0 ~ 1.0
+
+    private Map<String, Double> rates;   // logger 이름(prefix)별 비율 - 보내면 전체를 교체
+}
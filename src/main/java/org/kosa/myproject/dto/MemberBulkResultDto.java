@@ -0,0 +1,41 @@
+package org.kosa.myproject.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 회원 일괄 등록 결과 DTO (요청 행 하나당 하나)
+ * - NDJSON 한 줄로 직렬화되어 처리되는 즉시 클라이언트로 전송된다
+ * - row 는 요청 배열의 인덱스(0부터), 전송 순서는 처리 순서이므로 row 로 대응시킬 것
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)  // 결과별로 id / message 중 하나만 포함
+public class MemberBulkResultDto {
+
+    private int row;              // 요청 배열에서의 위치
+
+    private String username;      // 요청한 로그인 ID
+
+    private Status status;        // 처리 결과
+
+    private Long id;              // 생성된 회원 번호 (CREATED 일 때만)
+
+    private String message;       // 실패 사유
+
+    public enum Status {
+        CREATED,     // 등록 완료
+        DUPLICATE,   // 이미 존재하거나 요청 안에서 중복된 username
+        INVALID,     // 필수값 누락 / 길이 초과
+        FAILED       // DB 오류
+    }
+
+    public static MemberBulkResultDto created(int row, String username, Long id) {
+        return MemberBulkResultDto.builder().row(row).username(username).status(Status.CREATED).id(id).build();
+    }
+
+    public static MemberBulkResultDto rejected(int row, String username, Status status, String message) {
+        return MemberBulkResultDto.builder().row(row).username(username).status(status).message(message).build();
+    }
+}
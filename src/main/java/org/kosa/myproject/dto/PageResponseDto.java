@@ -0,0 +1,37 @@
+package org.kosa.myproject.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 페이지 응답 DTO
+ * Spring Data Page 를 그대로 직렬화하면 구현 세부(pageable, sort 등)가 응답 형식이 되므로 필요한 값만 옮긴다
+ */
+@Getter
+@Builder
+public class PageResponseDto<T> {
+
+    private List<T> content;
+
+    private int page;               // 0 부터
+
+    private int size;
+
+    private long totalElements;
+
+    private int totalPages;
+
+    public static <E, T> PageResponseDto<T> from(Page<E> page, Function<E, T> mapper) {
+        return PageResponseDto.<T>builder()
+                .content(page.getContent().stream().map(mapper).toList())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .build();
+    }
+}
@@ -21,7 +21,9 @@ public class PostDetailResponseDto {
 
     private String title;               // 게시글 제목
 
-    private String content;             // 게시글 내용 (상세 조회시만 포함)
+    private String content;             // 게시글 내용 - Markdown 원문 (상세 조회시만 포함, 수정 화면용)
+
+    private String contentHtml;         // 렌더링 + 정제된 HTML (화면 표시용)
 
     private Long authorId;              // 작성자 ID (권한 체크용)
 
@@ -31,6 +33,10 @@ public class PostDetailResponseDto {
 
     private LocalDateTime createdAt;    // 작성일시
 
+    private long likeCount;             // 좋아요 수
+
+    private boolean likedByMe;          // 현재 회원의 좋아요 여부
+
     /**
      * Entity → DTO 변환 메서드
      * - 상세 정보 전체 포함
@@ -40,16 +46,43 @@ public class PostDetailResponseDto {
      * @return PostDetailResponseDto
      */
     public static PostDetailResponseDto from(Post post) {
+        return from(post, post.getContentHtml());
+    }
+
+    /**
+     * 저장된 HTML 대신 지정한 HTML 로 변환 (아직 현재 버전으로 렌더링되지 않은 게시글)
+     *
+     * @param post        변환할 Post 엔티티
+     * @param contentHtml 응답에 담을 HTML
+     * @return PostDetailResponseDto
+     */
+    public static PostDetailResponseDto from(Post post, String contentHtml) {
+        return from(post, contentHtml, 0, false);
+    }
+
+    /**
+     * 좋아요 포함 변환 (상세 조회)
+     *
+     * @param post        변환할 Post 엔티티
+     * @param contentHtml 응답에 담을 HTML
+     * @param likeCount   좋아요 수
+     * @param likedByMe   현재 회원의 좋아요 여부
+     * @return PostDetailResponseDto
+     */
+    public static PostDetailResponseDto from(Post post, String contentHtml, long likeCount, boolean likedByMe) {
         Member author = post.getAuthor();
 
         return PostDetailResponseDto.builder()
                 .id(post.getId())
                 .title(post.getTitle())
                 .content(post.getContent())
+                .contentHtml(contentHtml)
                 .authorId(author.getId())
                 .authorUsername(author.getUsername())
                 .authorName(author.getName())
                 .createdAt(post.getCreatedAt())
+                .likeCount(likeCount)
+                .likedByMe(likedByMe)
                 .build();
     }
 }
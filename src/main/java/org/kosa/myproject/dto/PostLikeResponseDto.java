@@ -0,0 +1,18 @@
+package org.kosa.myproject.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 좋아요 / 좋아요 취소 응답 DTO
+ */
+@Getter
+@Builder
+public class PostLikeResponseDto {
+
+    private Long postId;
+
+    private long likeCount;         // 좋아요 수
+
+    private boolean likedByMe;      // 현재 회원의 좋아요 여부
+}
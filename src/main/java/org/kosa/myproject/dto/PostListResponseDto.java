@@ -24,6 +24,12 @@ public class PostListResponseDto {
 
     private LocalDateTime createdAt;    // 작성일시
 
+    private long commentCount;          // 댓글 수
+
+    private long likeCount;             // 좋아요 수
+
+    private boolean likedByMe;          // 현재 회원의 좋아요 여부 (비로그인이면 false)
+
     /**
      * Entity → DTO 변환 메서드
      * - 목록에 필요한 최소 정보만 추출
@@ -33,11 +39,29 @@ public class PostListResponseDto {
      * @return PostListResponseDto
      */
     public static PostListResponseDto from(Post post) {
+        return from(post, 0, 0, false);
+    }
+
+    /**
+     * 댓글 수 / 좋아요 포함 변환
+     * - 댓글 수는 PostService 가 목록 전체에 대해 한 번에 집계한 값
+     * - 좋아요는 PostLikeService 의 인메모리 인덱스 값
+     *
+     * @param post         변환할 Post 엔티티
+     * @param commentCount 댓글 수
+     * @param likeCount    좋아요 수
+     * @param likedByMe    현재 회원의 좋아요 여부
+     * @return PostListResponseDto
+     */
+    public static PostListResponseDto from(Post post, long commentCount, long likeCount, boolean likedByMe) {
         return PostListResponseDto.builder()
                 .id(post.getId())
                 .title(post.getTitle())
                 .authorName(post.getAuthor().getName())  // 작성자 실명
                 .createdAt(post.getCreatedAt())
+                .commentCount(commentCount)
+                .likeCount(likeCount)
+                .likedByMe(likedByMe)
                 .build();
     }
 }
\ No newline at end of file
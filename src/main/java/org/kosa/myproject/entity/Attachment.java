@@ -0,0 +1,60 @@
+package org.kosa.myproject.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Attachment 엔티티 - 게시글 첨부파일 메타데이터
+ *
+ * 파일 본문은 DB 가 아닌 AttachmentStorage 에 저장하고 storageKey 로 찾는다
+ * sha256 은 업로드 중 계산한 본문 해시로, 다운로드 응답의 강한 ETag 로 사용
+ */
+@Entity
+@Table(name = "attachments")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = "post")
+public class Attachment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false, foreignKey = @ForeignKey(name = "fk_attachments_post"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Post post;  // 첨부된 게시글
+
+    @Column(nullable = false, length = 255)
+    private String filename;  // 업로드 시 파일명 (경로 제거)
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;  // 본문으로 판별한 MIME 타입
+
+    @Column(name = "file_size", nullable = false)
+    private long size;  // byte 수
+
+    @Column(nullable = false, length = 64)
+    private String sha256;  // 본문 SHA-256 (hex)
+
+    @Column(name = "storage_key", nullable = false, unique = true, length = 64)
+    private String storageKey;  // AttachmentStorage 내 위치
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 다운로드 응답의 강한 ETag (본문이 같으면 같은 값)
+     */
+    public String getETag() {
+        return "\"" + sha256 + "\"";
+    }
+}
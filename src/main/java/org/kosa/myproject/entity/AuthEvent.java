@@ -0,0 +1,42 @@
+package org.kosa.myproject.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * AuthEvent 엔티티 - 인증 감사 로그 (관리자 조회용)
+ *
+ * 저장은 AuthEventRecorder 가 JDBC multi-row INSERT 로 직접 수행하고 (IDENTITY 전략은 Hibernate batch insert 불가)
+ * 이 엔티티는 조회(AuthEventRepository)에만 사용한다
+ */
+@Entity
+@Table(name = "auth_events")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class AuthEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;  // 발생 시각
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private AuthEventType type;
+
+    @Column(length = 50)
+    private String username;  // 로그인 시도 아이디 / 토큰의 username (알 수 없으면 null)
+
+    @Column(name = "remote_addr", length = 45)
+    private String remoteAddr;  // 요청 IP (IPv6 최대 45자)
+
+    @Column(length = 255)
+    private String detail;  // 실패 원인 등
+}
@@ -0,0 +1,11 @@
+package org.kosa.myproject.entity;
+
+/**
+ * 인증 감사 로그 이벤트 종류 (auth_events.event_type)
+ */
+public enum AuthEventType {
+    LOGIN_SUCCESS,   // JsonLoginFilter 로그인 성공
+    LOGIN_FAILURE,   // JsonLoginFilter 로그인 실패
+    TOKEN_EXPIRED,   // JwtFilter 만료된 토큰
+    TOKEN_INVALID    // JwtFilter 서명 불일치 / 형식 오류
+}
@@ -0,0 +1,46 @@
+package org.kosa.myproject.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Comment 엔티티 - 게시글 댓글
+ *
+ * post / author 는 LAZY 로 FK(id)만 사용한다
+ * 목록 응답의 작성자 정보는 CommentService 가 id 를 모아 MemberService.findAllByIds 로 한 번에 조회
+ */
+@Entity
+@Table(name = "comments")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = {"post", "author"})
+public class Comment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false, foreignKey = @ForeignKey(name = "fk_comments_post"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Post post;  // 댓글이 달린 게시글
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "author_id", nullable = false, foreignKey = @ForeignKey(name = "fk_comments_author"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Member author;  // 작성자
+
+    @Column(nullable = false, length = 1000)
+    private String content;  // 내용
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;  // 작성일시
+}
@@ -2,12 +2,16 @@ package org.kosa.myproject.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name="members")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member") // 2차 캐시 - 거의 변경되지 않는 회원 정보
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -52,7 +56,7 @@ public class Member {
      */
     public void changeRole(MemberRole newRole){
         if(newRole !=null )
-            this.role = role;
+            this.role = newRole;
     }
 }
 
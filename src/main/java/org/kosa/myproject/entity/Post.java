@@ -2,6 +2,8 @@ package org.kosa.myproject.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
@@ -11,9 +13,15 @@ import java.time.LocalDateTime;
 /**
  * Post 엔티티 - 게시글 관리
  *
+ * 2차 캐시: 작성 후 수정이 드물어 READ_WRITE 전략으로 캐시
+ *          author 는 FK(id)만 함께 저장되고 Member 는 member 영역에서 조회
+ *
+ * content 는 Markdown 원문, contentHtml 은 작성 / 수정 시 MarkdownRenderer 로 렌더링해 둔 HTML
  *  */
 @Entity
 @Table(name = "posts")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post")
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,7 +38,14 @@ public class Post {
 
     @Lob  // Large Object - TEXT 타입을
     @Column(nullable = false, columnDefinition = "TEXT")
-    private String content;  // 내용
+    private String content;  // 내용 (Markdown)
+
+    @Lob
+    @Column(name = "content_html", columnDefinition = "TEXT")
+    private String contentHtml;  // 렌더링 + 정제된 HTML (렌더링 전이면 null)
+
+    @Column(name = "render_version", nullable = false)
+    private int renderVersion;  // contentHtml 을 만든 MarkdownRenderer.VERSION (0 : 렌더링 전)
 
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
@@ -70,6 +85,22 @@ public class Post {
         }
     }
 
+    /**
+     * 렌더링된 본문 저장
+     * - 작성 / 수정 시 PostService 가 content 를 렌더링한 결과로 호출
+     */
+    public void applyRenderedContent(String contentHtml, int renderVersion) {
+        this.contentHtml = contentHtml;
+        this.renderVersion = renderVersion;
+    }
+
+    /**
+     * 현재 렌더러 버전으로 렌더링된 HTML 이 있는지
+     */
+    public boolean isRendered(int currentVersion) {
+        return contentHtml != null && renderVersion >= currentVersion;
+    }
+
     /**
      * 작성자 확인
      * - 수정/삭제 권한 체크에 사용
@@ -1,13 +1,18 @@
 package org.kosa.myproject.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.attachment.AttachmentTooLargeException;
 import org.kosa.myproject.dto.ApiResponseDto;
+import org.kosa.myproject.stream.StreamCapacityExceededException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 
 /**
  *   전역 처리 예외 클래스
@@ -44,6 +49,28 @@ public ResponseEntity<ApiResponseDto<?>> handleIllegalArgumentException(IllegalA
         return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponseDto.error("CONFLICT", e.getMessage()));
     }
 
+    /**
+     * 첨부파일 크기 제한 초과
+     */
+    @ExceptionHandler(AttachmentTooLargeException.class)
+    public ResponseEntity<ApiResponseDto<?>> handleAttachmentTooLargeException(AttachmentTooLargeException e) {
+        log.warn("첨부파일 크기 초과: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(ApiResponseDto.error("PAYLOAD_TOO_LARGE", e.getMessage()));
+    }
+
+    /**
+     * 스트림 동시 구독자 수 한도 초과 - 잠시 후 재시도하도록 503 + Retry-After
+     * SSE 요청(Accept: text/event-stream)에도 오류 본문을 보낼 수 있도록 Content-Type 을 지정
+     */
+    @ExceptionHandler(StreamCapacityExceededException.class)
+    public ResponseEntity<ApiResponseDto<?>> handleStreamCapacityExceededException(StreamCapacityExceededException e) {
+        log.warn("스트림 구독 거절: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponseDto.error("SERVICE_UNAVAILABLE", e.getMessage()));
+    }
+
     /**
      * Spring Security 인증 예외 처리
      */
@@ -62,6 +89,15 @@ public ResponseEntity<ApiResponseDto<?>> handleIllegalArgumentException(IllegalA
         log.error("권한 부족: {}", e.getMessage());
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ApiResponseDto.error("FORBIDDEN", "해당 작업을 수행할 권한이 없습니다."));
     }
+    /**
+     * 비동기 응답(SSE 스트림) 전송 중 클라이언트가 연결을 끊은 경우
+     * 응답을 더 쓸 수 없으므로 아무것도 반환하지 않는다
+     */
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    public void handleAsyncRequestNotUsableException(AsyncRequestNotUsableException e) {
+        log.debug("클라이언트 연결 종료: {}", e.getMessage());
+    }
+
     /**
      * RuntimeException 처리
      * 예상하지 못한 런타임 오류
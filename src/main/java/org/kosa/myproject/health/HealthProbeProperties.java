@@ -0,0 +1,25 @@
+package org.kosa.myproject.health;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 로드밸런서 헬스 체크 설정 (app.health)
+ * 점검 주기는 app.health.refresh-interval-ms (@Scheduled)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.health")
+public class HealthProbeProperties {
+
+    private Duration dbValidationTimeout = Duration.ofSeconds(2);  // Connection.isValid() 대기 시간
+
+    private int maxAwaitingThreads = 10;       // 커넥션을 기다리는 스레드가 이 수 이상이면 포화로 판단
+
+    private Duration maxStaleness = Duration.ofSeconds(30);  // 스냅샷이 이보다 오래되면 점검 스레드 정지로 보고 not-ready
+
+    private boolean warmUpEnabled = true;      // 기동 직후 주요 조회를 한 번 실행한 뒤에 ready
+}
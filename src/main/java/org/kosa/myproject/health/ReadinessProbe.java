@@ -0,0 +1,251 @@
+package org.kosa.myproject.health;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.datasource.ConcurrencyLimitedDataSource;
+import org.kosa.myproject.datasource.ReplicaDataSourceSelector;
+import org.kosa.myproject.security.jwt.JwtUtil;
+import org.kosa.myproject.service.PostService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ReadinessProbe - 로드밸런서(ALB) readiness / liveness 판정
+ *
+ * 동작 방식:
+ * 1. 백그라운드(@Scheduled)에서 주기적으로 상태를 점검하고 JSON 응답을 미리 만들어 스냅샷으로 보관
+ *    - database       : Primary 커넥션 획득 + Connection.isValid()
+ *    - connectionPool : Primary 풀의 대기 스레드 수 (포화 시 DB 점검은 건너뜀 - 점검 스레드가 멈추지 않도록)
+ *                       Virtual Thread 모드에서는 풀 앞 ConcurrencyLimitedDataSource 의 대기 스레드도 합산
+ *    - jwtKey         : 토큰 서명 / 검증 가능 여부
+ *    - warmUp         : 기동 후 워밍업 완료 + Spring Boot readiness 상태(종료 중이면 REFUSING_TRAFFIC)
+ *    - replicas       : 정상 Replica 수 (참고용, Primary 로 대체 가능하므로 판정에는 사용하지 않음)
+ * 2. 요청은 스냅샷을 그대로 반환 → 프로브가 몰려도 쿼리 / 직렬화 비용 없음 (O(1))
+ * 3. 스냅샷이 max-staleness 보다 오래되면(점검 스레드 정지) not-ready
+ *
+ * 점검은 한 번에 하나만 실행한다 (주기 점검과 상태 변경 이벤트가 겹칠 수 있음)
+ * synchronized 로 DB 왕복 동안 모니터를 잡으면 virtual thread 가 carrier thread 에 고정(pinning)되므로 ReentrantLock 사용
+ *
+ * liveness 는 DB 와 무관하게 프로세스 상태만 본다 (DB 장애로 인스턴스가 재시작되는 것 방지)
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(HealthProbeProperties.class)
+public class ReadinessProbe {
+
+    private final HealthProbeProperties properties;
+    private final HikariDataSource primaryDataSource;
+    private final ConcurrencyLimitedDataSource primaryConcurrencyLimit;
+    private final ReplicaDataSourceSelector replicaDataSourceSelector;
+    private final JwtUtil jwtUtil;
+    private final PostService postService;
+    private final ApplicationAvailability applicationAvailability;
+    private final ObjectMapper objectMapper;
+
+    private final Snapshot stale;
+    private final Snapshot live;
+    private final Snapshot broken;
+    private volatile Snapshot snapshot;
+    private volatile boolean warmedUp;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public ReadinessProbe(HealthProbeProperties properties,
+                          HikariDataSource primaryDataSource,
+                          ObjectProvider<ConcurrencyLimitedDataSource> primaryConcurrencyLimitedDataSource,
+                          ReplicaDataSourceSelector replicaDataSourceSelector,
+                          JwtUtil jwtUtil,
+                          PostService postService,
+                          ApplicationAvailability applicationAvailability,
+                          ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.primaryDataSource = primaryDataSource;
+        this.primaryConcurrencyLimit = primaryConcurrencyLimitedDataSource.getIfAvailable();
+        this.replicaDataSourceSelector = replicaDataSourceSelector;
+        this.jwtUtil = jwtUtil;
+        this.postService = postService;
+        this.applicationAvailability = applicationAvailability;
+        this.objectMapper = objectMapper;
+
+        this.stale = new Snapshot(false, Instant.MAX, json("{\"status\":\"DOWN\",\"reason\":\"STALE\"}"));
+        this.live = new Snapshot(true, Instant.MAX, json("{\"status\":\"UP\"}"));
+        this.broken = new Snapshot(false, Instant.MAX, json("{\"status\":\"DOWN\"}"));
+        this.snapshot = new Snapshot(false, Instant.now(), json("{\"status\":\"DOWN\",\"reason\":\"STARTING\"}"));
+    }
+
+    /**
+     * 현재 readiness 스냅샷 (점검 없이 반환)
+     */
+    public Snapshot readiness() {
+        Snapshot current = snapshot;
+        if (current.checkedAt().plus(properties.getMaxStaleness()).isBefore(Instant.now())) {
+            return stale;
+        }
+        return current;
+    }
+
+    /**
+     * liveness - 프로세스가 정상 동작 중인지 (DB 상태와 무관)
+     */
+    public Snapshot liveness() {
+        return applicationAvailability.getLivenessState() == LivenessState.CORRECT ? live : broken;
+    }
+
+    /**
+     * 기동 완료 직후 워밍업 - 끝날 때까지 readiness 는 DOWN
+     * (커넥션 풀 채우기, JPQL 파싱 / 2차 캐시 적재, JWT 서명 클래스 로딩)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (properties.isWarmUpEnabled()) {
+            long start = System.currentTimeMillis();
+            try {
+                postService.getAllPosts();
+                jwtUtil.isSigningKeyUsable();
+                log.info("워밍업 완료: {}ms", System.currentTimeMillis() - start);
+            } catch (Exception e) {
+                // 워밍업 실패는 다음 점검에서 database 상태로 드러나므로 ready 판정은 점검 결과에 맡긴다
+                log.warn("워밍업 중 오류: {}", e.getMessage());
+            }
+        }
+        warmedUp = true;
+        refresh();
+    }
+
+    /**
+     * readiness 상태 변경(종료 시작 등)은 점검 주기를 기다리지 않고 즉시 반영
+     */
+    @EventListener
+    public void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.health.refresh-interval-ms:5000}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            check();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void check() {
+        Map<String, Object> checks = new LinkedHashMap<>();
+
+        boolean accepting = warmedUp
+                && applicationAvailability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC;
+        checks.put("warmUp", Map.of("status", status(accepting),
+                "readinessState", applicationAvailability.getReadinessState().name()));
+
+        boolean poolOk = checkPool(checks);
+        boolean dbOk = poolOk && checkDatabase(checks);
+        if (!poolOk) {
+            checks.put("database", Map.of("status", "UNKNOWN", "reason", "connection pool saturated"));
+        }
+
+        boolean jwtOk = jwtUtil.isSigningKeyUsable();
+        checks.put("jwtKey", Map.of("status", status(jwtOk)));
+
+        Map<String, HikariDataSource> replicas = replicaDataSourceSelector.dataSources();
+        long healthyReplicas = replicas.keySet().stream().filter(replicaDataSourceSelector::isHealthy).count();
+        checks.put("replicas", Map.of("healthy", healthyReplicas, "total", replicas.size()));
+
+        boolean ready = accepting && poolOk && dbOk && jwtOk;
+        Instant now = Instant.now();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", status(ready));
+        body.put("checkedAt", now.toString());
+        body.put("checks", checks);
+
+        Snapshot previous = snapshot;
+        try {
+            snapshot = new Snapshot(ready, now, objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            log.error("readiness 응답 직렬화 실패", e);
+            snapshot = new Snapshot(false, now, broken.body());
+        }
+        if (previous.ready() != ready) {
+            log.warn("readiness 상태 변경: {} → {} {}", status(previous.ready()), status(ready), checks);
+        }
+    }
+
+    private boolean checkPool(Map<String, Object> checks) {
+        HikariPoolMXBean pool = primaryDataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            // 아직 풀이 시작되지 않음 (첫 커넥션 요청 시 시작)
+            checks.put("connectionPool", Map.of("status", "UP", "started", false));
+            return true;
+        }
+        int awaiting = pool.getThreadsAwaitingConnection();
+        if (primaryConcurrencyLimit != null) {
+            // Virtual Thread 모드: 풀 크기만큼만 Hikari 로 들어가므로 나머지는 Semaphore 에서 대기
+            awaiting += primaryConcurrencyLimit.getWaitingThreads();
+        }
+        boolean ok = awaiting < properties.getMaxAwaitingThreads();
+        Map<String, Object> detail = new LinkedHashMap<>();
+        detail.put("status", status(ok));
+        detail.put("active", pool.getActiveConnections());
+        detail.put("idle", pool.getIdleConnections());
+        detail.put("total", pool.getTotalConnections());
+        detail.put("max", primaryDataSource.getMaximumPoolSize());
+        detail.put("awaiting", awaiting);
+        checks.put("connectionPool", detail);
+        return ok;
+    }
+
+    private boolean checkDatabase(Map<String, Object> checks) {
+        long start = System.nanoTime();
+        boolean ok;
+        String error = null;
+        try (Connection connection = primaryDataSource.getConnection()) {
+            ok = connection.isValid((int) Math.max(1, properties.getDbValidationTimeout().toSeconds()));
+        } catch (Exception e) {
+            ok = false;
+            error = e.getClass().getSimpleName();
+        }
+        Map<String, Object> detail = new LinkedHashMap<>();
+        detail.put("status", status(ok));
+        detail.put("validationMs", (System.nanoTime() - start) / 1_000_000);
+        if (error != null) {
+            detail.put("error", error);
+        }
+        checks.put("database", detail);
+        return ok;
+    }
+
+    private static String status(boolean up) {
+        return up ? "UP" : "DOWN";
+    }
+
+    private static byte[] json(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 미리 직렬화된 응답
+     *
+     * @param ready     true 면 200, false 면 503
+     * @param checkedAt 점검 시각
+     * @param body      JSON 응답 본문
+     */
+    public record Snapshot(boolean ready, Instant checkedAt, byte[] body) {
+    }
+}
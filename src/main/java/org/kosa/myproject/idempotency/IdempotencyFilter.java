@@ -0,0 +1,333 @@
+package org.kosa.myproject.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.json.PreEncodedErrorResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * IdempotencyFilter - Idempotency-Key 헤더가 있는 쓰기 요청을 한 번만 실행 (JwtFilter 다음, SecurityConfig 에서 등록)
+ *
+ * 모바일 클라이언트가 응답을 못 받고 POST /api/posts, POST /api/members 를 재시도하면
+ * 게시글이 중복 작성되고 회원 가입은 BCrypt 해시와 중복 체크를 다시 수행한다
+ *
+ * 1. 키 = (회원 또는 anonymous) + 메서드 + 경로 + Idempotency-Key  → 다른 회원의 응답은 재사용되지 않는다
+ * 2. 저장된 응답이 있으면 컨트롤러를 거치지 않고 그대로 반환 (Idempotent-Replayed: true)
+ * 3. 같은 키의 요청이 처리 중이면 실행하지 않고 그 결과를 기다린다 (wait-timeout 초과 시 409)
+ * 4. 같은 키로 본문이 다른 요청을 보내면 422
+ * 5. 5xx, 401/403/429, 너무 큰 응답은 저장하지 않는다 → 재시도하면 다시 실행
+ * 6. 요청 본문이 max-body-size 를 넘으면 읽지 않고 413 (본문 전체를 메모리에 올려 지문을 만들기 때문)
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<Integer> NOT_STORED = Set.of(401, 403, 408, 429);
+
+    private final IdempotencyStore store;
+    private final boolean enabled;
+    private final Set<String> methods;
+    private final List<PathPattern> patterns;
+    private final int maxKeyLength;
+    private final long maxBodySize;
+    private final long waitTimeoutMs;
+
+    private final PreEncodedErrorResponse invalidKey;
+    private final PreEncodedErrorResponse keyInUse;
+    private final PreEncodedErrorResponse keyReused;
+    private final PreEncodedErrorResponse bodyTooLarge;
+    private final Map<Result, Counter> counters = new EnumMap<>(Result.class);
+
+    public IdempotencyFilter(IdempotencyStore store,
+                             IdempotencyProperties properties,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.store = store;
+        this.enabled = properties.isEnabled();
+        this.methods = properties.getMethods().stream().map(m -> m.toUpperCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet());
+        this.patterns = properties.getPatterns().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.maxKeyLength = properties.getMaxKeyLength();
+        this.maxBodySize = properties.getMaxBodySize().toBytes();
+        this.waitTimeoutMs = properties.getWaitTimeout().toMillis();
+
+        this.invalidKey = PreEncodedErrorResponse.of(objectMapper, HttpStatus.BAD_REQUEST.value(),
+                "INVALID_IDEMPOTENCY_KEY", "Idempotency-Key 는 " + maxKeyLength + "자 이하의 ASCII 문자열이어야 합니다.");
+        this.keyInUse = PreEncodedErrorResponse.of(objectMapper, HttpStatus.CONFLICT.value(),
+                "IDEMPOTENCY_KEY_IN_USE", "같은 Idempotency-Key 의 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        this.keyReused = PreEncodedErrorResponse.of(objectMapper, HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                "IDEMPOTENCY_KEY_REUSED", "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+        this.bodyTooLarge = PreEncodedErrorResponse.of(objectMapper, HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                "IDEMPOTENCY_BODY_TOO_LARGE", "Idempotency-Key 를 사용하는 요청 본문은 " + properties.getMaxBodySize() + " 이하여야 합니다.");
+        for (Result result : Result.values()) {
+            counters.put(result, Counter.builder("app.idempotency.requests")
+                    .description("Idempotency-Key 요청 처리 결과")
+                    .tag("result", result.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || request.getHeader(HEADER) == null || !methods.contains(request.getMethod())) {
+            return true;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(HEADER);
+        if (!isValid(idempotencyKey)) {
+            invalidKey.writeTo(response);
+            return;
+        }
+
+        byte[] body = readBody(request);
+        if (body == null) {
+            counters.get(Result.TOO_LARGE).increment();
+            bodyTooLarge.writeTo(response);
+            return;
+        }
+        byte[] fingerprint = sha256(body);
+        String key = principal() + ' ' + request.getMethod() + ' ' + request.getRequestURI() + ' ' + idempotencyKey;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+
+        while (true) {
+            IdempotencyStore.Claim claim = store.claim(key);
+            if (claim.stored() != null) {
+                replay(claim.stored(), fingerprint, response, Result.REPLAYED);
+                return;
+            }
+            if (claim.owned() != null) {
+                execute(key, claim.owned(), new CachedBodyRequest(request, body), response, fingerprint, filterChain);
+                return;
+            }
+
+            StoredResponse completed;
+            try {
+                completed = claim.pending().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                counters.get(Result.CONFLICT).increment();
+                keyInUse.writeTo(response);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                keyInUse.writeTo(response);
+                return;
+            } catch (ExecutionException e) {
+                completed = null;
+            }
+            if (completed != null) {
+                replay(completed, fingerprint, response, Result.WAITED);
+                return;
+            }
+            // 앞선 요청의 결과가 저장되지 않았다 → 이 요청이 다시 선점해 실행
+        }
+    }
+
+    private void execute(String key, CompletableFuture<StoredResponse> owned, HttpServletRequest request,
+                         HttpServletResponse response, byte[] fingerprint, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        StoredResponse stored = null;
+        try {
+            filterChain.doFilter(request, cachingResponse);
+            int status = cachingResponse.getStatus();
+            byte[] responseBody = cachingResponse.getContentAsByteArray();
+            if (status < 500 && !NOT_STORED.contains(status) && responseBody.length <= maxBodySize
+                    && !request.isAsyncStarted()) {
+                stored = new StoredResponse(status, cachingResponse.getContentType(), responseBody, fingerprint);
+            }
+            counters.get(Result.EXECUTED).increment();
+        } finally {
+            store.complete(key, owned, stored);
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private void replay(StoredResponse stored, byte[] fingerprint, HttpServletResponse response, Result result)
+            throws IOException {
+        if (!MessageDigest.isEqual(stored.fingerprint(), fingerprint)) {
+            counters.get(Result.MISMATCH).increment();
+            keyReused.writeTo(response);
+            return;
+        }
+        counters.get(result).increment();
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    /**
+     * 요청 본문 (max-body-size 까지만 읽음)
+     *
+     * @return 본문, 한도를 넘으면 null (Content-Length 가 한도를 넘으면 읽지 않음)
+     */
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxBodySize) {
+            return null;
+        }
+        // Content-Length 가 없는 chunked 요청은 한도 + 1 바이트까지만 읽어 초과 여부 판단
+        byte[] body = request.getInputStream().readNBytes((int) Math.min(maxBodySize + 1, Integer.MAX_VALUE - 8));
+        return body.length > maxBodySize ? null : body;
+    }
+
+    private boolean isValid(String key) {
+        if (key.isEmpty() || key.length() > maxKeyLength) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < 0x21 || c > 0x7e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return "anonymous";
+        }
+        return authentication.getName();
+    }
+
+    private static byte[] sha256(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private enum Result {
+        EXECUTED,   // 처음 실행
+        REPLAYED,   // 저장된 응답 반환
+        WAITED,     // 처리 중이던 요청의 결과를 기다려 반환
+        CONFLICT,   // 기다리다 시간 초과 (409)
+        MISMATCH,   // 같은 키, 다른 본문 (422)
+        TOO_LARGE   // 요청 본문 한도 초과 (413)
+    }
+
+    /**
+     * 이미 읽은 요청 본문을 컨트롤러가 다시 읽을 수 있도록 제공
+     */
+    static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 본문은 이미 메모리에 있으므로 바로 읽을 수 있음 / 모두 읽음을 알린다
+                 */
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (input.available() > 0) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException | RuntimeException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
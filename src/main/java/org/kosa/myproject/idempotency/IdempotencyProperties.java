@@ -0,0 +1,35 @@
+package org.kosa.myproject.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Idempotency-Key 처리 설정 (app.idempotency)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+
+    private List<String> methods = new ArrayList<>(List.of("POST"));
+
+    private List<String> patterns = new ArrayList<>(List.of("/api/posts", "/api/members"));
+
+    private Duration ttl = Duration.ofHours(1);             // 첫 응답 보관 시간 (저장 시점 기준)
+
+    private DataSize maxSize = DataSize.ofMegabytes(16);    // 보관 응답 본문 합계 상한 (넘으면 오래 안 쓴 것부터 제거)
+
+    private DataSize maxBodySize = DataSize.ofKilobytes(64); // 요청 본문이 이보다 크면 413, 응답 본문이 이보다 크면 저장하지 않음
+
+    private int maxKeyLength = 255;
+
+    private Duration waitTimeout = Duration.ofSeconds(10);  // 같은 키의 요청이 처리 중일 때 기다리는 시간 (넘으면 409)
+}
@@ -0,0 +1,97 @@
+package org.kosa.myproject.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * IdempotencyStore - 키별 첫 응답 저장소
+ *
+ * - completed : 완료된 응답 (Caffeine, 본문 바이트 합계 max-size / 저장 후 ttl 로 제한)
+ * - inFlight  : 처리 중인 요청 → 같은 키로 동시에 들어온 요청은 이 future 를 기다렸다가 결과를 그대로 받는다
+ *
+ * 키는 IdempotencyFilter 가 (회원 또는 anonymous) + 메서드 + 경로 + Idempotency-Key 로 만든다
+ */
+@Component
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyStore {
+
+    private final Cache<String, StoredResponse> completed;
+    private final ConcurrentHashMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(IdempotencyProperties properties) {
+        this.completed = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((String key, StoredResponse response) -> key.length() + response.weight())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    /**
+     * 키 선점 시도
+     *
+     * @return 저장된 응답이 있으면 replay, 다른 요청이 처리 중이면 wait, 아니면 이 요청이 처리할 owner
+     */
+    Claim claim(String key) {
+        StoredResponse stored = completed.getIfPresent(key);
+        if (stored != null) {
+            return Claim.replay(stored);
+        }
+        CompletableFuture<StoredResponse> future = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return Claim.waitFor(existing);
+        }
+        // 조회와 선점 사이에 앞선 요청이 끝났을 수 있다
+        stored = completed.getIfPresent(key);
+        if (stored != null) {
+            inFlight.remove(key, future);
+            future.complete(stored);
+            return Claim.replay(stored);
+        }
+        return Claim.owner(future);
+    }
+
+    /**
+     * owner 의 처리 완료
+     *
+     * @param response 저장할 응답, 저장하지 않을 결과(5xx, 예외 등)면 null → 기다리던 요청은 직접 다시 처리한다
+     */
+    void complete(String key, CompletableFuture<StoredResponse> future, StoredResponse response) {
+        if (response != null) {
+            completed.put(key, response);
+        }
+        inFlight.remove(key, future);
+        future.complete(response);
+    }
+
+    public long size() {
+        return completed.estimatedSize();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * claim 결과 (셋 중 하나만 값이 있다)
+     */
+    record Claim(StoredResponse stored, CompletableFuture<StoredResponse> pending, CompletableFuture<StoredResponse> owned) {
+
+        static Claim replay(StoredResponse stored) {
+            return new Claim(stored, null, null);
+        }
+
+        static Claim waitFor(CompletableFuture<StoredResponse> pending) {
+            return new Claim(null, pending, null);
+        }
+
+        static Claim owner(CompletableFuture<StoredResponse> owned) {
+            return new Claim(null, null, owned);
+        }
+    }
+}
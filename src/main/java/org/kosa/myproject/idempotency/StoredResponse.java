@@ -0,0 +1,14 @@
+package org.kosa.myproject.idempotency;
+
+/**
+ * 저장된 첫 응답 - 직렬화가 끝난 응답 본문 바이트를 그대로 보관한다
+ *
+ * @param fingerprint 요청 본문의 SHA-256 (같은 키로 다른 요청을 보냈는지 확인)
+ */
+record StoredResponse(int status, String contentType, byte[] body, byte[] fingerprint) {
+
+    /** Caffeine weigher 용 대략적인 크기 (바이트) */
+    int weight() {
+        return 64 + body.length + fingerprint.length + (contentType == null ? 0 : contentType.length());
+    }
+}
@@ -0,0 +1,92 @@
+package org.kosa.myproject.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.kosa.myproject.dto.ApiResponseDto;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+/**
+ * PreEncodedErrorResponse - 내용이 고정된 오류 응답(ApiResponseDto.error)을 미리 직렬화해 둔 것
+ *
+ * 401 / 403 / 로그인 실패 응답은 code, message 가 항상 같고 timestamp 만 달라지므로
+ * 기동 시 공유 ObjectMapper 로 한 번 직렬화한 바이트에 요청마다 timestamp 만 이어 붙여 전송한다
+ * (ApiResponseDto 생성 / 직렬화 / 문자열 인코딩 없이 바이트 복사만 수행)
+ *
+ * 출력은 ObjectMapper 로 ApiResponseDto.error(code, message) 를 직렬화한 결과와 같다
+ */
+public final class PreEncodedErrorResponse {
+
+    private static final byte[] NULL_TIMESTAMP_TAIL = "null}".getBytes(StandardCharsets.US_ASCII);
+    private static final Clock CLOCK = Clock.systemDefaultZone();
+
+    private final int status;
+    private final byte[] head;  // {"success":false, ... ,"timestamp":
+
+    private PreEncodedErrorResponse(int status, byte[] head) {
+        this.status = status;
+        this.head = head;
+    }
+
+    /**
+     * @throws IllegalStateException ObjectMapper 설정(예: null 필드 생략)으로 timestamp 가 마지막 필드가 아닌 경우
+     */
+    public static PreEncodedErrorResponse of(ObjectMapper objectMapper, int status, String code, String message) {
+        byte[] encoded;
+        try {
+            encoded = objectMapper.writeValueAsBytes(ApiResponseDto.builder()
+                    .success(false)
+                    .code(code)
+                    .message(message)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("오류 응답 직렬화 실패: " + code, e);
+        }
+        int headLength = encoded.length - NULL_TIMESTAMP_TAIL.length;
+        if (headLength < 0 || !Arrays.equals(encoded, headLength, encoded.length,
+                NULL_TIMESTAMP_TAIL, 0, NULL_TIMESTAMP_TAIL.length)) {
+            throw new IllegalStateException("timestamp 가 마지막 필드가 아닙니다: " + new String(encoded, StandardCharsets.UTF_8));
+        }
+        return new PreEncodedErrorResponse(status, Arrays.copyOf(encoded, headLength));
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * 응답 상태 / Content-Type / 본문 전송
+     */
+    public void writeTo(HttpServletResponse response) throws IOException {
+        byte[] body = encode(LocalDateTime.now(CLOCK));
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * 미리 직렬화된 앞부분 + "timestamp" + }
+     */
+    public byte[] encode(LocalDateTime timestamp) {
+        // LocalDateTimeSerializer 의 기본 형식과 동일 (ISO_LOCAL_DATE_TIME, ASCII)
+        String formatted = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp);
+        byte[] body = Arrays.copyOf(head, head.length + formatted.length() + 3);
+        int position = head.length;
+        body[position++] = '"';
+        for (int i = 0; i < formatted.length(); i++) {
+            body[position++] = (byte) formatted.charAt(i);
+        }
+        body[position++] = '"';
+        body[position] = '}';
+        return body;
+    }
+}
@@ -0,0 +1,48 @@
+package org.kosa.myproject.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 로그 샘플링 TurboFilter 등록
+ *
+ * logback 설정 파일이 아니라 여기서 LoggerContext 에 직접 추가한다 (관리자 API 가 같은 인스턴스의 정책을 바꿀 수 있도록).
+ * 항상 등록하고 켜고 끄는 것은 정책(app.log-sampling.enabled / PUT /admin/log-sampling)으로 한다
+ *
+ * 메트릭
+ * - app.logging.sampled.dropped : 샘플링으로 버린 로그 수
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(LogSamplingProperties.class)
+public class LogSamplingConfig {
+
+    @Bean(destroyMethod = "stop")
+    public SamplingTurboFilter samplingTurboFilter(LogSamplingProperties properties) {
+        SamplingTurboFilter filter = new SamplingTurboFilter(properties);
+        if (LoggerFactory.getILoggerFactory() instanceof LoggerContext context) {
+            filter.setContext(context);
+            filter.start();
+            // 같은 JVM 에서 컨텍스트가 다시 만들어져도(테스트 등) 샘플링이 중복 적용되지 않도록 이전 필터를 교체
+            context.getTurboFilterList().removeIf(existing -> existing instanceof SamplingTurboFilter);
+            context.addTurboFilter(filter);
+        } else {
+            log.warn("logback 이 아니므로 로그 샘플링을 적용하지 않습니다: {}", LoggerFactory.getILoggerFactory());
+        }
+        return filter;
+    }
+
+    @Bean
+    public MeterBinder logSamplingMetrics(SamplingTurboFilter filter) {
+        return registry -> FunctionCounter.builder("app.logging.sampled.dropped", filter,
+                        SamplingTurboFilter::getDroppedCount)
+                .description("샘플링으로 버린 INFO 이하 로그")
+                .register(registry);
+    }
+}
@@ -0,0 +1,28 @@
+package org.kosa.myproject.logging;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * INFO 이하 로그 샘플링 설정 (app.log-sampling)
+ * 초기값이며, 실행 중에는 PUT /admin/log-sampling 으로 변경한다
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.log-sampling")
+public class LogSamplingProperties {
+
+    private boolean enabled = false;
+
+    private List<String> packages = new ArrayList<>(List.of("org.kosa.myproject"));  // 샘플링 대상 logger (그 외는 그대로 출력)
+
+    private double defaultRate = 1.0;          // 대상 logger 의 INFO 이하 로그를 남기는 비율 (0.0 ~ 1.0)
+
+    private Map<String, Double> rates = new LinkedHashMap<>();  // logger 이름(prefix)별 비율 - 가장 긴 prefix 우선
+}
@@ -0,0 +1,148 @@
+package org.kosa.myproject.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.slf4j.Marker;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SamplingTurboFilter - 요청마다 찍히는 INFO 로그를 비율로 샘플링하는 logback TurboFilter
+ *
+ * TurboFilter 는 메시지 포맷 / 이벤트 생성 / appender 전달보다 먼저 호출되므로
+ * 버리는 로그는 인자 문자열화와 JSON 인코딩 비용이 전혀 들지 않는다
+ *
+ * - WARN / ERROR 와 예외가 붙은 로그는 항상 남긴다
+ * - 레벨 설정으로 이미 꺼진 로그는 판단하지 않는다 (logback 의 레벨 검사에 맡김)
+ * - 대상 패키지 밖의 logger(프레임워크 등)는 샘플링하지 않는다
+ *
+ * 모든 로그 호출 경로에서 실행되므로 정책은 불변 객체 하나로 교체하고(volatile),
+ * logger 이름별 비율은 정책 안에 캐시한다 (logger 수만큼만 계산)
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private volatile Policy policy;
+    private final LongAdder dropped = new LongAdder();
+
+    public SamplingTurboFilter(LogSamplingProperties properties) {
+        this.policy = new Policy(properties.isEnabled(), List.copyOf(properties.getPackages()),
+                properties.getDefaultRate(), Map.copyOf(properties.getRates()));
+        policy.validate();
+        setName("log-sampling");
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        Policy current = policy;
+        if (!current.isEnabled() || logger == null || level == null
+                || level.levelInt >= Level.WARN_INT || t != null) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        double rate = current.rateFor(logger.getName());
+        if (rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate)) {
+            return FilterReply.NEUTRAL;
+        }
+        dropped.increment();
+        return FilterReply.DENY;
+    }
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * 실행 중 정책 변경 (null 인 항목은 기존 값 유지)
+     *
+     * @throws IllegalArgumentException 비율이 0.0 ~ 1.0 범위를 벗어난 경우
+     */
+    public Policy update(Boolean enabled, Double defaultRate, Map<String, Double> rates) {
+        Policy current = policy;
+        Policy next = new Policy(
+                enabled != null ? enabled : current.isEnabled(),
+                current.getPackages(),
+                defaultRate != null ? defaultRate : current.getDefaultRate(),
+                rates != null ? Map.copyOf(rates) : current.getRates());
+        next.validate();
+        policy = next;
+        return next;
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * 애플리케이션 종료 시 LoggerContext 에서도 제거
+     */
+    @Override
+    public void stop() {
+        if (getContext() instanceof LoggerContext context) {
+            context.getTurboFilterList().remove(this);
+        }
+        super.stop();
+    }
+
+    /**
+     * 샘플링 정책 (불변, logger 이름별 비율 캐시만 내부에서 채워진다)
+     */
+    @Getter
+    public static final class Policy {
+
+        private final boolean enabled;
+        private final List<String> packages;
+        private final double defaultRate;
+        private final Map<String, Double> rates;
+
+        @Getter(AccessLevel.NONE)
+        private final Map<String, Double> resolved = new ConcurrentHashMap<>();
+
+        Policy(boolean enabled, List<String> packages, double defaultRate, Map<String, Double> rates) {
+            this.enabled = enabled;
+            this.packages = packages;
+            this.defaultRate = defaultRate;
+            this.rates = rates;
+        }
+
+        double rateFor(String loggerName) {
+            Double rate = resolved.get(loggerName);
+            return rate != null ? rate : resolved.computeIfAbsent(loggerName, this::resolve);
+        }
+
+        private double resolve(String loggerName) {
+            return rates.entrySet().stream()
+                    .filter(entry -> matches(loggerName, entry.getKey()))
+                    .max(Comparator.comparingInt(entry -> entry.getKey().length()))
+                    .map(Map.Entry::getValue)
+                    .orElseGet(() -> packages.stream().anyMatch(p -> matches(loggerName, p)) ? defaultRate : 1.0);
+        }
+
+        private static boolean matches(String loggerName, String prefix) {
+            return loggerName.equals(prefix)
+                    || (loggerName.startsWith(prefix) && loggerName.charAt(prefix.length()) == '.');
+        }
+
+        private void validate() {
+            checkRate("defaultRate", defaultRate);
+            rates.forEach(SamplingTurboFilter::checkRate);
+        }
+    }
+
+    private static void checkRate(String name, Double rate) {
+        if (rate == null || rate.isNaN() || rate < 0.0 || rate > 1.0) {
+            throw new IllegalArgumentException("샘플링 비율은 0.0 ~ 1.0 사이여야 합니다: " + name + "=" + rate);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.kosa.myproject.markdown;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 게시글 본문 재렌더링 설정 (PostRenderJob)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.markdown")
+public class MarkdownProperties {
+
+    private boolean renderOnStartup = true;   // 기동 후 이전 렌더러 버전의 게시글을 백그라운드에서 다시 렌더링
+
+    private int renderChunkSize = 200;        // 한 번에 읽어 렌더링 / UPDATE batch 하나로 저장하는 게시글 수
+
+    private int renderParallelism = 0;        // 동시에 렌더링하는 chunk 수 (0 이면 CPU 코어 수)
+}
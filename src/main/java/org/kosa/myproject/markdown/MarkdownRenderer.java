@@ -0,0 +1,68 @@
+package org.kosa.myproject.markdown;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.owasp.html.HtmlPolicyBuilder;
+import org.owasp.html.PolicyFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * MarkdownRenderer - 게시글 본문(Markdown)을 안전한 HTML 로 변환
+ *
+ * 조회할 때마다 렌더링하지 않고 작성 / 수정 시 한 번만 렌더링하여 posts.content_html 에 저장한다
+ * 1) commonmark 로 파싱 + 렌더링 (GFM 표 / 취소선, 본문 안의 raw HTML 은 태그로 해석하지 않고 escape)
+ * 2) OWASP HTML Sanitizer 허용 목록으로 한 번 더 정제 (렌더러 버그나 javascript: 링크 등이 응답에 섞이지 않도록)
+ *
+ * 렌더링 결과가 달라지는 변경(확장 추가, 허용 태그 변경, 라이브러리 업그레이드 등)을 하면 VERSION 을 올린다
+ * → 기동 시 PostRenderJob 이 이전 버전으로 저장된 게시글을 다시 렌더링
+ *
+ * Parser / HtmlRenderer / PolicyFactory 는 불변이며 여러 스레드에서 동시에 사용할 수 있다
+ */
+@Component
+public class MarkdownRenderer {
+
+    public static final int VERSION = 1;
+
+    private static final List<Extension> EXTENSIONS =
+            List.of(TablesExtension.create(), StrikethroughExtension.create());
+
+    private static final PolicyFactory POLICY = new HtmlPolicyBuilder()
+            .allowElements("p", "br", "hr", "h1", "h2", "h3", "h4", "h5", "h6",
+                    "strong", "em", "del", "code", "pre", "blockquote",
+                    "ul", "ol", "li", "a", "img",
+                    "table", "thead", "tbody", "tr", "th", "td")
+            .allowUrlProtocols("http", "https", "mailto")
+            .allowAttributes("href").onElements("a")
+            .allowAttributes("src", "alt", "title").onElements("img")
+            .allowAttributes("title").onElements("a")
+            .allowAttributes("start").matching(Pattern.compile("[0-9]{1,6}")).onElements("ol")
+            .allowAttributes("class").matching(Pattern.compile("language-[A-Za-z0-9_+-]{1,32}")).onElements("code")
+            .allowAttributes("align").matching(true, "left", "center", "right").onElements("th", "td")
+            .requireRelsOnLinks("nofollow", "noopener", "noreferrer")
+            .toFactory();
+
+    private final Parser parser = Parser.builder().extensions(EXTENSIONS).build();
+
+    private final HtmlRenderer renderer = HtmlRenderer.builder()
+            .extensions(EXTENSIONS)
+            .escapeHtml(true)      // 본문에 직접 쓴 HTML 은 텍스트로 표시
+            .sanitizeUrls(true)    // javascript: 등 허용되지 않은 링크 제거
+            .build();
+
+    /**
+     * @param markdown 게시글 본문 (null 이면 빈 문자열)
+     * @return 정제된 HTML
+     */
+    public String render(String markdown) {
+        if (markdown == null || markdown.isEmpty()) {
+            return "";
+        }
+        return POLICY.sanitize(renderer.render(parser.parse(markdown)));
+    }
+}
@@ -0,0 +1,184 @@
+package org.kosa.myproject.markdown;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.entity.Post;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PostRenderJob - MarkdownRenderer.VERSION 보다 오래된 버전으로 렌더링된 게시글을 다시 렌더링
+ *
+ * 렌더러가 바뀐 뒤 기동되면(또는 POST /admin/posts/render) 다음 순서로 처리한다
+ * 1) reader(호출 스레드)가 render_version 이 낮은 게시글을 id 순 keyset 으로 chunk 단위 조회
+ * 2) chunk 마다 worker 스레드에서 렌더링(CPU 작업) 후 트랜잭션 하나 + JDBC batch UPDATE 한 번으로 저장
+ * 3) 동시에 처리 중인 chunk 는 render-parallelism 개로 제한 (읽어 둔 본문이 메모리에 쌓이지 않도록)
+ *
+ * UPDATE 는 "render_version < 현재 버전" 조건을 함께 걸어, 조회 이후 사용자가 수정하여 이미 새 버전으로
+ * 렌더링된 게시글을 예전 본문으로 덮어쓰지 않는다 (skipped 로 집계)
+ * JPA 를 거치지 않으므로 저장한 게시글은 2차 캐시(post 영역)에서 직접 제거한다
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(MarkdownProperties.class)
+public class PostRenderJob {
+
+    private static final String SELECT_SQL =
+            "SELECT id, content FROM posts WHERE render_version < ? AND id > ? ORDER BY id LIMIT ?";
+
+    private static final String UPDATE_SQL =
+            "UPDATE posts SET content_html = ?, render_version = ? WHERE id = ? AND render_version < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MarkdownRenderer markdownRenderer;
+    private final MarkdownProperties properties;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public PostRenderJob(JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         EntityManagerFactory entityManagerFactory,
+                         MarkdownRenderer markdownRenderer,
+                         MarkdownProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.markdownRenderer = markdownRenderer;
+        this.properties = properties;
+    }
+
+    /**
+     * 기동 완료 후 백그라운드에서 실행 (readiness / 요청 처리를 기다리게 하지 않음)
+     */
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        if (!properties.isRenderOnStartup()) {
+            return;
+        }
+        Thread.ofPlatform().name("post-render-job").daemon().start(() -> {
+            try {
+                run();
+            } catch (IllegalStateException e) {
+                log.info("게시글 재렌더링 건너뜀: {}", e.getMessage());
+            } catch (RuntimeException e) {
+                log.error("게시글 재렌더링 실패", e);
+            }
+        });
+    }
+
+    /**
+     * 재렌더링 실행 (끝날 때까지 대기)
+     *
+     * @return 처리 결과
+     * @throws IllegalStateException 이미 실행 중인 경우
+     */
+    public Result run() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("게시글 재렌더링이 이미 실행 중입니다.");
+        }
+        long started = System.nanoTime();
+        int parallelism = properties.getRenderParallelism() > 0
+                ? properties.getRenderParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        Counts counts = new Counts();
+
+        try (ExecutorService workers = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("post-render-", 0).daemon().factory())) {
+            Semaphore inFlight = new Semaphore(parallelism);
+            long lastId = 0;
+            List<Row> chunk;
+            while (!(chunk = readChunk(lastId)).isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).id();
+                counts.scanned.add(chunk.size());
+                inFlight.acquireUninterruptibly();
+                List<Row> rows = chunk;
+                workers.execute(() -> {
+                    try {
+                        renderChunk(rows, counts);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            running.set(false);
+        }
+
+        Result result = new Result(counts.scanned.sum(), counts.rendered.sum(), counts.skipped.sum(),
+                counts.failed.sum(), (System.nanoTime() - started) / 1_000_000);
+        if (result.scanned() > 0) {
+            log.info("게시글 재렌더링 완료: version={}, {}", MarkdownRenderer.VERSION, result);
+        }
+        return result;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private List<Row> readChunk(long afterId) {
+        return jdbcTemplate.query(SELECT_SQL,
+                (rs, rowNum) -> new Row(rs.getLong("id"), rs.getString("content")),
+                MarkdownRenderer.VERSION, afterId, properties.getRenderChunkSize());
+    }
+
+    private void renderChunk(List<Row> rows, Counts counts) {
+        try {
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                updates.add(new Object[]{markdownRenderer.render(row.content()), MarkdownRenderer.VERSION,
+                        row.id(), MarkdownRenderer.VERSION});
+            }
+            int[] updated = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, updates));
+
+            var cache = entityManagerFactory.getCache();
+            for (int i = 0; i < rows.size(); i++) {
+                // 드라이버가 batch 결과를 행별로 알려주지 않는 경우(SUCCESS_NO_INFO = -2)는 갱신된 것으로 본다
+                if (updated[i] == 0) {
+                    counts.skipped.increment();
+                } else {
+                    counts.rendered.increment();
+                    cache.evict(Post.class, rows.get(i).id());
+                }
+            }
+        } catch (RuntimeException e) {
+            counts.failed.add(rows.size());
+            log.error("게시글 재렌더링 chunk 실패: id {} ~ {}", rows.get(0).id(), rows.get(rows.size() - 1).id(), e);
+        }
+    }
+
+    /**
+     * 재렌더링 결과
+     *
+     * @param scanned  이전 버전으로 조회된 게시글 수
+     * @param rendered 다시 렌더링해 저장한 수
+     * @param skipped  그 사이 사용자가 수정해 이미 새 버전인 수
+     * @param failed   저장 실패한 수
+     */
+    public record Result(long scanned, long rendered, long skipped, long failed, long elapsedMs) {
+    }
+
+    private record Row(long id, String content) {
+    }
+
+    private static final class Counts {
+        private final LongAdder scanned = new LongAdder();
+        private final LongAdder rendered = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+    }
+}
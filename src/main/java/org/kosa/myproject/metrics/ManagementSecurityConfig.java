@@ -0,0 +1,106 @@
+package org.kosa.myproject.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Actuator(/actuator/**) 전용 Security 설정
+ *
+ * 공개 API 의 JWT 인증과 분리:
+ * - 운영에서는 management.server.port 로 별도 포트에서만 열림 (외부 LB 에는 API 포트만 연결)
+ * - 허용된 주소(app.metrics.scrape.allowed-addresses)에서 온 요청 + HTTP Basic(ROLE_METRICS) 모두 만족해야 접근 가능
+ * - 수집 계정은 이 체인 안에서만 사용 (회원 로그인에는 사용할 수 없음)
+ * - X-Forwarded-For 가 붙은 요청은 거부 (server.forward-headers-strategy=native 의 RemoteIpValve 는 관리 포트에도 적용되어
+ *   VPC 안의 호스트가 헤더로 허용 주소를 흉내낼 수 있음 - 수집기는 프록시 없이 직접 접속하므로 헤더가 없을 때의 실제 접속 주소로만 판정)
+ *
+ * SecurityConfig 의 체인보다 먼저 검사되도록 @Order(1)
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(MetricsScrapeProperties.class)
+public class ManagementSecurityConfig {
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain managementSecurityFilterChain(HttpSecurity http,
+                                                             MetricsScrapeProperties properties,
+                                                             ServerProperties serverProperties,
+                                                             PasswordEncoder passwordEncoder) throws Exception {
+        http.securityMatcher(EndpointRequest.toAnyEndpoint());
+        http.csrf(auth -> auth.disable());
+        http.formLogin(auth -> auth.disable());
+        http.httpBasic(Customizer.withDefaults());
+        http.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+        http.authenticationManager(scrapeAuthenticationManager(properties, passwordEncoder));
+
+        http.authorizeHttpRequests(auth -> auth
+                .anyRequest().access(AuthorizationManagers.allOf(
+                        fromAllowedAddress(properties.getAllowedAddresses(), remoteIpHeader(serverProperties)),
+                        AuthorityAuthorizationManager.hasRole("METRICS"))));
+        return http.build();
+    }
+
+    private ProviderManager scrapeAuthenticationManager(MetricsScrapeProperties properties,
+                                                        PasswordEncoder passwordEncoder) {
+        List<UserDetails> users = new ArrayList<>();
+        if (properties.getPassword() == null || properties.getPassword().isBlank()) {
+            log.warn("app.metrics.scrape.password 가 설정되지 않아 Actuator 접근을 모두 거부합니다.");
+        } else {
+            users.add(User.withUsername(properties.getUsername())
+                    .password(passwordEncoder.encode(properties.getPassword()))
+                    .roles("METRICS")
+                    .build());
+        }
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(passwordEncoder);
+        provider.setUserDetailsService(new InMemoryUserDetailsManager(users));
+        return new ProviderManager(provider);
+    }
+
+    /**
+     * 설정하지 않으면 RemoteIpValve 기본값(X-Forwarded-For)을 사용
+     */
+    private String remoteIpHeader(ServerProperties serverProperties) {
+        String header = serverProperties.getTomcat().getRemoteip().getRemoteIpHeader();
+        return header != null ? header : "X-Forwarded-For";
+    }
+
+    /**
+     * @param remoteIpHeader RemoteIpValve 가 getRemoteAddr 를 바꿀 때 읽는 헤더 (server.tomcat.remoteip.remote-ip-header)
+     */
+    private AuthorizationManager<RequestAuthorizationContext> fromAllowedAddress(List<String> allowedAddresses,
+                                                                                 String remoteIpHeader) {
+        List<IpAddressMatcher> matchers = allowedAddresses.stream().map(IpAddressMatcher::new).toList();
+        return (authentication, context) -> {
+            HttpServletRequest request = context.getRequest();
+            if (request.getHeader(remoteIpHeader) != null) {
+                return new AuthorizationDecision(false);
+            }
+            return new AuthorizationDecision(matchers.stream().anyMatch(matcher -> matcher.matches(request)));
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package org.kosa.myproject.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prometheus 수집(scrape) 계정 / 허용 주소 설정 (app.metrics.scrape)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.metrics.scrape")
+public class MetricsScrapeProperties {
+
+    private String username = "prometheus";   // HTTP Basic 사용자명
+
+    private String password;                  // 비어 있으면 모든 수집 요청 거부
+
+    // 접근을 허용할 주소 (CIDR 가능, 예: 10.0.0.0/8)
+    private List<String> allowedAddresses = new ArrayList<>(List.of("127.0.0.1", "::1"));
+}
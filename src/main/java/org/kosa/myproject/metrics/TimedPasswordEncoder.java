@@ -0,0 +1,53 @@
+package org.kosa.myproject.metrics;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * TimedPasswordEncoder - 암호화 / 비교 시간을 측정하는 PasswordEncoder 래퍼
+ *
+ * BCrypt 는 의도적으로 느린 연산이라 로그인 / 회원가입 지연의 대부분을 차지한다
+ * - auth.password.encode : 회원가입, 일괄 등록, 비밀번호 변경
+ * - auth.password.match  : 로그인 (result=match / mismatch)
+ * Observation 으로 기록하므로 타이머와 함께 추적 span 으로도 남는다
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ObservationRegistry observationRegistry;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, ObservationRegistry observationRegistry) {
+        this.delegate = delegate;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return Observation.createNotStarted("auth.password.encode", observationRegistry)
+                .contextualName("password encode")
+                .observe(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Observation observation = Observation.createNotStarted("auth.password.match", observationRegistry)
+                .contextualName("password match")
+                .start();
+        try {
+            boolean matched = delegate.matches(rawPassword, encodedPassword);
+            observation.lowCardinalityKeyValue("result", matched ? "match" : "mismatch");
+            return matched;
+        } catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,40 @@
+package org.kosa.myproject.nativeimage;
+
+import org.kosa.myproject.dto.ApiResponseDto;
+import org.kosa.myproject.dto.CacheRegionStatsDto;
+import org.kosa.myproject.dto.LoginRequestDto;
+import org.kosa.myproject.dto.MemberBulkResultDto;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.dto.MemberResponseDto;
+import org.kosa.myproject.dto.PostCreateRequestDto;
+import org.kosa.myproject.dto.PostDetailResponseDto;
+import org.kosa.myproject.dto.PostListResponseDto;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * GraalVM native image 설정 (./gradlew nativeCompile)
+ *
+ * DTO 는 컨트롤러 반환 타입뿐 아니라 필터(JsonLoginFilter, 예외 핸들러), SSE 브로드캐스터,
+ * 일괄 등록 스트리밍에서 ObjectMapper 로 직접 (역)직렬화하므로 Lombok 이 만든 getter / 생성자를 모두 등록한다
+ *
+ * 주의 : native image 는 빌드(processAot) 시점에 빈 구성이 확정된다
+ * 프로필 / @ConditionalOnProperty 로 갈리는 빈(virtual 프로필, app.tracing.file-export-enabled 등)은
+ * 실행 인자가 아니라 빌드 인자(-PaotProfiles=virtual)로 지정해야 한다
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeRuntimeHints.class)
+@RegisterReflectionForBinding({
+        ApiResponseDto.class,
+        LoginRequestDto.class,
+        MemberCreateRequestDto.class,
+        MemberResponseDto.class,
+        MemberBulkResultDto.class,
+        PostCreateRequestDto.class,
+        PostListResponseDto.class,
+        PostDetailResponseDto.class,
+        CacheRegionStatsDto.class
+})
+public class NativeImageConfig {
+}
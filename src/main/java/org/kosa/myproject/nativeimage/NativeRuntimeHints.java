@@ -0,0 +1,81 @@
+package org.kosa.myproject.nativeimage;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * GraalVM native image 용 런타임 힌트
+ *
+ * Spring AOT 와 GraalVM reachability metadata 저장소(Hibernate, Ehcache, Caffeine, JAXB, Flyway, HikariCP)가
+ * 다루지 않는 부분만 등록한다
+ * - jjwt 0.12 : jjwt-api 가 구현 클래스(jjwt-impl)를 이름으로 로딩 (저장소 metadata 는 0.11 기준)
+ * - datasource-proxy : JDBC 객체를 JDK 동적 프록시로 감쌈 (TracingConfig 의 query span)
+ * - Ehcache 설정 파일 / Hibernate 가 설정값(클래스 이름)으로 생성하는 클래스
+ * - OWASP HTML Sanitizer : JDK 버전별 컬렉션 구현(shim)을 이름으로 로딩 (MarkdownRenderer)
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    // jjwt-api 의 Jwts / Jwks / Keys 가 Classes.newInstance / invokeStatic 으로 로딩하는 구현 클래스
+    static final List<String> JJWT_IMPL_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+            "io.jsonwebtoken.impl.security.JwksBridge",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            // ServiceLoader 로 찾는 JSON 직렬화 구현 (jjwt-jackson)
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    // datasource-proxy 의 JdkJdbcProxyFactory 가 만드는 프록시 (인터페이스 순서까지 일치해야 함)
+    static final List<String> JDBC_PROXY_TYPES = List.of(
+            "javax.sql.DataSource",
+            "java.sql.Connection",
+            "java.sql.Statement",
+            "java.sql.PreparedStatement",
+            "java.sql.CallableStatement",
+            "java.sql.ResultSet");
+
+    // owasp java8-shim 의 Java8Shim 이 Class.forName 후 생성자로 만드는 구현
+    static final String HTML_SANITIZER_SHIM = "org.owasp.shim.ForJava9AndLater";
+
+    private static final String PROXY_JDBC_OBJECT = "net.ttddyy.dsproxy.proxy.ProxyJdbcObject";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        JJWT_IMPL_TYPES.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS));
+
+        JDBC_PROXY_TYPES.forEach(type -> hints.proxies().registerJdkProxy(
+                TypeReference.of(PROXY_JDBC_OBJECT), TypeReference.of(type)));
+
+        hints.reflection().registerType(TypeReference.of(HTML_SANITIZER_SHIM),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+        // hibernate.javax.cache.uri=ehcache.xml
+        hints.resources().registerPattern("ehcache.xml");
+        // hibernate.javax.cache.provider / spring.jpa.hibernate.naming.physical-strategy
+        hints.reflection().registerType(TypeReference.of("org.ehcache.jsr107.EhcacheCachingProvider"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(
+                TypeReference.of("org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+}
@@ -0,0 +1,25 @@
+package org.kosa.myproject.querycount;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드(엔드포인트)별 요청당 허용 SQL 문 수
+ *
+ * 사용 예:
+ *   @QueryBudget(1)   // fetch join 으로 한 번에 조회
+ *   @GetMapping
+ *   public ResponseEntity<?> getAllPosts() { ... }
+ *
+ * 선언되지 않은 요청은 app.query-budget.default-budget 을 적용한다 (캐시 미적중 기준)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    int value();
+}
@@ -0,0 +1,63 @@
+package org.kosa.myproject.querycount;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * QueryBudgetFilter - 요청 단위 쿼리 예산 감시 (운영 모드)
+ *
+ * Spring Security 필터보다 먼저 실행되어 로그인(JsonLoginFilter) 쿼리까지 집계한다
+ * 1. 요청 시작 시 QueryCounter 초기화
+ * 2. 응답 완료 후 @QueryBudget(없으면 기본 예산)과 비교해 초과 시 WARN 로그 + 건수 집계
+ * 3. 같은 SQL 이 반복 실행되었으면 N+1 의심으로 기록
+ */
+@RequiredArgsConstructor
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final QueryBudgetProperties properties;
+    private final QueryBudgetMonitor monitor;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            inspect(request);
+        }
+    }
+
+    private void inspect(HttpServletRequest request) {
+        long queries = QueryCounter.current();
+        if (queries == 0) {
+            return;
+        }
+        String endpoint = endpoint(request);
+
+        Object annotated = request.getAttribute(QueryBudgetInterceptor.BUDGET_ATTRIBUTE);
+        int budget = annotated instanceof Integer value ? value : properties.getDefaultBudget();
+        if (queries > budget) {
+            monitor.recordOverBudget(endpoint, queries, budget);
+        }
+
+        QueryCounter.statements().forEach((sql, repeats) -> {
+            if (repeats >= properties.getNPlusOneThreshold()) {
+                monitor.recordNPlusOne(endpoint, sql, repeats);
+            }
+        });
+    }
+
+    private String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+}
@@ -0,0 +1,26 @@
+package org.kosa.myproject.querycount;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 요청을 처리할 컨트롤러 메서드의 @QueryBudget 값을 요청 속성에 저장
+ * 실제 예산 비교는 QueryBudgetFilter 가 응답 완료 후 수행한다
+ */
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    static final String BUDGET_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".budget";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            if (budget != null) {
+                request.setAttribute(BUDGET_ATTRIBUTE, budget.value());
+            }
+        }
+        return true;
+    }
+}
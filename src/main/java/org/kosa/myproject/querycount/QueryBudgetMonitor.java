@@ -0,0 +1,43 @@
+package org.kosa.myproject.querycount;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * QueryBudgetMonitor - 엔드포인트별 쿼리 예산 초과 / N+1 의심 건수 집계
+ * 관리자 API(/admin/query-budget)에서 조회한다
+ */
+@Slf4j
+public class QueryBudgetMonitor {
+
+    private final ConcurrentHashMap<String, LongAdder> overBudget = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> nPlusOneSuspects = new ConcurrentHashMap<>();
+
+    void recordOverBudget(String endpoint, long queries, int budget) {
+        overBudget.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        log.warn("쿼리 예산 초과: {} - {} 건 실행 (예산 {} 건)", endpoint, queries, budget);
+    }
+
+    void recordNPlusOne(String endpoint, String sql, int repeats) {
+        nPlusOneSuspects.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        log.warn("N+1 의심: {} - 같은 SQL {} 회 반복: {}", endpoint, repeats, sql);
+    }
+
+    public Map<String, Long> getOverBudgetCounts() {
+        return snapshot(overBudget);
+    }
+
+    public Map<String, Long> getNPlusOneCounts() {
+        return snapshot(nPlusOneSuspects);
+    }
+
+    private Map<String, Long> snapshot(ConcurrentHashMap<String, LongAdder> counts) {
+        Map<String, Long> result = new TreeMap<>();
+        counts.forEach((endpoint, count) -> result.put(endpoint, count.sum()));
+        return result;
+    }
+}
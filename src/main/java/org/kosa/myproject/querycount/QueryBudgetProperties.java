@@ -0,0 +1,20 @@
+package org.kosa.myproject.querycount;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요청당 쿼리 예산 감시 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.query-budget")
+public class QueryBudgetProperties {
+
+    private boolean enabled = true;       // 요청 단위 감시 사용 여부
+
+    private int defaultBudget = 5;        // @QueryBudget 이 없는 요청(로그인 필터 등)의 예산
+
+    private int nPlusOneThreshold = 3;    // 같은 SQL 이 이 횟수 이상 반복되면 N+1 의심으로 기록
+}
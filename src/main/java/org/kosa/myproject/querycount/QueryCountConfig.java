@@ -0,0 +1,47 @@
+package org.kosa.myproject.querycount;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 쿼리 수 집계 / 요청당 쿼리 예산 감시 설정
+ *
+ * - QueryCountListener  : DataSourceConfig 가 DataSource 프록시에 등록 (항상 사용, 비용은 카운터 증가뿐)
+ * - QueryBudgetFilter   : app.query-budget.enabled=true 일 때 요청 단위 감시
+ */
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class QueryCountConfig implements WebMvcConfigurer {
+
+    @Bean
+    public QueryCountListener queryCountListener() {
+        return new QueryCountListener();
+    }
+
+    @Bean
+    public QueryBudgetMonitor queryBudgetMonitor() {
+        return new QueryBudgetMonitor();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.query-budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(QueryBudgetProperties properties,
+                                                                       QueryBudgetMonitor monitor) {
+        FilterRegistrationBean<QueryBudgetFilter> registration =
+                new FilterRegistrationBean<>(new QueryBudgetFilter(properties, monitor));
+        // Spring Security 필터 체인(-100)보다 먼저 실행
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryBudgetInterceptor());
+    }
+}
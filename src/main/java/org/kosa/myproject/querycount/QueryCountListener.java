@@ -0,0 +1,28 @@
+package org.kosa.myproject.querycount;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * DataSource 프록시(datasource-proxy)를 지나는 모든 SQL 문을 QueryCounter 에 집계하는 리스너
+ * - JPA(Hibernate) 뿐 아니라 JdbcTemplate 으로 실행한 문장도 같은 기준으로 집계된다
+ * - 실행 직전(beforeQuery)에 집계하므로 제약 조건 위반 등으로 실패한 문장도 포함된다
+ * - PreparedStatement batch 는 executeBatch 한 번을 1 로 센다 (DB 왕복 기준)
+ * - 2차 캐시에서 처리된 조회는 SQL 이 실행되지 않으므로 집계되지 않는다
+ */
+public class QueryCountListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            QueryCounter.increment(queryInfo.getQuery());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+}
@@ -0,0 +1,66 @@
+package org.kosa.myproject.querycount;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * QueryCounter - 현재 스레드(요청)에서 실행된 SQL 문 수 집계
+ *
+ * QueryCountListener 가 DataSource 프록시를 지나는 SQL 문(JPA, JdbcTemplate)마다 increment() 를 호출한다.
+ * - 테스트: 서비스 호출 전후로 reset()/current() 를 이용해 정확한 쿼리 수 검증
+ * - 운영: QueryBudgetFilter 가 요청 단위로 reset() 후 예산 초과 여부 확인
+ * 요청마다 시작 시 reset() 하므로 스레드에 남는 집계는 직전 요청 하나 분량으로 제한된다
+ * (요청이 끝난 뒤 지우지 않는 것은 같은 스레드에서 MockMvc 요청 후 집계를 읽는 테스트를 위해서)
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Counter> COUNTER = ThreadLocal.withInitial(Counter::new);
+    private static final LongAdder TOTAL = new LongAdder();
+
+    private QueryCounter() {
+    }
+
+    static void increment(String sql) {
+        Counter counter = COUNTER.get();
+        counter.count++;
+        counter.statements.merge(sql, 1, Integer::sum);
+        TOTAL.increment();
+    }
+
+    /**
+     * 현재 스레드 집계 초기화
+     */
+    public static void reset() {
+        Counter counter = COUNTER.get();
+        counter.count = 0;
+        counter.statements.clear();
+    }
+
+    /**
+     * reset() 이후 현재 스레드에서 실행된 SQL 문 수
+     */
+    public static long current() {
+        return COUNTER.get().count;
+    }
+
+    /**
+     * reset() 이후 실행된 SQL 별 실행 횟수 (N+1 탐지용)
+     */
+    public static Map<String, Integer> statements() {
+        return Collections.unmodifiableMap(COUNTER.get().statements);
+    }
+
+    /**
+     * 애플리케이션 기동 이후 전체 SQL 문 수
+     */
+    public static long total() {
+        return TOTAL.sum();
+    }
+
+    private static final class Counter {
+        private long count;
+        private final Map<String, Integer> statements = new HashMap<>();
+    }
+}
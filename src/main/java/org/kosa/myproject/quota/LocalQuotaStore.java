@@ -0,0 +1,97 @@
+package org.kosa.myproject.quota;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * LocalQuotaStore - 인스턴스 메모리 한도 저장소 (GCRA)
+ *
+ * GCRA(Generic Cell Rate Algorithm) 는 토큰 버킷과 같은 결과를 내면서 상태가 "다음 요청 허용 시각(TAT)" 하나뿐이다
+ * - 간격 T = period / capacity, 허용 버스트 tau = period
+ * - 요청 시 newTat = max(TAT, now) + T, newTat - now > tau 이면 거절
+ * 키마다 AtomicLong 하나를 CAS 로 갱신하므로 lock 이 없고, 키는 분할(shard)된 ConcurrentHashMap 에 나눠 담는다
+ *
+ * TAT 가 현재 시각보다 과거인 항목은 한도가 모두 회복된 상태(항목이 없는 것과 같음)이므로
+ * 주기적으로(app.quota.eviction-interval-ms) 한 조각씩 순회하며 제거한다
+ */
+@Slf4j
+public class LocalQuotaStore implements QuotaStore {
+
+    private final ConcurrentHashMap<String, AtomicLong>[] shards;
+    private final LongSupplier nanoClock;
+    private int nextShard;
+
+    public LocalQuotaStore(int shards) {
+        this(shards, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    LocalQuotaStore(int shards, LongSupplier nanoClock) {
+        this.shards = new ConcurrentHashMap[Math.max(1, shards)];
+        for (int i = 0; i < this.shards.length; i++) {
+            this.shards[i] = new ConcurrentHashMap<>();
+        }
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public QuotaDecision tryAcquire(String key, QuotaProperties.Limit limit) {
+        long capacity = Math.max(1, limit.getCapacity());
+        long tau = limit.getPeriod().toNanos();
+        long interval = Math.max(1, tau / capacity);
+
+        AtomicLong tat = shard(key).computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = tat.get();
+            long start = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long next = start + interval;
+            long backlog = next - now;
+            if (backlog > tau) {
+                long waitNanos = backlog - tau;
+                return new QuotaDecision(false, capacity, 0, seconds(start - now), seconds(waitNanos));
+            }
+            if (tat.compareAndSet(current, next)) {
+                return new QuotaDecision(true, capacity, (tau - backlog) / interval, seconds(backlog), 0);
+            }
+        }
+    }
+
+    /**
+     * 한도가 모두 회복된 항목 정리 (호출마다 한 조각)
+     */
+    @Scheduled(fixedDelayString = "${app.quota.eviction-interval-ms:10000}")
+    public void evictIdle() {
+        int index = nextShard;
+        nextShard = (index + 1) % shards.length;
+        long now = nanoClock.getAsLong();
+        // 제거와 동시에 진행 중인 요청은 떨어져 나간 항목을 갱신할 수 있지만
+        // 그 시점에 한도가 가득 찬 상태였으므로 많아야 1건이 더 허용될 뿐이다
+        shards[index].values().removeIf(tat -> tat.get() - now < 0);
+    }
+
+    int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, AtomicLong> shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    int shardCount() {
+        return shards.length;
+    }
+
+    private ConcurrentHashMap<String, AtomicLong> shard(String key) {
+        return shards[Math.floorMod(key.hashCode(), shards.length)];
+    }
+
+    private static long seconds(long nanos) {
+        return nanos <= 0 ? 0 : (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,26 @@
+package org.kosa.myproject.quota;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 회원별 API 호출 한도 구성
+ *
+ * QuotaFilter 는 JwtFilter 와 같이 SecurityConfig 가 보안 필터 체인에 직접 넣는다
+ * (빈으로 등록하면 서블릿 필터로도 자동 등록되어 두 번 실행됨)
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(QuotaProperties.class)
+public class QuotaConfig {
+
+    /**
+     * 다른 QuotaStore 빈(공유 저장소)이 있으면 생성되지 않음
+     */
+    @Bean
+    @ConditionalOnMissingBean(QuotaStore.class)
+    public LocalQuotaStore localQuotaStore(QuotaProperties properties) {
+        return new LocalQuotaStore(properties.getShards());
+    }
+}
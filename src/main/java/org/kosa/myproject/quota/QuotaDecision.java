@@ -0,0 +1,13 @@
+package org.kosa.myproject.quota;
+
+/**
+ * 한도 판정 결과 (RateLimit 응답 헤더 값)
+ *
+ * @param allowed           요청 허용 여부
+ * @param limit             한도 (period 당 건수)
+ * @param remaining         지금 바로 더 보낼 수 있는 건수
+ * @param resetSeconds      한도가 모두 회복될 때까지 남은 시간 (초)
+ * @param retryAfterSeconds 거절된 경우 다음 요청이 허용될 때까지 남은 시간 (초)
+ */
+public record QuotaDecision(boolean allowed, long limit, long remaining, long resetSeconds, long retryAfterSeconds) {
+}
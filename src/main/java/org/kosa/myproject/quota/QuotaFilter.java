@@ -0,0 +1,146 @@
+package org.kosa.myproject.quota;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.json.PreEncodedErrorResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * QuotaFilter - 회원별 API 호출 한도 (JwtFilter 바로 다음, SecurityConfig 에서 new 로 생성하여 등록)
+ *
+ * 1. JwtFilter 가 인증한 회원(SecurityContext)과 요청 경로로 엔드포인트 그룹을 찾는다
+ * 2. 회원 권한의 한도로 QuotaStore 에서 1건 사용을 시도
+ * 3. 허용되면 RateLimit-Limit / RateLimit-Remaining / RateLimit-Reset 헤더를 붙여 통과,
+ *    초과하면 429 + Retry-After (본문은 미리 직렬화된 ApiResponseDto 오류 응답)
+ *
+ * 인증되지 않은 요청과 어느 그룹에도 속하지 않는 요청은 제한하지 않는다 (IP 기준 제한은 ALB / WAF 에서)
+ * 거절 건수는 app.quota.rejected 카운터에 그룹별로 집계
+ */
+@Slf4j
+public class QuotaFilter extends OncePerRequestFilter {
+
+    private final QuotaStore quotaStore;
+    private final List<QuotaGroup> groups;
+    private final PreEncodedErrorResponse tooManyRequests;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    public QuotaFilter(QuotaStore quotaStore,
+                       QuotaProperties properties,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry) {
+        this.quotaStore = quotaStore;
+        this.groups = properties.getGroups().entrySet().stream()
+                .map(entry -> QuotaGroup.of(entry.getKey(), entry.getValue()))
+                .toList();
+        this.tooManyRequests = PreEncodedErrorResponse.of(objectMapper, HttpStatus.TOO_MANY_REQUESTS.value(),
+                "TOO_MANY_REQUESTS", "요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요.");
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        QuotaGroup group = authentication == null || !authentication.isAuthenticated() ? null : match(request);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        QuotaProperties.Limit limit = group.limitFor(authentication);
+        if (limit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        QuotaDecision decision = quotaStore.tryAcquire(group.name() + ":" + authentication.getName(), limit);
+        response.setHeader("RateLimit-Policy", limit.getCapacity() + ";w=" + limit.getPeriod().toSeconds());
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.resetSeconds()));
+        if (!decision.allowed()) {
+            log.debug("호출 한도 초과: group={}, member={}", group.name(), authentication.getName());
+            rejectedCounters.computeIfAbsent(group.name(), name -> Counter.builder("app.quota.rejected")
+                            .description("호출 한도 초과로 거절된 요청")
+                            .tag("group", name)
+                            .register(meterRegistry))
+                    .increment();
+            response.setHeader("Retry-After", String.valueOf(decision.retryAfterSeconds()));
+            tooManyRequests.writeTo(response);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private QuotaGroup match(HttpServletRequest request) {
+        for (QuotaGroup group : groups) {
+            if (group.matches(request)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 엔드포인트 그룹 (설정값을 기동 시 한 번 해석해 둔 것)
+     */
+    record QuotaGroup(String name,
+                             Set<String> methods,
+                             List<PathPattern> patterns,
+                             Map<String, QuotaProperties.Limit> limits) {
+
+        static QuotaGroup of(String name, QuotaProperties.Group group) {
+            return new QuotaGroup(name,
+                    group.getMethods().stream().map(String::toUpperCase).collect(Collectors.toUnmodifiableSet()),
+                    group.getPatterns().stream().map(PathPatternParser.defaultInstance::parse).toList(),
+                    Map.copyOf(group.getLimits()));
+        }
+
+        boolean matches(HttpServletRequest request) {
+            if (!methods.isEmpty() && !methods.contains(request.getMethod())) {
+                return false;
+            }
+            PathContainer path = PathContainer.parsePath(request.getRequestURI());
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 회원이 가진 권한 중 한도가 설정된 첫 번째 권한의 한도
+         */
+        QuotaProperties.Limit limitFor(Authentication authentication) {
+            for (GrantedAuthority authority : authentication.getAuthorities()) {
+                QuotaProperties.Limit limit = limits.get(authority.getAuthority());
+                if (limit != null) {
+                    return limit;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.kosa.myproject.quota;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원별 API 호출 한도 설정 (app.quota)
+ *
+ * 엔드포인트 그룹마다 권한(ROLE_USER, ROLE_ADMIN)별 한도를 둔다
+ *   app.quota.groups.post-write.methods=POST
+ *   app.quota.groups.post-write.patterns=/api/posts
+ *   app.quota.groups.post-write.limits.ROLE_USER.capacity=30
+ *   app.quota.groups.post-write.limits.ROLE_USER.period=1m
+ * 한도가 없는 권한은 제한하지 않는다. 유휴 항목 정리 주기는 app.quota.eviction-interval-ms (@Scheduled)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.quota")
+public class QuotaProperties {
+
+    private boolean enabled = true;
+
+    private int shards = 16;                   // 로컬 저장소 분할 수 (정리 작업이 한 번에 한 조각씩 순회)
+
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Group {
+
+        private List<String> methods = new ArrayList<>();   // 비어 있으면 모든 메서드
+
+        private List<String> patterns = new ArrayList<>();  // PathPattern (예: /api/members/{id})
+
+        private Map<String, Limit> limits = new LinkedHashMap<>();  // 권한 → 한도
+    }
+
+    /**
+     * period 동안 capacity 건 (한 번에 capacity 건까지 몰아서 사용 가능)
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private long capacity;
+
+        private Duration period = Duration.ofMinutes(1);
+    }
+}
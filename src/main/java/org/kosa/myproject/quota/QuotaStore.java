@@ -0,0 +1,20 @@
+package org.kosa.myproject.quota;
+
+/**
+ * 호출 한도 상태 저장소
+ *
+ * 기본 구현은 인스턴스 메모리(LocalQuotaStore) - 인스턴스가 여러 대면 한도도 인스턴스 수만큼 늘어난다
+ * 여러 인스턴스가 한도를 공유해야 하면 같은 계산을 공유 저장소(Redis 등)에서 원자적으로 수행하는 구현을
+ * QuotaStore 빈으로 등록하면 LocalQuotaStore 대신 사용된다 (QuotaConfig)
+ */
+public interface QuotaStore {
+
+    /**
+     * key 의 한도에서 1건 사용을 시도한다
+     *
+     * @param key   한도 단위 (엔드포인트 그룹 + 회원)
+     * @param limit 적용할 한도
+     * @return 허용 여부와 RateLimit 헤더 값
+     */
+    QuotaDecision tryAcquire(String key, QuotaProperties.Limit limit);
+}
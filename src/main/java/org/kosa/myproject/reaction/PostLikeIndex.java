@@ -0,0 +1,113 @@
+package org.kosa.myproject.reaction;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 좋아요 인메모리 인덱스 - 게시글마다 좋아요한 회원 id 를 압축 비트맵(RoaringBitmap) 하나로 보관
+ *
+ * 목록 / 상세 응답의 좋아요 수와 "내가 좋아요 했는지" 를 DB 조회 없이 계산한다
+ * - contains : 비트맵 멤버십 검사 (컨테이너 하나만 확인)
+ * - count    : 변경 시 갱신해 둔 값을 읽기만 함
+ *
+ * 회원 id 는 부호 없는 32bit 로 저장한다 (RoaringBitmap 은 int 를 unsigned 로 취급, 최대 2^32 - 1)
+ * 비트맵 자체는 thread-safe 가 아니므로 게시글 단위로 동기화한다 (다른 게시글끼리는 경쟁하지 않음)
+ */
+public class PostLikeIndex {
+
+    private static final long MAX_MEMBER_ID = 0xFFFF_FFFFL;
+
+    private volatile Map<Long, PostLikes> posts = new ConcurrentHashMap<>();
+
+    /**
+     * @return 새로 추가되었으면 true (이미 있었으면 false)
+     */
+    public boolean add(long postId, long memberId) {
+        return posts.computeIfAbsent(postId, id -> new PostLikes(new RoaringBitmap())).add(toInt(memberId));
+    }
+
+    /**
+     * @return 있던 것을 지웠으면 true
+     */
+    public boolean remove(long postId, long memberId) {
+        PostLikes likes = posts.get(postId);
+        return likes != null && likes.remove(toInt(memberId));
+    }
+
+    public boolean contains(long postId, long memberId) {
+        PostLikes likes = posts.get(postId);
+        return likes != null && memberId >= 0 && memberId <= MAX_MEMBER_ID && likes.contains((int) memberId);
+    }
+
+    public long count(long postId) {
+        PostLikes likes = posts.get(postId);
+        return likes != null ? likes.count : 0;
+    }
+
+    /**
+     * 재구성한 비트맵으로 전체 교체 (전달한 비트맵은 이후 이 인덱스가 소유)
+     */
+    public void replaceAll(Map<Long, RoaringBitmap> bitmaps) {
+        Map<Long, PostLikes> rebuilt = new ConcurrentHashMap<>(Math.max(16, bitmaps.size() * 4 / 3));
+        bitmaps.forEach((postId, bitmap) -> rebuilt.put(postId, new PostLikes(bitmap)));
+        posts = rebuilt;
+    }
+
+    public int getPostCount() {
+        return posts.size();
+    }
+
+    /**
+     * 비트맵 직렬화 크기 합계 (메모리 사용량 추정치)
+     */
+    public long getSizeInBytes() {
+        long bytes = 0;
+        for (PostLikes likes : posts.values()) {
+            bytes += likes.sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private static int toInt(long memberId) {
+        if (memberId < 0 || memberId > MAX_MEMBER_ID) {
+            throw new IllegalArgumentException("좋아요 인덱스에 저장할 수 없는 회원 id 입니다: " + memberId);
+        }
+        return (int) memberId;
+    }
+
+    private static final class PostLikes {
+        private final RoaringBitmap members;
+        private volatile long count;  // 읽기는 잠금 없이
+
+        private PostLikes(RoaringBitmap members) {
+            this.members = members;
+            this.count = members.getLongCardinality();
+        }
+
+        private synchronized boolean add(int memberId) {
+            boolean added = members.checkedAdd(memberId);
+            if (added) {
+                count++;
+            }
+            return added;
+        }
+
+        private synchronized boolean remove(int memberId) {
+            boolean removed = members.checkedRemove(memberId);
+            if (removed) {
+                count--;
+            }
+            return removed;
+        }
+
+        private synchronized boolean contains(int memberId) {
+            return members.contains(memberId);
+        }
+
+        private synchronized long sizeInBytes() {
+            return members.getLongSizeInBytes();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.kosa.myproject.reaction;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 게시글 좋아요 설정 (app.reaction)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.reaction")
+public class ReactionProperties {
+
+    private int rebuildParallelism = 0;     // 기동 시 인덱스 재구성 스레드 수 (0 이면 CPU 코어 수)
+
+    private int rebuildPartitionsPerThread = 4;  // post_id 범위를 스레드당 몇 조각으로 나눌지 (게시글별 좋아요 수 편차 완화)
+
+    private long resyncIntervalMs = 60000;  // 다른 인스턴스의 변경을 반영하는 재구성 주기 (@Scheduled 에서 사용)
+
+    private int lockStripes = 64;           // 같은 (게시글, 회원) 의 좋아요 / 취소를 직렬화하는 잠금 수
+}
@@ -0,0 +1,20 @@
+package org.kosa.myproject.repository;
+
+import org.kosa.myproject.entity.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Attachment Repository
+ * post 는 LAZY 이고 FK 컬럼(post_id)으로만 조회하므로 posts 조인이 생기지 않는다
+ */
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    List<Attachment> findByPostIdOrderByIdAsc(Long postId);
+
+    Optional<Attachment> findByIdAndPostId(Long id, Long postId);
+}
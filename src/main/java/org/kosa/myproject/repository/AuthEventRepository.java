@@ -0,0 +1,22 @@
+package org.kosa.myproject.repository;
+
+import org.kosa.myproject.entity.AuthEvent;
+import org.kosa.myproject.entity.AuthEventType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 인증 감사 로그 조회 (관리자 전용, 최신순 페이징)
+ * 조건 조합마다 메서드를 두어 각 조건이 인덱스(idx_auth_events_username / idx_auth_events_event_type / idx_auth_events_username_type)를 타도록 한다
+ */
+@Repository
+public interface AuthEventRepository extends JpaRepository<AuthEvent, Long> {
+
+    Page<AuthEvent> findByUsername(String username, Pageable pageable);
+
+    Page<AuthEvent> findByType(AuthEventType type, Pageable pageable);
+
+    Page<AuthEvent> findByUsernameAndType(String username, AuthEventType type, Pageable pageable);
+}
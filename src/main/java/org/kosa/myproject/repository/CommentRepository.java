@@ -0,0 +1,38 @@
+package org.kosa.myproject.repository;
+
+import org.kosa.myproject.entity.Comment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Comment Repository
+ * 두 조회 모두 (post_id, id) 인덱스 범위 스캔으로 처리된다 (V6__create_comments.sql)
+ */
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    /**
+     * 게시글의 댓글을 id 순으로 afterId 다음부터 조회 (keyset 페이지)
+     * OFFSET 과 달리 뒤쪽 페이지도 앞의 행을 건너뛰며 읽지 않는다
+     */
+    List<Comment> findByPostIdAndIdGreaterThanOrderByIdAsc(Long postId, Long afterId, Limit limit);
+
+    /**
+     * 여러 게시글의 댓글 수를 GROUP BY 한 번으로 집계 (댓글이 없는 게시글은 결과에 없음)
+     * - 게시글 목록에서 행마다 COUNT 를 실행하는 N+1 방지
+     */
+    @Query("SELECT c.post.id AS postId, COUNT(c) AS commentCount FROM Comment c "
+            + "WHERE c.post.id IN :postIds GROUP BY c.post.id")
+    List<PostCommentCount> countByPostIds(Collection<Long> postIds);
+
+    interface PostCommentCount {
+        Long getPostId();
+
+        long getCommentCount();
+    }
+}
@@ -1,9 +1,16 @@
 package org.kosa.myproject.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.kosa.myproject.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,9 +25,17 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      * Spring Security에서 사용 예:
      * UserDetailsService.loadUserByUsername() 구현 시 활용
      *
+     * 쿼리 캐시 적용: 로그인/내 정보 조회/게시글 작성마다 호출되는 hot 쿼리
+     * - 결과(id)는 query.member-by-username 영역, Member 는 member 영역에서 조회
+     * - members 테이블이 변경되면 Hibernate 가 자동으로 무효화
+     *
      * @param username 로그인 ID
      * @return Optional<Member> 회원 정보
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.member-by-username")
+    })
     Optional<Member> findByUsername(String username);
     /**
      * username 중복 체크 - 회원가입 시 필수
@@ -37,4 +52,16 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      * @return true: 이미 존재, false: 사용 가능
      */
     boolean existsByUsername(String username);
-}
\ No newline at end of file
+
+    /**
+     * 이미 존재하는 username 목록 조회 - 일괄 등록 시 중복 체크
+     *
+     * existsByUsername 을 행마다 호출하는 대신 IN 절 한 번으로 처리
+     * (username 유니크 인덱스 uk_members_username 사용)
+     *
+     * @param usernames 체크할 로그인 ID 목록
+     * @return 그중 이미 사용 중인 로그인 ID
+     */
+    @Query("select m.username from Member m where m.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+}
@@ -1,8 +1,11 @@
 package org.kosa.myproject.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.kosa.myproject.entity.Post;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -30,9 +33,16 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * - 게시글 상세 보기에서 작성자 정보가 필요
      * - Lazy Loading으로 인한 추가 쿼리 방지
      *
+     * 쿼리 캐시 적용: 결과는 query.post-by-id-with-author 영역,
+     * Post / Member 는 각각 post / member 엔티티 영역에서 조회
+     *
      * @param id 게시글 ID
      * @return Optional<Post>
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.post-by-id-with-author")
+    })
     @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.id = :id")
     Optional<Post> findByIdWithAuthor(Long id);
 }
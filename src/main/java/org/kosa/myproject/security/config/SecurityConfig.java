@@ -1,7 +1,19 @@
 package org.kosa.myproject.security.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.audit.AuthEventRecorder;
+import org.kosa.myproject.idempotency.IdempotencyFilter;
+import org.kosa.myproject.idempotency.IdempotencyProperties;
+import org.kosa.myproject.idempotency.IdempotencyStore;
+import org.kosa.myproject.metrics.TimedPasswordEncoder;
+import org.kosa.myproject.quota.QuotaFilter;
+import org.kosa.myproject.quota.QuotaProperties;
+import org.kosa.myproject.quota.QuotaStore;
 import org.kosa.myproject.security.jwt.*;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,10 +39,22 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @RequiredArgsConstructor
 @Slf4j
 public class SecurityConfig {
-    // 인증 설정 객체
-    private final AuthenticationConfiguration authenticationConfiguration;
     // JWT 토큰 생성 및 검증 유틸리티
     private final JwtUtil jwtUtil;
+    // 인증 경로 메트릭 (로그인 결과)
+    private final MeterRegistry meterRegistry;
+    // 인증 경로 관측 (JWT 검증, BCrypt 시간 → 타이머 + 추적 span)
+    private final ObservationRegistry observationRegistry;
+    // MVC 와 공유하는 JSON 설정 (JsonConfig)
+    private final ObjectMapper objectMapper;
+    // 회원별 API 호출 한도 (QuotaConfig)
+    private final QuotaStore quotaStore;
+    private final QuotaProperties quotaProperties;
+    // Idempotency-Key 첫 응답 저장소
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyProperties idempotencyProperties;
+    // 로그인 / 토큰 실패 감사 로그 (auth_events, 비동기 저장)
+    private final AuthEventRecorder authEventRecorder;
    // 예외 핸들러들
     /*
     Spring Security의 Filter는 DispatcherServlet 이전에 실행됩니다
@@ -57,18 +81,19 @@ public class SecurityConfig {
     }
 
     /**
-     * 비밀번호 암호화
+     * 비밀번호 암호화 (암호화 / 비교 시간을 auth.password.* 타이머로 측정)
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), observationRegistry);
     }
 
     /**
      * Security Filter Chain 설정
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationManager authenticationManager)
+            throws Exception {
         log.info("SecurityConfig SecurityFilterChain 인증,인가 설정");
         // CSRF(Cross-Site Request Forgery) 보호를 비활성화합니다.
         // JWT와 같은 REST API에서는 보통 STATELESS 세션이므로 CSRF 공격으로부터 안전하여 비활성화합니다.
@@ -81,16 +106,18 @@ public class SecurityConfig {
 
         /// ///////////////////인증 인가에 대한 설정 (개발자가 주로 확인)/////////////////////////
         http.authorizeHttpRequests(auth -> auth
+                // 스트리밍 응답(일괄 등록 결과, SSE)의 비동기 재디스패치는 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 //로그인 허용
                 .requestMatchers("/api/auth/login").permitAll()
-                .requestMatchers("/api/health").permitAll() // aws health check 를 위해
+                .requestMatchers("/api/health", "/api/health/**").permitAll() // aws health check (live / ready) 를 위해
                // POST 방식 의 회원 가입은 인증없이 허용
                 .requestMatchers(HttpMethod.POST,"/api/members").permitAll()
                // 관리자 모드는 인증과 ROLE_ADMIN 권한이 필요
                 // ROLE_ 은 자동 삽입
-                .requestMatchers("/admin").hasRole("ADMIN")
+                .requestMatchers("/admin", "/admin/**").hasRole("ADMIN")
                 // GET  방식 , 전체 게시글 조회는 인증 없이 접근을 모두 허용
-                .requestMatchers(HttpMethod.GET,"/api/posts").permitAll()
+                .requestMatchers(HttpMethod.GET,"/api/posts", "/api/posts/stream").permitAll()
                 //참고   /api/products , /api/products/**   경로에 대한 접근을 모두 허용합니다
                 .requestMatchers("/api/products","/api/products/**").permitAll()
                 .requestMatchers("/swagger-ui/**").permitAll()
@@ -109,11 +136,24 @@ public class SecurityConfig {
 
         // JWTFilter를 LoginFilter 이전에 추가합니다.
         // 이 필터가 먼저 실행되어 요청 헤더의 JWT 토큰을 검증하고 인증 정보를 설정합니다.
-        http.addFilterBefore(new JwtFilter(jwtUtil), JsonLoginFilter.class);
+        http.addFilterBefore(new JwtFilter(jwtUtil, observationRegistry, authEventRecorder), JsonLoginFilter.class);
+
+        // 인증 직후 Idempotency-Key 재시도 처리 (저장된 응답 재사용은 호출 한도에 포함하지 않음)
+        // 꺼져 있어도 필터 순서의 기준이 되므로 항상 등록 (app.idempotency.enabled=false 면 통과만 한다)
+        http.addFilterAfter(new IdempotencyFilter(idempotencyStore, idempotencyProperties, objectMapper, meterRegistry),
+                JwtFilter.class);
+
+        // 회원별 API 호출 한도 검사 (초과 시 429, 컨트롤러까지 가지 않음)
+        if (quotaProperties.isEnabled()) {
+            http.addFilterAfter(new QuotaFilter(quotaStore, quotaProperties, objectMapper, meterRegistry),
+                    IdempotencyFilter.class);
+        }
 
         // Spring Security의 UsernamePasswordAuthenticationFilter 자리에 커스텀 JsonLoginFilter 추가합니다.
         // 이 필터가 로그인 요청을 가로채서 로그인 검증 및 JWT 토큰을 생성하고 응답 헤더에 담아 보냅니다.
-        http.addFilterAt(new JsonLoginFilter(authenticationManager(authenticationConfiguration), jwtUtil),
+        // (AuthenticationManager 는 @Bean 메서드를 직접 호출하지 않고 주입받음 - 인자가 있는 @Bean 메서드 호출은 AOT 에서 해석되지 않음)
+        http.addFilterAt(new JsonLoginFilter(authenticationManager, jwtUtil, meterRegistry, objectMapper,
+                        authEventRecorder),
                 UsernamePasswordAuthenticationFilter.class);
 
         // 설정된 HttpSecurity 객체를 기반으로 SecurityFilterChain을 빌드하여 반환합니다.
@@ -146,6 +186,16 @@ public class SecurityConfig {
            프론트엔드(클라이언트) JavaScript 코드가 그 토큰을 읽어 저장하기 위한 설정
          */
         config.addExposedHeader("Authorization");
+        // 느린 요청 보고용 trace-id (TraceResponseFilter)
+        config.addExposedHeader("traceresponse");
+        // 호출 한도 (QuotaFilter)
+        config.addExposedHeader("RateLimit-Limit");
+        config.addExposedHeader("RateLimit-Remaining");
+        config.addExposedHeader("RateLimit-Reset");
+        config.addExposedHeader("RateLimit-Policy");
+        config.addExposedHeader("Retry-After");
+        // 저장된 응답을 재사용했는지 (IdempotencyFilter)
+        config.addExposedHeader("Idempotent-Replayed");
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", config);
         return source;
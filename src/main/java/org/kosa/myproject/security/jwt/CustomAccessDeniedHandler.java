@@ -1,32 +1,32 @@
 package org.kosa.myproject.security.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.kosa.myproject.dto.ApiResponseDto;
-import org.springframework.http.MediaType;
+import org.kosa.myproject.json.PreEncodedErrorResponse;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 /**
     권한 부족시 처리하는 Handler
  AccessDeniedHandler 는 인증은 되었지만 해당 리소스에 대한 권한이 없을 때 실행됨
+ 응답 본문은 미리 직렬화해 두고 timestamp 만 채워 전송 (PreEncodedErrorResponse)
  */
 @Slf4j
 @Component
 public class CustomAccessDeniedHandler implements AccessDeniedHandler {
 
-    private final ObjectMapper objectMapper = new ObjectMapper()
-            .registerModule(new JavaTimeModule())  // LocalDateTime 처리를 위한 모듈 등록
-            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);  // ISO-8601 형식으로 출력
+    private final PreEncodedErrorResponse forbiddenResponse;
+
+    public CustomAccessDeniedHandler(ObjectMapper objectMapper) {
+        this.forbiddenResponse = PreEncodedErrorResponse.of(objectMapper,
+                HttpServletResponse.SC_FORBIDDEN, "FORBIDDEN", "해당 리소스에 접근할 권한이 없습니다.");
+    }
     
     @Override
     public void handle(HttpServletRequest request, 
@@ -38,18 +38,7 @@ public class CustomAccessDeniedHandler implements AccessDeniedHandler {
             request.getRequestURI(), 
             accessDeniedException.getMessage());
         
-        // ApiResponseDto 형식으로 응답 생성
-        ApiResponseDto<?> errorResponse = ApiResponseDto.error(
-            "FORBIDDEN",
-            "해당 리소스에 접근할 권한이 없습니다."
-        );
-        
-        // HTTP 응답 설정
-        response.setStatus(HttpServletResponse.SC_FORBIDDEN);  // 403
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
-        
-        // JSON으로 변환하여 응답 작성
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        // 403 응답 전송
+        forbiddenResponse.writeTo(response);
     }
-}
\ No newline at end of file
+}
@@ -1,16 +1,19 @@
 package org.kosa.myproject.security.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.audit.AuthEventRecorder;
 import org.kosa.myproject.dto.ApiResponseDto;
 import org.kosa.myproject.dto.LoginRequestDto;
+import org.kosa.myproject.entity.AuthEventType;
 import org.kosa.myproject.entity.Member;
+import org.kosa.myproject.json.PreEncodedErrorResponse;
 import org.kosa.myproject.security.user.CustomMemberDetails;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -21,7 +24,6 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -29,20 +31,34 @@ import java.util.Map;
    JSON 형식의 로그인 요청을 처리하는 필터
   /api/auth/login  의 엔드 포인트로 오는 로그인 요청 처리
   기존 FORM 로그인 대신 JSON 본문을 파싱해서 처리
+  로그인 결과는 auth.login 카운터에 outcome(success / failure)별로 집계
+  JSON 처리는 MVC 와 같은 공유 ObjectMapper 사용, 실패 응답은 미리 직렬화해 둔 본문 사용
+  성공 / 실패는 AuthEventRecorder 로 auth_events 감사 로그에도 남긴다 (비동기, 로그인 응답을 기다리게 하지 않음)
  */
 @Slf4j
 public class JsonLoginFilter extends UsernamePasswordAuthenticationFilter {
+
+    // 실패 시 감사 로그에 남길 로그인 시도 아이디 (인증 예외에는 아이디가 없음)
+    private static final String ATTEMPTED_USERNAME_ATTRIBUTE = JsonLoginFilter.class.getName() + ".username";
     
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
-    private final ObjectMapper objectMapper = new ObjectMapper()
-            .registerModule(new JavaTimeModule())  // LocalDateTime 처리를 위한 모듈 등록
-            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);  // ISO-8601 형식으로 출력
-;
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final ObjectMapper objectMapper;
+    private final PreEncodedErrorResponse failureResponse;
+    private final AuthEventRecorder authEventRecorder;
     
-    public JsonLoginFilter(AuthenticationManager authenticationManager, JwtUtil jwtUtil) {
+    public JsonLoginFilter(AuthenticationManager authenticationManager, JwtUtil jwtUtil, MeterRegistry meterRegistry,
+                           ObjectMapper objectMapper, AuthEventRecorder authEventRecorder) {
         this.authenticationManager = authenticationManager;
+        this.authEventRecorder = authEventRecorder;
         this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
+        this.failureResponse = PreEncodedErrorResponse.of(objectMapper, HttpServletResponse.SC_UNAUTHORIZED,
+                "AUTHENTICATION_FAILED", "로그인 실패: 아이디 또는 비밀번호를 확인해주세요");
+        this.successCounter = loginCounter(meterRegistry, "success");
+        this.failureCounter = loginCounter(meterRegistry, "failure");
         // 로그인 엔드포인트 설정
         setFilterProcessesUrl("/api/auth/login");
     }
@@ -72,6 +88,7 @@ public class JsonLoginFilter extends UsernamePasswordAuthenticationFilter {
             );
             
             log.info("로그인 시도: username={}", loginRequest.getUsername());
+            request.setAttribute(ATTEMPTED_USERNAME_ATTRIBUTE, loginRequest.getUsername());
             
             // 인증 토큰 생성
             UsernamePasswordAuthenticationToken authToken = 
@@ -109,6 +126,7 @@ public class JsonLoginFilter extends UsernamePasswordAuthenticationFilter {
                                            throws IOException, ServletException {
         
         log.info("=== 로그인 성공: {} ===", authentication.getName());
+        successCounter.increment();
 
         // 1. 인증된 사용자 정보 추출
         CustomMemberDetails memberDetails = (CustomMemberDetails) authentication.getPrincipal();
@@ -121,6 +139,7 @@ public class JsonLoginFilter extends UsernamePasswordAuthenticationFilter {
         String role = auth.getAuthority();  // ROLE_USER 또는 ROLE_ADMIN
 
         log.info("인증 성공: username={}, role={}", member.getUsername(), role);
+        authEventRecorder.record(AuthEventType.LOGIN_SUCCESS, member.getUsername(), request.getRemoteAddr(), null);
 
         // 3. JWT 토큰 생성
         // 하루로 유효 기간을 준다
@@ -152,8 +171,8 @@ public class JsonLoginFilter extends UsernamePasswordAuthenticationFilter {
                 "로그인 성공"
         );
         
-        // JSON 응답 전송
-        response.getWriter().write(objectMapper.writeValueAsString(successResponse));
+        // JSON 응답 전송 (UTF-8 바이트로 바로 기록)
+        response.getOutputStream().write(objectMapper.writeValueAsBytes(successResponse));
         
         log.info("JWT 토큰 발급 완료: username={}", member.getUsername());
     }
@@ -168,17 +187,19 @@ public class JsonLoginFilter extends UsernamePasswordAuthenticationFilter {
                                              throws IOException, ServletException {
         
         log.error("=== 로그인 실패: {} ===", failed.getMessage());
+        failureCounter.increment();
+        authEventRecorder.record(AuthEventType.LOGIN_FAILURE,
+                (String) request.getAttribute(ATTEMPTED_USERNAME_ATTRIBUTE), request.getRemoteAddr(),
+                failed.getClass().getSimpleName());
         
-        // 에러 응답 설정
-        response.setContentType("application/json;charset=UTF-8");
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("success", false);
-        errorResponse.put("message", "로그인 실패: 아이디 또는 비밀번호를 확인해주세요");
-        errorResponse.put("code", "AUTHENTICATION_FAILED");
-        
-        // JSON 에러 응답 전송
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        // JSON 에러 응답 전송 (ApiResponseDto.error 형식, 401)
+        failureResponse.writeTo(response);
+    }
+
+    private static Counter loginCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("auth.login")
+                .description("JSON 로그인 시도 결과")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
-}
\ No newline at end of file
+}
@@ -1,34 +1,37 @@
 package org.kosa.myproject.security.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.kosa.myproject.dto.ApiResponseDto;
-import org.springframework.http.MediaType;
+import org.kosa.myproject.json.PreEncodedErrorResponse;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 /**
     JWT 인증 실패 시 처리하는 EntryPoint
  AuthenticationEntryPoint는 인증되지 않은 사용자가 시큐리티로 보호된
  자원에 접근할 때 실행됩니다
+ 응답 본문은 경우별로 미리 직렬화해 두고 timestamp 만 채워 전송 (PreEncodedErrorResponse)
  */
 @Slf4j
 @Component
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
-    private final ObjectMapper objectMapper = new ObjectMapper()
-            .registerModule(new JavaTimeModule())  // LocalDateTime 처리를 위한 모듈 등록
-            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);  // ISO-8601 형식으로 출력
-    
+    private final PreEncodedErrorResponse expiredResponse;
+    private final PreEncodedErrorResponse invalidResponse;
+    private final PreEncodedErrorResponse unauthorizedResponse;
+
+    public JwtAuthenticationEntryPoint(ObjectMapper objectMapper) {
+        this.expiredResponse = unauthorized(objectMapper, "JWT 토큰이 만료되었습니다. 다시 로그인해주세요.");
+        this.invalidResponse = unauthorized(objectMapper, "유효하지 않은 JWT 토큰입니다.");
+        this.unauthorizedResponse = unauthorized(objectMapper, "인증이 필요합니다. 로그인해주세요.");
+    }
+
     @Override
     public void commence(HttpServletRequest request, 
                         HttpServletResponse response,
@@ -37,40 +40,30 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
         // 로그를 통해 어떤 인증 실패인지 확인
         log.error("인증 실패 seo: {}", authException.getMessage());
         
-        // JWT 관련 예외 메시지를 구체적으로 처리
-        String errorMessage = getErrorMessage(request, authException);
-        
-        // ApiResponseDto 형식으로 응답 생성
-        ApiResponseDto<?> errorResponse = ApiResponseDto.error(
-            "UNAUTHORIZED",
-            errorMessage
-        );
-        
-        // HTTP 응답 설정
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);  // 401
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
-        
-        // JSON으로 변환하여 응답 작성
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        // JWT 관련 예외 메시지를 구체적으로 처리 → 401 응답 전송
+        getErrorResponse(request).writeTo(response);
     }
     
     /**
      * request attribute에서 JWT 검증 실패 이유를 확인하여
      * 더 구체적인 에러 메시지 제공
      */
-    private String getErrorMessage(HttpServletRequest request, AuthenticationException authException) {
+    private PreEncodedErrorResponse getErrorResponse(HttpServletRequest request) {
         // JWTFilter에서 설정한 예외 정보 확인
         final String expired = (String) request.getAttribute("expired");
         final String invalid = (String) request.getAttribute("invalid");
         
         if (expired != null) {
-            return "JWT 토큰이 만료되었습니다. 다시 로그인해주세요.";
+            return expiredResponse;
         } else if (invalid != null) {
-            return "유효하지 않은 JWT 토큰입니다.";
+            return invalidResponse;
         }
         
         // 기본 메시지
-        return "인증이 필요합니다. 로그인해주세요.";
+        return unauthorizedResponse;
+    }
+
+    private static PreEncodedErrorResponse unauthorized(ObjectMapper objectMapper, String message) {
+        return PreEncodedErrorResponse.of(objectMapper, HttpServletResponse.SC_UNAUTHORIZED, "UNAUTHORIZED", message);
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,15 @@
 package org.kosa.myproject.security.jwt;
 
 import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.audit.AuthEventRecorder;
+import org.kosa.myproject.entity.AuthEventType;
 import org.kosa.myproject.entity.Member;
 import org.kosa.myproject.entity.MemberRole;
 import org.kosa.myproject.security.user.CustomMemberDetails;
@@ -28,13 +31,24 @@ import java.io.IOException;
          3. 유효한 토큰 :  Spring Security Context 에 인증 정보 저장
          4. Controller / Service 등에서  Security Context 에 저장된 인증 정보 사용
          5. 응답 후 SecurityContext 자동 제거 ( Stateless  유지 )
+
+         토큰 검증은 auth.jwt.verification 관측으로 기록 (결과(outcome)별 타이머 + 추적 span)
+         - valid : 인증 성공 / expired : 만료된 토큰 / invalid : 서명 불일치, 형식 오류 등
+         expired / invalid 는 AuthEventRecorder 로 auth_events 감사 로그에도 남긴다
  */
 
 @Slf4j
-@RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final ObservationRegistry observationRegistry;
+    private final AuthEventRecorder authEventRecorder;
+
+    public JwtFilter(JwtUtil jwtUtil, ObservationRegistry observationRegistry, AuthEventRecorder authEventRecorder) {
+        this.jwtUtil = jwtUtil;
+        this.observationRegistry = observationRegistry;
+        this.authEventRecorder = authEventRecorder;
+    }
 
     /**
      * 필터 처리 메인 메서드
@@ -62,16 +76,13 @@ public class JwtFilter extends OncePerRequestFilter {
         // 3. 토큰이 있다면 Bearer 제거하고 순수 토큰 추출
         String token = authorization.substring(7);  // "Bearer " 이후 문자열
         log.debug("토큰 추출 완료");
+        Observation observation = Observation.createNotStarted("auth.jwt.verification", observationRegistry)
+                .contextualName("jwt verification")
+                .start();
         try {
-             // 4. 토큰 유효성 전체 검증 (서명 + 만료 시간)
-            if (!jwtUtil.validateToken(token)) {
-                log.warn("유효하지 않은 토큰 감지");
-                // 유효하지 않은 토큰 인증 정보를 생성하지 않고 다음 필터로
-                filterChain.doFilter(request, response);
-                return;
-            }
-
-            // 5. 토큰에서 사용자 정보 추출
+            // 4~5. 토큰 유효성 전체 검증 (서명 + 만료 시간) 및 사용자 정보 추출
+            // Claims 추출 시 서명과 만료 시간을 함께 검증하므로 실패 원인이 예외로 구분된다
+            // (만료 : ExpiredJwtException, 서명 불일치 / 형식 오류 : 그 외 예외)
             Long id = jwtUtil.getId(token);
             String username = jwtUtil.getUsername(token);
             String name = jwtUtil.getName(token);
@@ -103,19 +114,28 @@ public class JwtFilter extends OncePerRequestFilter {
             // 9. SecurityContext에 인증 정보 저장
             // 이 정보는 Controller나 Service에서 사용 가능
             SecurityContextHolder.getContext().setAuthentication(authToken);
+            observation.lowCardinalityKeyValue("outcome", "valid");
 
             log.debug("JWT 인증 성공: {} SecurityContext에 인증 정보 저장 완료", username);
         } catch (ExpiredJwtException e) {
             // 만료된 토큰
+            observation.lowCardinalityKeyValue("outcome", "expired");
             request.setAttribute("expired", "true");
             log.warn("JWT 토큰 만료: {}", e.getMessage());
+            // 만료 예외에도 서명이 검증된 claims 가 들어 있으므로 누구의 토큰인지 남길 수 있다
+            authEventRecorder.record(AuthEventType.TOKEN_EXPIRED, e.getClaims().get("username", String.class),
+                    request.getRemoteAddr(), null);
         } catch (Exception e) {
             // 유효하지 않은 토큰
+            observation.lowCardinalityKeyValue("outcome", "invalid");
             request.setAttribute("invalid", "true");
             log.error("JWT 토큰 검증 실패: {}", e.getMessage());
+            authEventRecorder.record(AuthEventType.TOKEN_INVALID, null, request.getRemoteAddr(),
+                    e.getClass().getSimpleName());
+        } finally {
+            observation.stop();
         }
         // 10. 다음 필터로 진행
         filterChain.doFilter(request, response);
     }
 }
-
@@ -3,6 +3,7 @@ package org.kosa.myproject.security.jwt;
 import io.jsonwebtoken.Jwts;
 import lombok.extern.slf4j.Slf4j;
 import org.kosa.myproject.entity.Member;
+import org.kosa.myproject.entity.MemberRole;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -47,7 +48,22 @@ public class JwtUtil {
      * @return 생성된 JWT 토큰 문자열
      */
     public String createJwt(Member member, Long expiredMs) {
-        log.info("JWT 토큰 생성 시작: username={}", member.getUsername());
+        return createJwt(member.getId(), member.getUsername(), member.getName(), member.getRole(), expiredMs);
+    }
+
+    /**
+     * JWT 토큰 생성 - 회원 정보를 값으로 전달
+     * JPA 엔티티가 없는 환경(reactive-api 모듈)에서도 같은 형식의 토큰을 발급하기 위해 사용
+     *
+     * @param id 회원 번호 (PK)
+     * @param username 로그인 ID
+     * @param name 사용자 실명
+     * @param role 권한
+     * @param expiredMs 만료 시간 (밀리초)
+     * @return 생성된 JWT 토큰 문자열
+     */
+    public String createJwt(Long id, String username, String name, MemberRole role, Long expiredMs) {
+        log.info("JWT 토큰 생성 시작: username={}", username);
 
         // 현재 시간
         Date now = new Date(System.currentTimeMillis());
@@ -58,10 +74,10 @@ public class JwtUtil {
         // JWT 토큰 생성
         String token = Jwts.builder()
                 // Payload (Claims) 설정
-                .claim("id", member.getId())              // 회원 번호 (PK)
-                .claim("username", member.getUsername())  // 로그인 ID
-                .claim("name", member.getName())          // 사용자 실명
-                .claim("role", member.getRole().name())   // 권한 (ROLE_USER, ROLE_ADMIN)
+                .claim("id", id)              // 회원 번호 (PK)
+                .claim("username", username)  // 로그인 ID
+                .claim("name", name)          // 사용자 실명
+                .claim("role", role.name())   // 권한 (ROLE_USER, ROLE_ADMIN)
 
                 // 토큰 발급 시간
                 .issuedAt(now)
@@ -79,6 +95,30 @@ public class JwtUtil {
         return token;
     }
 
+    /**
+     * 서명 키 사용 가능 여부 확인 (readiness 점검용)
+     * 짧은 토큰을 서명한 뒤 다시 검증한다 - 로그를 남기지 않으므로 주기적으로 호출해도 된다
+     *
+     * @return true: 서명 / 검증 모두 성공
+     */
+    public boolean isSigningKeyUsable() {
+        try {
+            String token = Jwts.builder()
+                    .subject("readiness")
+                    .expiration(new Date(System.currentTimeMillis() + 60_000L))
+                    .signWith(secretKey)
+                    .compact();
+            return "readiness".equals(Jwts.parser()
+                    .verifyWith(secretKey)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload()
+                    .getSubject());
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
     /**
      * 토큰에서 회원 ID(PK) 추출
      *
@@ -1,5 +1,6 @@
 package org.kosa.myproject.security.user;
 
+import io.micrometer.observation.annotation.Observed;
 import org.kosa.myproject.entity.Member;
 import org.kosa.myproject.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -38,6 +39,7 @@ public class CustomMemberDetailsService implements UserDetailsService {
      * @return UserDetails 사용자 상세 정보
      * @throws UsernameNotFoundException 사용자를 찾을 수 없을 때
      */
+    @Observed(name = "auth.user.lookup")  // 로그인 시 회원 조회 시간, 회원이 없으면 error 태그로 구분
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         log.info("=== Spring Security 인증 시작 ===");
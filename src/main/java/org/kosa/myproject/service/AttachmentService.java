@@ -0,0 +1,182 @@
+package org.kosa.myproject.service;
+
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.attachment.AttachmentProperties;
+import org.kosa.myproject.attachment.AttachmentStorage;
+import org.kosa.myproject.attachment.AttachmentTooLargeException;
+import org.kosa.myproject.attachment.ContentTypeDetector;
+import org.kosa.myproject.attachment.StoredAttachment;
+import org.kosa.myproject.dto.AttachmentResponseDto;
+import org.kosa.myproject.entity.Attachment;
+import org.kosa.myproject.entity.Member;
+import org.kosa.myproject.entity.Post;
+import org.kosa.myproject.repository.AttachmentRepository;
+import org.kosa.myproject.repository.PostRepository;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 게시글 첨부파일 Service
+ *
+ * 업로드는 느린 클라이언트가 DB 커넥션을 붙잡지 않도록 세 단계로 나눈다
+ * 1) 읽기 전용 트랜잭션에서 게시글 작성자 확인 (Post.isAuthor)
+ * 2) 트랜잭션 밖에서 본문을 AttachmentStorage 로 스트리밍 저장
+ * 3) 짧은 쓰기 트랜잭션에서 메타데이터 INSERT (실패하면 저장한 파일 삭제)
+ *
+ * 삭제는 메타데이터 커밋 후에 파일을 지운다 (파일 삭제 실패 시 남는 것은 참조되지 않는 파일뿐)
+ */
+@Slf4j
+@Service
+@Observed(name = "app.service")
+public class AttachmentService {
+
+    private static final int FILENAME_MAX_LENGTH = 255;
+
+    private final AttachmentRepository attachmentRepository;
+    private final PostRepository postRepository;
+    private final MemberService memberService;
+    private final AttachmentStorage storage;
+    private final AttachmentProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public AttachmentService(AttachmentRepository attachmentRepository,
+                             PostRepository postRepository,
+                             MemberService memberService,
+                             AttachmentStorage storage,
+                             AttachmentProperties properties,
+                             PlatformTransactionManager transactionManager) {
+        this.attachmentRepository = attachmentRepository;
+        this.postRepository = postRepository;
+        this.memberService = memberService;
+        this.storage = storage;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 첨부파일 업로드 - 게시글 작성자만 가능
+     *
+     * @param postId        게시글 ID
+     * @param username      현재 로그인한 사용자
+     * @param filename      원본 파일명 (경로는 제거)
+     * @param contentLength 요청의 Content-Length (모르면 -1)
+     * @param content       요청 본문
+     * @return 저장된 첨부파일 정보
+     * @throws AttachmentTooLargeException 크기 제한 초과
+     * @throws AccessDeniedException       작성자가 아닐 경우
+     */
+    public AttachmentResponseDto upload(Long postId, String username, String filename,
+                                        long contentLength, InputStream content) throws IOException {
+        long maxSize = properties.getMaxFileSize().toBytes();
+        if (contentLength > maxSize) {
+            // 본문을 읽기 전에 거절
+            throw new AttachmentTooLargeException(maxSize);
+        }
+        String name = sanitizeFilename(filename);
+
+        readOnlyTransactionTemplate.executeWithoutResult(status -> checkAuthor(postId, username, "업로드"));
+
+        StoredAttachment stored = storage.store(content, maxSize);
+        String contentType = ContentTypeDetector.detect(stored.head(), name).toString();
+        try {
+            Attachment saved = transactionTemplate.execute(status -> attachmentRepository.save(Attachment.builder()
+                    .post(postRepository.getReferenceById(postId))
+                    .filename(name)
+                    .contentType(contentType)
+                    .size(stored.size())
+                    .sha256(stored.sha256())
+                    .storageKey(stored.key())
+                    .build()));
+            log.info("첨부파일 업로드: postId={}, id={}, size={}", postId, saved.getId(), saved.getSize());
+            return AttachmentResponseDto.from(saved);
+        } catch (RuntimeException e) {
+            deleteQuietly(stored.key());
+            throw e;
+        }
+    }
+
+    /**
+     * 게시글의 첨부파일 목록
+     */
+    public List<AttachmentResponseDto> getAttachments(Long postId) {
+        return readOnlyTransactionTemplate.execute(status -> attachmentRepository.findByPostIdOrderByIdAsc(postId)
+                .stream()
+                .map(AttachmentResponseDto::from)
+                .toList());
+    }
+
+    /**
+     * 다운로드할 첨부파일 메타데이터
+     *
+     * @throws IllegalArgumentException 게시글에 해당 첨부파일이 없을 경우
+     */
+    public Attachment getAttachment(Long postId, Long attachmentId) {
+        return readOnlyTransactionTemplate.execute(status -> findAttachment(postId, attachmentId));
+    }
+
+    /**
+     * 첨부파일 삭제 - 게시글 작성자만 가능
+     *
+     * @throws AccessDeniedException 작성자가 아닐 경우
+     */
+    public void delete(Long postId, Long attachmentId, String username) {
+        Attachment attachment = transactionTemplate.execute(status -> {
+            checkAuthor(postId, username, "삭제");
+            Attachment found = findAttachment(postId, attachmentId);
+            attachmentRepository.delete(found);
+            return found;
+        });
+        deleteQuietly(attachment.getStorageKey());
+        log.info("첨부파일 삭제: postId={}, id={}", postId, attachmentId);
+    }
+
+    private void checkAuthor(Long postId, String username, String action) {
+        Post post = postRepository.findByIdWithAuthor(postId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
+        Member member = memberService.getMemberEntity(username);
+
+        if (!post.isAuthor(member)) {
+            log.warn("첨부파일 {} 권한 없음: postId={}, username={}", action, postId, username);
+            throw new AccessDeniedException("작성자만 첨부파일을 " + action + "할 수 있습니다.");
+        }
+    }
+
+    private Attachment findAttachment(Long postId, Long attachmentId) {
+        return attachmentRepository.findByIdAndPostId(attachmentId, postId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 첨부파일입니다."));
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            storage.delete(key);
+        } catch (IOException | RuntimeException e) {
+            log.warn("첨부파일 본문 삭제 실패: key={}", key, e);
+        }
+    }
+
+    /**
+     * 경로 구분자 앞부분과 제어 문자를 제거한 파일명
+     */
+    static String sanitizeFilename(String filename) {
+        if (filename == null) {
+            throw new IllegalArgumentException("파일명은 필수입니다.");
+        }
+        String name = filename.substring(Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\')) + 1)
+                .replaceAll("\\p{Cntrl}", "")
+                .trim();
+        if (name.isEmpty() || name.equals(".") || name.equals("..")) {
+            throw new IllegalArgumentException("파일명은 필수입니다.");
+        }
+        return name.length() > FILENAME_MAX_LENGTH ? name.substring(name.length() - FILENAME_MAX_LENGTH) : name;
+    }
+}
@@ -0,0 +1,56 @@
+package org.kosa.myproject.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.dto.AuthEventResponseDto;
+import org.kosa.myproject.dto.PageResponseDto;
+import org.kosa.myproject.entity.AuthEvent;
+import org.kosa.myproject.entity.AuthEventType;
+import org.kosa.myproject.repository.AuthEventRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 인증 감사 로그 조회 (관리자 전용)
+ * 저장은 AuthEventRecorder 가 비동기로 처리하므로 방금 발생한 이벤트는 flush-interval 만큼 늦게 보일 수 있다
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class AuthEventService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final AuthEventRepository authEventRepository;
+
+    /**
+     * 최신순 페이지 조회
+     *
+     * @param username 아이디 조건 (null 이면 전체)
+     * @param type     이벤트 종류 조건 (null 이면 전체)
+     * @param page     0 부터 시작하는 페이지 번호
+     * @param size     페이지 크기 (최대 100)
+     */
+    public PageResponseDto<AuthEventResponseDto> getEvents(String username, AuthEventType type, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by(Sort.Direction.DESC, "id"));
+
+        Page<AuthEvent> events;
+        if (username != null && type != null) {
+            events = authEventRepository.findByUsernameAndType(username, type, pageable);
+        } else if (username != null) {
+            events = authEventRepository.findByUsername(username, pageable);
+        } else if (type != null) {
+            events = authEventRepository.findByType(type, pageable);
+        } else {
+            events = authEventRepository.findAll(pageable);
+        }
+        log.info("인증 감사 로그 조회: username={}, type={}, 전체 {}건", username, type, events.getTotalElements());
+        return PageResponseDto.from(events, AuthEventResponseDto::from);
+    }
+}
@@ -0,0 +1,61 @@
+package org.kosa.myproject.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.kosa.myproject.dto.CacheRegionStatsDto;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * CacheStatisticsService - Hibernate 2차 캐시 / 쿼리 캐시 통계 조회
+ *
+ * hibernate.generate_statistics=true 일 때만 값이 수집된다
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 영역별 통계 + 쿼리 캐시 전체 요약
+     */
+    public Map<String, Object> getCacheStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<CacheRegionStatsDto> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(statistics::getCacheRegionStatistics)
+                .filter(Objects::nonNull)
+                .map(CacheRegionStatsDto::from)
+                .toList();
+
+        Map<String, Object> queryCache = new LinkedHashMap<>();
+        queryCache.put("hitCount", statistics.getQueryCacheHitCount());
+        queryCache.put("missCount", statistics.getQueryCacheMissCount());
+        queryCache.put("putCount", statistics.getQueryCachePutCount());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        result.put("regions", regions);
+        result.put("queryCache", queryCache);
+        return result;
+    }
+
+    /**
+     * 특정 영역 통계 (테스트/운영 점검용)
+     */
+    public CacheRegionStatistics getRegionStatistics(String regionName) {
+        return entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics()
+                .getCacheRegionStatistics(regionName);
+    }
+}
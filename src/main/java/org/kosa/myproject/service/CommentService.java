@@ -0,0 +1,125 @@
+package org.kosa.myproject.service;
+
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.dto.CommentCreateRequestDto;
+import org.kosa.myproject.dto.CommentResponseDto;
+import org.kosa.myproject.dto.CursorPageResponseDto;
+import org.kosa.myproject.dto.MemberResponseDto;
+import org.kosa.myproject.entity.Comment;
+import org.kosa.myproject.entity.Member;
+import org.kosa.myproject.entity.Post;
+import org.kosa.myproject.repository.CommentRepository;
+import org.kosa.myproject.repository.PostRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Comment Service
+ *
+ * 목록 조회는 페이지 크기와 관계없이 쿼리 2번으로 끝난다
+ * 1) 댓글 keyset 조회 (작성자는 LAZY 프록시의 id 만 사용)
+ * 2) 작성자 id 를 모아 MemberService.findAllByIds 로 일괄 조회
+ */
+@Slf4j
+@Service
+@Observed(name = "app.service")
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class CommentService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int CONTENT_MAX_LENGTH = 1000;
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final MemberService memberService;
+
+    /**
+     * 댓글 작성 - 로그인한 회원 누구나
+     *
+     * @param postId     게시글 ID
+     * @param requestDto 댓글 내용
+     * @param username   현재 로그인한 사용자
+     * @return 작성된 댓글
+     * @throws IllegalArgumentException 게시글이 없거나 내용이 비었거나 너무 긴 경우
+     */
+    @Transactional
+    public CommentResponseDto createComment(Long postId, CommentCreateRequestDto requestDto, String username) {
+        String content = requestDto.getContent() != null ? requestDto.getContent().trim() : "";
+        if (content.isEmpty()) {
+            throw new IllegalArgumentException("댓글 내용은 필수입니다.");
+        }
+        if (content.length() > CONTENT_MAX_LENGTH) {
+            throw new IllegalArgumentException("댓글은 최대 " + CONTENT_MAX_LENGTH + "자까지 작성할 수 있습니다.");
+        }
+
+        Member author = memberService.getMemberEntity(username);
+        // findById 는 2차 캐시(post 영역)를 먼저 확인
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
+
+        Comment saved = commentRepository.save(Comment.builder()
+                .post(post)
+                .author(author)
+                .content(content)
+                .build());
+        log.info("댓글 작성 완료: postId={}, id={}, username={}", postId, saved.getId(), username);
+
+        return CommentResponseDto.from(saved, MemberResponseDto.from(author));
+    }
+
+    /**
+     * 게시글의 댓글 목록 (작성순 keyset 페이지)
+     *
+     * @param postId  게시글 ID
+     * @param afterId 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size    페이지 크기 (최대 100)
+     */
+    public CursorPageResponseDto<CommentResponseDto> getComments(Long postId, Long afterId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<Comment> comments = commentRepository.findByPostIdAndIdGreaterThanOrderByIdAsc(
+                postId, afterId != null ? afterId : 0L, Limit.of(pageSize + 1));
+        boolean hasNext = comments.size() > pageSize;
+        if (hasNext) {
+            comments = comments.subList(0, pageSize);
+        }
+
+        List<Long> authorIds = comments.stream().map(comment -> comment.getAuthor().getId()).toList();
+        Map<Long, MemberResponseDto> authors = memberService.findAllByIds(authorIds);
+
+        return CursorPageResponseDto.<CommentResponseDto>builder()
+                .content(comments.stream()
+                        .map(comment -> CommentResponseDto.from(comment, authors.get(comment.getAuthor().getId())))
+                        .toList())
+                .nextCursor(hasNext ? comments.get(comments.size() - 1).getId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 여러 게시글의 댓글 수 (GROUP BY 쿼리 한 번, 댓글이 없는 게시글은 0)
+     *
+     * @param postIds 게시글 ID 목록 (비어 있으면 쿼리하지 않음)
+     * @return 게시글 ID → 댓글 수
+     */
+    public Map<Long, Long> countByPostIds(Collection<Long> postIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return counts;
+        }
+        for (CommentRepository.PostCommentCount count : commentRepository.countByPostIds(postIds)) {
+            counts.put(count.getPostId(), count.getCommentCount());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,20 @@
+package org.kosa.myproject.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 회원 일괄 등록 설정 (POST /admin/members/bulk)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.member-bulk")
+public class MemberBulkProperties {
+
+    private int maxRows = 10000;        // 요청 한 번에 등록할 수 있는 최대 행 수 (중복 검사 IN 절 크기)
+
+    private int chunkSize = 500;        // 트랜잭션 / JDBC batch 하나에 담는 행 수
+
+    private int hashParallelism = 0;    // 비밀번호 암호화 병렬도 (0 이면 CPU 코어 수)
+}
@@ -0,0 +1,295 @@
+package org.kosa.myproject.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.kosa.myproject.dto.MemberBulkResultDto;
+import org.kosa.myproject.dto.MemberBulkResultDto.Status;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.entity.MemberRole;
+import org.kosa.myproject.repository.MemberRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * MemberBulkProvisionService - 조직 단위 회원 일괄 등록
+ *
+ * MemberService.register 를 행마다 호출하면 중복 체크 쿼리 / BCrypt 암호화 / INSERT 가 모두 직렬로 실행된다.
+ * 일괄 등록은 다음 순서로 처리한다
+ * 1) 필수값 검증 + 요청 안의 중복 제거 후, 이미 존재하는 username 을 IN 쿼리 한 번으로 조회
+ * 2) chunk 단위로 비밀번호를 전용 ForkJoinPool 에서 병렬 암호화 (BCrypt 는 CPU 작업)
+ * 3) chunk 하나를 트랜잭션 하나 + JDBC batch INSERT 한 번으로 저장
+ * 4) chunk 가 커밋될 때마다 행별 결과를 호출자에게 전달 (컨트롤러가 NDJSON 으로 바로 전송)
+ *
+ * INSERT 는 JPA 를 거치지 않으므로(IDENTITY 전략은 Hibernate batch insert 불가)
+ * 커밋 후 username 조회 쿼리 캐시를 직접 비운다
+ */
+@Slf4j
+@Service
+@EnableConfigurationProperties(MemberBulkProperties.class)
+public class MemberBulkProvisionService implements DisposableBean {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO members (username, password, name, created_at, role) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String USERNAME_QUERY_REGION = "query.member-by-username";
+
+    private static final int USERNAME_MAX_LENGTH = 50;
+    private static final int NAME_MAX_LENGTH = 100;
+
+    private final MemberRepository memberRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MemberBulkProperties properties;
+    private final ForkJoinPool hashPool;
+
+    public MemberBulkProvisionService(MemberRepository memberRepository,
+                                      PasswordEncoder passwordEncoder,
+                                      JdbcTemplate jdbcTemplate,
+                                      PlatformTransactionManager transactionManager,
+                                      EntityManagerFactory entityManagerFactory,
+                                      MemberBulkProperties properties) {
+        this.memberRepository = memberRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.properties = properties;
+
+        int parallelism = properties.getHashParallelism() > 0
+                ? properties.getHashParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.hashPool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * 1단계: 검증 + 중복 체크
+     *
+     * 쓰기 트랜잭션으로 실행하여 Primary 에서 조회 (Replica 복제 지연으로 중복을 놓치지 않도록)
+     *
+     * @param requests 등록할 회원 목록
+     * @return 거절된 행의 결과와 등록할 행 목록
+     */
+    @Transactional
+    public BulkPlan plan(List<MemberCreateRequestDto> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("등록할 회원이 없습니다.");
+        }
+        if (requests.size() > properties.getMaxRows()) {
+            throw new IllegalArgumentException("한 번에 최대 " + properties.getMaxRows() + "명까지 등록할 수 있습니다.");
+        }
+
+        List<MemberBulkResultDto> rejected = new ArrayList<>();
+        List<Row> candidates = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            MemberCreateRequestDto request = requests.get(i);
+            String invalidReason = validate(request);
+            if (invalidReason != null) {
+                rejected.add(MemberBulkResultDto.rejected(i, request == null ? null : request.getUsername(),
+                        Status.INVALID, invalidReason));
+            } else if (!seen.add(request.getUsername())) {
+                rejected.add(MemberBulkResultDto.rejected(i, request.getUsername(),
+                        Status.DUPLICATE, "요청 안에서 중복된 아이디입니다."));
+            } else {
+                candidates.add(new Row(i, request));
+            }
+        }
+
+        Set<String> existing = seen.isEmpty()
+                ? Set.of()
+                : new HashSet<>(memberRepository.findExistingUsernames(seen));
+
+        List<Row> accepted = new ArrayList<>(candidates.size());
+        for (Row row : candidates) {
+            if (existing.contains(row.request().getUsername())) {
+                rejected.add(MemberBulkResultDto.rejected(row.index(), row.request().getUsername(),
+                        Status.DUPLICATE, "이미 사용 중인 아이디입니다."));
+            } else {
+                accepted.add(row);
+            }
+        }
+
+        log.info("회원 일괄 등록 준비: 요청={}, 등록 대상={}, 거절={}",
+                requests.size(), accepted.size(), rejected.size());
+        return new BulkPlan(rejected, accepted);
+    }
+
+    /**
+     * 2단계: chunk 단위 암호화 + 저장
+     *
+     * @param plan plan() 의 결과
+     * @param sink chunk 가 커밋될 때마다 해당 chunk 의 행별 결과를 받는다
+     */
+    public void provision(BulkPlan plan, Consumer<List<MemberBulkResultDto>> sink) {
+        List<Row> accepted = plan.accepted();
+        int created = 0;
+
+        for (int from = 0; from < accepted.size(); from += properties.getChunkSize()) {
+            List<Row> chunk = accepted.subList(from, Math.min(from + properties.getChunkSize(), accepted.size()));
+            List<String> hashes = hash(chunk);
+            List<MemberBulkResultDto> results = insertChunk(chunk, hashes);
+            evictUsernameQueryCache();
+
+            created += (int) results.stream().filter(result -> result.getStatus() == Status.CREATED).count();
+            sink.accept(results);
+        }
+
+        log.info("회원 일괄 등록 완료: 등록={}, 대상={}", created, accepted.size());
+    }
+
+    /**
+     * 요청 순서를 유지한 채 병렬 암호화
+     * 공용 ForkJoinPool 대신 전용 풀에서 실행하여 다른 parallel stream 과 경쟁하지 않도록 한다
+     */
+    private List<String> hash(List<Row> chunk) {
+        return hashPool.submit(() -> chunk.parallelStream()
+                        .map(row -> passwordEncoder.encode(row.request().getPassword()))
+                        .toList())
+                .join();
+    }
+
+    private List<MemberBulkResultDto> insertChunk(List<Row> chunk, List<String> hashes) {
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> batchInsert(chunk, hashes));
+            List<MemberBulkResultDto> results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(MemberBulkResultDto.created(chunk.get(i).index(),
+                        chunk.get(i).request().getUsername(), ids.get(i)));
+            }
+            return results;
+        } catch (DataAccessException e) {
+            // 중복 체크 이후 다른 요청이 같은 username 을 등록한 경우 등 → chunk 전체가 롤백되므로 행 단위로 다시 시도
+            log.warn("일괄 INSERT 실패, 행 단위로 재시도: {}", e.getMessage());
+            return insertOneByOne(chunk, hashes);
+        }
+    }
+
+    private List<Long> batchInsert(List<Row> chunk, List<String> hashes) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        MemberCreateRequestDto request = chunk.get(i).request();
+                        ps.setString(1, request.getUsername());
+                        ps.setString(2, hashes.get(i));
+                        ps.setString(3, request.getName());
+                        ps.setTimestamp(4, now);
+                        ps.setString(5, MemberRole.ROLE_USER.name());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != chunk.size()) {
+            throw new IllegalStateException("생성된 키 수가 INSERT 행 수와 다릅니다: " + keys.size() + "/" + chunk.size());
+        }
+        return keys.stream()
+                .map(key -> ((Number) key.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    private List<MemberBulkResultDto> insertOneByOne(List<Row> chunk, List<String> hashes) {
+        List<MemberBulkResultDto> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Row row = chunk.get(i);
+            List<String> hash = hashes.subList(i, i + 1);
+            String username = row.request().getUsername();
+            try {
+                Long id = transactionTemplate.execute(status -> batchInsert(List.of(row), hash).get(0));
+                results.add(MemberBulkResultDto.created(row.index(), username, id));
+            } catch (DuplicateKeyException e) {
+                results.add(MemberBulkResultDto.rejected(row.index(), username, Status.DUPLICATE, "이미 사용 중인 아이디입니다."));
+            } catch (DataAccessException e) {
+                log.error("회원 등록 실패: username={}", username, e);
+                results.add(MemberBulkResultDto.rejected(row.index(), username, Status.FAILED, "회원 등록에 실패했습니다."));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * JDBC 로 직접 INSERT 하면 Hibernate 가 members 테이블 변경을 알지 못하므로
+     * "존재하지 않음" 으로 캐시된 username 조회 결과를 직접 무효화
+     */
+    private void evictUsernameQueryCache() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(USERNAME_QUERY_REGION);
+    }
+
+    private String validate(MemberCreateRequestDto request) {
+        if (request == null) {
+            return "빈 요청입니다.";
+        }
+        if (request.getUsername() == null || request.getUsername().isBlank()) {
+            return "아이디는 필수입니다.";
+        }
+        if (request.getUsername().length() > USERNAME_MAX_LENGTH) {
+            return "아이디는 " + USERNAME_MAX_LENGTH + "자 이하여야 합니다.";
+        }
+        if (request.getPassword() == null || request.getPassword().isBlank()) {
+            return "비밀번호는 필수입니다.";
+        }
+        if (request.getName() == null || request.getName().isBlank()) {
+            return "이름은 필수입니다.";
+        }
+        if (request.getName().length() > NAME_MAX_LENGTH) {
+            return "이름은 " + NAME_MAX_LENGTH + "자 이하여야 합니다.";
+        }
+        return null;
+    }
+
+    @Override
+    public void destroy() {
+        hashPool.shutdownNow();
+    }
+
+    /**
+     * 요청 배열에서의 위치와 요청 내용
+     */
+    public record Row(int index, MemberCreateRequestDto request) {
+    }
+
+    /**
+     * 검증 / 중복 체크 결과
+     *
+     * @param rejected 등록하지 않을 행의 결과 (INVALID, DUPLICATE)
+     * @param accepted 등록할 행
+     */
+    public record BulkPlan(List<MemberBulkResultDto> rejected, List<Row> accepted) {
+    }
+}
@@ -0,0 +1,18 @@
+package org.kosa.myproject.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 회원 일괄 조회 설정 (GET /api/members?ids=)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.member-lookup")
+public class MemberLookupProperties {
+
+    private int maxIds = 500;       // 요청 한 번에 조회할 수 있는 최대 id 수 (중복 제거 후)
+
+    private int chunkSize = 250;    // IN 절 하나에 담는 id 수 (초과하면 나눠서 조회)
+}
@@ -1,5 +1,6 @@
 package org.kosa.myproject.service;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.kosa.myproject.dto.MemberCreateRequestDto;
@@ -7,10 +8,18 @@ import org.kosa.myproject.dto.MemberResponseDto;
 import org.kosa.myproject.entity.Member;
 import org.kosa.myproject.entity.MemberRole;
 import org.kosa.myproject.repository.MemberRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * MemberService - 회원 관리 핵심 비즈니스 로직
  *
@@ -21,12 +30,15 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Slf4j
 @Service
+@Observed(name = "app.service")  // 실행 시간 타이머 + 추적 span, class / method 태그로 메서드별 구분
+@EnableConfigurationProperties(MemberLookupProperties.class)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class MemberService {
     
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;  // 비밀번호 암호화
+    private final MemberLookupProperties lookupProperties;
     /**
      * 회원가입 - JWT 인증의 시작점
      *
@@ -108,6 +120,41 @@ public class MemberService {
         return MemberResponseDto.from(member);
     }
 
+    /**
+     * 3-1. 여러 ID(PK)로 회원 일괄 조회 - 게시글 목록의 작성자 카드 등
+     *
+     * findById 를 id 마다 호출하면 HTTP 요청과 쿼리가 N 번씩 발생하므로
+     * 중복을 제거한 뒤 IN 쿼리로 한 번에 조회 (chunkSize 를 넘으면 나눠서 조회)
+     *
+     * @param ids 조회할 회원 ID 목록 (중복 허용)
+     * @return 요청 순서를 유지한 id → 회원 정보 (존재하지 않는 id 는 제외)
+     */
+    public Map<Long, MemberResponseDto> findAllByIds(List<Long> ids) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+        if (distinctIds.size() > lookupProperties.getMaxIds()) {
+            throw new IllegalArgumentException("한 번에 최대 " + lookupProperties.getMaxIds() + "명까지 조회할 수 있습니다.");
+        }
+        log.debug("회원 일괄 조회: {}건", distinctIds.size());
+
+        Map<Long, Member> found = new LinkedHashMap<>();
+        List<Long> idList = new ArrayList<>(distinctIds);
+        for (int from = 0; from < idList.size(); from += lookupProperties.getChunkSize()) {
+            List<Long> chunk = idList.subList(from, Math.min(from + lookupProperties.getChunkSize(), idList.size()));
+            memberRepository.findAllById(chunk).forEach(member -> found.put(member.getId(), member));
+        }
+
+        // IN 쿼리 결과 순서는 보장되지 않으므로 요청 순서로 다시 정렬
+        Map<Long, MemberResponseDto> result = new LinkedHashMap<>();
+        for (Long id : distinctIds) {
+            Member member = found.get(id);
+            if (member != null) {
+                result.put(id, MemberResponseDto.from(member));
+            }
+        }
+        return result;
+    }
+
     /**
      * 4. 현재 로그인한 회원 정보 조회
      *
@@ -182,7 +229,29 @@ public class MemberService {
     }
 
     /**
-     * 7. 회원 Entity 조회 - 내부용
+     * 7. 회원 권한 변경 - 관리자용
+     *
+     * 변경 감지(dirty checking)로 UPDATE 되므로
+     * 커밋 시 2차 캐시(member 영역)와 members 관련 쿼리 캐시도 함께 갱신/무효화된다
+     *
+     * @param memberId 권한을 변경할 회원 ID
+     * @param newRole 새 권한
+     * @return MemberResponseDto 변경된 회원 정보
+     */
+    @Transactional
+    public MemberResponseDto changeRole(Long memberId, MemberRole newRole) {
+        log.info("회원 권한 변경: id={}, role={}", memberId, newRole);
+
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+
+        member.changeRole(newRole);
+
+        return MemberResponseDto.from(member);
+    }
+
+    /**
+     * 8. 회원 Entity 조회 - 내부용
      *
      * 다른 Service에서 Member 엔티티가 필요할 때 사용
      * (예: PostService에서 작성자 정보 필요)
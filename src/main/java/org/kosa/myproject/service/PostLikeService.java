@@ -0,0 +1,285 @@
+package org.kosa.myproject.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.dto.PostLikeResponseDto;
+import org.kosa.myproject.reaction.PostLikeIndex;
+import org.kosa.myproject.reaction.ReactionProperties;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 게시글 좋아요 Service
+ *
+ * 저장: post_likes 테이블 (PK (post_id, member_id) 로 회원당 한 번만)
+ * 조회: PostLikeIndex (게시글별 회원 id 비트맵) - 목록 / 상세 응답에서 게시글마다 쿼리하지 않음
+ *
+ * 일관성
+ * - 좋아요 / 취소는 인덱스 상태와 관계없이 항상 DB 에 반영하고, 그 결과로 인덱스를 맞춘다
+ *   (다른 인스턴스에서 바뀐 좋아요를 이 인스턴스가 모르고 있어도 DB 는 요청대로 바뀜)
+ * - 같은 (게시글, 회원) 의 요청은 잠금 stripe 로 직렬화하여 DB 와 인덱스의 반영 순서가 뒤바뀌지 않게 한다
+ * - DB 쓰기는 JdbcTemplate 단독 문장(auto-commit)이므로 호출자의 트랜잭션 안에서 부르면 안 된다
+ *   (롤백되면 인덱스만 바뀐 채로 남음)
+ * - 인덱스는 인스턴스 메모리 기준 → 다른 인스턴스의 변경은 resync-interval-ms 마다 재구성하여 반영
+ *
+ * 재구성
+ * - 모든 싱글톤 생성 직후(웹 서버가 요청을 받기 전) 한 번, 이후 주기적으로 post_id 범위를 나눠 병렬로 읽어 비트맵을 만든다
+ * - 읽는 동안에도 좋아요 / 취소는 멈추지 않는다 (그 사이 이 인스턴스에서 반영한 변경은 기록해 두었다가 새 인덱스에 덧씌움)
+ */
+@Slf4j
+@Service
+@EnableConfigurationProperties(ReactionProperties.class)
+public class PostLikeService implements SmartInitializingSingleton {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO post_likes (post_id, member_id, created_at) VALUES (?, ?, ?)";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM post_likes WHERE post_id = ? AND member_id = ?";
+
+    private static final String RANGE_SQL =
+            "SELECT MIN(post_id), MAX(post_id) FROM post_likes";
+
+    // PK (post_id, member_id) 범위 스캔
+    private static final String SELECT_RANGE_SQL =
+            "SELECT post_id, member_id FROM post_likes WHERE post_id BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReactionProperties properties;
+    private final PostLikeIndex index = new PostLikeIndex();
+    private final ReentrantLock[] stripes;
+    // 쓰기는 read lock, 재구성은 변경 기록 시작 / 인덱스 교체 순간에만 write lock
+    private final ReentrantReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildMutex = new ReentrantLock();
+    // 재구성 중 이 인스턴스에서 반영한 좋아요 상태 (재구성 중이 아니면 null)
+    private volatile Map<PostMember, Boolean> changesDuringRebuild;
+
+    public PostLikeService(JdbcTemplate jdbcTemplate, ReactionProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.stripes = new ReentrantLock[Math.max(1, properties.getLockStripes())];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+
+        Gauge.builder("app.reactions.index.posts", index, PostLikeIndex::getPostCount)
+                .description("좋아요 인덱스에 비트맵이 있는 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("app.reactions.index.bytes", index, PostLikeIndex::getSizeInBytes)
+                .description("좋아요 비트맵 크기 합계")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * 좋아요 (이미 좋아요 한 상태면 그대로)
+     *
+     * @throws IllegalArgumentException 게시글 또는 회원이 없는 경우
+     */
+    public PostLikeResponseDto like(Long postId, Long memberId) {
+        write(postId, memberId, () -> {
+            try {
+                jdbcTemplate.update(INSERT_SQL, postId, memberId, Timestamp.valueOf(LocalDateTime.now()));
+            } catch (DuplicateKeyException e) {
+                // 이미 저장됨 (다른 인스턴스에서 좋아요 했거나 이전 요청과 겹침) → 인덱스만 맞춘다
+                log.debug("이미 저장된 좋아요: postId={}, memberId={}", postId, memberId);
+            } catch (DataIntegrityViolationException e) {
+                throw new IllegalArgumentException("존재하지 않는 게시글입니다.");
+            }
+            index.add(postId, memberId);
+            return true;
+        });
+        return status(postId, memberId);
+    }
+
+    /**
+     * 좋아요 취소 (좋아요 하지 않은 상태면 그대로)
+     */
+    public PostLikeResponseDto unlike(Long postId, Long memberId) {
+        write(postId, memberId, () -> {
+            int deleted = jdbcTemplate.update(DELETE_SQL, postId, memberId);
+            boolean removed = index.remove(postId, memberId);
+            if (deleted == 0 && removed) {
+                // 다른 인스턴스에서 이미 취소됨 (이 인스턴스의 인덱스가 뒤처져 있었음)
+                log.debug("이미 취소된 좋아요: postId={}, memberId={}", postId, memberId);
+            }
+            return false;
+        });
+        return status(postId, memberId);
+    }
+
+    public long getLikeCount(Long postId) {
+        return index.count(postId);
+    }
+
+    /**
+     * @param memberId 현재 회원 (비로그인이면 null → false)
+     */
+    public boolean isLikedBy(Long postId, Long memberId) {
+        return memberId != null && index.contains(postId, memberId);
+    }
+
+    /**
+     * 다른 인스턴스에서 바뀐 좋아요 반영 (주기적 재구성)
+     */
+    @Scheduled(fixedDelayString = "${app.reaction.resync-interval-ms:60000}",
+            initialDelayString = "${app.reaction.resync-interval-ms:60000}")
+    public void resync() {
+        rebuild();
+    }
+
+    /**
+     * post_likes 전체를 읽어 인덱스를 다시 만든다
+     * 읽는 동안의 좋아요 / 취소는 그대로 처리하고, 그 결과를 새 인덱스에 덧씌운 뒤 교체한다
+     *
+     * @return 읽은 좋아요 수
+     */
+    public long rebuild() {
+        rebuildMutex.lock();
+        try {
+            long started = System.nanoTime();
+            Map<PostMember, Boolean> changes = new ConcurrentHashMap<>();
+            // 진행 중인 쓰기가 끝난 뒤부터 기록 (이전 쓰기는 아래 스냅샷에 이미 포함)
+            rebuildLock.writeLock().lock();
+            try {
+                changesDuringRebuild = changes;
+            } finally {
+                rebuildLock.writeLock().unlock();
+            }
+
+            Map<Long, RoaringBitmap> bitmaps;
+            try {
+                bitmaps = load();
+            } catch (RuntimeException e) {
+                changesDuringRebuild = null;
+                throw e;
+            }
+
+            rebuildLock.writeLock().lock();
+            try {
+                changes.forEach((key, liked) -> {
+                    RoaringBitmap members = bitmaps.computeIfAbsent(key.postId(), id -> new RoaringBitmap());
+                    if (liked) {
+                        members.add((int) key.memberId());
+                    } else {
+                        members.remove((int) key.memberId());
+                    }
+                });
+                index.replaceAll(bitmaps);
+            } finally {
+                changesDuringRebuild = null;
+                rebuildLock.writeLock().unlock();
+            }
+
+            long total = bitmaps.values().stream().mapToLong(RoaringBitmap::getLongCardinality).sum();
+            log.info("좋아요 인덱스 재구성: 게시글 {}개, 좋아요 {}건, 재구성 중 변경 {}건, {}byte, {}ms", bitmaps.size(), total,
+                    changes.size(), index.getSizeInBytes(), (System.nanoTime() - started) / 1_000_000);
+            return total;
+        } finally {
+            rebuildMutex.unlock();
+        }
+    }
+
+    private Map<Long, RoaringBitmap> load() {
+        long[] range = jdbcTemplate.queryForObject(RANGE_SQL, (rs, rowNum) -> {
+            long min = rs.getLong(1);
+            return rs.wasNull() ? null : new long[]{min, rs.getLong(2)};
+        });
+        if (range == null) {
+            return new HashMap<>();
+        }
+
+        int parallelism = properties.getRebuildParallelism() > 0
+                ? properties.getRebuildParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        long partitions = (long) parallelism * Math.max(1, properties.getRebuildPartitionsPerThread());
+        long width = Math.max(1, (range[1] - range[0] + partitions) / partitions);
+
+        Map<Long, RoaringBitmap> bitmaps = new HashMap<>();
+        try (ExecutorService workers = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("post-like-rebuild-", 0).daemon().factory())) {
+            List<Future<Map<Long, RoaringBitmap>>> parts = new ArrayList<>();
+            for (long from = range[0]; from <= range[1]; from += width) {
+                long to = Math.min(range[1], from + width - 1);
+                long start = from;
+                parts.add(workers.submit(() -> loadRange(start, to)));
+            }
+            for (Future<Map<Long, RoaringBitmap>> part : parts) {
+                bitmaps.putAll(part.get());  // 범위가 겹치지 않으므로 그대로 합친다
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("좋아요 인덱스 재구성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("좋아요 인덱스 재구성 실패", e.getCause());
+        }
+        return bitmaps;
+    }
+
+    private Map<Long, RoaringBitmap> loadRange(long fromPostId, long toPostId) {
+        Map<Long, RoaringBitmap> bitmaps = new HashMap<>();
+        jdbcTemplate.query(SELECT_RANGE_SQL, rs -> {
+            bitmaps.computeIfAbsent(rs.getLong(1), id -> new RoaringBitmap()).add((int) rs.getLong(2));
+        }, fromPostId, toPostId);
+        // 연속된 id 구간은 run 컨테이너로 압축
+        bitmaps.values().forEach(RoaringBitmap::runOptimize);
+        return bitmaps;
+    }
+
+    /**
+     * @param action DB 와 인덱스에 반영하고 반영 후 좋아요 상태를 반환
+     */
+    private void write(Long postId, Long memberId, BooleanSupplier action) {
+        ReentrantLock stripe = stripes[Math.floorMod(31 * postId.hashCode() + memberId.hashCode(), stripes.length)];
+        rebuildLock.readLock().lock();
+        stripe.lock();
+        try {
+            boolean liked = action.getAsBoolean();
+            Map<PostMember, Boolean> changes = changesDuringRebuild;
+            if (changes != null) {
+                changes.put(new PostMember(postId, memberId), liked);
+            }
+        } finally {
+            stripe.unlock();
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    private PostLikeResponseDto status(Long postId, Long memberId) {
+        return PostLikeResponseDto.builder()
+                .postId(postId)
+                .likeCount(index.count(postId))
+                .likedByMe(isLikedBy(postId, memberId))
+                .build();
+    }
+
+    private record PostMember(long postId, long memberId) {
+    }
+}
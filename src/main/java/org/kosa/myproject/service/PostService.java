@@ -1,5 +1,6 @@
 package org.kosa.myproject.service;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.kosa.myproject.dto.PostCreateRequestDto;
@@ -7,11 +8,16 @@ import org.kosa.myproject.dto.PostDetailResponseDto;
 import org.kosa.myproject.dto.PostListResponseDto;
 import org.kosa.myproject.entity.Member;
 import org.kosa.myproject.entity.Post;
+import org.kosa.myproject.markdown.MarkdownRenderer;
 import org.kosa.myproject.repository.PostRepository;
+import org.kosa.myproject.stream.PostCreatedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -20,18 +26,33 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Service
+@Observed(name = "app.service")
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class PostService {
     
     private final PostRepository postRepository;
     private final MemberService memberService;
+    private final ApplicationEventPublisher eventPublisher;  // 새 게시글 SSE 스트림 통지
+    private final MarkdownRenderer markdownRenderer;          // 본문 Markdown → HTML (작성 / 수정 시 한 번만)
+    private final CommentService commentService;              // 목록의 댓글 수 집계
+    private final PostLikeService postLikeService;            // 좋아요 수 / 여부 (인메모리 인덱스)
     /**
      * 1. 전체 게시글 목록 조회
      *
      * @return 게시글 목록 (간략한 정보만 포함)
      */
     public List<PostListResponseDto> getAllPosts() {
+        return getAllPosts(null);
+    }
+
+    /**
+     * 1-1. 전체 게시글 목록 조회 - 현재 회원의 좋아요 여부 포함
+     *
+     * @param viewerId 현재 회원 ID (비로그인이면 null)
+     * @return 게시글 목록 (간략한 정보만 포함)
+     */
+    public List<PostListResponseDto> getAllPosts(Long viewerId) {
         log.info("=== 게시글 목록 조회 시작 ===");
 
         // fetch join으로 작성자 정보까지 한 번에 조회
@@ -39,9 +60,16 @@ public class PostService {
 
         log.info("조회된 게시글 수: {}", posts.size());
 
-        // Entity → DTO 변환
+        // 댓글 수는 게시글마다 COUNT 하지 않고 GROUP BY 한 번으로 집계
+        Map<Long, Long> commentCounts = commentService.countByPostIds(
+                posts.stream().map(Post::getId).toList());
+
+        // Entity → DTO 변환 (좋아요는 인덱스에서 계산하므로 쿼리 없음)
         return posts.stream()
-                .map(PostListResponseDto::from)  // 메서드 레퍼런스
+                .map(post -> PostListResponseDto.from(post,
+                        commentCounts.getOrDefault(post.getId(), 0L),
+                        postLikeService.getLikeCount(post.getId()),
+                        postLikeService.isLikedBy(post.getId(), viewerId)))
                 .collect(Collectors.toList());
     }
 
@@ -53,6 +81,18 @@ public class PostService {
      * @throws IllegalArgumentException 게시글이 없을 경우
      */
     public PostDetailResponseDto getPostById(Long postId) {
+        return getPostById(postId, null);
+    }
+
+    /**
+     * 2-1. 게시글 상세 조회 - 현재 회원의 좋아요 여부 포함
+     *
+     * @param postId   조회할 게시글 ID
+     * @param viewerId 현재 회원 ID (null 이면 좋아요 여부 false)
+     * @return 게시글 상세 정보
+     * @throws IllegalArgumentException 게시글이 없을 경우
+     */
+    public PostDetailResponseDto getPostById(Long postId, Long viewerId) {
         log.info("=== 게시글 상세 조회: id={} ===", postId);
 
         // 게시글 조회 (작성자 정보 포함)
@@ -64,7 +104,12 @@ public class PostService {
 
         log.info("게시글 조회 성공: title={}", post.getTitle());
 
-        return PostDetailResponseDto.from(post);
+        // PostRenderJob 이 아직 처리하지 않은 게시글은 응답용으로만 렌더링 (읽기 전용 트랜잭션이므로 저장은 job 에 맡김)
+        String contentHtml = post.isRendered(MarkdownRenderer.VERSION)
+                ? post.getContentHtml()
+                : markdownRenderer.render(post.getContent());
+        return PostDetailResponseDto.from(post, contentHtml,
+                postLikeService.getLikeCount(postId), postLikeService.isLikedBy(postId, viewerId));
     }
 
     /**
@@ -82,10 +127,12 @@ public class PostService {
         // 1. 작성자 정보 조회
         Member author = memberService.getMemberEntity(username);
 
-        // 2. Post 엔티티 생성
+        // 2. Post 엔티티 생성 (본문은 저장 전에 한 번 렌더링)
         Post post = Post.builder()
                 .title(requestDto.getTitle())
                 .content(requestDto.getContent())
+                .contentHtml(markdownRenderer.render(requestDto.getContent()))
+                .renderVersion(MarkdownRenderer.VERSION)
                 .author(author)  // 작성자 설정
                 .build();
 
@@ -94,12 +141,50 @@ public class PostService {
         log.info("게시글 작성 완료: id={}, title={}",
                 savedPost.getId(), savedPost.getTitle());
 
-        // 4. DTO 변환 후 반환
+        // 4. 구독자에게 새 게시글 통지 (커밋 후 PostStreamBroadcaster 가 전송)
+        eventPublisher.publishEvent(new PostCreatedEvent(PostListResponseDto.from(savedPost)));
+
+        // 5. DTO 변환 후 반환
         return PostDetailResponseDto.from(savedPost);
     }
 
     /**
-     * 4. 작성자 권한 확인 (추후 수정/삭제 시 사용)
+     * 4. 게시글 수정 - 작성자만 가능
+     *
+     * 변경 감지로 UPDATE 되므로 커밋 시 2차 캐시(post 영역)와
+     * posts 관련 쿼리 캐시가 함께 갱신/무효화된다
+     *
+     * @param postId 수정할 게시글 ID
+     * @param requestDto 수정할 제목/내용
+     * @param username 현재 로그인한 사용자
+     * @return 수정된 게시글 상세 정보
+     * @throws AccessDeniedException 작성자가 아닐 경우
+     */
+    @Transactional
+    public PostDetailResponseDto updatePost(Long postId, PostCreateRequestDto requestDto, String username) {
+        log.info("=== 게시글 수정: id={}, username={} ===", postId, username);
+
+        Post post = postRepository.findByIdWithAuthor(postId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
+        Member member = memberService.getMemberEntity(username);
+
+        if (!post.isAuthor(member)) {
+            log.warn("게시글 수정 권한 없음: id={}, username={}", postId, username);
+            throw new AccessDeniedException("작성자만 게시글을 수정할 수 있습니다.");
+        }
+
+        String previousContent = post.getContent();
+        post.updatePost(requestDto.getTitle(), requestDto.getContent());
+        if (!post.getContent().equals(previousContent) || !post.isRendered(MarkdownRenderer.VERSION)) {
+            post.applyRenderedContent(markdownRenderer.render(post.getContent()), MarkdownRenderer.VERSION);
+        }
+
+        return PostDetailResponseDto.from(post, post.getContentHtml(),
+                postLikeService.getLikeCount(postId), postLikeService.isLikedBy(postId, member.getId()));
+    }
+
+    /**
+     * 5. 작성자 권한 확인 (추후 수정/삭제 시 사용)
      *
      * @param postId 게시글 ID
      * @param username 확인할 사용자
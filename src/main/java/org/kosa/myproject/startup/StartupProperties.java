@@ -0,0 +1,24 @@
+package org.kosa.myproject.startup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 기동 시간 측정 / CDS 학습 실행 설정 (app.startup)
+ *
+ * 학습 실행은 ./gradlew startupReport -PembeddedDb 가 embedded 프로필로 켠다 (운영 DB 에 학습용 회원 / 글이 생기지 않도록)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.startup")
+public class StartupProperties {
+
+    private boolean trainingRun = false;       // 기동 직후 주요 요청(로그인, JWT, 게시글)을 실행
+
+    private boolean exitAfterTraining = true;  // 학습 실행 후 종료 (CDS 아카이브는 JVM 종료 시 기록됨)
+
+    private String reportPath;                 // 기동 타임라인 JSON 기록 위치 (없으면 로그만)
+
+    private int slowestBeans = 10;             // 타임라인에 함께 기록할 느린 빈 개수
+}
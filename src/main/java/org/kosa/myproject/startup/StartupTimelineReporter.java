@@ -0,0 +1,163 @@
+package org.kosa.myproject.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.StreamSupport;
+
+/**
+ * StartupTimelineReporter - 기동 타임라인 요약 / 기록
+ *
+ * 기동 완료(ApplicationReadyEvent) 시점에 BufferingApplicationStartup(main 에서 설정)이 기록한 단계 중
+ * 기동 시간을 좌우하는 단계만 골라 로그로 남기고, app.startup.report-path 가 있으면 JSON 으로 기록한다
+ * - contextRefresh     : 컨텍스트 refresh 전체 (빈 생성 포함)
+ * - hibernateBootstrap : entityManagerFactory 생성 (매핑 / 2차 캐시 / 바이트코드 향상 확인)
+ * - flywayMigration    : 마이그레이션 검증 / 적용
+ * 빈 단위 시간은 그 빈이 생성하는 의존 빈 시간을 포함한다 (hibernateBootstrap 에 flywayMigration 포함)
+ * - springdocScan      : 첫 /api-docs 요청의 컨트롤러 스캔 (지연 수행되므로 학습 실행이 측정해 전달)
+ * - timeToFirstRequest : JVM 시작 ~ 첫 요청 응답 완료 (학습 실행이 측정해 전달)
+ *
+ * JVM 시작 시점 기준 값은 RuntimeMXBean uptime 을 사용하므로 클래스 로딩(CDS 효과)까지 포함된다
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(StartupProperties.class)
+public class StartupTimelineReporter {
+
+    private static final Map<String, String> BEAN_PHASES = Map.of(
+            "entityManagerFactory", "hibernateBootstrap",
+            "flywayInitializer", "flywayMigration");
+
+    private final StartupProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Object> report = new ConcurrentHashMap<>();
+    private final Map<String, Long> phases = new ConcurrentHashMap<>();
+
+    public StartupTimelineReporter(StartupProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        report.put("readyMs", event.getTimeTaken().toMillis());
+        report.put("jvmUptimeAtReadyMs", ManagementFactory.getRuntimeMXBean().getUptime());
+        report.put("aotEnabled", AotDetector.useGeneratedArtifacts());
+        cdsArchive().ifPresent(archive -> report.put("cdsArchive", archive));
+
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (startup instanceof BufferingApplicationStartup buffering) {
+            summarize(buffering.getBufferedTimeline().getEvents());
+        }
+        log.info("기동 완료: ready={}ms, jvmUptime={}ms, 단계={}",
+                report.get("readyMs"), report.get("jvmUptimeAtReadyMs"), phases);
+
+        if (!properties.isTrainingRun()) {
+            // 학습 실행은 측정을 마친 뒤 StartupTrainingRun 이 기록
+            write();
+        }
+    }
+
+    /**
+     * 기동 이후에 측정되는 단계 (springdocScan 등)
+     */
+    public void recordPhase(String name, Duration duration) {
+        phases.put(name, duration.toMillis());
+    }
+
+    /**
+     * 첫 요청 응답 완료 시점 (JVM 시작 기준)
+     */
+    public void recordFirstRequest() {
+        report.putIfAbsent("timeToFirstRequestMs", ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    public Map<String, Object> getReport() {
+        Map<String, Object> snapshot = new LinkedHashMap<>(report);
+        snapshot.put("phases", Map.copyOf(phases));
+        return snapshot;
+    }
+
+    /**
+     * app.startup.report-path 에 JSON 기록 (경로가 없으면 아무것도 하지 않음)
+     */
+    public void write() {
+        if (properties.getReportPath() == null || properties.getReportPath().isBlank()) {
+            return;
+        }
+        Path path = Path.of(properties.getReportPath());
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), getReport());
+            log.info("기동 타임라인 기록: {}", path.toAbsolutePath());
+        } catch (IOException e) {
+            log.warn("기동 타임라인 기록 실패: {}", path, e);
+        }
+    }
+
+    private void summarize(List<TimelineEvent> events) {
+        for (TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            if ("spring.context.refresh".equals(step.getName())) {
+                phases.put("contextRefresh", event.getDuration().toMillis());
+            } else if ("spring.beans.instantiate".equals(step.getName())) {
+                String beanName = tag(step, "beanName");
+                String phase = beanName == null ? null : BEAN_PHASES.get(BeanFactoryUtils.transformedBeanName(beanName));
+                if (phase != null) {
+                    phases.put(phase, event.getDuration().toMillis());
+                }
+            }
+        }
+
+        List<Map<String, Object>> slowest = events.stream()
+                .filter(event -> "spring.beans.instantiate".equals(event.getStartupStep().getName()))
+                .sorted(Comparator.comparing(TimelineEvent::getDuration).reversed())
+                .limit(properties.getSlowestBeans())
+                .map(event -> Map.<String, Object>of(
+                        "bean", String.valueOf(tag(event.getStartupStep(), "beanName")),
+                        "ms", event.getDuration().toMillis()))
+                .toList();
+        report.put("slowestBeans", slowest);
+    }
+
+    private static String tag(StartupStep step, String key) {
+        return StreamSupport.stream(step.getTags().spliterator(), false)
+                .filter(tag -> key.equals(tag.getKey()))
+                .map(StartupStep.Tag::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static Optional<String> cdsArchive() {
+        return ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .filter(arg -> arg.startsWith("-XX:SharedArchiveFile=") || arg.startsWith("-XX:ArchiveClassesAtExit="))
+                .findFirst();
+    }
+}
@@ -0,0 +1,125 @@
+package org.kosa.myproject.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * StartupTrainingRun - CDS 아카이브 학습 실행 (app.startup.training-run=true)
+ *
+ * 기동 직후 자기 자신에게 실제 요청을 보내 운영 트래픽이 처음 지나가는 경로의 클래스를 모두 로딩한 뒤 종료한다
+ * -XX:ArchiveClassesAtExit 로 실행하면 종료 시점까지 로딩된 클래스가 아카이브에 기록되므로
+ * 기동에 필요한 클래스뿐 아니라 첫 요청 처리에 필요한 클래스(JsonLoginFilter, BCrypt, jjwt, JwtFilter,
+ * 게시글 조회 / 작성, 예외 응답, springdoc)까지 다음 기동에서 아카이브에서 바로 읽힌다
+ *
+ * 같은 실행으로 첫 요청까지 걸린 시간, springdoc 스캔 시간도 측정해 StartupTimelineReporter 에 전달한다
+ *
+ * 빈 등록 여부를 @ConditionalOnProperty 로 가르지 않는 이유 : Spring AOT(spring.aot.enabled) 로 실행하면
+ * 조건이 빌드 시점에 확정되므로, 실행 인자로 켤 수 있도록 빈은 항상 두고 속성은 실행 시점에 확인한다
+ */
+@Slf4j
+@Component
+public class StartupTrainingRun {
+
+    private final StartupProperties properties;
+    private final StartupTimelineReporter reporter;
+    private final ObjectMapper objectMapper;
+    private final String apiDocsPath;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public StartupTrainingRun(StartupProperties properties,
+                              StartupTimelineReporter reporter,
+                              ObjectMapper objectMapper,
+                              @Value("${springdoc.api-docs.path:/v3/api-docs}") String apiDocsPath) {
+        this.properties = properties;
+        this.reporter = reporter;
+        this.objectMapper = objectMapper;
+        this.apiDocsPath = apiDocsPath;
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) throws IOException, InterruptedException {
+        if (!properties.isTrainingRun()) {
+            return;
+        }
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        train("http://localhost:" + port);
+        reporter.write();
+
+        if (properties.isExitAfterTraining()) {
+            log.info("학습 실행 완료, 종료");
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    private void train(String baseUrl) throws IOException, InterruptedException {
+        // 첫 요청 : 인증 없는 게시글 목록 (배포 직후 가장 먼저 몰리는 요청)
+        expect(200, get(baseUrl + "/api/posts"));
+        reporter.recordFirstRequest();
+
+        String username = "startup-" + UUID.randomUUID().toString().substring(0, 8);
+        expect(201, post(baseUrl + "/api/members",
+                "{\"username\":\"" + username + "\",\"password\":\"training\",\"name\":\"학습\"}"));
+
+        HttpResponse<String> login = expect(200, post(baseUrl + "/api/auth/login",
+                "{\"username\":\"" + username + "\",\"password\":\"training\"}"));
+        String token = login.headers().firstValue("Authorization")
+                .orElseThrow(() -> new IllegalStateException("로그인 응답에 토큰이 없습니다."));
+
+        expect(200, get(baseUrl + "/api/members/me").header("Authorization", token));
+        HttpResponse<String> created = expect(201, post(baseUrl + "/api/posts",
+                "{\"title\":\"학습 실행\",\"content\":\"기동 최적화용 학습 데이터\"}").header("Authorization", token));
+        long postId = objectMapper.readTree(created.body()).at("/data/id").asLong();
+        expect(200, get(baseUrl + "/api/posts/" + postId).header("Authorization", token));
+        expect(200, get(baseUrl + "/api/posts"));
+
+        // 오류 경로 (JwtFilter 검증 실패 → JwtAuthenticationEntryPoint)
+        expect(401, get(baseUrl + "/api/members/me").header("Authorization", "Bearer invalid"));
+
+        long started = System.nanoTime();
+        expect(200, get(baseUrl + apiDocsPath));
+        reporter.recordPhase("springdocScan", Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private HttpResponse<String> expect(int status, HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpRequest built = request.timeout(Duration.ofSeconds(30)).build();
+        HttpResponse<String> response = httpClient.send(built, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        if (response.statusCode() != status) {
+            throw new IllegalStateException("학습 실행 실패: " + built.method() + " " + built.uri()
+                    + " → " + response.statusCode() + " (기대값 " + status + ") " + response.body());
+        }
+        return response;
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET();
+    }
+
+    private static HttpRequest.Builder post(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,12 @@
+package org.kosa.myproject.stream;
+
+import org.kosa.myproject.dto.PostListResponseDto;
+
+/**
+ * 게시글 작성 이벤트
+ * PostService.createPost 가 발행하고, 트랜잭션 커밋 후 PostStreamBroadcaster 가 구독자에게 전송한다
+ *
+ * @param post 목록 화면용 간략 정보 (content 제외)
+ */
+public record PostCreatedEvent(PostListResponseDto post) {
+}
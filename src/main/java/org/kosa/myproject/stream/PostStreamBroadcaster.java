@@ -0,0 +1,385 @@
+package org.kosa.myproject.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.myproject.dto.PostListResponseDto;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * PostStreamBroadcaster - 새 게시글을 모든 SSE 구독자에게 전송하는 단일 브로드캐스터
+ *
+ * 동작 방식:
+ * 1. PostService.createPost 의 트랜잭션이 커밋되면 PostCreatedEvent 수신
+ * 2. 이벤트를 JSON 으로 한 번만 직렬화하여 최근 이벤트 버퍼(재연결용)에 보관
+ * 3. 구독자별 제한된 크기의 큐에 넣고, 소수의 전송 스레드가 큐를 비우며 전송
+ *    → 연결마다 스레드를 점유하지 않으므로 대기 중인 연결이 수만 개여도 스레드 수는 일정
+ * 4. 큐가 가득 찬 구독자(느린 클라이언트)는 연결을 종료시켜 메모리 사용을 제한
+ * 5. 한 번의 전송이 send-timeout 을 넘긴 구독자(읽지 않는 클라이언트)는 구독에서 빼고,
+ *    그 전송에 묶인 스레드 대신 전송 스레드를 하나 보충 → 멈춘 연결 몇 개가 전체 전송을 막지 않음
+ * 6. 주기적으로 heartbeat(주석 이벤트)를 보내 중간 프록시의 idle timeout 방지
+ * 7. 재연결 시 Last-Event-ID 이후의 이벤트를 재전송, 버퍼에서 이미 밀려났다면 reset 이벤트 전송
+ *
+ * 이벤트 id 는 "{인스턴스 epoch}-{전송 순번}" 이다
+ * - 게시글 id 는 커밋 순서와 다를 수 있으므로(먼저 발급된 id 가 나중에 커밋) 재전송 기준으로 쓰지 않는다
+ * - 다른 인스턴스 / 재기동 전의 id 로 재연결하면 순번을 비교할 수 없으므로 reset 이벤트 전송
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(PostStreamProperties.class)
+public class PostStreamBroadcaster implements DisposableBean {
+
+    private final PostStreamProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // 최근 이벤트 버퍼 + 구독 등록은 같은 lock 으로 보호 (재전송과 실시간 전송 사이의 누락/중복 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<StreamEvent> recentEvents = new ArrayDeque<>();
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private long sequence;     // 마지막으로 발급한 전송 순번
+    private long evictedUpTo;  // 버퍼에서 밀려난 마지막 이벤트 순번
+
+    private final ThreadPoolExecutor sender;
+    private int extraSenders;  // 멈춘 전송을 대신해 보충한 스레드 수 (this 로 동기화)
+    private final ScheduledExecutorService heartbeat;
+    private final AtomicLong slowConsumerEvictions = new AtomicLong();
+
+    public PostStreamBroadcaster(PostStreamProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.sender = new ThreadPoolExecutor(properties.getSenderThreads(), properties.getSenderThreads(),
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                Thread.ofPlatform().name("post-stream-sender-", 0).daemon().factory());
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("post-stream-heartbeat").daemon().factory());
+
+        long interval = properties.getHeartbeatInterval().toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, interval, interval, TimeUnit.MILLISECONDS);
+        long check = Math.max(50, properties.getSendTimeout().toMillis() / 4);
+        heartbeat.scheduleAtFixedRate(this::evictStalledSubscribers, check, check, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 새 구독자 등록
+     *
+     * @param lastEventId 재연결 시 클라이언트가 보낸 Last-Event-ID (최초 연결이면 null)
+     * @return 응답으로 반환할 SseEmitter
+     * @throws StreamCapacityExceededException 동시 구독자 수 한도 초과
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(properties.getEmitterTimeout().toMillis()));
+    }
+
+    SseEmitter subscribe(String lastEventId, SseEmitter emitter) {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            throw new StreamCapacityExceededException(properties.getCapacityRetryAfter());
+        }
+
+        Subscriber subscriber = new Subscriber(emitter, properties.getSubscriberBufferSize());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        subscriber.offer(SseEmitter.event()
+                .reconnectTime(properties.getReconnectTime().toMillis())
+                .comment("connected")
+                .build());
+
+        lock.lock();
+        try {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+        schedule(subscriber);
+
+        log.debug("스트림 구독 시작: lastEventId={}, 구독자 수={}", lastEventId, subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * 게시글 작성 트랜잭션이 커밋된 후에만 전송 (롤백된 글은 전송하지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostCreated(PostCreatedEvent event) {
+        PostListResponseDto post = event.post();
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(post);
+        } catch (JsonProcessingException e) {
+            log.error("스트림 이벤트 직렬화 실패: id={}", post.getId(), e);
+            return;
+        }
+        broadcast(json);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public long getSlowConsumerEvictions() {
+        return slowConsumerEvictions.get();
+    }
+
+    void broadcast(String json) {
+        lock.lock();
+        try {
+            StreamEvent event = new StreamEvent(++sequence, epoch + "-" + sequence, json);
+            Set<DataWithMediaType> payload = event.toSse();
+            recentEvents.addLast(event);
+            while (recentEvents.size() > properties.getReplayBufferSize()) {
+                evictedUpTo = recentEvents.removeFirst().sequence();
+            }
+            for (Subscriber subscriber : subscribers) {
+                deliver(subscriber, payload);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void replay(Subscriber subscriber, String lastEventId) {
+        long lastSequence = parseSequence(lastEventId);
+        long missed = recentEvents.stream().filter(event -> event.sequence() > lastSequence).count();
+        if (lastSequence < evictedUpTo || lastSequence > sequence || missed >= subscriber.queue.remainingCapacity()) {
+            // 놓친 이벤트가 버퍼에 남아 있지 않거나 너무 많음 / 다른 인스턴스의 id → 클라이언트가 목록을 다시 조회하도록 알림
+            subscriber.offer(SseEmitter.event().name("reset").data("{}", MediaType.APPLICATION_JSON).build());
+            return;
+        }
+        for (StreamEvent event : recentEvents) {
+            if (event.sequence() > lastSequence) {
+                subscriber.offer(event.toSse());
+            }
+        }
+    }
+
+    /**
+     * @return 이 인스턴스가 발급한 id 의 순번 (다른 인스턴스 / 재기동 전 / 해석할 수 없는 id 면 -1)
+     */
+    private long parseSequence(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !epoch.equals(eventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void sendHeartbeat() {
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("heartbeat").build();
+        for (Subscriber subscriber : subscribers) {
+            deliver(subscriber, ping);
+        }
+    }
+
+    private void deliver(Subscriber subscriber, Set<DataWithMediaType> payload) {
+        if (!subscriber.offer(payload)) {
+            slowConsumerEvictions.incrementAndGet();
+            log.debug("느린 구독자 연결 종료 (대기 이벤트 {} 건 초과)", properties.getSubscriberBufferSize());
+            remove(subscriber);
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    /**
+     * 전송이 send-timeout 을 넘긴 구독자 정리
+     * 막힌 전송 스레드는 되돌릴 수 없으므로(소켓 쓰기 대기) 구독에서 빼고 전송 스레드를 하나 보충한다
+     * 보충한 스레드는 막혔던 전송이 끝나면(연결 끊김 / 소켓 쓰기 timeout) 반납
+     */
+    private void evictStalledSubscribers() {
+        long now = System.nanoTime();
+        long timeout = properties.getSendTimeout().toNanos();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.isStalled(now, timeout) && subscribers.remove(subscriber)) {
+                subscriber.queue.clear();
+                slowConsumerEvictions.incrementAndGet();
+                boolean replaced = subscriber.borrowSender(this::addSender);
+                log.debug("멈춘 구독자 제외: 전송 {}ms 초과, 전송 스레드 보충={}", properties.getSendTimeout().toMillis(), replaced);
+            }
+        }
+    }
+
+    private synchronized boolean addSender() {
+        if (extraSenders >= properties.getMaxStalledSenders()) {
+            return false;
+        }
+        extraSenders++;
+        int size = properties.getSenderThreads() + extraSenders;
+        sender.setMaximumPoolSize(size);
+        sender.setCorePoolSize(size);
+        return true;
+    }
+
+    private synchronized void releaseSender() {
+        extraSenders--;
+        int size = properties.getSenderThreads() + extraSenders;
+        sender.setCorePoolSize(size);
+        sender.setMaximumPoolSize(size);
+    }
+
+    /**
+     * 구독자당 전송 작업은 최대 하나만 실행 (전송 순서 보장)
+     */
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        boolean failed = false;
+        try {
+            Set<DataWithMediaType> next;
+            while (subscribers.contains(subscriber) && (next = subscriber.queue.poll()) != null) {
+                send(subscriber, next);
+            }
+        } catch (IOException | IllegalStateException e) {
+            failed = true;  // 클라이언트 연결 종료
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (failed || !subscribers.contains(subscriber)) {
+            // 전송 중에 정리된 구독자는 전송이 끝난 지금 닫는다
+            subscribers.remove(subscriber);
+            subscriber.queue.clear();
+            subscriber.emitter.complete();
+            return;
+        }
+        if (!subscriber.queue.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, Set<DataWithMediaType> payload) throws IOException {
+        subscriber.sendStartedAt = System.nanoTime();
+        try {
+            subscriber.emitter.send(payload);
+        } finally {
+            if (subscriber.finishSend()) {
+                releaseSender();
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.queue.clear();
+            close(subscriber);
+        }
+    }
+
+    /**
+     * SseEmitter.complete() 는 진행 중인 send 와 같은 잠금을 기다리므로,
+     * 전송 중이면 여기서 닫지 않고 전송을 마친 drain 이 닫는다 (브로드캐스트 / heartbeat 스레드가 막히지 않도록)
+     */
+    private void close(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+        sender.shutdownNow();
+        subscribers.forEach(this::close);
+        subscribers.clear();
+    }
+
+    /**
+     * 한 번 직렬화된 게시글 이벤트
+     *
+     * @param sequence 전송 순번 (재전송 기준)
+     * @param id       SSE 이벤트 id (Last-Event-ID 로 돌아옴)
+     */
+    record StreamEvent(long sequence, String id, String json) {
+
+        Set<DataWithMediaType> toSse() {
+            return SseEmitter.event()
+                    .id(id)
+                    .name("post")
+                    .data(json, MediaType.APPLICATION_JSON)
+                    .build();
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long sendStartedAt;  // 진행 중인 전송의 시작 시각 (System.nanoTime, 전송 중이 아니면 0)
+        private boolean borrowedSender;       // 이 구독자의 멈춘 전송 대신 보충한 스레드가 있는지 (this 로 동기화)
+
+        private Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean offer(Set<DataWithMediaType> payload) {
+            return queue.offer(payload);
+        }
+
+        private boolean isStalled(long now, long timeout) {
+            long started = sendStartedAt;
+            return started != 0 && now - started > timeout;
+        }
+
+        /**
+         * 아직 전송이 끝나지 않았으면 스레드 보충 (전송이 먼저 끝났으면 보충하지 않음)
+         */
+        private synchronized boolean borrowSender(BooleanSupplier addSender) {
+            if (sendStartedAt == 0) {
+                return false;
+            }
+            borrowedSender = addSender.getAsBoolean();
+            return borrowedSender;
+        }
+
+        /**
+         * @return 반납해야 할 보충 스레드가 있으면 true
+         */
+        private synchronized boolean finishSend() {
+            sendStartedAt = 0;
+            boolean borrowed = borrowedSender;
+            borrowedSender = false;
+            return borrowed;
+        }
+    }
+}
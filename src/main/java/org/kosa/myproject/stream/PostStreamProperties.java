@@ -0,0 +1,36 @@
+package org.kosa.myproject.stream;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 새 게시글 SSE 스트림 설정 (GET /api/posts/stream)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.post-stream")
+public class PostStreamProperties {
+
+    private int subscriberBufferSize = 64;        // 구독자별 전송 대기 이벤트 수 - 넘치면 느린 구독자로 보고 연결 종료
+
+    private int replayBufferSize = 256;           // Last-Event-ID 재연결 시 재전송할 최근 이벤트 수
+
+    private int maxSubscribers = 50_000;          // 동시 구독자 상한
+
+    private int senderThreads = 4;                // 실제 전송을 담당하는 스레드 수 (연결 수와 무관)
+
+    private Duration sendTimeout = Duration.ofSeconds(10);        // 한 번의 전송이 이보다 오래 걸리면 멈춘 구독자로 보고 연결 정리
+
+    private int maxStalledSenders = 64;           // 멈춘 전송에 묶인 스레드를 대신할 추가 전송 스레드 상한
+
+    private Duration capacityRetryAfter = Duration.ofSeconds(5);  // 구독자 한도 초과 시 Retry-After
+
+    private Duration heartbeatInterval = Duration.ofSeconds(15);  // 프록시/ALB idle timeout 방지
+
+    private Duration emitterTimeout = Duration.ofMinutes(30);     // 만료되면 클라이언트가 Last-Event-ID 로 재연결
+
+    private Duration reconnectTime = Duration.ofSeconds(3);       // 클라이언트 재연결 대기 시간(retry)
+}
@@ -0,0 +1,19 @@
+package org.kosa.myproject.stream;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 스트림 동시 구독자 수 한도 초과 (503 + Retry-After 로 응답, 클라이언트 / ALB 가 잠시 후 다른 인스턴스로 재시도)
+ */
+@Getter
+public class StreamCapacityExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public StreamCapacityExceededException(Duration retryAfter) {
+        super("스트림 구독자 수가 한도를 초과했습니다. 잠시 후 다시 시도해주세요.");
+        this.retryAfter = retryAfter;
+    }
+}
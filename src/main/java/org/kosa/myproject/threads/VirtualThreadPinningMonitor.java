@@ -0,0 +1,110 @@
+package org.kosa.myproject.threads;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * VirtualThreadPinningMonitor - carrier thread pinning 감지
+ *
+ * Java 21 에서 virtual thread 가 synchronized 블록 / native 호출 안에서 blocking 되면
+ * carrier(platform) thread 에서 분리되지 못하고 함께 묶인다(pinning).
+ * pinning 이 잦으면 carrier thread(기본 CPU 코어 수)가 고갈되어 virtual thread 의 이점이 사라진다.
+ *
+ * JFR 의 jdk.VirtualThreadPinned 이벤트를 애플리케이션 안에서 스트리밍하여
+ * - 스택에서 우리 코드(application-package)의 첫 프레임을 pinning 위치로 집계하고
+ * - WARN 로그를 남긴다 (GET /admin/virtual-threads 로 조회)
+ *
+ * 우리 코드가 스택에 없으면 최상단 프레임(라이브러리)으로 집계한다
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final VirtualThreadProperties properties;
+    private final Map<String, LongAdder> pinnedCounts = new ConcurrentHashMap<>();
+    private RecordingStream recording;
+
+    public VirtualThreadPinningMonitor(VirtualThreadProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!properties.isPinningMonitorEnabled()) {
+            return;
+        }
+        recording = new RecordingStream();
+        recording.enable(PINNED_EVENT)
+                .withThreshold(properties.getPinningThreshold())
+                .withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        log.info("Virtual Thread pinning 감시 시작 (threshold={})", properties.getPinningThreshold());
+    }
+
+    public boolean isEnabled() {
+        return recording != null;
+    }
+
+    /**
+     * pinning 위치별 발생 건수
+     */
+    public Map<String, Long> getPinnedCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        pinnedCounts.forEach((site, count) -> counts.put(site, count.sum()));
+        return counts;
+    }
+
+    /**
+     * 우리 코드에서 발생한 pinning 건수
+     */
+    public long getApplicationPinnedCount() {
+        return pinnedCounts.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(properties.getApplicationPackage()))
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+    }
+
+    void onPinned(RecordedEvent event) {
+        String site = pinnedSite(event.getStackTrace());
+        pinnedCounts.computeIfAbsent(site, key -> new LongAdder()).increment();
+        log.warn("Virtual Thread pinning 감지: {} ({}ms)", site, event.getDuration().toMillis());
+    }
+
+    private String pinnedSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame site = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(properties.getApplicationPackage()))
+                .findFirst()
+                .orElse(frames.get(0));
+        return site.getMethod().getType().getName() + "." + site.getMethod().getName()
+                + ":" + site.getLineNumber();
+    }
+
+    @Override
+    public void destroy() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+}
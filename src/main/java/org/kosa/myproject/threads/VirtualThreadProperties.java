@@ -0,0 +1,23 @@
+package org.kosa.myproject.threads;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Virtual Thread 모드 보조 설정
+ * Virtual Thread 사용 여부 자체는 spring.threads.virtual.enabled 로 지정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.virtual-threads")
+public class VirtualThreadProperties {
+
+    private boolean pinningMonitorEnabled = false;               // JFR 로 carrier thread pinning 감시
+
+    private Duration pinningThreshold = Duration.ofMillis(20);   // 이 시간 이상 pinning 된 경우만 기록
+
+    private String applicationPackage = "org.kosa.myproject";    // pinning 위치로 보고할 우리 코드의 패키지
+}
@@ -0,0 +1,144 @@
+package org.kosa.myproject.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JsonLinesSpanExporter - span 을 한 줄에 하나씩 JSON 으로 파일에 기록 (오프라인 분석용)
+ *
+ * 수집기(OTLP) 없이도 jq 등으로 바로 확인할 수 있도록 필요한 필드만 평평하게 기록한다
+ * 예) jq 'select(.traceId == "...")' logs/traces.jsonl
+ *
+ * 파일이 file-max-size 를 넘으면 <file-path>.1 로 옮기고 새로 기록 (이전 .1 은 덮어씀)
+ * 크기는 실제로 기록한 UTF-8 바이트 수로 센다 (한글 등 멀티바이트 문자 포함)
+ */
+@Slf4j
+public class JsonLinesSpanExporter implements SpanExporter {
+
+    private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+
+    private final Path path;
+    private final long maxBytes;
+    private final ObjectMapper objectMapper;
+
+    private OutputStream out;
+    private long written;
+
+    public JsonLinesSpanExporter(Path path, long maxBytes, ObjectMapper objectMapper) {
+        this.path = path.toAbsolutePath();
+        this.maxBytes = maxBytes;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            for (SpanData span : spans) {
+                byte[] line = objectMapper.writeValueAsBytes(toJson(span));  // UTF-8
+                if (out == null || written >= maxBytes) {
+                    open();
+                }
+                out.write(line);
+                out.write('\n');
+                written += line.length + 1L;
+            }
+            if (out != null) {
+                out.flush();
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("span 파일 기록 실패: {}", e.getMessage());
+            closeQuietly();
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        closeQuietly();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    private void open() throws IOException {
+        closeQuietly();
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        if (Files.exists(path) && Files.size(path) >= maxBytes) {
+            Files.move(path, path.resolveSibling(path.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+        }
+        written = Files.exists(path) ? Files.size(path) : 0;
+        out = new BufferedOutputStream(Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+    }
+
+    private void closeQuietly() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException ignored) {
+            // 다음 기록 시 다시 연다
+        }
+        out = null;
+    }
+
+    private static Map<String, Object> toJson(SpanData span) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("traceId", span.getTraceId());
+        json.put("spanId", span.getSpanId());
+        json.put("parentSpanId", span.getParentSpanContext().isValid() ? span.getParentSpanId() : null);
+        json.put("sampled", span.getSpanContext().isSampled());
+        json.put("name", span.getName());
+        json.put("kind", span.getKind().name());
+        json.put("start", Instant.ofEpochSecond(0, span.getStartEpochNanos()).toString());
+        json.put("durationMs", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000_000.0);
+        json.put("status", span.getStatus().getStatusCode().name());
+        if (!span.getStatus().getDescription().isEmpty()) {
+            json.put("statusDescription", span.getStatus().getDescription());
+        }
+        json.put("service", span.getResource().getAttribute(SERVICE_NAME));
+        json.put("attributes", toMap(span.getAttributes()));
+        List<EventData> events = span.getEvents();
+        if (!events.isEmpty()) {
+            json.put("events", events.stream().map(event -> {
+                Map<String, Object> e = new LinkedHashMap<>();
+                e.put("name", event.getName());
+                e.put("time", Instant.ofEpochSecond(0, event.getEpochNanos()).toString());
+                e.put("attributes", toMap(event.getAttributes()));
+                return e;
+            }).toList());
+        }
+        return json;
+    }
+
+    private static Map<String, Object> toMap(Attributes attributes) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        attributes.forEach((key, value) -> map.put(key.getKey(), value));
+        return map;
+    }
+}
@@ -0,0 +1,63 @@
+package org.kosa.myproject.tracing;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+import java.util.List;
+
+/**
+ * RecordOnlySampler - 위임 샘플러가 버린(DROP) span 중 recorder 가 고른 것을 RECORD_ONLY 로 바꾸는 샘플러
+ *
+ * RECORD_ONLY span 은 sampled 플래그가 없어 BatchSpanProcessor 로는 전송되지 않지만
+ * 종료 시 SpanProcessor 에는 전달되므로 TailSamplingSpanProcessor 가 오류 / 지연 여부를 보고 전송할 수 있다
+ *
+ * 같은 프로세스 안의 부모가 있으면 recorder 대신 부모의 기록 여부를 따른다
+ * (루트가 기록하지 않기로 한 trace 의 자식 span 은 만들지 않음)
+ */
+public class RecordOnlySampler implements Sampler {
+
+    private final Sampler delegate;
+    private final Sampler recorder;
+
+    /**
+     * @param recorder delegate 가 버린 span 중 기록할 것을 고르는 샘플러 (예: traceIdRatioBased)
+     */
+    public RecordOnlySampler(Sampler delegate, Sampler recorder) {
+        this.delegate = delegate;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+                                       Attributes attributes, List<LinkData> parentLinks) {
+        SamplingResult result = delegate.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+        if (result.getDecision() != SamplingDecision.DROP) {
+            return result;
+        }
+        return shouldRecord(parentContext, traceId, name, spanKind, attributes, parentLinks)
+                ? SamplingResult.recordOnly() : result;
+    }
+
+    @Override
+    public String getDescription() {
+        return "RecordOnly{" + delegate.getDescription() + "," + recorder.getDescription() + "}";
+    }
+
+    private boolean shouldRecord(Context parentContext, String traceId, String name, SpanKind spanKind,
+                                 Attributes attributes, List<LinkData> parentLinks) {
+        Span parent = Span.fromContext(parentContext);
+        SpanContext parentSpanContext = parent.getSpanContext();
+        if (parentSpanContext.isValid() && !parentSpanContext.isRemote()) {
+            return parent.isRecording();
+        }
+        return recorder.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks)
+                .getDecision() != SamplingDecision.DROP;
+    }
+}
@@ -0,0 +1,312 @@
+package org.kosa.myproject.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * TailSamplingSpanProcessor - 샘플링되지 않은 trace 중 오류 / 느린 요청만 골라 전송
+ *
+ * 동작 방식:
+ * 1. sampled span 은 그대로 두고 (Spring Boot 의 BatchSpanProcessor 가 전송) RECORD_ONLY span 만 처리
+ * 2. 자식 span 은 종료되면 traceId 별로 보관
+ * 3. 이 서버의 루트 span (부모가 없거나 원격인 span, 보통 http.server.requests) 이 끝나면 판정
+ *    - 어떤 span 이든 status 가 ERROR, 루트의 outcome 이 SERVER_ERROR, 루트 소요 시간이 slow-threshold 이상
+ *      (SSE 처럼 원래 오래 열려 있는 slow-excluded-uris 는 소요 시간으로 판정하지 않음)
+ *    → 보관한 span 과 함께 전송 대기열(export-queue-size)에 넣고, 아니면 버림
+ * 4. 전용 스레드 하나가 대기열을 모아 모든 SpanExporter 로 전송 (요청 스레드는 전송을 기다리지 않음)
+ *    대기열이 가득 차면 그 trace 는 버리고 집계
+ *
+ * 메모리 사용은 max-pending-traces / max-spans-per-trace 로 제한하고,
+ * 루트가 먼저 끝나 남겨진 trace (비동기 처리) 는 pending-sweep-interval 마다 pending-timeout 이 지난 것을 정리한다
+ */
+@Slf4j
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("outcome");
+    private static final AttributeKey<String> URI = AttributeKey.stringKey("uri");
+
+    private static final int EXPORT_BATCH_TRACES = 128;
+
+    private final TraceProperties properties;
+    private final Supplier<SpanExporter> exporter;
+    private final Map<String, PendingTrace> pending = new ConcurrentHashMap<>();
+    private final BlockingQueue<ExportItem> exportQueue;
+    private final Thread exportThread;
+    private volatile boolean running = true;
+
+    private final AtomicLong promotedTraces = new AtomicLong();
+    private final AtomicLong droppedTraces = new AtomicLong();
+    private final AtomicLong droppedExports = new AtomicLong();
+    private final AtomicLong failedSpans = new AtomicLong();
+
+    /**
+     * @param exporter 전송 대상 (SpanExporter 빈은 이 프로세서보다 늦게 준비될 수 있어 처음 전송할 때 조회)
+     */
+    public TailSamplingSpanProcessor(TraceProperties properties, Supplier<SpanExporter> exporter) {
+        this.properties = properties;
+        this.exporter = exporter;
+        this.exportQueue = new ArrayBlockingQueue<>(properties.getExportQueueSize());
+        this.exportThread = Thread.ofPlatform().name("tail-sampling-export").daemon().start(this::exportLoop);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        SpanContext context = span.getSpanContext();
+        if (context.isSampled() || !properties.isTailSamplingEnabled()) {
+            return;
+        }
+        SpanContext parent = span.getParentSpanContext();
+        if (!parent.isValid() || parent.isRemote()) {
+            decide(span.toSpanData(), pending.remove(context.getTraceId()));
+        } else {
+            hold(context.getTraceId(), span.toSpanData());
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    /**
+     * 지금까지 대기열에 넣은 trace 를 모두 전송한 뒤 완료 (대기열 순서대로 처리)
+     */
+    @Override
+    public CompletableResultCode forceFlush() {
+        if (!exportThread.isAlive()) {
+            return CompletableResultCode.ofSuccess();
+        }
+        FlushRequest flush = new FlushRequest(new CompletableResultCode());
+        try {
+            if (!exportQueue.offer(flush, properties.getExportTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                return CompletableResultCode.ofFailure();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableResultCode.ofFailure();
+        }
+        return flush.result();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        // 대기열에 남은 trace 는 export 스레드가 종료 전에 전송, SpanExporter 종료는 Spring Boot 의 BatchSpanProcessor 가 담당
+        running = false;
+        exportThread.interrupt();
+        try {
+            exportThread.join(properties.getExportTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        pending.clear();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    public long getPromotedTraces() {
+        return promotedTraces.get();
+    }
+
+    public long getDroppedTraces() {
+        return droppedTraces.get();
+    }
+
+    /**
+     * 전송 대기열이 가득 차 버린 trace 수
+     */
+    public long getDroppedExports() {
+        return droppedExports.get();
+    }
+
+    /**
+     * 전송에 실패한 span 수
+     */
+    public long getFailedSpans() {
+        return failedSpans.get();
+    }
+
+    public int getPendingTraces() {
+        return pending.size();
+    }
+
+    /**
+     * 루트 span 없이 pending-timeout 이 지난 trace 정리 (max-pending-traces 에 도달하지 않아도 주기적으로)
+     */
+    @Scheduled(fixedDelayString = "${app.tracing.pending-sweep-interval-ms:10000}",
+            initialDelayString = "${app.tracing.pending-sweep-interval-ms:10000}")
+    public void sweepExpired() {
+        evictExpired();
+    }
+
+    private void hold(String traceId, SpanData span) {
+        PendingTrace trace = pending.get(traceId);
+        if (trace == null) {
+            if (pending.size() >= properties.getMaxPendingTraces() && evictExpired() == 0) {
+                droppedTraces.incrementAndGet();
+                return;
+            }
+            trace = pending.computeIfAbsent(traceId, id -> new PendingTrace(System.nanoTime()));
+        }
+        trace.add(span, properties.getMaxSpansPerTrace());
+    }
+
+    private void decide(SpanData root, PendingTrace trace) {
+        List<SpanData> children = trace != null ? trace.spans() : List.of();
+        if (!shouldExport(root, children)) {
+            return;
+        }
+        List<SpanData> spans = new ArrayList<>(children.size() + 1);
+        spans.addAll(children);
+        spans.add(root);
+        if (exportQueue.offer(new PromotedTrace(spans))) {
+            promotedTraces.incrementAndGet();
+        } else {
+            droppedExports.incrementAndGet();
+            log.debug("tail sampling 전송 대기열 가득 참 - trace {} 버림", root.getTraceId());
+        }
+    }
+
+    private boolean shouldExport(SpanData root, List<SpanData> children) {
+        long durationNanos = root.getEndEpochNanos() - root.getStartEpochNanos();
+        if (durationNanos >= properties.getSlowThreshold().toNanos()
+                && !properties.getSlowExcludedUris().contains(root.getAttributes().get(URI))) {
+            return true;
+        }
+        if ("SERVER_ERROR".equals(root.getAttributes().get(OUTCOME)) || isError(root)) {
+            return true;
+        }
+        return children.stream().anyMatch(TailSamplingSpanProcessor::isError);
+    }
+
+    private static boolean isError(SpanData span) {
+        return span.getStatus().getStatusCode() == StatusCode.ERROR;
+    }
+
+    private int evictExpired() {
+        long expiredBefore = System.nanoTime() - properties.getPendingTimeout().toNanos();
+        int before = pending.size();
+        pending.values().removeIf(trace -> trace.createdNanos - expiredBefore < 0);
+        int evicted = before - pending.size();
+        if (evicted > 0) {
+            log.debug("루트 span 없이 남은 trace {} 건 정리", evicted);
+        }
+        return evicted;
+    }
+
+    /**
+     * export 스레드 - 대기열에 쌓인 trace 를 EXPORT_BATCH_TRACES 개까지 모아 한 번에 전송
+     */
+    private void exportLoop() {
+        List<ExportItem> items = new ArrayList<>(EXPORT_BATCH_TRACES);
+        while (running) {
+            try {
+                items.add(exportQueue.take());
+            } catch (InterruptedException e) {
+                // 종료 요청 - 남은 대기열은 아래에서 전송
+                break;
+            }
+            exportQueue.drainTo(items, EXPORT_BATCH_TRACES - 1);
+            process(items);
+            items.clear();
+        }
+        exportQueue.drainTo(items);
+        process(items);
+    }
+
+    private void process(List<ExportItem> items) {
+        List<SpanData> spans = new ArrayList<>();
+        for (ExportItem item : items) {
+            switch (item) {
+                case PromotedTrace trace -> spans.addAll(trace.spans());
+                case FlushRequest flush -> {
+                    export(spans);
+                    spans = new ArrayList<>();
+                    flush(flush.result());
+                }
+            }
+        }
+        export(spans);
+    }
+
+    private void export(List<SpanData> spans) {
+        if (spans.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableResultCode result = exporter.get().export(spans)
+                    .join(properties.getExportTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            if (!result.isSuccess()) {
+                failedSpans.addAndGet(spans.size());
+                log.debug("tail sampling span {} 건 전송 실패", spans.size());
+            }
+        } catch (RuntimeException e) {
+            failedSpans.addAndGet(spans.size());
+            log.warn("tail sampling span {} 건 전송 실패: {}", spans.size(), e.getMessage());
+        }
+    }
+
+    private void flush(CompletableResultCode result) {
+        try {
+            exporter.get().flush().join(properties.getExportTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            result.succeed();
+        } catch (RuntimeException e) {
+            result.fail();
+        }
+    }
+
+    private sealed interface ExportItem permits PromotedTrace, FlushRequest {
+    }
+
+    private record PromotedTrace(List<SpanData> spans) implements ExportItem {
+    }
+
+    private record FlushRequest(CompletableResultCode result) implements ExportItem {
+    }
+
+    private static final class PendingTrace {
+        private final long createdNanos;
+        private final List<SpanData> spans = new ArrayList<>();
+
+        private PendingTrace(long createdNanos) {
+            this.createdNanos = createdNanos;
+        }
+
+        private synchronized void add(SpanData span, int limit) {
+            if (spans.size() < limit) {
+                spans.add(span);
+            }
+        }
+
+        private synchronized List<SpanData> spans() {
+            return List.copyOf(spans);
+        }
+    }
+}
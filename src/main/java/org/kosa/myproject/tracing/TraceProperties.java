@@ -0,0 +1,48 @@
+package org.kosa.myproject.tracing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 분산 추적 설정 (app.tracing)
+ * 기본 샘플링 비율은 management.tracing.sampling.probability, OTLP 전송 주소는 management.otlp.tracing.endpoint
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.tracing")
+public class TraceProperties {
+
+    private boolean tailSamplingEnabled = true;   // 샘플링되지 않은 요청도 기록해 두었다가 오류 / 지연이면 전송
+
+    // head sampling 에서 빠진 trace 중 RECORD_ONLY 로 기록해 tail 판정할 비율 (traceId 기준이라 서비스 간에 일관됨)
+    // 기록 대상 요청은 모든 span 을 만들고 SpanData 로 복사하는 비용이 들므로, 낮추면 그만큼 오류 / 지연 trace 를 놓치는 대신 비용이 준다
+    private double tailSamplingRatio = 1.0;
+
+    private Duration slowThreshold = Duration.ofSeconds(1);  // 루트 span 이 이 시간 이상이면 느린 요청으로 보고 전송
+
+    private List<String> slowExcludedUris = new ArrayList<>(List.of("/api/posts/stream"));  // 원래 오래 열려 있는 요청 (SSE) 은 소요 시간으로 판정하지 않음
+
+    private int maxPendingTraces = 10_000;        // 판정을 기다리는 trace 최대 수 (초과 시 새 trace 는 버림)
+
+    private int maxSpansPerTrace = 256;           // trace 하나에 보관할 span 최대 수
+
+    private Duration pendingTimeout = Duration.ofMinutes(1);  // 루트 span 이 끝나지 않은 채 남은 trace 정리 기준
+
+    private long pendingSweepIntervalMs = 10_000;  // pending-timeout 이 지난 trace 정리 주기
+
+    private int exportQueueSize = 1_000;          // 전송을 기다리는 trace 최대 수 (초과 시 버림, 요청 스레드는 전송을 기다리지 않음)
+
+    private Duration exportTimeout = Duration.ofSeconds(30);  // 한 번의 전송 / flush 대기 한도
+
+    private boolean fileExportEnabled = false;    // span 을 JSON lines 파일로도 기록 (오프라인 분석용)
+
+    private String filePath = "logs/traces.jsonl";
+
+    private DataSize fileMaxSize = DataSize.ofMegabytes(100);  // 초과하면 <file-path>.1 로 옮기고 새로 기록
+}
@@ -0,0 +1,41 @@
+package org.kosa.myproject.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * TraceResponseFilter - 응답 헤더로 이 요청의 trace 를 알려준다 (W3C Trace Context Level 2 traceresponse)
+ *
+ * traceresponse: 00-{trace-id}-{span-id}-{flags}
+ * 클라이언트가 느린 요청의 trace-id 를 보고하면 수집기 / traces.jsonl 에서 바로 찾을 수 있다
+ * flags 가 00 이어도 오류 / 느린 요청이면 tail sampling 으로 전송된다
+ */
+@RequiredArgsConstructor
+public class TraceResponseFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "traceresponse";
+
+    private final Tracer tracer;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Span span = tracer.currentSpan();
+        if (span != null && !span.isNoop()) {
+            TraceContext context = span.context();
+            String flags = Boolean.TRUE.equals(context.sampled()) ? "01" : "00";
+            response.setHeader(HEADER, "00-" + context.traceId() + "-" + context.spanId() + "-" + flags);
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,86 @@
+package org.kosa.myproject.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.tracing.SpanExporters;
+import org.springframework.boot.actuate.autoconfigure.tracing.TracingProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.nio.file.Path;
+
+/**
+ * 분산 추적 설정 (Micrometer Tracing → OpenTelemetry)
+ *
+ * span 생성 위치:
+ * - http.server.requests     : 요청 전체 (W3C traceparent 헤더가 있으면 이어서 기록)
+ * - spring.security.*         : 보안 필터 체인, auth.jwt.verification (JwtFilter), auth.password.* (BCrypt)
+ * - app.controller / app.service : 컨트롤러, MemberService / PostService 메서드 (@Observed)
+ * - query                     : SQL 문 (datasource-micrometer, 커넥션 대기 시간은 hikaricp 메트릭으로 확인)
+ * span 이름 예) http get /api/posts, post-controller#get-all-posts, post-service#get-all-posts, query
+ * 컨트롤러 span 이 끝난 뒤 http.server.requests 가 끝날 때까지의 시간이 응답(JSON) 직렬화 시간이다
+ *
+ * 샘플링:
+ * - head : management.tracing.sampling.probability 비율로 요청 시작 시 결정 (상위 서비스의 결정은 그대로 따름)
+ * - tail : 나머지 요청 중 app.tracing.tail-sampling-ratio 비율을 RECORD_ONLY 로 기록해 두었다가
+ *          오류 / 느린 요청이면 전송 (TailSamplingSpanProcessor)
+ *
+ * 전송: management.otlp.tracing.endpoint 가 있으면 OTLP, app.tracing.file-export-enabled=true 면 JSON lines 파일
+ */
+@Configuration
+@EnableConfigurationProperties(TraceProperties.class)
+public class TracingConfig {
+
+    /**
+     * Spring Boot 기본 샘플러(parentBased + traceIdRatioBased)에 tail sampling 용 RECORD_ONLY 를 더한 샘플러
+     */
+    @Bean
+    public Sampler otelSampler(TracingProperties tracingProperties, TraceProperties properties) {
+        double probability = tracingProperties.getSampling().getProbability();
+        Sampler head = Sampler.traceIdRatioBased(probability);
+        if (!properties.isTailSamplingEnabled()) {
+            return Sampler.parentBased(head);
+        }
+        double recordRatio = properties.getTailSamplingRatio();
+        // traceIdRatioBased 는 traceId 하위 8바이트가 비율 경계 아래인지로 판정하므로,
+        // head 에서 빠진 (1 - probability) 구간 중 recordRatio 만큼을 기록하려면 경계를 그만큼 넓힌다
+        Sampler root = new RecordOnlySampler(head,
+                Sampler.traceIdRatioBased(probability + (1 - probability) * recordRatio));
+        Sampler notSampled = new RecordOnlySampler(Sampler.alwaysOff(), Sampler.traceIdRatioBased(recordRatio));
+        return Sampler.parentBasedBuilder(root)
+                .setRemoteParentNotSampled(notSampled)
+                .setLocalParentNotSampled(notSampled)
+                .build();
+    }
+
+    @Bean
+    public TailSamplingSpanProcessor tailSamplingSpanProcessor(TraceProperties properties,
+                                                               ObjectProvider<SpanExporters> spanExporters) {
+        return new TailSamplingSpanProcessor(properties,
+                SingletonSupplier.of(() -> SpanExporter.composite(spanExporters.getObject().list())));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.tracing", name = "file-export-enabled", havingValue = "true")
+    public JsonLinesSpanExporter jsonLinesSpanExporter(TraceProperties properties, ObjectMapper objectMapper) {
+        return new JsonLinesSpanExporter(Path.of(properties.getFilePath()),
+                properties.getFileMaxSize().toBytes(), objectMapper);
+    }
+
+    @Bean
+    public FilterRegistrationBean<TraceResponseFilter> traceResponseFilter(ObjectProvider<Tracer> tracer) {
+        FilterRegistrationBean<TraceResponseFilter> registration =
+                new FilterRegistrationBean<>(new TraceResponseFilter(tracer.getIfAvailable(() -> Tracer.NOOP)));
+        // http.server.requests 관측 필터(HIGHEST_PRECEDENCE + 1) 안쪽, Spring Security 필터 체인(-100)보다 먼저 실행
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
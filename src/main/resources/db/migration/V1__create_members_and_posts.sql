@@ -0,0 +1,24 @@
+-- V1: Member, Post 엔티티와 동일한 초기 스키마
+-- 기존 운영 DB(ddl-auto=update 로 생성됨)는 baseline(V1) 처리되어 이 스크립트를 건너뛴다
+-- content 컬럼 타입(text_column_type placeholder) : MySQL 은 TEXT, 테스트용 H2 는 CLOB (spring.flyway.placeholders.text_column_type)
+
+CREATE TABLE members (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    username   VARCHAR(50)  NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    name       VARCHAR(100) NOT NULL,
+    created_at DATETIME(6),
+    role       ENUM ('ROLE_USER', 'ROLE_ADMIN') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_members_username UNIQUE (username)
+);
+
+CREATE TABLE posts (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    title      VARCHAR(200) NOT NULL,
+    content    ${text_column_type} NOT NULL,
+    created_at DATETIME(6),
+    author_id  BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_security_post_author FOREIGN KEY (author_id) REFERENCES members (id) ON DELETE CASCADE
+);
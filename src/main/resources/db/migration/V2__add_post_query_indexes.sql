@@ -0,0 +1,9 @@
+-- V2: 실제 조회 쿼리 형태에 맞춘 인덱스
+
+-- PostRepository.findAllWithAuthor : ORDER BY p.created_at DESC
+-- 정렬을 인덱스 순서로 처리하여 filesort 제거
+CREATE INDEX idx_posts_created_at ON posts (created_at DESC);
+
+-- 작성자별 게시글 조회 (author_id = ? ORDER BY created_at)
+-- author_id 가 선두 컬럼이므로 FK(fk_security_post_author) 인덱스 역할도 겸한다
+CREATE INDEX idx_posts_author_created_at ON posts (author_id, created_at);
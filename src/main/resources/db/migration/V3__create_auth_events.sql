@@ -0,0 +1,17 @@
+-- V3: 인증 감사 로그 (AuthEventRecorder 가 비동기로 여러 행씩 INSERT)
+-- 존재하지 않는 아이디의 로그인 실패도 기록하므로 members 와 FK 를 두지 않는다
+
+CREATE TABLE auth_events (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    occurred_at DATETIME(6)  NOT NULL,
+    event_type  ENUM ('LOGIN_SUCCESS', 'LOGIN_FAILURE', 'TOKEN_EXPIRED', 'TOKEN_INVALID') NOT NULL,
+    username    VARCHAR(50),
+    remote_addr VARCHAR(45),
+    detail      VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+-- 관리자 조회 (AuthEventRepository) : username / event_type 조건 + ORDER BY id DESC
+-- InnoDB 보조 인덱스는 PK(id) 를 뒤에 포함하므로 정렬도 인덱스 순서로 처리된다
+CREATE INDEX idx_auth_events_username ON auth_events (username);
+CREATE INDEX idx_auth_events_event_type ON auth_events (event_type);
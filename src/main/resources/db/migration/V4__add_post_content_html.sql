@@ -0,0 +1,6 @@
+-- V4: 게시글 본문의 렌더링된 HTML 캐시 (MarkdownRenderer)
+-- content(Markdown 원문)는 그대로 두고, 작성 / 수정 시 렌더링한 결과와 렌더러 버전을 함께 저장한다
+-- 기존 게시글은 content_html 이 비어 있고 render_version = 0 → 기동 시 PostRenderJob 이 채운다
+
+ALTER TABLE posts ADD COLUMN content_html ${text_column_type};
+ALTER TABLE posts ADD COLUMN render_version INT NOT NULL DEFAULT 0;
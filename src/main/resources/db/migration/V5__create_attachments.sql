@@ -0,0 +1,19 @@
+-- V5: 게시글 첨부파일 메타데이터 (본문은 AttachmentStorage 에 storage_key 로 저장)
+-- 게시글이 삭제되면 메타데이터도 함께 삭제된다
+
+CREATE TABLE attachments (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    post_id      BIGINT       NOT NULL,
+    filename     VARCHAR(255) NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    file_size    BIGINT       NOT NULL,
+    sha256       VARCHAR(64)  NOT NULL,
+    storage_key  VARCHAR(64)  NOT NULL,
+    created_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_attachments_storage_key UNIQUE (storage_key),
+    CONSTRAINT fk_attachments_post FOREIGN KEY (post_id) REFERENCES posts (id) ON DELETE CASCADE
+);
+
+-- 게시글별 첨부 목록 (AttachmentRepository.findByPostIdOrderByIdAsc)
+CREATE INDEX idx_attachments_post_id ON attachments (post_id);
@@ -0,0 +1,16 @@
+-- V6: 게시글 댓글
+
+CREATE TABLE comments (
+    id         BIGINT        NOT NULL AUTO_INCREMENT,
+    post_id    BIGINT        NOT NULL,
+    author_id  BIGINT        NOT NULL,
+    content    VARCHAR(1000) NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (id) ON DELETE CASCADE,
+    CONSTRAINT fk_comments_author FOREIGN KEY (author_id) REFERENCES members (id) ON DELETE CASCADE
+);
+
+-- 댓글 목록 keyset 조회 (post_id = ? AND id > ? ORDER BY id) 와
+-- 게시글 목록의 댓글 수 집계 (post_id IN (...) GROUP BY post_id) 를 모두 이 인덱스 범위 스캔으로 처리
+CREATE INDEX idx_comments_post_id_id ON comments (post_id, id);
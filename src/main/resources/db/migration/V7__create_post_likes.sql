@@ -0,0 +1,14 @@
+-- V7: 게시글 좋아요 (회원당 게시글 하나에 한 번)
+-- 조회는 PostLikeIndex(게시글별 회원 id 비트맵)가 처리하고, 이 테이블은 기동 시 인덱스 재구성과 영속화에만 사용한다
+
+CREATE TABLE post_likes (
+    post_id    BIGINT      NOT NULL,
+    member_id  BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (post_id, member_id),
+    CONSTRAINT fk_post_likes_post FOREIGN KEY (post_id) REFERENCES posts (id) ON DELETE CASCADE,
+    CONSTRAINT fk_post_likes_member FOREIGN KEY (member_id) REFERENCES members (id) ON DELETE CASCADE
+);
+
+-- 회원 삭제 시 FK CASCADE 처리용
+CREATE INDEX idx_post_likes_member_id ON post_likes (member_id);
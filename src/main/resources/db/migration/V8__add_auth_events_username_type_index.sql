@@ -0,0 +1,6 @@
+-- V8: 인증 감사 로그 username + event_type 조건 조회 (AuthEventRepository.findByUsernameAndType)
+-- 두 조건을 한 인덱스에서 찾고 ORDER BY id DESC 도 인덱스 순서로 처리 (InnoDB 보조 인덱스 끝에 PK 포함)
+-- username 단일 인덱스(idx_auth_events_username)는 유지한다
+--   이 인덱스는 (username, event_type, id) 순이라 username 만으로 찾으면 id 순서가 아니어서 filesort 가 생긴다
+
+CREATE INDEX idx_auth_events_username_type ON auth_events (username, event_type);
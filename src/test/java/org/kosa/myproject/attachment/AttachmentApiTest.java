@@ -0,0 +1,218 @@
+package org.kosa.myproject.attachment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.dto.PostCreateRequestDto;
+import org.kosa.myproject.security.jwt.JwtUtil;
+import org.kosa.myproject.service.MemberService;
+import org.kosa.myproject.service.PostService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 첨부파일 API 테스트
+ *
+ * MockMvc 요청에는 sendfile 지원 속성이 없으므로 FileChannel.transferTo 경로,
+ * 실제 서버(HttpClient) 요청은 Tomcat sendfile 경로로 전송된다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.attachment.max-file-size=64KB")
+@AutoConfigureMockMvc
+class AttachmentApiTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private String authorToken;
+    private String otherToken;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        String author = register("attach-");
+        authorToken = token(author);
+        otherToken = token(register("attach-other-"));
+        postId = postService.createPost(PostCreateRequestDto.builder().title("첨부").content("본문").build(), author).getId();
+    }
+
+    @Test
+    void uploadDetectsContentTypeFromContent() throws Exception {
+        byte[] png = png(3000);
+
+        JsonNode attachment = upload("../../photo.bin", png);
+
+        assertThat(attachment.get("filename").asText()).isEqualTo("photo.bin");
+        assertThat(attachment.get("contentType").asText()).isEqualTo("image/png");
+        assertThat(attachment.get("size").asLong()).isEqualTo(png.length);
+
+        mockMvc.perform(get("/api/posts/{postId}/attachments", postId).header("Authorization", otherToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(attachment.get("id").asLong()));
+    }
+
+    @Test
+    void onlyAuthorCanUploadOrDelete() throws Exception {
+        mockMvc.perform(post("/api/posts/{postId}/attachments", postId).param("filename", "a.txt")
+                        .header("Authorization", otherToken)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM).content("hello".getBytes()))
+                .andExpect(status().isForbidden());
+
+        long id = upload("a.txt", "hello".getBytes()).get("id").asLong();
+
+        mockMvc.perform(delete("/api/posts/{postId}/attachments/{id}", postId, id).header("Authorization", otherToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/posts/{postId}/attachments/{id}", postId, id).header("Authorization", authorToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/posts/{postId}/attachments/{id}", postId, id).header("Authorization", authorToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rejectsOversizedUpload() throws Exception {
+        mockMvc.perform(post("/api/posts/{postId}/attachments", postId).param("filename", "big.bin")
+                        .header("Authorization", authorToken)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM).content(new byte[65 * 1024]))
+                .andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test
+    void downloadSupportsEtagAndRanges() throws Exception {
+        byte[] content = bytes(10_000);
+        JsonNode attachment = upload("report.pdf", content);
+        String url = "/api/posts/" + postId + "/attachments/" + attachment.get("id").asLong();
+        String etag = "\"" + attachment.get("sha256").asText() + "\"";
+
+        MockHttpServletResponse full = mockMvc.perform(get(url).header("Authorization", authorToken))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        assertThat(full.getContentAsByteArray()).isEqualTo(content);
+        assertThat(full.getHeader("ETag")).isEqualTo(etag);
+        assertThat(full.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(full.getHeader("Content-Disposition")).startsWith("attachment;");
+
+        mockMvc.perform(get(url).header("Authorization", authorToken).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        MockHttpServletResponse partial = mockMvc.perform(get(url).header("Authorization", authorToken)
+                        .header("Range", "bytes=100-199").header("If-Range", etag))
+                .andExpect(status().isPartialContent()).andReturn().getResponse();
+        assertThat(partial.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 100, 200));
+        assertThat(partial.getHeader("Content-Range")).isEqualTo("bytes 100-199/10000");
+
+        // 클라이언트가 가진 버전이 다르면 전체 전송
+        mockMvc.perform(get(url).header("Authorization", authorToken)
+                        .header("Range", "bytes=100-199").header("If-Range", "\"stale\""))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(url).header("Authorization", authorToken).header("Range", "bytes=20000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(result -> assertThat(result.getResponse().getHeader("Content-Range")).isEqualTo("bytes */10000"));
+    }
+
+    @Test
+    void sendfileHandsFileToContainerWithoutWritingBody() throws Exception {
+        long id = upload("photo.png", png(5000)).get("id").asLong();
+
+        MvcResult result = mockMvc.perform(get("/api/posts/{postId}/attachments/{id}", postId, id)
+                        .header("Authorization", authorToken).header("Range", "bytes=-1000")
+                        .requestAttr(AttachmentDownloadWriter.SENDFILE_SUPPORTED, Boolean.TRUE))
+                .andExpect(status().isPartialContent())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+        assertThat(result.getResponse().getContentLengthLong()).isEqualTo(1000);
+        assertThat(result.getResponse().getHeader("Content-Disposition")).startsWith("inline;");
+        assertThat(result.getRequest().getAttribute(AttachmentDownloadWriter.SENDFILE_START)).isEqualTo(4000L);
+        assertThat(result.getRequest().getAttribute(AttachmentDownloadWriter.SENDFILE_END)).isEqualTo(5000L);
+    }
+
+    @Test
+    void realServerStreamsFileAndRange() throws Exception {
+        byte[] content = bytes(50_000);
+        long id = upload("data.bin", content).get("id").asLong();
+        URI uri = URI.create("http://localhost:" + port + "/api/posts/" + postId + "/attachments/" + id);
+
+        HttpResponse<byte[]> full = httpClient.send(HttpRequest.newBuilder(uri)
+                .header("Authorization", authorToken).build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(full.statusCode()).isEqualTo(200);
+        assertThat(full.body()).isEqualTo(content);
+
+        HttpResponse<byte[]> partial = httpClient.send(HttpRequest.newBuilder(uri)
+                .header("Authorization", authorToken).header("Range", "bytes=40000-").build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(partial.statusCode()).isEqualTo(206);
+        assertThat(partial.body()).isEqualTo(Arrays.copyOfRange(content, 40_000, 50_000));
+    }
+
+    private JsonNode upload(String filename, byte[] content) throws Exception {
+        String body = mockMvc.perform(post("/api/posts/{postId}/attachments", postId).param("filename", filename)
+                        .header("Authorization", authorToken)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM).content(content))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("data");
+    }
+
+    private String register(String prefix) {
+        String username = prefix + UUID.randomUUID().toString().substring(0, 8);
+        memberService.register(MemberCreateRequestDto.builder().username(username).password("1234").name("첨부").build());
+        return username;
+    }
+
+    private String token(String username) {
+        return "Bearer " + jwtUtil.createJwt(memberService.getMemberEntity(username), 60_000L);
+    }
+
+    private static byte[] png(int size) {
+        byte[] bytes = bytes(size);
+        byte[] magic = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+        System.arraycopy(magic, 0, bytes, 0, magic.length);
+        return bytes;
+    }
+
+    private static byte[] bytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,98 @@
+package org.kosa.myproject.attachment;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LocalAttachmentStorage 테스트
+ * 버퍼보다 큰 본문으로 여러 번에 나눠 기록 / 전송되는 경우를 검증
+ */
+class LocalAttachmentStorageTest {
+
+    @TempDir
+    Path root;
+
+    private LocalAttachmentStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalAttachmentStorage(root, 1024);
+    }
+
+    @Test
+    void storesContentWithSizeAndChecksum() throws Exception {
+        byte[] content = randomBytes(10_000);
+
+        StoredAttachment stored = storage.store(new ByteArrayInputStream(content), 20_000);
+
+        assertThat(stored.size()).isEqualTo(content.length);
+        assertThat(stored.sha256()).isEqualTo(HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(content)));
+        assertThat(stored.head()).hasSize(ContentTypeDetector.HEAD_SIZE);
+        assertThat(storage.localPath(stored.key())).hasValueSatisfying(path ->
+                assertThat(path).hasBinaryContent(content));
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    void rejectsOversizedContentAndRemovesPartialFile() {
+        assertThatThrownBy(() -> storage.store(new ByteArrayInputStream(randomBytes(5000)), 4096))
+                .isInstanceOf(AttachmentTooLargeException.class);
+
+        assertThat(tempFiles()).isEmpty();
+    }
+
+    @Test
+    void transfersRequestedRange() throws Exception {
+        byte[] content = randomBytes(5000);
+        String key = storage.store(new ByteArrayInputStream(content), 5000).key();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long sent = storage.transferTo(key, 1000, 2500, Channels.newChannel(out));
+
+        assertThat(sent).isEqualTo(2500);
+        assertThat(out.toByteArray()).isEqualTo(Arrays.copyOfRange(content, 1000, 3500));
+    }
+
+    @Test
+    void deleteRemovesFileAndRejectsForeignKeys() throws Exception {
+        String key = storage.store(new ByteArrayInputStream(randomBytes(10)), 100).key();
+
+        storage.delete(key);
+
+        assertThat(storage.localPath(key)).isEmpty();
+        assertThatThrownBy(() -> storage.localPath("../../etc/passwd"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Path> tempFiles() {
+        try (Stream<Path> files = Files.list(root.resolve("tmp"))) {
+            return files.toList();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
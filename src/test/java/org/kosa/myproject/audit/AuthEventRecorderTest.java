@@ -0,0 +1,192 @@
+package org.kosa.myproject.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.entity.AuthEventType;
+import org.kosa.myproject.entity.MemberRole;
+import org.kosa.myproject.security.jwt.JwtUtil;
+import org.kosa.myproject.service.MemberService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 인증 감사 로그 테스트
+ * 로그인 / 토큰 검증 결과가 비동기 writer 를 거쳐 auth_events 에 저장되고 관리자 API 로 조회되는지 확인
+ */
+@SpringBootTest(properties = "app.audit.flush-interval=100ms")
+@AutoConfigureMockMvc
+class AuthEventRecorderTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String username;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        username = "audit-" + UUID.randomUUID().toString().substring(0, 8);
+        memberService.register(member(username));
+
+        String admin = username + "-admin";
+        Long adminId = memberService.register(member(admin)).getId();
+        memberService.changeRole(adminId, MemberRole.ROLE_ADMIN);
+        adminToken = "Bearer " + jwtUtil.createJwt(memberService.getMemberEntity(admin), 60_000L);
+    }
+
+    @Test
+    void loginResultsAreRecordedAndQueryable() throws Exception {
+        login("1234").andExpect(status().isOk());
+        login("wrong").andExpect(status().isUnauthorized());
+        String expired = "Bearer " + jwtUtil.createJwt(memberService.getMemberEntity(username), -1_000L);
+        mockMvc.perform(get("/api/members/me").header("Authorization", expired));
+
+        List<String> types = new ArrayList<>();
+        await(() -> {
+            types.clear();
+            eventsOf(username, null).forEach(event -> types.add(event.get("type").asText()));
+            return types.size() == 3;
+        });
+        assertThat(types).containsExactly("TOKEN_EXPIRED", "LOGIN_FAILURE", "LOGIN_SUCCESS");
+
+        JsonNode failure = eventsOf(username, AuthEventType.LOGIN_FAILURE).get(0);
+        assertThat(failure.get("detail").asText()).isEqualTo("BadCredentialsException");
+        assertThat(failure.get("remoteAddr").asText()).isNotBlank();
+    }
+
+    @Test
+    void invalidTokenIsRecordedWithoutUsername() throws Exception {
+        String marker = "10.9." + (int) (Math.random() * 250) + "." + (int) (Math.random() * 250);
+        mockMvc.perform(get("/api/members/me").header("Authorization", "Bearer not-a-jwt")
+                .with(request -> {
+                    request.setRemoteAddr(marker);
+                    return request;
+                }));
+
+        await(() -> count("SELECT COUNT(*) FROM auth_events WHERE remote_addr = ? AND event_type = 'TOKEN_INVALID'",
+                marker) == 1);
+        assertThat(jdbcTemplate.queryForObject("SELECT username FROM auth_events WHERE remote_addr = ?",
+                String.class, marker)).isNull();
+    }
+
+    @Test
+    void dropPolicyCountsOverflowWithoutBlocking() throws Exception {
+        AuditProperties properties = new AuditProperties();
+        properties.setBufferSize(4);
+        properties.setBatchSize(3);
+        properties.setFlushInterval(Duration.ofMillis(50));
+        properties.setEnabled(false);  // writer 를 띄우지 않고 버퍼만 채운다
+        AuthEventRecorder idle = new AuthEventRecorder(jdbcTemplate, properties, new SimpleMeterRegistry());
+        idle.record(AuthEventType.LOGIN_SUCCESS, username, "127.0.0.1", null);
+        assertThat(idle.getPendingCount()).isZero();  // 꺼져 있으면 버퍼에도 넣지 않음
+        idle.destroy();
+
+        properties.setEnabled(true);
+        String prefix = username + "-drop";
+        AuthEventRecorder recorder = new AuthEventRecorder(jdbcTemplate, properties, new SimpleMeterRegistry());
+        try {
+            // 버퍼(4) 보다 많이 넣어도 요청 스레드는 기다리지 않고, 넘친 만큼 dropped 로 집계된다
+            int attempts = 200;
+            for (int i = 0; i < attempts; i++) {
+                recorder.record(AuthEventType.LOGIN_FAILURE, prefix, "127.0.0.1", "x".repeat(300));
+            }
+            await(() -> recorder.getPendingCount() == 0
+                    && recorder.getWrittenCount() + recorder.getDroppedCount() == attempts);
+            await(() -> count("SELECT COUNT(*) FROM auth_events WHERE username = ?", prefix)
+                    == recorder.getWrittenCount());
+            assertThat(recorder.getDroppedCount()).isPositive();
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT MAX(LENGTH(detail)) FROM auth_events WHERE username = ?", Integer.class, prefix))
+                    .isEqualTo(255);
+        } finally {
+            recorder.destroy();
+        }
+    }
+
+    @Test
+    void destroyFlushesPendingEvents() throws Exception {
+        AuditProperties properties = new AuditProperties();
+        properties.setBatchSize(2);
+        properties.setFlushInterval(Duration.ofMinutes(1));  // 시간 조건으로는 저장되지 않도록
+        properties.setOverflowPolicy(AuditProperties.OverflowPolicy.BLOCK);
+        AuthEventRecorder recorder = new AuthEventRecorder(jdbcTemplate, properties, new SimpleMeterRegistry());
+
+        String name = username + "-shutdown";
+        for (int i = 0; i < 5; i++) {
+            recorder.record(AuthEventType.LOGIN_SUCCESS, name, "127.0.0.1", null);
+        }
+        recorder.destroy();
+
+        assertThat(count("SELECT COUNT(*) FROM auth_events WHERE username = ?", name)).isEqualTo(5);
+        assertThat(recorder.getDroppedCount()).isZero();
+    }
+
+    private ResultActions login(String password) throws Exception {
+        return mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"));
+    }
+
+    private JsonNode eventsOf(String name, AuthEventType type) throws Exception {
+        var request = get("/admin/auth-events").header("Authorization", adminToken).param("username", name);
+        if (type != null) {
+            request.param("type", type.name());
+        }
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(body).get("data").get("content");
+    }
+
+    private long count(String sql, Object arg) {
+        return jdbcTemplate.queryForObject(sql, Long.class, arg);
+    }
+
+    private static void await(ThrowingCondition condition) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.check()) {
+            assertThat(System.nanoTime()).as("10초 안에 조건을 만족하지 않음").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingCondition {
+        boolean check() throws Exception;
+    }
+
+    private MemberCreateRequestDto member(String name) {
+        return MemberCreateRequestDto.builder().username(name).password("1234").name("감사").build();
+    }
+}
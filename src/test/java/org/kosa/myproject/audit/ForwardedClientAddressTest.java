@@ -0,0 +1,61 @@
+package org.kosa.myproject.audit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ALB 뒤에서 감사 로그에 실제 클라이언트 IP 가 남는지 확인 (server.forward-headers-strategy=native)
+ * 테스트 요청은 127.0.0.1 (신뢰하는 내부 프록시) 에서 오므로 ALB 를 거친 요청과 같다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.audit.flush-interval=100ms")
+class ForwardedClientAddressTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void recordsForwardedClientAddressNotTheProxy() throws Exception {
+        String username = "forwarded-" + UUID.randomUUID().toString().substring(0, 8);
+        // 왼쪽 값은 클라이언트가 직접 넣은 값(위조 가능), 오른쪽 값은 ALB 가 덧붙인 실제 접속 주소
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", "198.51.100.1, 203.0.113.7")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + username + "\",\"password\":\"wrong\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(401);
+
+        assertThat(remoteAddresses(username)).containsExactly("203.0.113.7");
+    }
+
+    private List<String> remoteAddresses(String username) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        List<String> addresses;
+        do {
+            Thread.sleep(20);
+            addresses = jdbcTemplate.queryForList(
+                    "SELECT remote_addr FROM auth_events WHERE username = ?", String.class, username);
+        } while (addresses.isEmpty() && System.nanoTime() < deadline);
+        return addresses;
+    }
+}
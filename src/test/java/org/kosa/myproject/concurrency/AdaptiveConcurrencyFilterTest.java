@@ -0,0 +1,79 @@
+package org.kosa.myproject.concurrency;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.json.PreEncodedErrorResponse;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 우선순위 분류와 과부하 거절(503) 응답 테스트
+ * 한도 10 → 비로그인 조회 5건, 일반 9건, 헬스 체크 / 로그인 10건까지
+ */
+class AdaptiveConcurrencyFilterTest {
+
+    private final ConcurrencyLimitProperties properties = properties();
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+    private final AdaptiveConcurrencyFilter filter = new AdaptiveConcurrencyFilter(limiter, properties,
+            PreEncodedErrorResponse.of(Jackson2ObjectMapperBuilder.json()
+                            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build(),
+                    503, "SERVICE_OVERLOADED", "과부하"));
+
+    @Test
+    void classifiesByPathMethodAndAuthentication() {
+        assertThat(filter.classify(request("GET", "/api/health/ready", false))).isEqualTo(Priority.CRITICAL);
+        assertThat(filter.classify(request("POST", "/api/auth/login", false))).isEqualTo(Priority.CRITICAL);
+        assertThat(filter.classify(request("GET", "/api/posts", false))).isEqualTo(Priority.SHEDDABLE);
+        assertThat(filter.classify(request("GET", "/api/posts/7", false))).isEqualTo(Priority.SHEDDABLE);
+        assertThat(filter.classify(request("GET", "/api/posts", true))).isEqualTo(Priority.NORMAL);
+        assertThat(filter.classify(request("POST", "/api/posts", true))).isEqualTo(Priority.NORMAL);
+        assertThat(filter.classify(request("GET", "/api/members/me", true))).isEqualTo(Priority.NORMAL);
+    }
+
+    @Test
+    void shedsLowPriorityFirstWithRetryAfter() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(Priority.CRITICAL);
+        }
+
+        MockHttpServletResponse shed = perform(request("GET", "/api/posts", false));
+        assertThat(shed.getStatus()).isEqualTo(503);
+        assertThat(shed.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(shed.getContentAsString(StandardCharsets.UTF_8)).contains("\"code\":\"SERVICE_OVERLOADED\"");
+
+        assertThat(perform(request("GET", "/api/posts", true)).getStatus()).isEqualTo(200);
+        assertThat(perform(request("GET", "/api/health", false)).getStatus()).isEqualTo(200);
+
+        // 허용된 요청은 끝나면 반환된다
+        assertThat(limiter.getInflight()).isEqualTo(5);
+        assertThat(limiter.getRejected(Priority.SHEDDABLE)).isEqualTo(1);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, boolean authenticated) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        if (authenticated) {
+            request.addHeader("Authorization", "Bearer token");
+        }
+        return request;
+    }
+
+    private static ConcurrencyLimitProperties properties() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(10);
+        properties.setMinLimit(10);
+        properties.setMaxLimit(10);
+        return properties;
+    }
+}
@@ -0,0 +1,117 @@
+package org.kosa.myproject.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적응형 동시 처리 한도 테스트 (시계를 직접 움직인다)
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    void lowerPrioritiesUseOnlyPartOfTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 10, 10);
+
+        List<AdaptiveConcurrencyLimiter.Permit> held = new ArrayList<>();
+        held.addAll(acquireAll(limiter, Priority.SHEDDABLE));
+        assertThat(held).hasSize(5);
+        held.addAll(acquireAll(limiter, Priority.NORMAL));
+        assertThat(held).hasSize(9);
+        held.addAll(acquireAll(limiter, Priority.CRITICAL));
+        assertThat(held).hasSize(10);
+
+        assertThat(limiter.getRejected(Priority.SHEDDABLE)).isEqualTo(1);
+        assertThat(limiter.getRejected(Priority.NORMAL)).isEqualTo(1);
+        assertThat(limiter.getRejected(Priority.CRITICAL)).isEqualTo(1);
+
+        held.removeFirst().release(true);
+        assertThat(limiter.getInflight()).isEqualTo(9);
+        assertThat(limiter.tryAcquire(Priority.SHEDDABLE)).isNull();
+        assertThat(limiter.tryAcquire(Priority.CRITICAL)).isNotNull();
+    }
+
+    @Test
+    void limitShrinksWhenLatencyGrowsAndRecoversAfterwards() {
+        AdaptiveConcurrencyLimiter limiter = limiter(100, 20, 1000);
+
+        // 평소 응답 시간 10ms 학습 (동시 처리 수가 적으면 한도는 그대로)
+        for (int i = 0; i < 20; i++) {
+            window(limiter, 5, Duration.ofMillis(10));
+        }
+        assertThat(limiter.getLimit()).isEqualTo(100);
+
+        // 대기열이 생겨 응답 시간이 10배로 늘어남 → 한도 감소
+        for (int i = 0; i < 20; i++) {
+            window(limiter, limiter.getLimit(), Duration.ofMillis(100));
+        }
+        int shrunk = limiter.getLimit();
+        assertThat(shrunk).isLessThan(60).isGreaterThanOrEqualTo(20);
+
+        // 응답 시간 회복 → 한도가 다시 늘어남
+        for (int i = 0; i < 30; i++) {
+            window(limiter, limiter.getLimit(), Duration.ofMillis(10));
+        }
+        assertThat(limiter.getLimit()).isGreaterThan(shrunk);
+    }
+
+    @Test
+    void limitStaysWithinBounds() {
+        AdaptiveConcurrencyLimiter limiter = limiter(30, 20, 40);
+
+        for (int i = 0; i < 20; i++) {
+            window(limiter, 5, Duration.ofMillis(1));
+        }
+        for (int i = 0; i < 50; i++) {
+            window(limiter, limiter.getLimit(), Duration.ofSeconds(1));
+        }
+        assertThat(limiter.getLimit()).isEqualTo(20);
+
+        for (int i = 0; i < 200; i++) {
+            window(limiter, limiter.getLimit(), Duration.ofMillis(1));
+        }
+        assertThat(limiter.getLimit()).isEqualTo(40);
+    }
+
+    /**
+     * 표본 구간(100ms) 1개 - 쉬었다가 concurrency 건을 동시에 시작하고 rtt 후에 모두 완료
+     */
+    private void window(AdaptiveConcurrencyLimiter limiter, int concurrency, Duration rtt) {
+        clock.addAndGet(Math.max(0, Duration.ofMillis(100).minus(rtt).toNanos()));
+        List<AdaptiveConcurrencyLimiter.Permit> held = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(Priority.CRITICAL);
+            if (permit != null) {
+                held.add(permit);
+            }
+        }
+        clock.addAndGet(rtt.toNanos());
+        held.forEach(permit -> permit.release(true));
+    }
+
+    private List<AdaptiveConcurrencyLimiter.Permit> acquireAll(AdaptiveConcurrencyLimiter limiter, Priority priority) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        AdaptiveConcurrencyLimiter.Permit permit;
+        while ((permit = limiter.tryAcquire(priority)) != null) {
+            permits.add(permit);
+        }
+        return permits;
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initial, int min, int max) {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(initial);
+        properties.setMinLimit(min);
+        properties.setMaxLimit(max);
+        properties.setMinWindowSamples(1);
+        return new AdaptiveConcurrencyLimiter(properties, clock::get);
+    }
+}
@@ -0,0 +1,51 @@
+package org.kosa.myproject.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * DB 동시 접근 제한 테스트
+ */
+class ConcurrencyLimitedDataSourceTest {
+
+    private final ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(h2(), 2, 100);
+
+    @Test
+    void waitsWhenAllPermitsAreInUseAndTimesOut() throws Exception {
+        try (Connection first = dataSource.getConnection();
+             Connection second = dataSource.getConnection()) {
+            assertThat(dataSource.getActiveConnections()).isEqualTo(2);
+
+            assertThatThrownBy(dataSource::getConnection)
+                    .isInstanceOf(SQLTransientConnectionException.class);
+        }
+        assertThat(dataSource.getActiveConnections()).isZero();
+    }
+
+    @Test
+    void closingTwiceReleasesOnlyOnce() throws Exception {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        try (Connection first = dataSource.getConnection();
+             Connection second = dataSource.getConnection()) {
+            assertThat(dataSource.getActiveConnections()).isEqualTo(2);
+            assertThatThrownBy(dataSource::getConnection)
+                    .isInstanceOf(SQLTransientConnectionException.class);
+        }
+    }
+
+    private static JdbcDataSource h2() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:limited;DB_CLOSE_DELAY=-1");
+        h2.setUser("sa");
+        return h2;
+    }
+}
@@ -0,0 +1,106 @@
+package org.kosa.myproject.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 분리 라우팅 테스트
+ * 내장 H2 두 개(primary, replica)를 띄워 실제로 어느 DB 에서 쿼리가 실행되는지 확인
+ */
+@SpringBootTest(properties = {
+        "app.datasource.replicas[0].url=jdbc:h2:mem:replica;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.datasource.replicas[0].username=sa",
+        "app.datasource.replicas[0].maximum-pool-size=2",
+        "app.datasource.replicas[0].connection-timeout=250ms",
+        "app.datasource.read-your-writes-window=5s"
+})
+class ReplicationRoutingDataSourceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaDataSourceSelector replicaDataSourceSelector;
+
+    @BeforeEach
+    void setUp() {
+        replicaDataSourceSelector.checkHealth();
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(currentDatabase(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void writeTransactionGoesToPrimary() {
+        assertThat(currentDatabase(false)).isEqualTo("primary");
+    }
+
+    @Test
+    void readAfterOwnWriteGoesToPrimaryWithinWindow() {
+        login("writer");
+        currentDatabase(false);  // 쓰기 트랜잭션 커밋
+        assertThat(currentDatabase(true)).isEqualTo("primary");
+
+        login("other");
+        assertThat(currentDatabase(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void unhealthyReplicaFallsBackToPrimary() {
+        replicaDataSourceSelector.markDown("replica-0");
+        assertThat(currentDatabase(true)).isEqualTo("primary");
+
+        replicaDataSourceSelector.checkHealth();
+        assertThat(currentDatabase(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void saturatedReplicaPoolSpillsToPrimaryWithoutBeingMarkedDown() throws Exception {
+        HikariDataSource replica = replicaDataSourceSelector.dataSources().get("replica-0");
+        try (Connection first = replica.getConnection(); Connection second = replica.getConnection()) {
+            // 풀(2개)이 모두 사용 중 - 대기 시간 초과 후 primary 로 처리되지만 Replica 는 정상으로 남는다
+            assertThat(currentDatabase(true)).isEqualTo("primary");
+            assertThat(replicaDataSourceSelector.isHealthy("replica-0")).isTrue();
+
+            replicaDataSourceSelector.checkHealth();
+            assertThat(replicaDataSourceSelector.isHealthy("replica-0")).isTrue();
+        }
+        assertThat(currentDatabase(true)).isEqualTo("replica");
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> String.valueOf(
+                entityManager.createNativeQuery("SELECT DATABASE()").getSingleResult()));
+    }
+
+    private void login(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+}
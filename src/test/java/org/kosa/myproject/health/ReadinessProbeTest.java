@@ -0,0 +1,82 @@
+package org.kosa.myproject.health;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * liveness / readiness 프로브 테스트
+ * 설정값을 바꾼 뒤 refresh() 로 스냅샷을 다시 만들어 판정을 확인한다 (테스트 후 원복)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReadinessProbeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReadinessProbe readinessProbe;
+
+    @Autowired
+    private HealthProbeProperties properties;
+
+    private final int maxAwaitingThreads = new HealthProbeProperties().getMaxAwaitingThreads();
+    private final Duration maxStaleness = new HealthProbeProperties().getMaxStaleness();
+
+    @AfterEach
+    void restore() {
+        properties.setMaxAwaitingThreads(maxAwaitingThreads);
+        properties.setMaxStaleness(maxStaleness);
+        readinessProbe.refresh();
+    }
+
+    @Test
+    void readyAfterWarmUp() throws Exception {
+        mockMvc.perform(get("/api/health/ready"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.checks.warmUp.status").value("UP"))
+                .andExpect(jsonPath("$.checks.database.status").value("UP"))
+                .andExpect(jsonPath("$.checks.connectionPool.status").value("UP"))
+                .andExpect(jsonPath("$.checks.jwtKey.status").value("UP"));
+
+        mockMvc.perform(get("/api/health/live"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+
+    @Test
+    void saturatedPoolIsNotReadyButStillLive() throws Exception {
+        properties.setMaxAwaitingThreads(0);
+        readinessProbe.refresh();
+
+        mockMvc.perform(get("/api/health/ready"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value("DOWN"))
+                .andExpect(jsonPath("$.checks.connectionPool.status").value("DOWN"))
+                .andExpect(jsonPath("$.checks.database.status").value("UNKNOWN"));
+
+        // DB 문제로 인스턴스가 재시작되면 안 된다
+        mockMvc.perform(get("/api/health/live"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void staleSnapshotIsNotReady() throws Exception {
+        properties.setMaxStaleness(Duration.ZERO);
+
+        mockMvc.perform(get("/api/health/ready"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.reason").value("STALE"));
+    }
+}
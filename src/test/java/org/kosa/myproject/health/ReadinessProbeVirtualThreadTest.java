@@ -0,0 +1,98 @@
+package org.kosa.myproject.health;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.datasource.ConcurrencyLimitedDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Virtual Thread 모드 readiness 테스트
+ * 커넥션 대기는 Hikari 가 아니라 풀 앞의 ConcurrencyLimitedDataSource 에 쌓이므로 그 대기 수로 포화를 판정해야 한다
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("virtual")
+class ReadinessProbeVirtualThreadTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReadinessProbe readinessProbe;
+
+    @Autowired
+    private HealthProbeProperties properties;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private ConcurrencyLimitedDataSource primaryConcurrencyLimitedDataSource;
+
+    @Test
+    void waitersQueuedInFrontOfThePoolMakeItNotReady() throws Exception {
+        int waiters = properties.getMaxAwaitingThreads();
+        List<Connection> held = new ArrayList<>();
+        List<Future<?>> waiting = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                // 풀 크기만큼 빌려 두면 이후 요청은 Semaphore 에서 대기하고 Hikari 의 대기 수는 0 으로 남는다
+                for (int i = 0; i < primaryDataSource.getMaximumPoolSize(); i++) {
+                    held.add(primaryConcurrencyLimitedDataSource.getConnection());
+                }
+                for (int i = 0; i < waiters; i++) {
+                    waiting.add(executor.submit(() -> {
+                        primaryConcurrencyLimitedDataSource.getConnection().close();
+                        return null;
+                    }));
+                }
+                awaitWaiters(waiters);
+                assertThat(primaryDataSource.getHikariPoolMXBean().getThreadsAwaitingConnection()).isZero();
+
+                readinessProbe.refresh();
+
+                mockMvc.perform(get("/api/health/ready"))
+                        .andExpect(status().isServiceUnavailable())
+                        .andExpect(jsonPath("$.checks.connectionPool.status").value("DOWN"))
+                        .andExpect(jsonPath("$.checks.connectionPool.awaiting").value(waiters));
+            } finally {
+                for (Connection connection : held) {
+                    connection.close();
+                }
+            }
+            for (Future<?> future : waiting) {
+                future.get();
+            }
+        }
+
+        readinessProbe.refresh();
+        mockMvc.perform(get("/api/health/ready"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.checks.connectionPool.status").value("UP"));
+    }
+
+    private void awaitWaiters(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (primaryConcurrencyLimitedDataSource.getWaitingThreads() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(primaryConcurrencyLimitedDataSource.getWaitingThreads()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,222 @@
+package org.kosa.myproject.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.repository.PostRepository;
+import org.kosa.myproject.security.jwt.JwtUtil;
+import org.kosa.myproject.service.MemberService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Idempotency-Key 재시도 테스트 (POST /api/posts, POST /api/members)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdempotencyFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String prefix;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        prefix = "idem-" + UUID.randomUUID().toString().substring(0, 8);
+        token = token(prefix);
+    }
+
+    @Test
+    void retriedPostIsReplayedWithoutCreatingAnotherPost() throws Exception {
+        long before = postRepository.count();
+
+        MockHttpServletResponse first = createPost(token, "key-1", "첫 글");
+        MockHttpServletResponse retry = createPost(token, "key-1", "첫 글");
+
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retry.getContentType()).isEqualTo(first.getContentType());
+        assertThat(retry.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+        assertThat(postRepository.count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() throws Exception {
+        createPost(token, "key-2", "원래 글");
+
+        MockHttpServletResponse reused = createPost(token, "key-2", "다른 글");
+        assertThat(reused.getStatus()).isEqualTo(422);
+        assertThat(json(reused, "code")).isEqualTo("IDEMPOTENCY_KEY_REUSED");
+    }
+
+    @Test
+    void keysAreScopedPerMember() throws Exception {
+        String other = token(prefix + "-other");
+
+        long first = postId(createPost(token, "shared-key", "같은 글"));
+        long second = postId(createPost(other, "shared-key", "같은 글"));
+
+        assertThat(second).isNotEqualTo(first);
+    }
+
+    @Test
+    void concurrentDuplicatesExecuteOnce() throws Exception {
+        long before = postRepository.count();
+        List<Callable<MockHttpServletResponse>> requests = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            requests.add(() -> createPost(token, "key-concurrent", "동시 요청"));
+        }
+
+        List<Long> ids = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (Future<MockHttpServletResponse> future : executor.invokeAll(requests)) {
+                MockHttpServletResponse response = future.get();
+                assertThat(response.getStatus()).isEqualTo(201);
+                ids.add(postId(response));
+            }
+        }
+
+        assertThat(ids).containsOnly(ids.getFirst());
+        assertThat(postRepository.count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void retriedRegistrationIsReplayed() throws Exception {
+        String body = objectMapper.writeValueAsString(MemberCreateRequestDto.builder()
+                .username(prefix + "-new").password("1234").name("신규").build());
+
+        MockHttpServletResponse first = register(body);
+        MockHttpServletResponse retry = register(body);
+
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(json(retry, "data", "id")).isEqualTo(json(first, "data", "id"));
+
+        // 키 없이 다시 보내면 평소처럼 중복 가입으로 처리
+        MockHttpServletResponse withoutKey = mockMvc.perform(post("/api/members")
+                .contentType(MediaType.APPLICATION_JSON).content(body)).andReturn().getResponse();
+        assertThat(withoutKey.getStatus()).isNotEqualTo(201);
+    }
+
+    @Test
+    void invalidKeyIsRejected() throws Exception {
+        MockHttpServletResponse response = createPost(token, "공백 포함 키", "글");
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(json(response, "code")).isEqualTo("INVALID_IDEMPOTENCY_KEY");
+    }
+
+    @Test
+    void oversizedBodyIsRejectedWithoutExecuting() throws Exception {
+        long before = postRepository.count();
+
+        MockHttpServletResponse response = createPost(token, "key-large", "가".repeat(70_000));
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(json(response, "code")).isEqualTo("IDEMPOTENCY_BODY_TOO_LARGE");
+        assertThat(postRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    void cachedBodySupportsNonBlockingRead() throws Exception {
+        byte[] body = "{\"title\":\"글\"}".getBytes(StandardCharsets.UTF_8);
+        ServletInputStream input = new IdempotencyFilter.CachedBodyRequest(new MockHttpServletRequest(), body).getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> calls = new ArrayList<>();
+
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                calls.add("data");
+                while (input.isReady() && !input.isFinished()) {
+                    read.write(input.read());
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                calls.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                calls.add("error");
+            }
+        });
+
+        assertThat(calls).containsExactly("data", "done");
+        assertThat(read.toByteArray()).isEqualTo(body);
+    }
+
+    private MockHttpServletResponse createPost(String token, String key, String title) throws Exception {
+        return mockMvc.perform(post("/api/posts")
+                        .header("Authorization", token)
+                        .header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\",\"content\":\"본문\"}"))
+                .andReturn().getResponse();
+    }
+
+    private MockHttpServletResponse register(String body) throws Exception {
+        return mockMvc.perform(post("/api/members")
+                        .header(IdempotencyFilter.HEADER, prefix + "-signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse();
+    }
+
+    private long postId(MockHttpServletResponse response) throws Exception {
+        return Long.parseLong(json(response, "data", "id"));
+    }
+
+    private String json(MockHttpServletResponse response, String... path) throws Exception {
+        var node = objectMapper.readTree(response.getContentAsString(StandardCharsets.UTF_8));
+        for (String field : path) {
+            node = node.get(field);
+        }
+        return node.asText();
+    }
+
+    private String token(String username) {
+        memberService.register(MemberCreateRequestDto.builder().username(username).password("1234").name("멱등").build());
+        return "Bearer " + jwtUtil.createJwt(memberService.getMemberEntity(username), 60_000L);
+    }
+}
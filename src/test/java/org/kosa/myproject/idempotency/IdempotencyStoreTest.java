@@ -0,0 +1,54 @@
+package org.kosa.myproject.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키 선점 / 대기 / 재사용 흐름 테스트
+ */
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore store = new IdempotencyStore(new IdempotencyProperties());
+
+    @Test
+    void concurrentClaimWaitsForOwnerThenReplays() throws Exception {
+        IdempotencyStore.Claim owner = store.claim("k");
+        assertThat(owner.owned()).isNotNull();
+
+        IdempotencyStore.Claim waiting = store.claim("k");
+        assertThat(waiting.pending()).isSameAs(owner.owned());
+        assertThat(store.inFlightCount()).isEqualTo(1);
+
+        StoredResponse response = response("{\"id\":1}");
+        store.complete("k", owner.owned(), response);
+
+        assertThat(waiting.pending().get()).isSameAs(response);
+        assertThat(store.inFlightCount()).isZero();
+        assertThat(store.claim("k").stored()).isSameAs(response);
+    }
+
+    @Test
+    void unstoredResultLetsNextRequestExecute() throws Exception {
+        IdempotencyStore.Claim owner = store.claim("k");
+        IdempotencyStore.Claim waiting = store.claim("k");
+
+        store.complete("k", owner.owned(), null);
+
+        assertThat(waiting.pending().get()).isNull();
+        assertThat(store.claim("k").owned()).isNotNull();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void keysAreIndependent() {
+        assertThat(store.claim("a").owned()).isNotNull();
+        assertThat(store.claim("b").owned()).isNotNull();
+    }
+
+    private static StoredResponse response(String body) {
+        return new StoredResponse(201, "application/json", body.getBytes(StandardCharsets.UTF_8), new byte[32]);
+    }
+}
@@ -0,0 +1,72 @@
+package org.kosa.myproject.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.dto.ApiResponseDto;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 미리 직렬화한 오류 응답이 ObjectMapper 직렬화 결과와 바이트 단위로 같은지 확인
+ */
+class PreEncodedErrorResponseTest {
+
+    // Spring Boot 기본 설정과 같게 (날짜는 ISO-8601 문자열)
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    void matchesObjectMapperOutput() throws Exception {
+        PreEncodedErrorResponse response = PreEncodedErrorResponse.of(objectMapper, 401, "UNAUTHORIZED", "인증이 필요합니다. \"로그인\"");
+
+        // 나노초 / 초가 0 인 경우도 Jackson 과 같은 형식이어야 한다
+        for (LocalDateTime timestamp : new LocalDateTime[]{
+                LocalDateTime.of(2025, 1, 2, 3, 4, 5, 123_456_789),
+                LocalDateTime.of(2025, 1, 2, 3, 4, 5),
+                LocalDateTime.of(2025, 1, 2, 3, 4)}) {
+            String expected = objectMapper.writeValueAsString(ApiResponseDto.builder()
+                    .success(false)
+                    .code("UNAUTHORIZED")
+                    .message("인증이 필요합니다. \"로그인\"")
+                    .timestamp(timestamp)
+                    .build());
+            assertThat(new String(response.encode(timestamp), StandardCharsets.UTF_8)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void writesStatusAndJsonBody() throws Exception {
+        PreEncodedErrorResponse forbidden = PreEncodedErrorResponse.of(objectMapper, 403, "FORBIDDEN", "권한 없음");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        forbidden.writeTo(response);
+
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        JsonNode body = objectMapper.readTree(response.getContentAsString(StandardCharsets.UTF_8));
+        assertThat(body.path("success").asBoolean(true)).isFalse();
+        assertThat(body.path("code").asText()).isEqualTo("FORBIDDEN");
+        assertThat(body.path("timestamp").asText()).isNotBlank();
+    }
+
+    @Test
+    void rejectsMapperThatOmitsTimestamp() {
+        ObjectMapper nonNull = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+
+        assertThatThrownBy(() -> PreEncodedErrorResponse.of(nonNull, 401, "UNAUTHORIZED", "x"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
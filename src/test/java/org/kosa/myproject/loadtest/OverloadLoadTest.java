@@ -0,0 +1,221 @@
+package org.kosa.myproject.loadtest;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.SpringSecurityLessonApplication;
+import org.kosa.myproject.concurrency.AdaptiveConcurrencyLimiter;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.dto.PostCreateRequestDto;
+import org.kosa.myproject.service.MemberService;
+import org.kosa.myproject.service.PostService;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 과부하 시 적응형 동시 처리 한도(AdaptiveConcurrencyFilter) 효과 비교 (./gradlew loadTest)
+ *
+ * 느린 DB(SQL 실행마다 load.db-latency-ms 지연)로 같은 애플리케이션을 한도 없이 / 한도를 켜고 차례로 띄워
+ * 1. load.baseline-rate 로 평소 응답 시간을 학습시킨 뒤
+ * 2. 처리 가능량을 넘는 load.overload-rate 로 open model 부하 (5건 중 4건 비로그인 GET /api/posts, 1건 GET /api/health)
+ * 지연 시간은 "보내기로 예정된 시각"부터 측정한다 (coordinated omission 보정)
+ * Tomcat 스레드 수는 기본값(200)을 사용한다 - 한도보다 스레드가 적으면 필터에 닿기 전에 Tomcat 대기열에서 기다리게 된다
+ *
+ * 한도가 없으면 요청이 Tomcat 대기열에 쌓여 /api/health 의 p99 까지 함께 늘어나고,
+ * 한도를 켜면 넘치는 게시글 조회가 즉시 503 으로 거절되어 허용된 요청과 헬스 체크의 p99 가 유지되어야 한다
+ */
+@Tag("load")
+class OverloadLoadTest {
+
+    private static final Duration DURATION = duration("load.duration", "10s");
+    private static final Duration WARMUP = duration("load.warmup", "3s");
+    private static final double BASELINE_RATE = Double.parseDouble(System.getProperty("load.baseline-rate", "20"));
+    private static final double OVERLOAD_RATE = Double.parseDouble(System.getProperty("load.overload-rate", "200"));
+    private static final long DB_LATENCY_MS = Long.getLong("load.db-latency-ms", 100);
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("load.max-in-flight", 2000);
+    private static final long MAX_HEALTH_P99_MS = Long.getLong("load.max-health-p99-ms", 500);
+
+    private static final String POSTS = "/api/posts";
+    private static final String HEALTH = "/api/health";
+
+    @Test
+    void adaptiveLimitKeepsTailLatencyStableUnderOverload() throws Exception {
+        Result unlimited = run("unlimited", false);
+        Result adaptive = run("adaptive", true);
+
+        System.out.println();
+        System.out.printf("%-10s %-12s %8s %8s %10s %10s %8s %8s%n",
+                "mode", "endpoint", "ok", "503", "p50(ms)", "p99(ms)", "errors", "dropped");
+        unlimited.print();
+        adaptive.print();
+        System.out.printf("adaptive   최종 한도 %d%n", adaptive.finalLimit);
+
+        assertThat(adaptive.errors()).as("503 이외의 오류").isZero();
+        assertThat(adaptive.posts.shed.get()).as("과부하에서 거절된 게시글 조회").isPositive();
+        assertThat(adaptive.health.shed.get()).as("헬스 체크는 거절되지 않아야 한다").isZero();
+        assertThat(millis(adaptive.health.histogram.getValueAtPercentile(99)))
+                .as("한도 적용 시 /api/health p99").isLessThan(MAX_HEALTH_P99_MS);
+        assertThat(adaptive.health.histogram.getValueAtPercentile(99))
+                .as("/api/health p99 는 한도가 없을 때의 1/10 미만이어야 한다")
+                .isLessThan(unlimited.health.histogram.getValueAtPercentile(99) / 10);
+        assertThat(adaptive.posts.histogram.getValueAtPercentile(99))
+                .as("허용된 게시글 조회 p99 는 한도가 없을 때보다 낮아야 한다")
+                .isLessThan(unlimited.posts.histogram.getValueAtPercentile(99));
+    }
+
+    private Result run(String mode, boolean limited) throws Exception {
+        String url = "jdbc:h2:mem:overload-" + mode + ";DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringSecurityLessonApplication.class)
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(slowPrimary(url)))
+                .run("--server.port=0",
+                        "--spring.datasource.url=" + url,
+                        "--spring.datasource.hikari.maximum-pool-size=10",
+                        "--app.concurrency-limit.enabled=" + limited,
+                        "--logging.level.org.kosa.myproject=WARN")) {
+            seed(context);
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            SlowJdbcDataSource.latencyMs = DB_LATENCY_MS;
+            try {
+                drive(baseUrl, BASELINE_RATE, WARMUP, new Result(mode));
+                Result result = drive(baseUrl, OVERLOAD_RATE, DURATION, new Result(mode));
+                result.finalLimit = context.getBean(AdaptiveConcurrencyLimiter.class).getLimit();
+                return result;
+            } finally {
+                SlowJdbcDataSource.latencyMs = 0;
+            }
+        }
+    }
+
+    private BeanPostProcessor slowPrimary(String url) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource pool && "primaryDataSource".equals(beanName)) {
+                    JdbcDataSource h2 = new JdbcDataSource();
+                    h2.setURL(url);
+                    h2.setUser("sa");
+                    pool.setDataSource(new SlowJdbcDataSource(h2));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        MemberService memberService = context.getBean(MemberService.class);
+        PostService postService = context.getBean(PostService.class);
+        memberService.register(MemberCreateRequestDto.builder().username("overload").password("1234").name("과부하").build());
+        for (int i = 0; i < 20; i++) {
+            postService.createPost(PostCreateRequestDto.builder().title("글 " + i).content("내용").build(), "overload");
+        }
+    }
+
+    private Result drive(String baseUrl, double rate, Duration duration, Result result) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest posts = HttpRequest.newBuilder(URI.create(baseUrl + POSTS)).build();
+        HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + HEALTH)).build();
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long total = duration.toNanos() / interval;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long intended = start + i * interval;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                boolean db = i % 5 != 0;
+                Stats stats = db ? result.posts : result.health;
+                if (!inFlight.tryAcquire()) {
+                    stats.dropped.incrementAndGet();
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        int status = client.send(db ? posts : health, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status == 503) {
+                            stats.shed.incrementAndGet();
+                        } else if (status == 200) {
+                            stats.histogram.recordValue(Math.max(0, System.nanoTime() - intended));
+                        } else {
+                            stats.errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        stats.errors.incrementAndGet();
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return result;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return Duration.parse("PT" + System.getProperty(property, defaultValue).toUpperCase(Locale.ROOT));
+    }
+
+    private static final class Stats {
+        private final Histogram histogram = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(5), 3);
+        private final AtomicLong shed = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+    }
+
+    private static final class Result {
+        private final String mode;
+        private final Stats posts = new Stats();
+        private final Stats health = new Stats();
+        private int finalLimit;
+
+        private Result(String mode) {
+            this.mode = mode;
+        }
+
+        private long errors() {
+            return posts.errors.get() + health.errors.get();
+        }
+
+        private void print() {
+            print(POSTS, posts);
+            print(HEALTH, health);
+        }
+
+        private void print(String endpoint, Stats stats) {
+            System.out.printf("%-10s %-12s %8d %8d %10.1f %10.1f %8d %8d%n", mode, endpoint,
+                    stats.histogram.getTotalCount(), stats.shed.get(),
+                    millis(stats.histogram.getValueAtPercentile(50)), millis(stats.histogram.getValueAtPercentile(99)),
+                    stats.errors.get(), stats.dropped.get());
+        }
+    }
+}
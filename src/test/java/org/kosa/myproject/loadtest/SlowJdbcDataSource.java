@@ -0,0 +1,76 @@
+package org.kosa.myproject.loadtest;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * SQL 실행마다 지연을 넣어 느린 RDS 응답을 흉내내는 DataSource
+ *
+ * 요청 스레드가 JDBC execute 호출 안에서 blocking 되므로 실제 네트워크 대기와 같은 위치에서 기다린다
+ * (H2 트리거로 지연을 넣으면 H2 내부 lock 때문에 모든 쿼리가 직렬화되어 부적합)
+ */
+class SlowJdbcDataSource extends DelegatingDataSource {
+
+    static volatile long latencyMs = 0;
+
+    SlowJdbcDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, obtainTargetDataSource().getConnection(username, password));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target) {
+        return (T) Proxy.newProxyInstance(SlowJdbcDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (Statement.class.isAssignableFrom(type) && method.getName().startsWith("execute")) {
+                        sleep();
+                    }
+                    Object result = invoke(method, target, args);
+                    if (result instanceof Statement statement && type == Connection.class) {
+                        return proxy(statementType(method), statement);
+                    }
+                    return result;
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S extends Statement> Class<S> statementType(Method method) {
+        return (Class<S>) method.getReturnType();
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static void sleep() {
+        long latency = latencyMs;
+        if (latency <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package org.kosa.myproject.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.SpringSecurityLessonApplication;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.dto.PostCreateRequestDto;
+import org.kosa.myproject.security.jwt.JwtUtil;
+import org.kosa.myproject.service.MemberService;
+import org.kosa.myproject.service.PostService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 트래픽 비율을 흉내낸 종단 간 부하 테스트 (./gradlew loadReport)
+ *
+ * 1. MySQL 호환 모드의 내장 H2 로 애플리케이션을 띄우고 회원 load.members 명, 게시글 load.posts 개를 넣는다
+ * 2. open model : 응답을 기다리지 않고 초당 load.rate 건을 일정한 간격으로 보낸다 (서버가 느려져도 도착률 유지)
+ *    지연 시간은 "보내기로 예정된 시각"부터 측정 → 밀린 요청의 대기 시간까지 포함 (coordinated omission 보정)
+ * 3. 요청 종류는 load.mix 비율로 섞는다 (기본 login:5,list:45,detail:30,create:5,me:15)
+ * 4. 엔드포인트별 처리량, p50 / p99 / p999 (HdrHistogram) 를 build/reports/load/report.json 에 기록
+ * 5. load.baseline(기본 loadtest/baseline.json, 저장소에 포함)과 비교 결과를 함께 기록하고,
+ *    p99 / 처리량이 load.max-regression 이상 나빠지면 실패 (기준값 파일이 없어도 실패)
+ *    p99 는 표본이 load.min-samples 건 이상인 엔드포인트만 비교 (표본이 적으면 p99 가 사실상 최댓값 한 건이라 흔들림이 크다)
+ *    -Dload.update-baseline=true 로 실행하면 비교하지 않고 이번 결과를 기준값으로 저장
+ *    기본 설정(초당 15건, 60초)은 커밋된 기준값을 측정한 설정 - 1 vCPU 에서 오류 없이 유지되는 도착률
+ *
+ * 동시에 처리 중인 요청이 load.max-in-flight 를 넘으면 보내지 않고 dropped 로 집계한다 (클라이언트 메모리 보호)
+ */
+@Tag("load")
+class TrafficMixLoadTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final double RATE = Double.parseDouble(System.getProperty("load.rate", "15"));
+    private static final Duration DURATION = duration("load.duration", "60s");
+    private static final Duration WARMUP = duration("load.warmup", "3s");
+    private static final int MEMBERS = Integer.getInteger("load.members", 50);
+    private static final int POSTS = Integer.getInteger("load.posts", 500);
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("load.max-in-flight", 2000);
+    private static final String MIX = System.getProperty("load.mix", "login:5,list:45,detail:30,create:5,me:15");
+    private static final Path REPORT = Path.of(System.getProperty("load.report", "build/reports/load/report.json"));
+    private static final Path BASELINE = Path.of(System.getProperty("load.baseline", "loadtest/baseline.json"));
+    private static final double MAX_REGRESSION = Double.parseDouble(System.getProperty("load.max-regression", "0.2"));
+    private static final int MIN_SAMPLES = Integer.getInteger("load.min-samples", 200);
+
+    private static final String PASSWORD = "load-1234";
+
+    @Test
+    void trafficMix() throws Exception {
+        Map<String, Integer> mix = parseMix(MIX);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringSecurityLessonApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-mix;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--logging.level.org.kosa.myproject=WARN")) {
+            Fixture fixture = seed(context);
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            drive(baseUrl, fixture, mix, WARMUP);
+            Result result = drive(baseUrl, fixture, mix, DURATION);
+
+            Map<String, Object> report = report(result, mix);
+            boolean updateBaseline = Boolean.getBoolean("load.update-baseline");
+            List<String> regressions = updateBaseline ? List.of() : compareWithBaseline(report);
+            Files.createDirectories(REPORT.toAbsolutePath().getParent());
+            objectMapper.writeValue(REPORT.toFile(), report);
+            print(report);
+
+            if (updateBaseline) {
+                Files.createDirectories(BASELINE.toAbsolutePath().getParent());
+                objectMapper.writeValue(BASELINE.toFile(), report);
+                System.out.println("기준값 저장: " + BASELINE.toAbsolutePath());
+            }
+
+            assertThat(result.errors()).as("오류 응답 (엔드포인트별 errors 참고)").isZero();
+            assertThat(regressions).as("기준값 대비 성능 저하 (%s)", BASELINE).isEmpty();
+        }
+    }
+
+    private Fixture seed(ConfigurableApplicationContext context) {
+        MemberService memberService = context.getBean(MemberService.class);
+        PostService postService = context.getBean(PostService.class);
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+
+        List<String> usernames = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            String username = "load-" + i;
+            memberService.register(MemberCreateRequestDto.builder().username(username).password(PASSWORD).name("부하 " + i).build());
+            usernames.add(username);
+            tokens.add("Bearer " + jwtUtil.createJwt(memberService.getMemberEntity(username), Duration.ofHours(1).toMillis()));
+        }
+        List<Long> postIds = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            postIds.add(postService.createPost(PostCreateRequestDto.builder()
+                    .title("부하 게시글 " + i).content("내용 " + i).build(), usernames.get(i % MEMBERS)).getId());
+        }
+        return new Fixture(usernames, tokens, postIds);
+    }
+
+    /**
+     * 일정한 간격으로 요청을 보내고 응답은 virtual thread 에서 기다린다
+     */
+    private Result drive(String baseUrl, Fixture fixture, Map<String, Integer> mix, Duration duration) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        Result result = new Result(mix.keySet());
+        String[] schedule = schedule(mix);
+        SplittableRandom random = new SplittableRandom(42);
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / RATE);
+        long start = System.nanoTime();
+        long total = duration.toNanos() / interval;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long intended = start + i * interval;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                String endpoint = schedule[(int) (i % schedule.length)];
+                HttpRequest request = request(baseUrl, endpoint, fixture, random);
+                Stats stats = result.stats.get(endpoint);
+                if (!inFlight.tryAcquire()) {
+                    stats.dropped.incrementAndGet();
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() / 100 != 2) {
+                            stats.errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        stats.errors.incrementAndGet();
+                    } finally {
+                        stats.histogram.recordValue(Math.max(0, System.nanoTime() - intended));
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        result.elapsedNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    private HttpRequest request(String baseUrl, String endpoint, Fixture fixture, SplittableRandom random) {
+        int member = random.nextInt(fixture.usernames().size());
+        String token = fixture.tokens().get(member);
+        return switch (endpoint) {
+            case "login" -> post(baseUrl + "/api/auth/login",
+                    "{\"username\":\"" + fixture.usernames().get(member) + "\",\"password\":\"" + PASSWORD + "\"}").build();
+            case "list" -> get(baseUrl + "/api/posts").build();
+            case "detail" -> get(baseUrl + "/api/posts/" + fixture.postIds().get(random.nextInt(fixture.postIds().size())))
+                    .header("Authorization", token).build();
+            case "create" -> post(baseUrl + "/api/posts", "{\"title\":\"부하 작성\",\"content\":\"본문\"}")
+                    .header("Authorization", token).build();
+            case "me" -> get(baseUrl + "/api/members/me").header("Authorization", token).build();
+            default -> throw new IllegalArgumentException("알 수 없는 요청 종류: " + endpoint);
+        };
+    }
+
+    private Map<String, Object> report(Result result, Map<String, Integer> mix) {
+        double seconds = result.elapsedNanos / 1e9;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        Histogram all = new Histogram(3);
+        long errors = 0;
+        for (Map.Entry<String, Stats> entry : result.stats.entrySet()) {
+            Stats stats = entry.getValue();
+            all.add(stats.histogram);
+            errors += stats.errors.get();
+            endpoints.put(entry.getKey(), summary(stats.histogram, seconds, stats.errors.get(), stats.dropped.get()));
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("rate", RATE);
+        config.put("durationSeconds", DURATION.toSeconds());
+        config.put("members", MEMBERS);
+        config.put("posts", POSTS);
+        config.put("mix", mix);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("endpoints", endpoints);
+        report.put("total", summary(all, seconds, errors,
+                result.stats.values().stream().mapToLong(stats -> stats.dropped.get()).sum()));
+        return report;
+    }
+
+    private static Map<String, Object> summary(Histogram histogram, double seconds, long errors, long dropped) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getTotalCount());
+        summary.put("throughput", round(histogram.getTotalCount() / seconds));
+        summary.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+        summary.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+        summary.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+        summary.put("maxMs", millis(histogram.getMaxValue()));
+        summary.put("errors", errors);
+        summary.put("dropped", dropped);
+        return summary;
+    }
+
+    /**
+     * 같은 설정(config)으로 측정한 기준값과 비교 - p99 증가율 / 처리량 감소율이 MAX_REGRESSION 을 넘으면 저하로 판단
+     * p99 는 양쪽 표본이 모두 MIN_SAMPLES 건 이상일 때만 판단한다
+     */
+    private List<String> compareWithBaseline(Map<String, Object> report) throws Exception {
+        List<String> regressions = new ArrayList<>();
+        if (!Files.exists(BASELINE)) {
+            regressions.add("기준값 파일 없음: " + BASELINE.toAbsolutePath()
+                    + " (기준 실행에서 -Dload.update-baseline=true 로 저장 후 커밋)");
+            return regressions;
+        }
+        JsonNode baseline = objectMapper.readTree(BASELINE.toFile());
+        // 파일에서 읽은 값과 같은 노드 타입으로 비교하도록 직렬화 후 다시 읽는다
+        JsonNode current = objectMapper.readTree(objectMapper.writeValueAsBytes(report));
+        if (!baseline.path("config").equals(current.path("config"))) {
+            System.out.println("경고: 기준값과 부하 설정이 달라 비교하지 않음: " + BASELINE.toAbsolutePath());
+            report.put("baseline", Map.of("path", BASELINE.toString(), "skipped", "config mismatch"));
+            return regressions;
+        }
+
+        Map<String, Object> comparison = new LinkedHashMap<>();
+        current.path("endpoints").fields().forEachRemaining(entry -> {
+            JsonNode before = baseline.path("endpoints").path(entry.getKey());
+            if (before.isMissingNode()) {
+                return;
+            }
+            double p99Change = change(before.path("p99Ms").asDouble(), entry.getValue().path("p99Ms").asDouble());
+            double throughputChange = change(before.path("throughput").asDouble(), entry.getValue().path("throughput").asDouble());
+            comparison.put(entry.getKey(), Map.of("p99Change", round(p99Change), "throughputChange", round(throughputChange)));
+            boolean enoughSamples = Math.min(before.path("count").asLong(), entry.getValue().path("count").asLong()) >= MIN_SAMPLES;
+            if (enoughSamples && p99Change > MAX_REGRESSION) {
+                regressions.add(String.format(Locale.ROOT, "%s p99 %+.0f%%", entry.getKey(), p99Change * 100));
+            }
+            if (throughputChange < -MAX_REGRESSION) {
+                regressions.add(String.format(Locale.ROOT, "%s throughput %+.0f%%", entry.getKey(), throughputChange * 100));
+            }
+        });
+        report.put("baseline", Map.of("path", BASELINE.toString(), "comparison", comparison, "regressions", regressions));
+        return regressions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> report) {
+        System.out.println();
+        System.out.printf("%-8s %8s %10s %10s %10s %10s %8s %8s%n",
+                "endpoint", "count", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "errors", "dropped");
+        Map<String, Object> rows = new LinkedHashMap<>((Map<String, Object>) report.get("endpoints"));
+        rows.put("total", report.get("total"));
+        rows.forEach((endpoint, value) -> {
+            Map<String, Object> row = (Map<String, Object>) value;
+            System.out.printf(Locale.ROOT, "%-8s %8d %10.1f %10.2f %10.2f %10.2f %8d %8d%n", endpoint,
+                    row.get("count"), row.get("throughput"), row.get("p50Ms"), row.get("p99Ms"), row.get("p999Ms"),
+                    row.get("errors"), row.get("dropped"));
+        });
+        System.out.println("보고서: " + REPORT.toAbsolutePath());
+    }
+
+    /**
+     * 비율대로 요청 종류를 고르게 섞은 순서표 (예: list:2,me:1 → list, me, list)
+     */
+    private static String[] schedule(Map<String, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        String[] schedule = new String[total];
+        Map<String, Double> credit = new LinkedHashMap<>();
+        for (int i = 0; i < total; i++) {
+            mix.forEach((endpoint, weight) -> credit.merge(endpoint, (double) weight / total, Double::sum));
+            String next = credit.entrySet().stream().max(Map.Entry.comparingByValue()).orElseThrow().getKey();
+            credit.merge(next, -1.0, Double::sum);
+            schedule[i] = next;
+        }
+        return schedule;
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> parsed = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split(":");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                parsed.put(pair[0].trim(), weight);
+            }
+        }
+        return parsed;
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).GET();
+    }
+
+    private static HttpRequest.Builder post(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before;
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return Duration.parse("PT" + System.getProperty(property, defaultValue).toUpperCase(Locale.ROOT));
+    }
+
+    private record Fixture(List<String> usernames, List<String> tokens, List<Long> postIds) {
+    }
+
+    private static final class Stats {
+        // 1ns ~ 1시간, 유효 숫자 3자리
+        private final Histogram histogram = new ConcurrentHistogram(TimeUnit.HOURS.toNanos(1), 3);
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+    }
+
+    private static final class Result {
+        private final Map<String, Stats> stats = new LinkedHashMap<>();
+        private long elapsedNanos;
+
+        private Result(Iterable<String> endpoints) {
+            endpoints.forEach(endpoint -> stats.put(endpoint, new Stats()));
+        }
+
+        private long errors() {
+            return stats.values().stream().mapToLong(stats -> stats.errors.get()).sum();
+        }
+    }
+}
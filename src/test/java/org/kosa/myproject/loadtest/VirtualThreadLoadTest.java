@@ -0,0 +1,230 @@
+package org.kosa.myproject.loadtest;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.SpringSecurityLessonApplication;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.dto.PostCreateRequestDto;
+import org.kosa.myproject.service.MemberService;
+import org.kosa.myproject.service.PostService;
+import org.kosa.myproject.threads.VirtualThreadPinningMonitor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Platform Thread 모드 vs Virtual Thread 모드 부하 비교
+ *
+ * 느린 DB(SQL 실행마다 load.db-latency-ms 지연, SlowJdbcDataSource)를 가정하고 두 모드로 애플리케이션을 차례로 띄워
+ * 같은 부하를 준 뒤 엔드포인트별 처리량과 p50 / p99 를 출력한다
+ * - GET /api/posts  : DB 조회 (커넥션 풀 10개, 느린 쿼리)
+ * - GET /api/health : DB 를 사용하지 않는 요청 (요청 스레드가 DB 대기로 고갈되면 함께 느려진다)
+ *
+ * 실행: ./gradlew loadTest -Dload.duration=10s -Dload.concurrency=400
+ * 수치는 실행 환경에 따라 달라지므로 오류가 없는지와 우리 코드의 pinning 여부만 검증한다
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final Duration DURATION = Duration.parse("PT" + System.getProperty("load.duration", "5s").toUpperCase(Locale.ROOT));
+    private static final Duration WARMUP = Duration.ofSeconds(1);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 200);
+    private static final long DB_LATENCY_MS = Long.getLong("load.db-latency-ms", 20);
+
+    private static final String POSTS = "/api/posts";
+    private static final String HEALTH = "/api/health";
+
+    @Test
+    void compareThroughputAndTailLatency() throws Exception {
+        Report platform = run("platform", false);
+        Report virtual = run("virtual", true);
+
+        System.out.println();
+        System.out.printf("%-9s %-12s %10s %10s %10s %8s%n", "mode", "endpoint", "req/s", "p50(ms)", "p99(ms)", "errors");
+        platform.print();
+        virtual.print();
+
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+        assertThat(virtual.applicationPinned()).as("우리 코드에서 carrier thread pinning 발생").isZero();
+    }
+
+    private Report run(String mode, boolean virtualThreads) throws Exception {
+        String url = "jdbc:h2:mem:load-" + mode + ";DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(SpringSecurityLessonApplication.class)
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(slowPrimary(url)));
+        if (virtualThreads) {
+            builder.profiles("virtual");
+        }
+
+        // application.properties 보다 우선하도록 실행 인자로 전달
+        try (ConfigurableApplicationContext context = builder.run(
+                "--server.port=0",
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.hikari.maximum-pool-size=10",
+                "--server.tomcat.threads.max=50",
+                // 스레드 모드 자체를 비교하므로 과부하 거절(503)은 끈다 (OverloadLoadTest 참고)
+                "--app.concurrency-limit.enabled=false",
+                "--logging.level.org.kosa.myproject=WARN")) {
+            seed(context);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            SlowJdbcDataSource.latencyMs = DB_LATENCY_MS;
+            try {
+                load(port, WARMUP);
+                Report report = new Report(mode, load(port, DURATION), DURATION);
+                VirtualThreadPinningMonitor pinningMonitor = context.getBean(VirtualThreadPinningMonitor.class);
+                report.applicationPinned = pinningMonitor.getApplicationPinnedCount();
+                report.pinnedSites = pinningMonitor.getPinnedCounts();
+                return report;
+            } finally {
+                SlowJdbcDataSource.latencyMs = 0;
+            }
+        }
+    }
+
+    /**
+     * Primary 커넥션 풀이 SlowJdbcDataSource 를 통해 H2 에 접속하도록 교체
+     */
+    private BeanPostProcessor slowPrimary(String url) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource pool && "primaryDataSource".equals(beanName)) {
+                    JdbcDataSource h2 = new JdbcDataSource();
+                    h2.setURL(url);
+                    h2.setUser("sa");
+                    pool.setDataSource(new SlowJdbcDataSource(h2));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        MemberService memberService = context.getBean(MemberService.class);
+        PostService postService = context.getBean(PostService.class);
+        memberService.register(MemberCreateRequestDto.builder().username("load").password("1234").name("부하").build());
+        for (int i = 0; i < 20; i++) {
+            postService.createPost(PostCreateRequestDto.builder().title("글 " + i).content("내용").build(), "load");
+        }
+    }
+
+    /**
+     * CONCURRENCY 개의 클라이언트가 duration 동안 쉬지 않고 요청 (5번 중 4번은 posts, 1번은 health)
+     */
+    private Samples load(int port, Duration duration) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest posts = HttpRequest.newBuilder(URI.create("http://localhost:" + port + POSTS)).build();
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + HEALTH)).build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+
+        List<Future<Samples>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < CONCURRENCY; w++) {
+                int offset = w;
+                workers.add(executor.submit(() -> {
+                    Samples samples = new Samples();
+                    for (int i = offset; System.nanoTime() < deadline; i++) {
+                        boolean db = i % 5 != 0;
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(db ? posts : health, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        (db ? samples.posts : samples.health).add(System.nanoTime() - start);
+                    }
+                    return samples;
+                }));
+            }
+        }
+
+        Samples merged = new Samples();
+        for (Future<Samples> worker : workers) {
+            merged.posts.addAll(worker.get().posts);
+            merged.health.addAll(worker.get().health);
+        }
+        merged.errors = errors.get();
+        return merged;
+    }
+
+    private static final class Samples {
+        private final List<Long> posts = new ArrayList<>();
+        private final List<Long> health = new ArrayList<>();
+        private long errors;
+    }
+
+    private static final class Report {
+        private final String mode;
+        private final Samples samples;
+        private final Duration duration;
+        private long applicationPinned;
+        private Map<String, Long> pinnedSites = Map.of();
+
+        private Report(String mode, Samples samples, Duration duration) {
+            this.mode = mode;
+            this.samples = samples;
+            this.duration = duration;
+        }
+
+        private long errors() {
+            return samples.errors;
+        }
+
+        private long applicationPinned() {
+            return applicationPinned;
+        }
+
+        private void print() {
+            print(POSTS, samples.posts, samples.errors);
+            print(HEALTH, samples.health, 0);
+            pinnedSites.forEach((site, count) -> System.out.printf("%-9s pinned %s x%d%n", mode, site, count));
+        }
+
+        private void print(String endpoint, List<Long> latencies, long errors) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            System.out.printf("%-9s %-12s %10.1f %10.1f %10.1f %8d%n", mode, endpoint,
+                    sorted.length / (duration.toMillis() / 1000.0),
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), errors);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.kosa.myproject.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.entity.MemberRole;
+import org.kosa.myproject.security.jwt.JwtUtil;
+import org.kosa.myproject.service.MemberService;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 로그 샘플링 관리자 API 테스트 (GET / PUT /admin/log-sampling)
+ * LoggerContext 는 JVM 전역이라 다른 테스트 컨텍스트(virtual 프로필 등)가 먼저 떠 있으면 필터가 그쪽 것으로 교체되어 있으므로
+ * 속성을 명시해 이 클래스 전용 컨텍스트를 띄운다 (@DirtiesContext 는 JVM 전역 JCache 를 닫아 다른 컨텍스트를 깨뜨림)
+ */
+@SpringBootTest(properties = "app.log-sampling.enabled=false")
+@AutoConfigureMockMvc
+class LogSamplingAdminTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private SamplingTurboFilter samplingTurboFilter;
+
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        String admin = "sampling-" + UUID.randomUUID().toString().substring(0, 8);
+        Long adminId = memberService.register(MemberCreateRequestDto.builder()
+                .username(admin).password("1234").name("관리자").build()).getId();
+        memberService.changeRole(adminId, MemberRole.ROLE_ADMIN);
+        adminToken = "Bearer " + jwtUtil.createJwt(memberService.getMemberEntity(admin), 60_000L);
+    }
+
+    @AfterEach
+    void restore() {
+        // 같은 컨텍스트를 쓰는 다른 테스트에 영향을 주지 않도록 기본값(꺼짐)으로 되돌림
+        samplingTurboFilter.update(false, 1.0, Map.of());
+    }
+
+    @Test
+    void filterIsInstalledIntoLogback() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        assertThat(context.getTurboFilterList()).contains(samplingTurboFilter);
+        assertThat(samplingTurboFilter.getPolicy().isEnabled()).isFalse();
+    }
+
+    @Test
+    void updatesPolicyAtRuntime() throws Exception {
+        mockMvc.perform(put("/admin/log-sampling").header("Authorization", adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"enabled\":true,\"defaultRate\":0.05,"
+                                + "\"rates\":{\"org.kosa.myproject.security.jwt\":0.001}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.enabled").value(true))
+                .andExpect(jsonPath("$.data.defaultRate").value(0.05));
+
+        assertThat(samplingTurboFilter.getPolicy().getRates())
+                .containsEntry("org.kosa.myproject.security.jwt", 0.001);
+
+        mockMvc.perform(get("/admin/log-sampling").header("Authorization", adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.packages[0]").value("org.kosa.myproject"))
+                .andExpect(jsonPath("$.data.rates['org.kosa.myproject.security.jwt']").value(0.001));
+    }
+
+    @Test
+    void rejectsInvalidRate() throws Exception {
+        mockMvc.perform(put("/admin/log-sampling").header("Authorization", adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"defaultRate\":2.0}"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(samplingTurboFilter.getPolicy().getDefaultRate()).isEqualTo(1.0);
+    }
+}
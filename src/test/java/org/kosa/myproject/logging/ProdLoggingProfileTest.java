@@ -0,0 +1,99 @@
+package org.kosa.myproject.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.ConsoleAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.LoggingInitializationContext;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * prod 프로필 로그 설정 검증 (logback-spring.xml)
+ *
+ * 테스트 JVM 에는 이미 초기화된 컨텍스트가 캐시되어 있어 @SpringBootTest 로는 로그 설정이 다시 적용되지 않으므로
+ * LoggingSystem 을 직접 초기화하고, 끝나면 기본 설정 + 기존 레벨 / TurboFilter 로 되돌린다
+ * (다른 테스트 컨텍스트가 등록한 SamplingTurboFilter 가 초기화로 사라지지 않도록)
+ */
+class ProdLoggingProfileTest {
+
+    private static final String CONFIG = "classpath:logback-spring.xml";
+
+    private final LoggingSystem loggingSystem = LoggingSystem.get(getClass().getClassLoader());
+
+    private final Map<String, Level> levels = new HashMap<>();
+    private List<TurboFilter> turboFilters;
+
+    @BeforeEach
+    void saveConfiguration() {
+        LoggerContext context = loggerContext();
+        context.getLoggerList().stream()
+                .filter(logger -> logger.getLevel() != null)
+                .forEach(logger -> levels.put(logger.getName(), logger.getLevel()));
+        turboFilters = List.copyOf(context.getTurboFilterList());
+    }
+
+    @AfterEach
+    void restoreConfiguration() {
+        initialize(new MockEnvironment());
+        LoggerContext context = loggerContext();
+        levels.forEach((name, level) -> context.getLogger(name).setLevel(level));
+        turboFilters.forEach(filter -> {
+            filter.start();
+            context.addTurboFilter(filter);
+        });
+    }
+
+    @Test
+    void prodConsoleOutputIsAsyncAndStructured() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("logging.structured.format.console", "ecs");
+        environment.setActiveProfiles("prod");
+        initialize(environment);
+
+        Appender<?> appender = rootLogger().getAppender("ASYNC_CONSOLE");
+        assertThat(appender).isInstanceOf(AsyncAppender.class);
+        AsyncAppender async = (AsyncAppender) appender;
+        assertThat(async.isNeverBlock()).isTrue();
+        assertThat(async.isIncludeCallerData()).isFalse();
+        assertThat(async.getAppender("CONSOLE")).isInstanceOfSatisfying(ConsoleAppender.class,
+                console -> assertThat(console.getEncoder()).isInstanceOf(StructuredLogEncoder.class));
+    }
+
+    @Test
+    void defaultProfileKeepsSynchronousPatternConsole() {
+        initialize(new MockEnvironment());
+
+        assertThat(rootLogger().getAppender("ASYNC_CONSOLE")).isNull();
+        assertThat(rootLogger().getAppender("CONSOLE")).isInstanceOfSatisfying(ConsoleAppender.class,
+                console -> assertThat(console.getEncoder()).isNotInstanceOf(StructuredLogEncoder.class));
+    }
+
+    private void initialize(MockEnvironment environment) {
+        loggingSystem.cleanUp();
+        loggingSystem.beforeInitialize();
+        loggingSystem.initialize(new LoggingInitializationContext(environment), CONFIG, null);
+    }
+
+    private static LoggerContext loggerContext() {
+        return (LoggerContext) LoggerFactory.getILoggerFactory();
+    }
+
+    private static Logger rootLogger() {
+        return loggerContext().getLogger(Logger.ROOT_LOGGER_NAME);
+    }
+}
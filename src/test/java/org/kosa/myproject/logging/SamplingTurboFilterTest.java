@@ -0,0 +1,124 @@
+package org.kosa.myproject.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로그 샘플링 TurboFilter 테스트
+ * 테스트 전용 LoggerContext 에 ListAppender 를 붙여 실제로 출력된 이벤트를 센다
+ */
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        LogSamplingProperties properties = new LogSamplingProperties();
+        properties.setEnabled(true);
+        properties.setDefaultRate(0.0);
+        filter = new SamplingTurboFilter(properties);
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.DEBUG);
+        root.addAppender(appender);
+    }
+
+    @Test
+    void dropsInfoButAlwaysKeepsWarnErrorAndExceptions() {
+        Logger logger = context.getLogger("org.kosa.myproject.service.PostService");
+
+        logger.info("목록 조회 {}", 1);
+        logger.debug("디버그");
+        logger.warn("경고");
+        logger.error("오류");
+        logger.info("예외가 붙은 INFO", new IllegalStateException("boom"));
+
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel)
+                .containsExactly(Level.WARN, Level.ERROR, Level.INFO);
+        assertThat(filter.getDroppedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotSampleLoggersOutsideTargetPackages() {
+        context.getLogger("org.hibernate.SQL").info("select 1");
+        context.getLogger("org.kosa.myprojectx.Other").info("prefix 만 같은 다른 패키지");
+
+        assertThat(appender.list).hasSize(2);
+        assertThat(filter.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void levelDisabledLogsAreNotCountedAsSampled() {
+        Logger logger = context.getLogger("org.kosa.myproject.security.jwt.JwtFilter");
+        logger.setLevel(Level.INFO);
+
+        logger.debug("레벨에서 이미 꺼짐");
+
+        assertThat(filter.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void longestPrefixRateWinsAndUpdatesApplyImmediately() {
+        Logger jwt = context.getLogger("org.kosa.myproject.security.jwt.JwtFilter");
+        Logger service = context.getLogger("org.kosa.myproject.service.PostService");
+
+        jwt.info("샘플링됨");
+        assertThat(appender.list).isEmpty();
+
+        filter.update(null, null, Map.of(
+                "org.kosa.myproject", 0.0,
+                "org.kosa.myproject.security.jwt", 1.0));
+        jwt.info("jwt 는 전부 출력");
+        service.info("나머지는 0.0");
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly("jwt 는 전부 출력");
+
+        filter.update(false, null, null);
+        service.info("꺼지면 전부 출력");
+        assertThat(appender.list).hasSize(2);
+        assertThat(filter.getPolicy().getRates()).containsKey("org.kosa.myproject.security.jwt");
+    }
+
+    @Test
+    void partialRateKeepsRoughlyThatFraction() {
+        filter.update(null, 0.1, null);
+        Logger logger = context.getLogger("org.kosa.myproject.controller.PostController");
+
+        for (int i = 0; i < 10_000; i++) {
+            logger.info("요청 {}", i);
+        }
+
+        assertThat(appender.list.size()).isBetween(700, 1300);
+    }
+
+    @Test
+    void rejectsRatesOutsideZeroToOne() {
+        assertThatThrownBy(() -> filter.update(null, 1.5, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> filter.update(null, null, Map.of("org.kosa", -0.1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(filter.getPolicy().getDefaultRate()).isZero();
+    }
+
+    @Test
+    void stopRemovesFilterFromContext() {
+        filter.stop();
+
+        assertThat(context.getTurboFilterList()).doesNotContain(filter);
+    }
+}
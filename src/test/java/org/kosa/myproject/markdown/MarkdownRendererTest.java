@@ -0,0 +1,62 @@
+package org.kosa.myproject.markdown;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Markdown 렌더링 + HTML 정제 테스트
+ */
+class MarkdownRendererTest {
+
+    private final MarkdownRenderer renderer = new MarkdownRenderer();
+
+    @Test
+    void rendersCommonMarkAndGfmExtensions() {
+        String html = renderer.render("""
+                # 제목
+
+                **굵게** _기울임_ ~~취소~~ `code`
+
+                | a | b |
+                |:-:|---|
+                | 1 | 2 |
+
+                ```java
+                int x = 1;
+                ```
+                """);
+
+        assertThat(html).contains("<h1>제목</h1>", "<strong>굵게</strong>", "<em>기울임</em>", "<del>취소</del>",
+                "<code>code</code>", "<table>", "<th align=\"center\">a</th>",
+                "<code class=\"language-java\">int x &#61; 1;");
+    }
+
+    @Test
+    void rawHtmlIsShownAsText() {
+        String html = renderer.render("<script>alert(1)</script>\n\n<b onclick=\"x()\">b</b>");
+
+        assertThat(html).doesNotContain("<script", "<b ", "onclick=\"");
+        assertThat(html).contains("&lt;script&gt;");
+    }
+
+    @Test
+    void unsafeLinksAreRemovedAndSafeLinksGetRel() {
+        String html = renderer.render("[나쁜](javascript:alert(1)) [좋은](https://example.com) ![img](data:image/png;base64,AAA)");
+
+        assertThat(html).doesNotContainIgnoringCase("javascript:").doesNotContain("data:image");
+        assertThat(html).contains("href=\"https://example.com\"").containsPattern("rel=\"[^\"]*nofollow")
+                .containsPattern("rel=\"[^\"]*noopener");
+    }
+
+    @Test
+    void orderedListStartIsKept() {
+        assertThat(renderer.render("3. 셋\n4. 넷")).startsWith("<ol start=\"3\">");
+    }
+
+    @Test
+    void emptyContentRendersEmpty() {
+        assertThat(renderer.render(null)).isEmpty();
+        assertThat(renderer.render("")).isEmpty();
+    }
+}
@@ -0,0 +1,103 @@
+package org.kosa.myproject.markdown;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.dto.PostCreateRequestDto;
+import org.kosa.myproject.dto.PostDetailResponseDto;
+import org.kosa.myproject.service.MemberService;
+import org.kosa.myproject.service.PostService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 본문 렌더링 테스트
+ * - 작성 / 수정 시 렌더링된 HTML 이 함께 저장되는지
+ * - 이전 버전(렌더링 전)으로 저장된 게시글을 PostRenderJob 이 chunk 경계를 넘어 모두 다시 렌더링하는지
+ */
+@SpringBootTest(properties = {
+        "app.markdown.render-on-startup=false",
+        "app.markdown.render-chunk-size=3",
+        "app.markdown.render-parallelism=2"})
+class PostRenderJobTest {
+
+    @Autowired
+    private PostRenderJob postRenderJob;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String username;
+    private Long authorId;
+
+    @BeforeEach
+    void setUp() {
+        username = "render-" + UUID.randomUUID().toString().substring(0, 8);
+        authorId = memberService.register(MemberCreateRequestDto.builder()
+                .username(username).password("1234").name("렌더").build()).getId();
+    }
+
+    @Test
+    void createAndUpdateStoreRenderedHtml() {
+        PostDetailResponseDto created = postService.createPost(
+                PostCreateRequestDto.builder().title("md").content("**처음**").build(), username);
+        assertThat(created.getContent()).isEqualTo("**처음**");
+        assertThat(created.getContentHtml()).isEqualTo("<p><strong>처음</strong></p>\n");
+        assertThat(renderVersionOf(created.getId())).isEqualTo(MarkdownRenderer.VERSION);
+
+        PostDetailResponseDto updated = postService.updatePost(created.getId(),
+                PostCreateRequestDto.builder().content("_수정_").build(), username);
+        assertThat(updated.getContentHtml()).isEqualTo("<p><em>수정</em></p>\n");
+        assertThat(postService.getPostById(created.getId()).getContentHtml()).isEqualTo("<p><em>수정</em></p>\n");
+    }
+
+    @Test
+    void rendersStalePostsInParallelChunks() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ids.add(insertUnrendered("# 제목 " + i));
+        }
+        // 렌더링 전 게시글도 조회 응답에는 HTML 이 담긴다 (저장은 job 이 담당)
+        assertThat(postService.getPostById(ids.get(0)).getContentHtml()).isEqualTo("<h1>제목 0</h1>\n");
+
+        PostRenderJob.Result result = postRenderJob.run();
+
+        assertThat(result.rendered()).isGreaterThanOrEqualTo(ids.size());
+        assertThat(result.failed()).isZero();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            assertThat(jdbcTemplate.queryForObject("SELECT content_html FROM posts WHERE id = ?", String.class, id))
+                    .isEqualTo("<h1>제목 " + i + "</h1>\n");
+            assertThat(renderVersionOf(id)).isEqualTo(MarkdownRenderer.VERSION);
+        }
+        assertThat(postRenderJob.isRunning()).isFalse();
+
+        // 다시 실행하면 처리할 게시글이 없다
+        assertThat(postRenderJob.run().scanned()).isZero();
+    }
+
+    private Long insertUnrendered(String content) {
+        jdbcTemplate.update("INSERT INTO posts (title, content, created_at, author_id) VALUES (?, ?, ?, ?)",
+                "이전 글", content, Timestamp.valueOf(LocalDateTime.now()), authorId);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM posts WHERE author_id = ?", Long.class, authorId);
+    }
+
+    private int renderVersionOf(Long id) {
+        return jdbcTemplate.queryForObject("SELECT render_version FROM posts WHERE id = ?", Integer.class, id);
+    }
+}
@@ -0,0 +1,116 @@
+package org.kosa.myproject.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.security.jwt.JwtUtil;
+import org.kosa.myproject.service.MemberService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 인증 / 서비스 메트릭과 Prometheus 수집 엔드포인트 보호 테스트
+ * (테스트에서는 관리 포트를 분리하지 않으므로 MockMvc 로 /actuator/prometheus 호출)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void recordsAuthenticationAndServiceMetrics() throws Exception {
+        String username = "metrics-" + UUID.randomUUID().toString().substring(0, 8);
+        memberService.register(MemberCreateRequestDto.builder().username(username).password("1234").name("메트릭").build());
+
+        String token = mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"1234\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("Authorization");
+        mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"wrong\"}"))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/api/members/me").header("Authorization", token))
+                .andExpect(status().isOk());
+        String expired = jwtUtil.createJwt(memberService.getMemberEntity(username), -1_000L);
+        mockMvc.perform(get("/api/members/me").header("Authorization", "Bearer " + expired))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/members/me").header("Authorization", "Bearer not-a-jwt"))
+                .andExpect(status().isUnauthorized());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "test-scrape")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(lines(scrape, "auth_jwt_verification_seconds_count"))
+                .anyMatch(line -> line.contains("outcome=\"valid\""))
+                .anyMatch(line -> line.contains("outcome=\"expired\""))
+                .anyMatch(line -> line.contains("outcome=\"invalid\""));
+        assertThat(lines(scrape, "auth_login_total"))
+                .anyMatch(line -> line.contains("outcome=\"success\""))
+                .anyMatch(line -> line.contains("outcome=\"failure\""));
+        assertThat(lines(scrape, "auth_password_match_seconds_count"))
+                .anyMatch(line -> line.contains("result=\"match\""))
+                .anyMatch(line -> line.contains("result=\"mismatch\""));
+        assertThat(lines(scrape, "auth_password_encode_seconds_count")).isNotEmpty();
+        assertThat(lines(scrape, "auth_user_lookup_seconds_count")).isNotEmpty();
+        assertThat(lines(scrape, "app_service_seconds_count"))
+                .anyMatch(line -> line.contains("method=\"getMyInfo\""));
+        assertThat(lines(scrape, "http_server_requests_seconds_bucket"))
+                .anyMatch(line -> line.contains("uri=\"/api/members/me\""));
+    }
+
+    @Test
+    void scrapeEndpointRequiresCredentialsFromAllowedAddress() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "wrong")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "test-scrape"))
+                        .with(request -> {
+                            request.setRemoteAddr("203.0.113.10");
+                            return request;
+                        }))
+                .andExpect(status().isForbidden());
+        // 허용 주소(127.0.0.1)에서 왔더라도 X-Forwarded-For 가 붙으면 실제 접속 주소를 확인할 수 없으므로 거부
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "test-scrape"))
+                        .header("X-Forwarded-For", "127.0.0.1"))
+                .andExpect(status().isForbidden());
+
+        // 회원 JWT 로는 수집 엔드포인트에 접근할 수 없다
+        String username = "metrics-" + UUID.randomUUID().toString().substring(0, 8);
+        memberService.register(MemberCreateRequestDto.builder().username(username).password("1234").name("메트릭").build());
+        String token = jwtUtil.createJwt(memberService.getMemberEntity(username), 60_000L);
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private List<String> lines(String scrape, String metric) {
+        return Arrays.stream(scrape.split("\n"))
+                .filter(line -> line.startsWith(metric + "{") || line.startsWith(metric + " "))
+                .toList();
+    }
+}
@@ -0,0 +1,45 @@
+package org.kosa.myproject.nativeimage;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * native 힌트 검증 (JVM 에서 실행)
+ * 라이브러리 업그레이드로 클래스 이름이 바뀌면 native 빌드 전에 여기서 먼저 실패한다
+ */
+class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeRuntimeHintsTest() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void hintedTypesExistOnClasspath() {
+        NativeRuntimeHints.JJWT_IMPL_TYPES.forEach(type ->
+                assertThatCode(() -> Class.forName(type)).as(type).doesNotThrowAnyException());
+        NativeRuntimeHints.JDBC_PROXY_TYPES.forEach(type ->
+                assertThatCode(() -> Class.forName(type)).as(type).doesNotThrowAnyException());
+        assertThatCode(() -> Class.forName(NativeRuntimeHints.HTML_SANITIZER_SHIM)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void registersJjwtProxyAndResourceHints() {
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms"))
+                .test(hints)).isTrue();
+        assertThat(RuntimeHintsPredicates.proxies()
+                .forInterfaces(TypeReference.of("net.ttddyy.dsproxy.proxy.ProxyJdbcObject"),
+                        TypeReference.of(Connection.class))
+                .test(hints)).isTrue();
+        assertThat(RuntimeHintsPredicates.resource().forResource("ehcache.xml").test(hints)).isTrue();
+    }
+}
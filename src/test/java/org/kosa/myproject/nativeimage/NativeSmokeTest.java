@@ -0,0 +1,178 @@
+package org.kosa.myproject.nativeimage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * native 실행 파일 스모크 테스트 (./gradlew nativeSmokeTest -PembeddedDb)
+ *
+ * 실행 파일을 embedded 프로필(내장 H2)로 띄워 reflection / 프록시 / 리소스 힌트가 빠진 곳이 없는지 확인한다
+ * - Flyway 마이그레이션, Hibernate 엔티티(지연 로딩 포함), 2차 캐시(Ehcache)
+ * - JsonLoginFilter → BCrypt → jjwt 토큰 발급 / JwtFilter 검증
+ * - Lombok DTO 의 JSON (역)직렬화, springdoc
+ *
+ * -Dnative.executable : 실행 파일 경로 (기본값은 nativeCompile 결과물)
+ * -Dnative.max-startup-ms : 기동(liveness 응답)까지 허용 시간, 기본 1000ms
+ */
+@Tag("native")
+class NativeSmokeTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    private static Process process;
+    private static Path output;
+    private static String baseUrl;
+    private static long startupMillis;
+
+    @BeforeAll
+    static void start() throws Exception {
+        String executable = System.getProperty("native.executable");
+        assertThat(executable).as("native.executable").isNotBlank();
+        int port = freePort();
+        baseUrl = "http://localhost:" + port;
+        output = Files.createTempFile("native-smoke", ".log");
+
+        long started = System.nanoTime();
+        process = new ProcessBuilder(List.of(executable,
+                "--spring.profiles.active=embedded",
+                "--server.port=" + port,
+                "--management.server.port=0",
+                "--app.health.refresh-interval-ms=200"))
+                .redirectErrorStream(true)
+                .redirectOutput(output.toFile())
+                .start();
+
+        awaitStatus("/api/health/live", Duration.ofSeconds(30));
+        startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        System.out.println("native 기동 시간: " + startupMillis + "ms");
+        awaitStatus("/api/health/ready", Duration.ofSeconds(30));
+    }
+
+    @AfterAll
+    static void stop() throws Exception {
+        if (process != null) {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    @Test
+    void startsWithinBudget() {
+        long budget = Long.getLong("native.max-startup-ms", 1000);
+        assertThat(startupMillis).as("기동 시간(ms), 로그: %s", output).isLessThanOrEqualTo(budget);
+    }
+
+    @Test
+    void registersLogsInAndPosts() throws Exception {
+        String username = "native-" + UUID.randomUUID().toString().substring(0, 8);
+
+        HttpResponse<String> registered = send(post("/api/members",
+                "{\"username\":\"" + username + "\",\"password\":\"1234\",\"name\":\"네이티브\"}"));
+        assertThat(registered.statusCode()).as(registered.body()).isEqualTo(201);
+
+        HttpResponse<String> login = send(post("/api/auth/login",
+                "{\"username\":\"" + username + "\",\"password\":\"1234\"}"));
+        assertThat(login.statusCode()).as(login.body()).isEqualTo(200);
+        String token = login.headers().firstValue("Authorization").orElseThrow();
+        assertThat(token).startsWith("Bearer ");
+
+        HttpResponse<String> me = send(request("/api/members/me").header("Authorization", token).GET());
+        assertThat(json(me).at("/data/username").asText()).isEqualTo(username);
+
+        HttpResponse<String> created = send(post("/api/posts", "{\"title\":\"native 글\",\"content\":\"본문\"}")
+                .header("Authorization", token));
+        assertThat(created.statusCode()).as(created.body()).isEqualTo(201);
+        long postId = json(created).at("/data/id").asLong();
+
+        HttpResponse<String> list = send(request("/api/posts").GET());
+        assertThat(list.statusCode()).isEqualTo(200);
+        assertThat(list.body()).contains("native 글");
+
+        HttpResponse<String> detail = send(request("/api/posts/" + postId).header("Authorization", token).GET());
+        assertThat(json(detail).at("/data/authorName").asText()).isEqualTo("네이티브");
+    }
+
+    @Test
+    void rejectsInvalidToken() throws Exception {
+        HttpResponse<String> response = send(request("/api/members/me")
+                .header("Authorization", "Bearer not-a-jwt").GET());
+        assertThat(response.statusCode()).isEqualTo(401);
+        assertThat(json(response).path("success").asBoolean(true)).isFalse();
+    }
+
+    @Test
+    void servesApiDocs() throws Exception {
+        HttpResponse<String> response = send(request("/api-docs").GET());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(json(response).path("paths").has("/api/posts")).isTrue();
+    }
+
+    private static void awaitStatus(String path, Duration timeout) throws Exception {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            assertThat(process.isAlive()).as("프로세스 종료, 로그: %s\n%s", output, log()).isTrue();
+            try {
+                if (send(request(path).GET()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError(path + " 가 " + timeout + " 안에 200 을 반환하지 않음\n" + log());
+    }
+
+    private static HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(10));
+    }
+
+    private static HttpRequest.Builder post(String path, String body) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+    }
+
+    private static HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    private static JsonNode json(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private static String log() throws IOException {
+        return Files.readString(output);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
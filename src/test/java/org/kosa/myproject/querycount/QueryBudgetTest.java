@@ -0,0 +1,293 @@
+package org.kosa.myproject.querycount;
+
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.dto.CommentCreateRequestDto;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.dto.PostCreateRequestDto;
+import org.kosa.myproject.dto.PostListResponseDto;
+import org.kosa.myproject.entity.AuthEventType;
+import org.kosa.myproject.entity.MemberRole;
+import org.kosa.myproject.markdown.MarkdownProperties;
+import org.kosa.myproject.repository.AttachmentRepository;
+import org.kosa.myproject.security.jwt.JwtUtil;
+import org.kosa.myproject.service.CommentService;
+import org.kosa.myproject.service.MemberService;
+import org.kosa.myproject.service.PostService;
+import org.kosa.myproject.stream.PostStreamBroadcaster;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kosa.myproject.querycount.QueryCountAssertions.assertQueryCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 쿼리 예산 테스트
+ *
+ * 2차 캐시를 비운 상태(캐시 미적중)에서 각 엔드포인트가 실행하는 SQL 문 수를 정확히 검증한다.
+ * 값이 바뀌었다면 N+1 이나 불필요한 조회가 추가된 것이므로 @QueryBudget 과 함께 검토할 것
+ * 비동기 응답(SSE, StreamingResponseBody)은 요청 스레드에서 실행된 SQL 문만 집계된다 (QueryBudgetFilter 와 같은 기준)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class QueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private QueryBudgetMonitor queryBudgetMonitor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MarkdownProperties markdownProperties;
+
+    @Autowired
+    private PostStreamBroadcaster postStreamBroadcaster;
+
+    private String username;
+    private String userToken;
+    private String adminToken;
+    private Long memberId;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        username = "budget-" + UUID.randomUUID().toString().substring(0, 8);
+        memberId = memberService.register(member(username)).getId();
+        userToken = token(username);
+
+        String admin = username + "-admin";
+        Long adminId = memberService.register(member(admin)).getId();
+        memberService.changeRole(adminId, MemberRole.ROLE_ADMIN);
+        adminToken = token(admin);
+
+        postId = postService.createPost(PostCreateRequestDto.builder()
+                .title("제목").content("내용").build(), username).getId();
+
+        // 캐시 미적중 기준으로 측정
+        evictCaches();
+    }
+
+    @Test
+    void login() throws Exception {
+        expect(1, post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "\",\"password\":\"1234\"}"));
+    }
+
+    @Test
+    void register() throws Exception {
+        expect(2, post("/api/members").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "-new\",\"password\":\"1234\",\"name\":\"신규\"}"));
+    }
+
+    @Test
+    void getMyInfo() throws Exception {
+        expect(1, get("/api/members/me").header("Authorization", userToken));
+    }
+
+    @Test
+    void getMemberById() throws Exception {
+        expect(1, get("/api/members/{id}", memberId).header("Authorization", userToken));
+    }
+
+    @Test
+    void getMembersByIds() throws Exception {
+        expect(1, get("/api/members").param("ids", memberId + "," + memberId).header("Authorization", userToken));
+    }
+
+    @Test
+    void getAllPosts() throws Exception {
+        expect(2, get("/api/posts"));
+    }
+
+    @Test
+    void getPostById() throws Exception {
+        expect(1, get("/api/posts/{id}", postId).header("Authorization", userToken));
+    }
+
+    @Test
+    void streamPosts() throws Exception {
+        // 구독 등록과 놓친 이벤트 재전송은 메모리에서 처리
+        int subscribers = postStreamBroadcaster.getSubscriberCount();
+        MvcResult started = expect(0, get("/api/posts/stream").accept(MediaType.TEXT_EVENT_STREAM));
+        assertThat(postStreamBroadcaster.getSubscriberCount()).isEqualTo(subscribers + 1);
+
+        started.getRequest().getAsyncContext().complete();
+        assertThat(postStreamBroadcaster.getSubscriberCount()).isEqualTo(subscribers);
+    }
+
+    @Test
+    void createPost() throws Exception {
+        expect(2, post("/api/posts").header("Authorization", userToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"새 글\",\"content\":\"본문\"}"));
+    }
+
+    @Test
+    void comments() throws Exception {
+        expect(3, post("/api/posts/{id}/comments", postId).header("Authorization", userToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"content\":\"댓글\"}"));
+        expect(2, get("/api/posts/{id}/comments", postId).header("Authorization", userToken));
+    }
+
+    @Test
+    void likes() throws Exception {
+        // JdbcTemplate 문장도 집계된다 (INSERT / DELETE 각 1회, 좋아요 수는 인메모리 인덱스)
+        expect(1, put("/api/posts/{id}/like", postId).header("Authorization", userToken));
+        expect(1, put("/api/posts/{id}/like", postId).header("Authorization", userToken));
+        expect(1, delete("/api/posts/{id}/like", postId).header("Authorization", userToken));
+    }
+
+    @Test
+    void attachments() throws Exception {
+        expect(3, post("/api/posts/{id}/attachments", postId).param("filename", "a.txt")
+                .header("Authorization", userToken)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM).content("첨부".getBytes()));
+        Long attachmentId = attachmentRepository.findByPostIdOrderByIdAsc(postId).get(0).getId();
+
+        expect(1, get("/api/posts/{id}/attachments", postId).header("Authorization", userToken));
+        expect(1, get("/api/posts/{id}/attachments/{attachmentId}", postId, attachmentId).header("Authorization", userToken));
+        evictCaches();
+        expect(4, delete("/api/posts/{id}/attachments/{attachmentId}", postId, attachmentId).header("Authorization", userToken));
+    }
+
+    @Test
+    void adminEndpoints() throws Exception {
+        expect(0, get("/admin").header("Authorization", adminToken));
+        expect(0, get("/admin/cache-stats").header("Authorization", adminToken));
+        expect(0, get("/admin/query-budget").header("Authorization", adminToken));
+        expect(0, get("/admin/virtual-threads").header("Authorization", adminToken));
+        expect(0, get("/admin/log-sampling").header("Authorization", adminToken));
+        // 빈 요청은 기존 정책 유지 (다른 테스트의 로그 출력에 영향 없음)
+        expect(0, put("/admin/log-sampling").header("Authorization", adminToken)
+                .contentType(MediaType.APPLICATION_JSON).content("{}"));
+    }
+
+    @Test
+    void authEvents() throws Exception {
+        // 한 페이지를 채워야 Spring Data 가 count 쿼리까지 실행한다 (예산의 최대치)
+        for (int i = 0; i < 2; i++) {
+            jdbcTemplate.update("INSERT INTO auth_events (event_type, username, remote_addr, occurred_at) "
+                    + "VALUES (?, ?, '127.0.0.1', CURRENT_TIMESTAMP)", AuthEventType.LOGIN_FAILURE.name(), username);
+        }
+        expect(2, get("/admin/auth-events").param("username", username).param("size", "1")
+                .header("Authorization", adminToken));
+        expect(2, get("/admin/auth-events").param("username", username).param("type", "LOGIN_FAILURE")
+                .param("size", "1").header("Authorization", adminToken));
+    }
+
+    @Test
+    void renderPosts() throws Exception {
+        // 예산 감시에서 제외된 일괄 작업 - 그래도 게시글마다가 아니라 chunk 마다 한 번만 조회해야 한다
+        // (UPDATE 는 worker 스레드에서 실행되므로 요청 스레드의 집계는 chunk 조회 + 끝을 확인하는 빈 조회)
+        jdbcTemplate.update("UPDATE posts SET render_version = 0 WHERE id = ?", postId);
+
+        QueryCounter.reset();
+        MvcResult result = mockMvc.perform(post("/admin/posts/render").header("Authorization", adminToken))
+                .andExpect(status().isOk())
+                .andReturn();
+        long queries = QueryCounter.current();
+
+        long scanned = ((Number) JsonPath.read(result.getResponse().getContentAsString(), "$.data.scanned")).longValue();
+        int chunkSize = markdownProperties.getRenderChunkSize();
+        assertThat(scanned).isPositive();
+        assertThat(queries).as("실행된 SQL 문 수 %s", QueryCounter.statements())
+                .isEqualTo((scanned + chunkSize - 1) / chunkSize + 1);
+        assertThat(queryBudgetMonitor.getOverBudgetCounts()).isEmpty();
+        assertThat(queryBudgetMonitor.getNPlusOneCounts()).isEmpty();
+    }
+
+    @Test
+    void bulkRegisterMembers() throws Exception {
+        // 요청 스레드는 중복 체크 IN 쿼리 1회, INSERT batch 는 응답 스트림(비동기)에서 실행
+        MvcResult started = expect(1, post("/admin/members/bulk").header("Authorization", adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"username\":\"" + username + "-bulk1\",\"password\":\"1234\",\"name\":\"일괄\"},"
+                        + "{\"username\":\"" + username + "\",\"password\":\"1234\",\"name\":\"중복\"}]"));
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM members WHERE username = ?",
+                Long.class, username + "-bulk1")).isEqualTo(1);
+    }
+
+    @Test
+    void health() throws Exception {
+        expect(0, get("/api/health"));
+        expect(0, get("/api/health/live"));
+        expect(0, get("/api/health/ready"));
+    }
+
+    @Test
+    void postListDoesNotLoadAuthorsOneByOne() throws Exception {
+        // 작성자가 여러 명이고 댓글이 달려 있어도 fetch join 한 번 + 댓글 수 GROUP BY 한 번으로 끝나야 한다
+        String other = username + "-other";
+        memberService.register(member(other));
+        Long otherPostId = postService.createPost(PostCreateRequestDto.builder().title("a").content("b").build(), other).getId();
+        commentService.createComment(postId, CommentCreateRequestDto.builder().content("c").build(), other);
+        commentService.createComment(otherPostId, CommentCreateRequestDto.builder().content("d").build(), username);
+        entityManagerFactory.getCache().evictAll();
+
+        List<PostListResponseDto> posts = assertQueryCount(2, () -> postService.getAllPosts());
+        assertThat(posts).hasSizeGreaterThanOrEqualTo(2);
+    }
+
+    private MvcResult expect(long queries, RequestBuilder request) throws Exception {
+        MvcResult result = assertQueryCount(queries,
+                () -> mockMvc.perform(request).andExpect(status().is2xxSuccessful()).andReturn());
+        assertThat(queryBudgetMonitor.getOverBudgetCounts()).isEmpty();
+        assertThat(queryBudgetMonitor.getNPlusOneCounts()).isEmpty();
+        return result;
+    }
+
+    private void evictCaches() {
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+
+    private MemberCreateRequestDto member(String name) {
+        return MemberCreateRequestDto.builder().username(name).password("1234").name("테스터").build();
+    }
+
+    private String token(String name) {
+        return "Bearer " + jwtUtil.createJwt(memberService.getMemberEntity(name), 60_000L);
+    }
+}
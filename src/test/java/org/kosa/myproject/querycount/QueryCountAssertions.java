@@ -0,0 +1,29 @@
+package org.kosa.myproject.querycount;
+
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트용 쿼리 수 검증 API
+ *
+ * 사용 예:
+ *   List<PostListResponseDto> posts = assertQueryCount(1, () -> postService.getAllPosts());
+ *
+ * 같은 스레드에서 실행된 SQL 문만 집계되므로 서비스 호출 / MockMvc 요청 모두 사용할 수 있다
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static <T> T assertQueryCount(long expected, Callable<T> action) throws Exception {
+        QueryCounter.reset();
+        T result = action.call();
+        long actual = QueryCounter.current();
+        assertThat(actual)
+                .as("실행된 SQL 문 수 %s", QueryCounter.statements())
+                .isEqualTo(expected);
+        return result;
+    }
+}
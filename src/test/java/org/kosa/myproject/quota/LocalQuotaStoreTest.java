@@ -0,0 +1,83 @@
+package org.kosa.myproject.quota;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GCRA 한도 계산 테스트 (시계를 직접 움직인다)
+ */
+class LocalQuotaStoreTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final LocalQuotaStore store = new LocalQuotaStore(4, clock::get);
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        QuotaProperties.Limit limit = limit(3, Duration.ofSeconds(60));
+
+        assertThat(store.tryAcquire("a", limit).remaining()).isEqualTo(2);
+        assertThat(store.tryAcquire("a", limit).remaining()).isEqualTo(1);
+        QuotaDecision third = store.tryAcquire("a", limit);
+        assertThat(third.allowed()).isTrue();
+        assertThat(third.remaining()).isZero();
+        assertThat(third.resetSeconds()).isEqualTo(60);
+
+        QuotaDecision rejected = store.tryAcquire("a", limit);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.limit()).isEqualTo(3);
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(20);
+
+        // 다른 키는 영향 없음
+        assertThat(store.tryAcquire("b", limit).allowed()).isTrue();
+    }
+
+    @Test
+    void refillsOneRequestPerInterval() {
+        QuotaProperties.Limit limit = limit(3, Duration.ofSeconds(60));
+        for (int i = 0; i < 3; i++) {
+            store.tryAcquire("a", limit);
+        }
+
+        advance(Duration.ofSeconds(19));
+        assertThat(store.tryAcquire("a", limit).allowed()).isFalse();
+
+        advance(Duration.ofSeconds(1));
+        QuotaDecision refilled = store.tryAcquire("a", limit);
+        assertThat(refilled.allowed()).isTrue();
+        assertThat(refilled.remaining()).isZero();
+        assertThat(store.tryAcquire("a", limit).allowed()).isFalse();
+    }
+
+    @Test
+    void evictsOnlyFullyRecoveredEntries() {
+        QuotaProperties.Limit limit = limit(2, Duration.ofSeconds(10));
+        store.tryAcquire("idle", limit);
+        advance(Duration.ofSeconds(6));
+        store.tryAcquire("busy", limit);
+        store.tryAcquire("busy", limit);
+
+        for (int i = 0; i < store.shardCount(); i++) {
+            store.evictIdle();
+        }
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.tryAcquire("busy", limit).allowed()).isFalse();
+        assertThat(store.tryAcquire("idle", limit).remaining()).isEqualTo(1);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    private static QuotaProperties.Limit limit(long capacity, Duration period) {
+        QuotaProperties.Limit limit = new QuotaProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setPeriod(period);
+        return limit;
+    }
+}
@@ -0,0 +1,133 @@
+package org.kosa.myproject.quota;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.entity.MemberRole;
+import org.kosa.myproject.security.jwt.JwtUtil;
+import org.kosa.myproject.service.MemberService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 회원별 API 호출 한도 테스트
+ * 게시글 작성 한도를 ROLE_USER 2건 / ROLE_ADMIN 4건 (1시간) 으로 설정
+ */
+@SpringBootTest(properties = {
+        "app.quota.groups.post-write.methods=POST",
+        "app.quota.groups.post-write.patterns=/api/posts",
+        "app.quota.groups.post-write.limits.ROLE_USER.capacity=2",
+        "app.quota.groups.post-write.limits.ROLE_USER.period=1h",
+        "app.quota.groups.post-write.limits.ROLE_ADMIN.capacity=4",
+        "app.quota.groups.post-write.limits.ROLE_ADMIN.period=1h"
+})
+@AutoConfigureMockMvc
+class QuotaFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String prefix;
+
+    @BeforeEach
+    void setUp() {
+        prefix = "quota-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    void rejectsWithRateLimitHeadersOnceQuotaIsUsed() throws Exception {
+        String token = token(prefix + "-user", MemberRole.ROLE_USER);
+
+        createPost(token).andExpect(status().isCreated())
+                .andExpect(header().string("RateLimit-Limit", "2"))
+                .andExpect(header().string("RateLimit-Remaining", "1"))
+                .andExpect(header().string("RateLimit-Policy", "2;w=3600"));
+        createPost(token).andExpect(status().isCreated())
+                .andExpect(header().string("RateLimit-Remaining", "0"));
+
+        double rejectedBefore = rejected();
+        createPost(token).andExpect(status().isTooManyRequests())
+                .andExpect(header().string("RateLimit-Remaining", "0"))
+                .andExpect(header().string("Retry-After", "1800"))
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.code").value("TOO_MANY_REQUESTS"));
+        assertThat(rejected()).isEqualTo(rejectedBefore + 1);
+
+        // 다른 그룹(조회)은 제한하지 않음
+        mockMvc.perform(get("/api/members/me").header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("RateLimit-Limit"));
+    }
+
+    @Test
+    void quotaIsPerMemberAndPerRole() throws Exception {
+        String first = token(prefix + "-a", MemberRole.ROLE_USER);
+        String second = token(prefix + "-b", MemberRole.ROLE_USER);
+        String admin = token(prefix + "-admin", MemberRole.ROLE_ADMIN);
+
+        createPost(first).andExpect(status().isCreated());
+        createPost(first).andExpect(status().isCreated());
+        createPost(first).andExpect(status().isTooManyRequests());
+
+        createPost(second).andExpect(status().isCreated());
+
+        for (int i = 0; i < 4; i++) {
+            createPost(admin).andExpect(status().isCreated());
+        }
+        createPost(admin).andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void anonymousRequestsAreLeftToAuthorization() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            createPost(null).andExpect(status().isUnauthorized())
+                    .andExpect(header().doesNotExist("RateLimit-Limit"));
+        }
+    }
+
+    private ResultActions createPost(String token) throws Exception {
+        var request = post("/api/posts").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"제목\",\"content\":\"내용\"}");
+        if (token != null) {
+            request.header("Authorization", token);
+        }
+        return mockMvc.perform(request);
+    }
+
+    private double rejected() {
+        var counter = meterRegistry.find("app.quota.rejected").tag("group", "post-write").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private String token(String username, MemberRole role) {
+        Long id = memberService.register(MemberCreateRequestDto.builder()
+                .username(username).password("1234").name("한도").build()).getId();
+        if (role != MemberRole.ROLE_USER) {
+            memberService.changeRole(id, role);
+        }
+        return "Bearer " + jwtUtil.createJwt(memberService.getMemberEntity(username), 60_000L);
+    }
+}
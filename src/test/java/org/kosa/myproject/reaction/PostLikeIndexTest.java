@@ -0,0 +1,60 @@
+package org.kosa.myproject.reaction;
+
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PostLikeIndex 테스트
+ */
+class PostLikeIndexTest {
+
+    private final PostLikeIndex index = new PostLikeIndex();
+
+    @Test
+    void addAndRemoveAreIdempotent() {
+        assertThat(index.add(1, 10)).isTrue();
+        assertThat(index.add(1, 10)).isFalse();
+        assertThat(index.add(1, 11)).isTrue();
+        assertThat(index.count(1)).isEqualTo(2);
+        assertThat(index.contains(1, 10)).isTrue();
+        assertThat(index.contains(2, 10)).isFalse();
+
+        assertThat(index.remove(1, 10)).isTrue();
+        assertThat(index.remove(1, 10)).isFalse();
+        assertThat(index.remove(2, 10)).isFalse();
+        assertThat(index.count(1)).isEqualTo(1);
+        assertThat(index.contains(1, 10)).isFalse();
+    }
+
+    @Test
+    void storesMemberIdsAsUnsigned32Bit() {
+        long large = 0xFFFF_FFF0L;  // int 로는 음수
+        index.add(1, large);
+
+        assertThat(index.contains(1, large)).isTrue();
+        assertThat(index.contains(1, -16)).isFalse();
+        assertThatThrownBy(() -> index.add(1, 1L << 32)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void replaceAllSwapsInRebuiltBitmaps() {
+        index.add(1, 10);
+        RoaringBitmap rebuilt = RoaringBitmap.bitmapOf(1, 2, 3);
+        rebuilt.add(100L, 10_100L);  // 연속 구간 10000개
+        rebuilt.runOptimize();
+
+        index.replaceAll(Map.of(2L, rebuilt));
+
+        assertThat(index.count(1)).isZero();
+        assertThat(index.count(2)).isEqualTo(10_003);
+        assertThat(index.contains(2, 5_000)).isTrue();
+        assertThat(index.getPostCount()).isEqualTo(1);
+        // run 컨테이너로 압축되어 id 당 1bit 보다 훨씬 작다
+        assertThat(index.getSizeInBytes()).isLessThan(10_000 / 8);
+    }
+}
@@ -0,0 +1,268 @@
+package org.kosa.myproject.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.entity.AuthEventType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 쿼리 실행 계획 검증
+ *
+ * 리포지토리 메서드를 실제로 호출하고, DataSource 프록시에서 가로챈 SQL(Hibernate 가 만든 문장)과
+ * 바인딩된 파라미터 그대로 EXPLAIN 을 실행하여 전체 테이블 스캔(full scan) 이나 별도 정렬(filesort)로 떨어지면 실패시킨다.
+ * JPQL / 쿼리 메서드 / 매핑이 바뀌면 검증 대상 SQL 도 함께 바뀐다.
+ *
+ * 기본은 내장 H2 로 실행되며, spring.datasource.url 을 MySQL 로 지정하면 MySQL 규칙으로 검증한다
+ */
+@SpringBootTest
+class QueryPlanTest {
+
+    private static final StatementCapture capture = new StatementCapture();
+
+    @TestConfiguration
+    static class CaptureConfig {
+
+        /**
+         * 애플리케이션 DataSource 바깥에 캡처용 프록시를 한 겹 더 씌운다
+         */
+        @Bean
+        static BeanPostProcessor statementCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                        return ProxyDataSourceBuilder.create("query-plan", dataSource).listener(capture).build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private AuthEventRepository authEventRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private boolean mysql;
+
+    @BeforeEach
+    void detectDatabase() {
+        String product = jdbcTemplate.execute((java.sql.Connection connection) -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            return metaData.getDatabaseProductName();
+        });
+        mysql = product != null && product.toLowerCase().contains("mysql");
+        // 쿼리 캐시/2차 캐시에서 처리되면 SQL 이 실행되지 않으므로 비운다
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void findAllWithAuthorIsSortedByIndex() {
+        assertNoFullScanOrFilesort(capture(() -> postRepository.findAllWithAuthor()), true);
+    }
+
+    @Test
+    void findByIdWithAuthorUsesPrimaryKeys() {
+        assertNoFullScanOrFilesort(capture(() -> postRepository.findByIdWithAuthor(1L)), false);
+    }
+
+    @Test
+    void findByUsernameUsesUniqueIndex() {
+        assertNoFullScanOrFilesort(capture(() -> memberRepository.findByUsername("user1")), false);
+    }
+
+    @Test
+    void existsByUsernameUsesUniqueIndex() {
+        assertNoFullScanOrFilesort(capture(() -> memberRepository.existsByUsername("user1")), false);
+    }
+
+    @Test
+    void findExistingUsernamesUsesUniqueIndex() {
+        assertNoFullScanOrFilesort(capture(() -> memberRepository.findExistingUsernames(List.of("user1", "user2"))), false);
+    }
+
+    @Test
+    void findAuthEventsByUsernameUsesIndex() {
+        // 관리자 감사 로그 조회와 같은 최신순 페이지
+        // ORDER BY id DESC 는 (조건 컬럼, id) 순서의 인덱스에서만 정렬 없이 처리되므로 H2 에서도 사용 인덱스를 확인한다
+        PageRequest page = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id"));
+        List<Statement> byUsername = capture(() -> authEventRepository.findByUsername("user1", page));
+        assertNoFullScanOrFilesort(byUsername, false);
+        assertUsesIndex(byUsername, "idx_auth_events_username");
+
+        List<Statement> byType = capture(() -> authEventRepository.findByType(AuthEventType.LOGIN_SUCCESS, page));
+        assertNoFullScanOrFilesort(byType, false);
+        assertUsesIndex(byType, "idx_auth_events_event_type");
+
+        List<Statement> byUsernameAndType = capture(() ->
+                authEventRepository.findByUsernameAndType("user1", AuthEventType.LOGIN_SUCCESS, page));
+        assertNoFullScanOrFilesort(byUsernameAndType, false);
+        assertUsesIndex(byUsernameAndType, "idx_auth_events_username_type");
+    }
+
+    @Test
+    void findCommentsAfterCursorUsesPostIdIndex() {
+        // H2 는 (post_id, id) 인덱스를 쓰더라도 "index sorted" 로 표시하지 않으므로 정렬은 MySQL 에서만 검증
+        assertNoFullScanOrFilesort(capture(() ->
+                commentRepository.findByPostIdAndIdGreaterThanOrderByIdAsc(1L, 10L, Limit.of(21))), false);
+    }
+
+    @Test
+    void countCommentsByPostIdsUsesPostIdIndex() {
+        assertNoFullScanOrFilesort(capture(() -> commentRepository.countByPostIds(List.of(1L, 2L, 3L))), false);
+    }
+
+    /**
+     * 호출 중 실행된 SELECT 문과 파라미터 (Spring Data 페이지 count 쿼리처럼 여러 개일 수 있다)
+     */
+    private List<Statement> capture(Runnable call) {
+        capture.start();
+        List<Statement> captured;
+        try {
+            call.run();
+        } finally {
+            captured = capture.finish();
+        }
+        List<Statement> statements = captured.stream()
+                .filter(statement -> statement.sql().stripLeading().toLowerCase().startsWith("select"))
+                .toList();
+        assertThat(statements).as("실행된 SELECT 문이 없음 (캐시에서 처리되었는지 확인)").isNotEmpty();
+        return statements;
+    }
+
+    private void assertNoFullScanOrFilesort(List<Statement> statements, boolean ordered) {
+        for (Statement statement : statements) {
+            if (mysql) {
+                assertMySqlPlan(statement);
+            } else {
+                assertH2Plan(statement, ordered);
+            }
+        }
+    }
+
+    /**
+     * 페이지 조회 문(count 쿼리 제외)이 지정한 인덱스를 사용하는지
+     * H2 는 계획의 주석(public.인덱스명:), MySQL 은 EXPLAIN 의 key 컬럼
+     */
+    private void assertUsesIndex(List<Statement> statements, String index) {
+        Statement page = statements.get(0);
+        if (mysql) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + page.sql(), page.parameters());
+            assertThat(rows).as("index: %s", rows).anyMatch(row -> index.equalsIgnoreCase(String.valueOf(row.get("key"))));
+        } else {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + page.sql(), String.class, page.parameters());
+            assertThat(plan).as("index: %s", plan).containsIgnoringCase("." + index + ":");
+        }
+    }
+
+    /**
+     * H2: 테이블마다 사용한 인덱스가 주석으로 표시된다
+     * - "tableScan"     : 인덱스 없이 전체 스캔
+     * - "index sorted"  : ORDER BY 를 인덱스 순서로 처리 (없으면 별도 정렬)
+     */
+    private void assertH2Plan(Statement statement, boolean ordered) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + statement.sql(), String.class, statement.parameters());
+
+        assertThat(plan).as("full scan: %s", plan).doesNotContainIgnoringCase("tableScan");
+        if (ordered) {
+            assertThat(plan).as("filesort: %s", plan).containsIgnoringCase("index sorted");
+        }
+    }
+
+    /**
+     * MySQL: 정렬이 있는 전체 목록 조회는 인덱스 풀 스캔(type=index)까지 허용
+     * - type = ALL              : 전체 테이블 스캔
+     * - Extra 에 Using filesort : 별도 정렬
+     */
+    private void assertMySqlPlan(Statement statement) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), statement.parameters());
+
+        for (Map<String, Object> row : rows) {
+            assertThat(String.valueOf(row.get("type"))).as("full scan: %s", row).isNotEqualTo("ALL");
+            assertThat(String.valueOf(row.get("Extra"))).as("filesort: %s", row).doesNotContain("Using filesort");
+        }
+    }
+
+    private record Statement(String sql, Object[] parameters) {
+    }
+
+    /**
+     * start() ~ finish() 사이 현재 스레드에서 실행된 SQL 과 첫 번째 파라미터 묶음을 기록
+     */
+    private static final class StatementCapture implements QueryExecutionListener {
+
+        private final ThreadLocal<List<Statement>> statements = new ThreadLocal<>();
+
+        void start() {
+            statements.set(new ArrayList<>());
+        }
+
+        List<Statement> finish() {
+            List<Statement> captured = statements.get();
+            statements.remove();
+            return captured;
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            List<Statement> captured = statements.get();
+            if (captured == null) {
+                return;
+            }
+            for (QueryInfo queryInfo : queryInfoList) {
+                captured.add(new Statement(queryInfo.getQuery(), parameters(queryInfo)));
+            }
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        private static Object[] parameters(QueryInfo queryInfo) {
+            if (queryInfo.getParametersList().isEmpty()) {
+                return new Object[0];
+            }
+            // setXxx(index, value) 호출을 index 순으로 정렬
+            return queryInfo.getParametersList().get(0).stream()
+                    .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                    .map(operation -> operation.getArgs()[1])
+                    .toArray();
+        }
+    }
+}
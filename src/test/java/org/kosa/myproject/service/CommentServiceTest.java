@@ -0,0 +1,120 @@
+package org.kosa.myproject.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.dto.CommentCreateRequestDto;
+import org.kosa.myproject.dto.CommentResponseDto;
+import org.kosa.myproject.dto.CursorPageResponseDto;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.dto.PostCreateRequestDto;
+import org.kosa.myproject.dto.PostListResponseDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.kosa.myproject.querycount.QueryCountAssertions.assertQueryCount;
+
+/**
+ * 댓글 테스트
+ * 목록 / 댓글 수 조회의 쿼리 수가 페이지 크기나 게시글 수에 따라 늘지 않는지 검증
+ */
+@SpringBootTest
+class CommentServiceTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private MemberService memberService;
+
+    private List<String> authors;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        authors = List.of(register(), register(), register());
+        postId = createPost(authors.get(0));
+    }
+
+    @Test
+    void pagesThroughCommentsWithKeysetCursor() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(comment(postId, authors.get(i % authors.size()), "댓글 " + i).getId());
+        }
+
+        CursorPageResponseDto<CommentResponseDto> first = assertQueryCount(2, () ->
+                commentService.getComments(postId, null, 2));
+        assertThat(first.getContent()).extracting(CommentResponseDto::getId).containsExactly(ids.get(0), ids.get(1));
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo(ids.get(1));
+        assertThat(first.getContent().get(1).getAuthorName()).isEqualTo(authors.get(1));
+
+        CursorPageResponseDto<CommentResponseDto> last = commentService.getComments(postId, ids.get(3), 2);
+        assertThat(last.getContent()).extracting(CommentResponseDto::getId).containsExactly(ids.get(4));
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void commentListQueriesDoNotGrowWithPageSize() throws Exception {
+        for (int i = 0; i < 12; i++) {
+            comment(postId, authors.get(i % authors.size()), "댓글 " + i);
+        }
+
+        // 작성자가 여러 명이어도 댓글 조회 1 + 작성자 IN 조회 1
+        assertThat(assertQueryCount(2, () -> commentService.getComments(postId, null, 3)).getContent()).hasSize(3);
+        assertThat(assertQueryCount(2, () -> commentService.getComments(postId, null, 50)).getContent()).hasSize(12);
+    }
+
+    @Test
+    void postListLoadsCommentCountsWithOneGroupedQuery() throws Exception {
+        Long other = createPost(authors.get(1));
+        Long empty = createPost(authors.get(2));
+        comment(postId, authors.get(1), "a");
+        comment(postId, authors.get(2), "b");
+        comment(other, authors.get(0), "c");
+
+        // 게시글 목록(작성자 fetch join) 1 + 댓글 수 GROUP BY 1
+        List<PostListResponseDto> posts = assertQueryCount(2, () -> postService.getAllPosts());
+
+        Map<Long, Long> counts = new HashMap<>();
+        posts.forEach(post -> counts.put(post.getId(), post.getCommentCount()));
+        assertThat(counts).containsEntry(postId, 2L).containsEntry(other, 1L).containsEntry(empty, 0L);
+    }
+
+    @Test
+    void rejectsBlankOrTooLongContent() {
+        assertThatThrownBy(() -> comment(postId, authors.get(0), "  "))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> comment(postId, authors.get(0), "가".repeat(1001)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> comment(-1L, authors.get(0), "없는 글"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CommentResponseDto comment(Long postId, String username, String content) {
+        return commentService.createComment(postId, CommentCreateRequestDto.builder().content(content).build(), username);
+    }
+
+    private Long createPost(String username) {
+        return postService.createPost(PostCreateRequestDto.builder().title("댓글").content("본문").build(), username).getId();
+    }
+
+    private String register() {
+        String username = "comment-" + UUID.randomUUID().toString().substring(0, 8);
+        memberService.register(MemberCreateRequestDto.builder()
+                .username(username).password("1234").name(username).build());
+        return username;
+    }
+}
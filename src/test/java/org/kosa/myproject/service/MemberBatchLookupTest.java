@@ -0,0 +1,64 @@
+package org.kosa.myproject.service;
+
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.dto.MemberResponseDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.kosa.myproject.querycount.QueryCountAssertions.assertQueryCount;
+
+/**
+ * 회원 일괄 조회 테스트
+ * chunk 분할을 확인하기 위해 chunk-size 를 작게 설정
+ */
+@SpringBootTest(properties = {
+        "app.member-lookup.max-ids=3",
+        "app.member-lookup.chunk-size=2"
+})
+class MemberBatchLookupTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Test
+    void deduplicatesAndKeepsRequestOrder() throws Exception {
+        Long first = register();
+        Long second = register();
+        Long third = register();
+
+        Map<Long, MemberResponseDto> members = assertQueryCount(2, () ->
+                memberService.findAllByIds(List.of(third, first, third, second, first)));
+
+        assertThat(members.keySet()).containsExactly(third, first, second);
+        assertThat(members.get(first).getId()).isEqualTo(first);
+    }
+
+    @Test
+    void skipsUnknownIds() throws Exception {
+        Long id = register();
+
+        Map<Long, MemberResponseDto> members = assertQueryCount(1, () ->
+                memberService.findAllByIds(List.of(id, -1L)));
+
+        assertThat(members).containsOnlyKeys(id);
+    }
+
+    @Test
+    void rejectsTooManyIds() {
+        assertThatThrownBy(() -> memberService.findAllByIds(List.of(1L, 2L, 3L, 4L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Long register() {
+        String username = "lookup-" + UUID.randomUUID().toString().substring(0, 8);
+        return memberService.register(MemberCreateRequestDto.builder()
+                .username(username).password("1234").name("조회").build()).getId();
+    }
+}
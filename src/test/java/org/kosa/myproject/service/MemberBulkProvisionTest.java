@@ -0,0 +1,131 @@
+package org.kosa.myproject.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.entity.MemberRole;
+import org.kosa.myproject.security.jwt.JwtUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 회원 일괄 등록 테스트 (POST /admin/members/bulk)
+ * chunk 경계를 넘도록 chunk-size 를 작게 설정
+ */
+@SpringBootTest(properties = "app.member-bulk.chunk-size=2")
+@AutoConfigureMockMvc
+class MemberBulkProvisionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String prefix;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        prefix = "bulk-" + UUID.randomUUID().toString().substring(0, 8);
+        String admin = prefix + "-admin";
+        Long adminId = memberService.register(member(admin, "관리자")).getId();
+        memberService.changeRole(adminId, MemberRole.ROLE_ADMIN);
+        adminToken = "Bearer " + jwtUtil.createJwt(memberService.getMemberEntity(admin), 60_000L);
+    }
+
+    @Test
+    void reportsEveryRowAndCreatesUsableMembers() throws Exception {
+        memberService.register(member(prefix + "-existing", "기존"));
+        // 등록 전 "존재하지 않음" 이 쿼리 캐시에 남아 있어도 일괄 등록 후에는 조회되어야 한다
+        assertThatThrownBy(() -> memberService.findByUsername(prefix + "-1"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        MemberCreateRequestDto[] requests = {
+                member(prefix + "-1", "하나"),
+                member(prefix + "-2", "둘"),
+                member(prefix + "-existing", "중복"),
+                member(prefix + "-1", "요청 내 중복"),
+                MemberCreateRequestDto.builder().username(prefix + "-nopw").name("비번없음").build(),
+                member(prefix + "-3", "셋"),
+        };
+
+        Map<Integer, JsonNode> results = bulk(requests);
+
+        assertThat(results).hasSize(requests.length);
+        assertThat(statusOf(results, 0)).isEqualTo("CREATED");
+        assertThat(statusOf(results, 1)).isEqualTo("CREATED");
+        assertThat(statusOf(results, 2)).isEqualTo("DUPLICATE");
+        assertThat(statusOf(results, 3)).isEqualTo("DUPLICATE");
+        assertThat(statusOf(results, 4)).isEqualTo("INVALID");
+        assertThat(statusOf(results, 5)).isEqualTo("CREATED");
+
+        assertThat(memberService.findByUsername(prefix + "-1").getId())
+                .isEqualTo(results.get(0).get("id").asLong());
+        assertThat(memberService.findByUsername(prefix + "-3").getName()).isEqualTo("셋");
+        assertThat(memberService.validatePassword(prefix + "-2", "1234")).isTrue();
+    }
+
+    @Test
+    void rejectsEmptyRequestBeforeStreaming() throws Exception {
+        mockMvc.perform(post("/admin/members/bulk").header("Authorization", adminToken)
+                        .contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Map<Integer, JsonNode> bulk(MemberCreateRequestDto[] requests) throws Exception {
+        MvcResult started = mockMvc.perform(post("/admin/members/bulk").header("Authorization", adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        return Arrays.stream(body.split("\n"))
+                .map(line -> {
+                    try {
+                        return objectMapper.readTree(line);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(line, e);
+                    }
+                })
+                .collect(Collectors.toMap(node -> node.get("row").asInt(), Function.identity()));
+    }
+
+    private String statusOf(Map<Integer, JsonNode> results, int row) {
+        return results.get(row).get("status").asText();
+    }
+
+    private MemberCreateRequestDto member(String username, String name) {
+        return MemberCreateRequestDto.builder().username(username).password("1234").name(name).build();
+    }
+}
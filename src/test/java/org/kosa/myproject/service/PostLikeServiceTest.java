@@ -0,0 +1,194 @@
+package org.kosa.myproject.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.dto.PostCreateRequestDto;
+import org.kosa.myproject.dto.PostDetailResponseDto;
+import org.kosa.myproject.dto.PostLikeResponseDto;
+import org.kosa.myproject.dto.PostListResponseDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.kosa.myproject.querycount.QueryCountAssertions.assertQueryCount;
+
+/**
+ * 게시글 좋아요 테스트
+ * 인메모리 인덱스가 post_likes 테이블과 항상 같은 상태인지 검증
+ */
+@SpringBootTest
+class PostLikeServiceTest {
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long authorId;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        String author = register();
+        authorId = memberService.findByUsername(author).getId();
+        postId = postService.createPost(PostCreateRequestDto.builder().title("좋아요").content("본문").build(), author).getId();
+    }
+
+    @Test
+    void likeIsOnePerMemberAndUnlikeRemovesIt() {
+        Long other = memberId(register());
+
+        postLikeService.like(postId, authorId);
+        PostLikeResponseDto twice = postLikeService.like(postId, authorId);
+        assertThat(twice.getLikeCount()).isEqualTo(1);
+        assertThat(twice.isLikedByMe()).isTrue();
+
+        PostLikeResponseDto second = postLikeService.like(postId, other);
+        assertThat(second.getLikeCount()).isEqualTo(2);
+
+        PostLikeResponseDto removed = postLikeService.unlike(postId, authorId);
+        assertThat(removed.getLikeCount()).isEqualTo(1);
+        assertThat(removed.isLikedByMe()).isFalse();
+        assertThat(postLikeService.unlike(postId, authorId).getLikeCount()).isEqualTo(1);
+        assertThat(rows(postId)).isEqualTo(1);
+    }
+
+    @Test
+    void listAndDetailShowLikesWithoutExtraQueries() throws Exception {
+        postLikeService.like(postId, authorId);
+
+        List<PostListResponseDto> posts = assertQueryCount(2, () -> postService.getAllPosts(authorId));
+        PostListResponseDto mine = posts.stream().filter(post -> post.getId().equals(postId)).findFirst().orElseThrow();
+        assertThat(mine.getLikeCount()).isEqualTo(1);
+        assertThat(mine.isLikedByMe()).isTrue();
+
+        PostListResponseDto anonymous = postService.getAllPosts().stream()
+                .filter(post -> post.getId().equals(postId)).findFirst().orElseThrow();
+        assertThat(anonymous.getLikeCount()).isEqualTo(1);
+        assertThat(anonymous.isLikedByMe()).isFalse();
+
+        PostDetailResponseDto detail = postService.getPostById(postId, authorId);
+        assertThat(detail.getLikeCount()).isEqualTo(1);
+        assertThat(detail.isLikedByMe()).isTrue();
+    }
+
+    @Test
+    void rebuildLoadsIndexFromTable() {
+        Long other = memberId(register());
+        // 다른 인스턴스가 저장한 좋아요 (이 인스턴스의 인덱스에는 없음)
+        jdbcTemplate.update("INSERT INTO post_likes (post_id, member_id, created_at) VALUES (?, ?, ?)",
+                postId, other, Timestamp.valueOf(LocalDateTime.now()));
+        postLikeService.like(postId, authorId);
+        assertThat(postLikeService.getLikeCount(postId)).isEqualTo(1);
+
+        postLikeService.rebuild();
+
+        assertThat(postLikeService.getLikeCount(postId)).isEqualTo(2);
+        assertThat(postLikeService.isLikedBy(postId, other)).isTrue();
+        assertThat(postLikeService.isLikedBy(postId, authorId)).isTrue();
+    }
+
+    @Test
+    void writesReachTableEvenWhenIndexIsStale() {
+        Long other = memberId(register());
+
+        // 다른 인스턴스에서 취소됨 (이 인스턴스의 인덱스는 아직 좋아요 상태)
+        postLikeService.like(postId, authorId);
+        jdbcTemplate.update("DELETE FROM post_likes WHERE post_id = ? AND member_id = ?", postId, authorId);
+        assertThat(postLikeService.like(postId, authorId).isLikedByMe()).isTrue();
+        assertThat(row(postId, authorId)).isTrue();
+
+        // 다른 인스턴스에서 좋아요 됨 (이 인스턴스의 인덱스는 모름)
+        jdbcTemplate.update("INSERT INTO post_likes (post_id, member_id, created_at) VALUES (?, ?, ?)",
+                postId, other, Timestamp.valueOf(LocalDateTime.now()));
+        assertThat(postLikeService.unlike(postId, other).isLikedByMe()).isFalse();
+        assertThat(row(postId, other)).isFalse();
+
+        postLikeService.rebuild();
+        assertThat(postLikeService.isLikedBy(postId, authorId)).isTrue();
+        assertThat(postLikeService.isLikedBy(postId, other)).isFalse();
+        assertThat(postLikeService.getLikeCount(postId)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentLikesAndUnlikesStayConsistentWithTable() throws Exception {
+        List<Long> members = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            members.add(memberId(register()));
+        }
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                if (i % 100 == 50) {
+                    // 재구성 중의 좋아요 / 취소도 새 인덱스에 남아야 한다
+                    futures.add(executor.submit(() -> postLikeService.rebuild()));
+                }
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    Long member = members.get(random.nextInt(members.size()));
+                    if (random.nextBoolean()) {
+                        postLikeService.like(postId, member);
+                    } else {
+                        postLikeService.unlike(postId, member);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(postLikeService.getLikeCount(postId)).isEqualTo(rows(postId));
+        for (Long member : members) {
+            assertThat(postLikeService.isLikedBy(postId, member)).isEqualTo(row(postId, member));
+        }
+    }
+
+    @Test
+    void rejectsUnknownPost() {
+        assertThatThrownBy(() -> postLikeService.like(-1L, authorId))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(postLikeService.getLikeCount(-1L)).isZero();
+    }
+
+    private long rows(Long postId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_likes WHERE post_id = ?", Long.class, postId);
+    }
+
+    private boolean row(Long postId, Long memberId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_likes WHERE post_id = ? AND member_id = ?",
+                Integer.class, postId, memberId) == 1;
+    }
+
+    private Long memberId(String username) {
+        return memberService.findByUsername(username).getId();
+    }
+
+    private String register() {
+        String username = "like-" + UUID.randomUUID().toString().substring(0, 8);
+        memberService.register(MemberCreateRequestDto.builder()
+                .username(username).password("1234").name("좋아요").build());
+        return username;
+    }
+}
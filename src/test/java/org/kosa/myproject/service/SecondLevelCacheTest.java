@@ -0,0 +1,89 @@
+package org.kosa.myproject.service;
+
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.dto.MemberResponseDto;
+import org.kosa.myproject.dto.PostCreateRequestDto;
+import org.kosa.myproject.dto.PostDetailResponseDto;
+import org.kosa.myproject.entity.MemberRole;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 2차 캐시 / 쿼리 캐시 적중 및 무효화 테스트
+ */
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Test
+    void memberIsServedFromCacheAndRefreshedOnUpdate() {
+        MemberResponseDto member = register("cache-member");
+
+        memberService.findById(member.getId());
+        long hitsBefore = stats("member").getHitCount();
+        memberService.findById(member.getId());
+        assertThat(stats("member").getHitCount()).isGreaterThan(hitsBefore);
+
+        memberService.updateMember("cache-member", "새이름", null);
+        assertThat(memberService.findById(member.getId()).getName()).isEqualTo("새이름");
+
+        memberService.changeRole(member.getId(), MemberRole.ROLE_ADMIN);
+        assertThat(memberService.findById(member.getId()).getRole()).isEqualTo(MemberRole.ROLE_ADMIN);
+        assertThat(memberService.findByUsername("cache-member").getRole()).isEqualTo(MemberRole.ROLE_ADMIN);
+    }
+
+    @Test
+    void cachedEmptyUsernameLookupIsInvalidatedByRegister() {
+        assertThatThrownBy(() -> memberService.findByUsername("cache-late-joiner"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        register("cache-late-joiner");
+
+        assertThat(memberService.findByUsername("cache-late-joiner").getUsername())
+                .isEqualTo("cache-late-joiner");
+    }
+
+    @Test
+    void postDetailIsServedFromQueryCacheAndRefreshedOnUpdate() {
+        register("cache-author");
+        PostDetailResponseDto post = postService.createPost(
+                PostCreateRequestDto.builder().title("원래 제목").content("내용").build(), "cache-author");
+
+        postService.getPostById(post.getId());
+        long hitsBefore = stats("query.post-by-id-with-author").getHitCount();
+        postService.getPostById(post.getId());
+        assertThat(stats("query.post-by-id-with-author").getHitCount()).isGreaterThan(hitsBefore);
+
+        postService.updatePost(post.getId(),
+                PostCreateRequestDto.builder().title("수정된 제목").build(), "cache-author");
+
+        PostDetailResponseDto updated = postService.getPostById(post.getId());
+        assertThat(updated.getTitle()).isEqualTo("수정된 제목");
+        assertThat(updated.getContent()).isEqualTo("내용");
+    }
+
+    private MemberResponseDto register(String username) {
+        return memberService.register(MemberCreateRequestDto.builder()
+                .username(username)
+                .password("1234")
+                .name("테스트")
+                .build());
+    }
+
+    private CacheRegionStatistics stats(String region) {
+        return cacheStatisticsService.getRegionStatistics(region);
+    }
+}
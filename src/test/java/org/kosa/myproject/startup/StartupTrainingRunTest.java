@@ -0,0 +1,69 @@
+package org.kosa.myproject.startup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 학습 실행 / 기동 타임라인 테스트
+ * main 메서드로 기동해야 BufferingApplicationStartup 이 적용되므로 useMainMethod = ALWAYS
+ * 학습 요청은 컨텍스트 기동 중(ApplicationReadyEvent)에 실행되며, 하나라도 실패하면 컨텍스트 기동이 실패한다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        useMainMethod = SpringBootTest.UseMainMethod.ALWAYS,
+        properties = {
+                "app.startup.training-run=true",
+                "app.startup.exit-after-training=false"
+        })
+class StartupTrainingRunTest {
+
+    private static final Path REPORT = reportPath();
+
+    @DynamicPropertySource
+    static void reportPath(DynamicPropertyRegistry registry) {
+        registry.add("app.startup.report-path", REPORT::toString);
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void trainingRunWritesStartupTimeline() throws Exception {
+        assertThat(REPORT).exists();
+        JsonNode report = objectMapper.readTree(REPORT.toFile());
+
+        assertThat(report.path("timeToFirstRequestMs").asLong())
+                .isGreaterThanOrEqualTo(report.path("jvmUptimeAtReadyMs").asLong());
+        assertThat(report.path("readyMs").asLong()).isPositive();
+        assertThat(report.path("aotEnabled").asBoolean(true)).isFalse();
+
+        JsonNode phases = report.path("phases");
+        assertThat(phases.has("contextRefresh")).isTrue();
+        assertThat(phases.has("hibernateBootstrap")).isTrue();
+        assertThat(phases.has("flywayMigration")).isTrue();
+        assertThat(phases.has("springdocScan")).isTrue();
+        assertThat(phases.path("contextRefresh").asLong())
+                .isGreaterThanOrEqualTo(phases.path("hibernateBootstrap").asLong());
+
+        assertThat(report.path("slowestBeans")).hasSize(10);
+    }
+
+    private static Path reportPath() {
+        try {
+            return Files.createTempDirectory("startup-report").resolve("startup.json");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
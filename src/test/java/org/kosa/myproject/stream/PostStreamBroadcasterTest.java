@@ -0,0 +1,155 @@
+package org.kosa.myproject.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.exception.GlobalExceptionHandler;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PostStreamBroadcaster 테스트 (구독자 한도, 멈춘 구독자, 재전송 순번)
+ * 실제 연결 대신 전송 내용을 기록하는 SseEmitter 를 사용한다
+ */
+class PostStreamBroadcasterTest {
+
+    private PostStreamBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        if (broadcaster != null) {
+            broadcaster.destroy();
+        }
+    }
+
+    @Test
+    void rejectsSubscribersOverCapacityWith503() {
+        PostStreamProperties properties = properties();
+        properties.setMaxSubscribers(1);
+        broadcaster = new PostStreamBroadcaster(properties, new ObjectMapper());
+        broadcaster.subscribe(null, new RecordingEmitter());
+
+        assertThatThrownBy(() -> broadcaster.subscribe(null, new RecordingEmitter()))
+                .isInstanceOfSatisfying(StreamCapacityExceededException.class, e -> {
+                    ResponseEntity<?> response = new GlobalExceptionHandler().handleStreamCapacityExceededException(e);
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                    assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("7");
+                });
+    }
+
+    @Test
+    void stalledSubscriberDoesNotBlockOthers() throws Exception {
+        broadcaster = new PostStreamBroadcaster(properties(), new ObjectMapper());
+        CountDownLatch release = new CountDownLatch(1);
+        StalledEmitter stalled = new StalledEmitter(release);
+        broadcaster.subscribe(null, stalled);
+        // 하나뿐인 전송 스레드가 멈춘 구독자에게 묶임
+        assertThat(stalled.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        RecordingEmitter healthy = new RecordingEmitter();
+        broadcaster.subscribe(null, healthy);
+        broadcaster.broadcast("{\"title\":\"새 글\"}");
+
+        assertThat(healthy.next()).contains("connected");
+        assertThat(healthy.next()).contains("새 글");
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+        assertThat(broadcaster.getSlowConsumerEvictions()).isEqualTo(1);
+
+        release.countDown();
+        broadcaster.broadcast("{\"title\":\"다음 글\"}");
+        assertThat(healthy.next()).contains("다음 글");
+    }
+
+    @Test
+    void replaysByBroadcastSequenceNotPostId() throws Exception {
+        broadcaster = new PostStreamBroadcaster(properties(), new ObjectMapper());
+        RecordingEmitter first = new RecordingEmitter();
+        broadcaster.subscribe(null, first);
+        first.next();
+
+        // 커밋 순서: 게시글 id 20 이 먼저, id 19 가 나중
+        broadcaster.broadcast("{\"id\":20}");
+        broadcaster.broadcast("{\"id\":19}");
+        String firstEvent = first.next();
+        String lastEventId = firstEvent.lines().filter(line -> line.startsWith("id:")).findFirst().orElseThrow().substring(3);
+
+        RecordingEmitter reconnected = new RecordingEmitter();
+        broadcaster.subscribe(lastEventId, reconnected);
+        assertThat(reconnected.next()).contains("connected");
+        assertThat(reconnected.next()).contains("{\"id\":19}");
+
+        RecordingEmitter otherInstance = new RecordingEmitter();
+        broadcaster.subscribe("other-1", otherInstance);
+        otherInstance.next();
+        assertThat(otherInstance.next()).contains("event:reset");
+    }
+
+    private PostStreamProperties properties() {
+        PostStreamProperties properties = new PostStreamProperties();
+        properties.setSenderThreads(1);
+        properties.setSendTimeout(Duration.ofMillis(200));
+        properties.setHeartbeatInterval(Duration.ofHours(1));
+        properties.setCapacityRetryAfter(Duration.ofSeconds(7));
+        return properties;
+    }
+
+    private static String text(Set<DataWithMediaType> items) {
+        return items.stream().map(item -> String.valueOf(item.getData())).collect(Collectors.joining());
+    }
+
+    /**
+     * 전송 내용을 기록하는 emitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            sent.add(text(items));
+        }
+
+        String next() throws InterruptedException {
+            String event = sent.poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("5초 안에 전송되어야 함").isNotNull();
+            return event;
+        }
+    }
+
+    /**
+     * 읽지 않는 클라이언트 - 소켓 쓰기가 막힌 것처럼 release 될 때까지 send 가 반환되지 않음
+     */
+    private static class StalledEmitter extends SseEmitter {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        StalledEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("연결 끊김");
+        }
+    }
+}
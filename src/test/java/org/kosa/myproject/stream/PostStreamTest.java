@@ -0,0 +1,125 @@
+package org.kosa.myproject.stream;
+
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.dto.PostCreateRequestDto;
+import org.kosa.myproject.service.MemberService;
+import org.kosa.myproject.service.PostService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 새 게시글 SSE 스트림 테스트
+ * 실제 서버를 띄워 text/event-stream 응답을 줄 단위로 읽는다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PostStreamTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PostService postService;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void newPostIsPushedToSubscriber() throws Exception {
+        String author = register();
+
+        try (BufferedReader stream = open(null)) {
+            Long postId = postService.createPost(post("실시간"), author).getId();
+
+            List<String> event = readEvent(stream);
+            assertThat(event).contains("event:post");
+            assertThat(String.join("\n", event)).contains("\"id\":" + postId);
+            assertThat(String.join("\n", event)).contains("\"title\":\"실시간\"");
+        }
+    }
+
+    @Test
+    void reconnectReplaysEventsAfterLastEventId() throws Exception {
+        String author = register();
+        String lastEventId;
+        try (BufferedReader stream = open(null)) {
+            postService.createPost(post("첫 글"), author);
+            lastEventId = readEvent(stream).stream()
+                    .filter(line -> line.startsWith("id:")).findFirst().orElseThrow().substring(3);
+        }
+        postService.createPost(post("둘째 글"), author);
+
+        try (BufferedReader stream = open(lastEventId)) {
+            List<String> event = readEvent(stream);
+            assertThat(event).contains("event:post");
+            assertThat(String.join("\n", event)).contains("\"title\":\"둘째 글\"");
+        }
+    }
+
+    private BufferedReader open(String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/posts/stream"))
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<java.io.InputStream> response =
+                httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 주석(:) 줄은 건너뛰고 data 가 있는 첫 이벤트를 빈 줄까지 읽는다
+     */
+    private List<String> readEvent(BufferedReader stream) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            List<String> lines = new ArrayList<>();
+            try {
+                String line;
+                while ((line = stream.readLine()) != null) {
+                    if (line.isEmpty()) {
+                        if (lines.stream().anyMatch(l -> l.startsWith("data:"))) {
+                            return lines;
+                        }
+                        lines.clear();
+                    } else if (!line.startsWith(":")) {
+                        lines.add(line);
+                    }
+                }
+            } catch (java.io.IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return lines;
+        }).get(Duration.ofSeconds(10).toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private String register() {
+        String username = "stream-" + UUID.randomUUID().toString().substring(0, 8);
+        memberService.register(MemberCreateRequestDto.builder()
+                .username(username).password("1234").name("스트림").build());
+        return username;
+    }
+
+    private PostCreateRequestDto post(String title) {
+        return PostCreateRequestDto.builder().title(title).content("내용").build();
+    }
+}
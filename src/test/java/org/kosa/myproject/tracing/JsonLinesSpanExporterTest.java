@@ -0,0 +1,42 @@
+package org.kosa.myproject.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonLinesSpanExporterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void rotatesByUtf8BytesNotCharacters() throws Exception {
+        Path file = dir.resolve("traces.jsonl");
+        // span 이름 360자 / 960바이트 - 첫 줄만으로 바이트 기준 한도는 넘고 문자 수 기준으로는 넘지 않는다
+        String name = "게시글 목록 조회 ".repeat(40);
+        long maxBytes = 1000;
+        assertThat(name.getBytes(StandardCharsets.UTF_8)).hasSize(960);
+
+        JsonLinesSpanExporter exporter = new JsonLinesSpanExporter(file, maxBytes, new ObjectMapper());
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        tracerProvider.get("test").spanBuilder(name).startSpan().end();
+        tracerProvider.get("test").spanBuilder("second").startSpan().end();
+        tracerProvider.shutdown().join(5, TimeUnit.SECONDS);
+
+        Path rotated = dir.resolve("traces.jsonl.1");
+        assertThat(rotated).exists();
+        assertThat(Files.readString(rotated)).contains(name);
+        assertThat(Files.readAllLines(file)).singleElement().asString().contains("\"second\"");
+    }
+}
@@ -0,0 +1,202 @@
+package org.kosa.myproject.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.tracing.TracingProperties;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TailSamplingSpanProcessor / RecordOnlySampler 단위 테스트 (Spring 컨텍스트 없이 SDK 만 사용)
+ * head sampling 비율 0 - 모든 trace 가 tail 판정 대상
+ */
+class TailSamplingSpanProcessorTest {
+
+    private final TraceProperties properties = new TraceProperties();
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+
+    private SdkTracerProvider tracerProvider;
+    private TailSamplingSpanProcessor processor;
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.shutdown().join(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void exportsPromotedTraceOffTheEndingThread() throws Exception {
+        properties.setSlowThreshold(Duration.ZERO);
+        CountDownLatch exporting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        start(new BlockingExporter(exporting, release));
+
+        long started = System.nanoTime();
+        endTrace("/api/posts", false);
+        long elapsed = System.nanoTime() - started;
+
+        // 전송이 막혀 있어도 span 을 끝낸 스레드는 기다리지 않는다
+        assertThat(exporting.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(Duration.ofNanos(elapsed)).isLessThan(Duration.ofSeconds(1));
+        assertThat(exporter.getFinishedSpanItems()).isEmpty();
+
+        release.countDown();
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        assertThat(exporter.getFinishedSpanItems()).extracting(SpanData::getName).containsExactlyInAnyOrder("root", "child");
+        assertThat(processor.getPromotedTraces()).isEqualTo(1);
+    }
+
+    @Test
+    void dropsTraceWhenExportQueueIsFull() throws Exception {
+        properties.setSlowThreshold(Duration.ZERO);
+        properties.setExportQueueSize(1);
+        CountDownLatch exporting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        start(new BlockingExporter(exporting, release));
+
+        endTrace("/api/posts", false);
+        assertThat(exporting.await(5, TimeUnit.SECONDS)).isTrue();  // 첫 trace 는 전송 중
+        endTrace("/api/posts", false);                                // 대기열 1칸 차지
+        endTrace("/api/posts", false);                                // 버림
+
+        assertThat(processor.getDroppedExports()).isEqualTo(1);
+        release.countDown();
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        assertThat(exporter.getFinishedSpanItems()).hasSize(4);
+    }
+
+    @Test
+    void streamingRequestIsNotSlowButStillExportedOnError() {
+        properties.setSlowThreshold(Duration.ZERO);
+        start(exporter);
+
+        endTrace("/api/posts/stream", false);
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        assertThat(exporter.getFinishedSpanItems()).isEmpty();
+
+        endTrace("/api/posts/stream", true);
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        assertThat(exporter.getFinishedSpanItems()).hasSize(2);
+    }
+
+    @Test
+    void sweepsExpiredPendingTracesWithoutWaitingForOverflow() {
+        properties.setPendingTimeout(Duration.ZERO);
+        start(exporter);
+        Tracer tracer = tracerProvider.get("test");
+
+        Span root = tracer.spanBuilder("root").startSpan();
+        try (Scope ignored = root.makeCurrent()) {
+            tracer.spanBuilder("child").startSpan().end();
+        }
+        assertThat(processor.getPendingTraces()).isEqualTo(1);
+
+        processor.sweepExpired();
+
+        assertThat(processor.getPendingTraces()).isZero();
+        root.end();
+    }
+
+    @Test
+    void recordsNothingWhenTailSamplingRatioIsZero() {
+        properties.setTailSamplingRatio(0.0);
+        start(exporter);
+        Tracer tracer = tracerProvider.get("test");
+
+        Span root = tracer.spanBuilder("root").startSpan();
+        try (Scope ignored = root.makeCurrent()) {
+            Span child = tracer.spanBuilder("child").startSpan();
+            assertThat(child.isRecording()).isFalse();
+            child.end();
+        }
+        assertThat(root.isRecording()).isFalse();
+        root.end();
+    }
+
+    @Test
+    void childFollowsRecordingRoot() {
+        start(exporter);
+        Tracer tracer = tracerProvider.get("test");
+
+        Span root = tracer.spanBuilder("root").startSpan();
+        try (Scope ignored = root.makeCurrent()) {
+            Span child = tracer.spanBuilder("child").startSpan();
+            assertThat(child.isRecording()).isTrue();
+            assertThat(child.getSpanContext().isSampled()).isFalse();
+            child.end();
+        }
+        assertThat(root.isRecording()).isTrue();
+        root.end();
+    }
+
+    private void start(SpanExporter target) {
+        TracingProperties tracingProperties = new TracingProperties();
+        tracingProperties.getSampling().setProbability(0.0f);
+        processor = new TailSamplingSpanProcessor(properties, () -> target);
+        tracerProvider = SdkTracerProvider.builder()
+                .setSampler(new TracingConfig().otelSampler(tracingProperties, properties))
+                .addSpanProcessor(processor)
+                .build();
+    }
+
+    private void endTrace(String uri, boolean error) {
+        Tracer tracer = tracerProvider.get("test");
+        Span root = tracer.spanBuilder("root").setAttribute("uri", uri).startSpan();
+        try (Scope ignored = root.makeCurrent()) {
+            tracer.spanBuilder("child").startSpan().end();
+        }
+        if (error) {
+            root.setStatus(StatusCode.ERROR);
+        }
+        root.end();
+    }
+
+    /**
+     * release 될 때까지 전송을 붙잡는 exporter (느린 수집기)
+     */
+    private final class BlockingExporter implements SpanExporter {
+
+        private final CountDownLatch exporting;
+        private final CountDownLatch release;
+
+        private BlockingExporter(CountDownLatch exporting, CountDownLatch release) {
+            this.exporting = exporting;
+            this.release = release;
+        }
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            exporting.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return exporter.export(List.copyOf(spans));
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package org.kosa.myproject.tracing;
+
+import io.opentelemetry.api.trace.StatusCode;
+import jakarta.persistence.EntityManagerFactory;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.myproject.dto.MemberCreateRequestDto;
+import org.kosa.myproject.security.jwt.JwtUtil;
+import org.kosa.myproject.service.MemberService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 분산 추적 테스트
+ * head sampling 비율을 0 으로 두어 traceparent 로 샘플링을 요청한 경우와 tail sampling 대상만 전송되는지 확인
+ */
+@SpringBootTest(properties = {
+        "management.tracing.sampling.probability=0.0",
+        "app.tracing.slow-threshold=10s"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@Import(TracingTest.InMemoryExporterConfig.class)
+class TracingTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanExporter exporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private TraceProperties properties;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String username;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        username = "trace-" + UUID.randomUUID().toString().substring(0, 8);
+        memberService.register(MemberCreateRequestDto.builder().username(username).password("1234").name("추적").build());
+        token = "Bearer " + jwtUtil.createJwt(memberService.getMemberEntity(username), 60_000L);
+        // 캐시 적중이면 SQL span 이 없으므로 비우고 시작
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        exportedSpans();
+        exporter.reset();
+    }
+
+    @AfterEach
+    void restore() {
+        properties.setSlowThreshold(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void continuesIncomingSampledTraceAcrossFilterControllerServiceAndJdbc() throws Exception {
+        String traceresponse = mockMvc.perform(get("/api/members/me")
+                        .header("Authorization", token)
+                        .header("traceparent", "00-" + TRACE_ID + "-00f067aa0ba902b7-01"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("traceresponse");
+
+        assertThat(traceresponse).startsWith("00-" + TRACE_ID + "-").endsWith("-01");
+        List<SpanData> spans = exportedSpans();
+        assertThat(spans).allMatch(span -> span.getTraceId().equals(TRACE_ID));
+        assertThat(spans).extracting(SpanData::getName)
+                .contains("http get /api/members/me", "jwt verification",
+                        "member-controller#get-my-info", "member-service#get-my-info", "query");
+    }
+
+    @Test
+    void dropsFastUnsampledTrace() throws Exception {
+        String traceresponse = mockMvc.perform(get("/api/posts"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("traceresponse");
+
+        assertThat(traceresponse).endsWith("-00");
+        assertThat(exportedSpans()).isEmpty();
+    }
+
+    @Test
+    void exportsSlowUnsampledTraceAsWhole() throws Exception {
+        properties.setSlowThreshold(Duration.ZERO);
+
+        mockMvc.perform(get("/api/posts")).andExpect(status().isOk());
+
+        List<SpanData> spans = exportedSpans();
+        assertThat(spans).extracting(SpanData::getTraceId).containsOnly(spans.get(0).getTraceId());
+        assertThat(spans).extracting(SpanData::getName)
+                .contains("http get /api/posts", "post-service#get-all-posts", "query");
+    }
+
+    @Test
+    void exportsUnsampledTraceWithServerError() throws Exception {
+        // 제목 / 내용 누락 → NOT NULL 제약 위반 → 500
+        mockMvc.perform(post("/api/posts").header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().is5xxServerError());
+
+        List<SpanData> spans = exportedSpans();
+        assertThat(spans).extracting(SpanData::getName).contains("http post /api/posts", "post-service#create-post");
+        assertThat(spans).anyMatch(span -> span.getStatus().getStatusCode() == StatusCode.ERROR);
+    }
+
+    private List<SpanData> exportedSpans() {
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        return exporter.getFinishedSpanItems();
+    }
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+}